@@ -0,0 +1,369 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Supplier;
+
+/**
+ * Asynchronous facade for a {@link WordNetDatabase}, which performs the
+ * lookups on an executor and returns a {@link CompletableFuture} for each
+ * of them instead of blocking the calling thread.
+ * <br><p>
+ * The lazy and file-based implementations may read from the database files
+ * (or wait for the database to be loaded) while a lookup is performed, so
+ * calling them directly from a reactive request handler would block it.
+ * This class runs each lookup on an executor instead, which by default
+ * starts a new virtual thread for each one when the virtual machine
+ * supports virtual threads and otherwise uses a pool of daemon threads.
+ * The read path of the file-based implementations doesn't hold any
+ * monitors while it blocks, so virtual threads that are waiting for a
+ * read don't pin their carrier threads.
+ * <br><p>
+ * The batched variants of {@link #getSynsets(String[], SynsetType,
+ * boolean)} look up several word forms in a single task, which avoids
+ * submitting a task (and completing a future) for each one. Relationships
+ * and any other data can be retrieved asynchronously using
+ * {@link #query(Callable)}, for example:
+ * <pre>
+ * database.query(new Callable&lt;NounSynset[]&gt;() {
+ *     public NounSynset[] call() {
+ *         return synset.getHypernyms();
+ *     }
+ * });
+ * </pre>
+ * Any exception thrown by a lookup completes its future exceptionally.
+ * 
+ * @author Brett Spell
+ */
+public class AsyncWordNetDatabase
+{
+
+	/**
+	 * Database whose lookups are performed asynchronously.
+	 */
+	private final WordNetDatabase database;
+
+	/**
+	 * Executor on which the lookups are performed.
+	 */
+	private final Executor executor;
+
+	/**
+	 * Constructor that accepts the database whose lookups are performed,
+	 * which are run on the default executor.
+	 * 
+	 * @param  database Database whose lookups are performed asynchronously.
+	 * @see    #getDefaultExecutor()
+	 */
+	public AsyncWordNetDatabase(WordNetDatabase database)
+	{
+		this(database, getDefaultExecutor());
+	}
+
+	/**
+	 * Constructor that accepts the database whose lookups are performed and
+	 * the executor on which they're run.
+	 * 
+	 * @param  database Database whose lookups are performed asynchronously.
+	 * @param  executor Executor on which the lookups are run, such as one
+	 *         that starts a new virtual thread for each task.
+	 */
+	public AsyncWordNetDatabase(WordNetDatabase database, Executor executor)
+	{
+		if ((database == null) || (executor == null))
+		{
+			throw new NullPointerException(
+					"A database and an executor must be specified.");
+		}
+		this.database = database;
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the executor that's used when none is specified: one that
+	 * starts a virtual thread for each task if the virtual machine supports
+	 * them, or else one that runs the tasks on a pool of daemon threads.
+	 * The same executor is shared by all instances of this class.
+	 * 
+	 * @return Default executor for the lookups.
+	 */
+	public static Executor getDefaultExecutor()
+	{
+		return DefaultExecutor.instance;
+	}
+
+	/**
+	 * Returns the database whose lookups are performed by this object.
+	 * 
+	 * @return Database whose lookups are performed asynchronously.
+	 */
+	public WordNetDatabase getDatabase()
+	{
+		return database;
+	}
+
+	/**
+	 * Returns the executor on which the lookups are performed.
+	 * 
+	 * @return Executor on which the lookups are run.
+	 */
+	public Executor getExecutor()
+	{
+		return executor;
+	}
+
+	/**
+	 * Returns all synsets that contain the specified word form or a
+	 * morphological variation of that word form.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @return Future that's completed with the synsets that contain the
+	 *         specified word form.
+	 * @see    WordNetDatabase#getSynsets(String)
+	 */
+	public CompletableFuture<Synset[]> getSynsets(String wordForm)
+	{
+		return getSynsets(wordForm, null, true);
+	}
+
+	/**
+	 * Returns only the synsets of a particular type (e.g., noun) that contain
+	 * a word form or morphological variation of that form.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, all synsets will be returned
+	 *         that contain the specified word form.
+	 * @return Future that's completed with the synsets that contain the
+	 *         specified word form or a morphological variation of it.
+	 * @see    WordNetDatabase#getSynsets(String, SynsetType)
+	 */
+	public CompletableFuture<Synset[]> getSynsets(String wordForm,
+			SynsetType type)
+	{
+		return getSynsets(wordForm, type, true);
+	}
+
+	/**
+	 * Returns only the synsets of a particular type (e.g., noun) that contain
+	 * a word form matching the specified text or, optionally, one of that
+	 * word form's variants.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, all synsets will be returned
+	 *         that contain the specified word form.
+	 * @param  useMorphology When <code>true</code>, indicates that synsets
+	 *         should also be returned that contain any morphological
+	 *         variation of the specified word form.
+	 * @return Future that's completed with the synsets that contain the
+	 *         specified word form.
+	 * @see    WordNetDatabase#getSynsets(String, SynsetType, boolean)
+	 */
+	public CompletableFuture<Synset[]> getSynsets(final String wordForm,
+			final SynsetType type, final boolean useMorphology)
+	{
+		return CompletableFuture.supplyAsync(new Supplier<Synset[]>()
+		{
+			public Synset[] get()
+			{
+				return database.getSynsets(wordForm, type, useMorphology);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Returns the synsets that contain each of several word forms or a
+	 * morphological variation of them, looking them all up in a single
+	 * task.
+	 * 
+	 * @param  wordForms Text representing words or collocations (phrases).
+	 * @return Future that's completed with the synsets that contain each
+	 *         word form, in the same order as the word forms.
+	 */
+	public CompletableFuture<Synset[][]> getSynsets(String[] wordForms)
+	{
+		return getSynsets(wordForms, null, true);
+	}
+
+	/**
+	 * Returns the synsets of a particular type (e.g., noun) that contain
+	 * each of several word forms or a morphological variation of them,
+	 * looking them all up in a single task.
+	 * 
+	 * @param  wordForms Text representing words or collocations (phrases).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, synsets of all types will be
+	 *         returned.
+	 * @return Future that's completed with the synsets that contain each
+	 *         word form, in the same order as the word forms.
+	 */
+	public CompletableFuture<Synset[][]> getSynsets(String[] wordForms,
+			SynsetType type)
+	{
+		return getSynsets(wordForms, type, true);
+	}
+
+	/**
+	 * Returns the synsets of a particular type (e.g., noun) that contain
+	 * each of several word forms or, optionally, one of their variants,
+	 * looking them all up in a single task. If any of the lookups fails,
+	 * the future is completed exceptionally.
+	 * 
+	 * @param  wordForms Text representing words or collocations (phrases).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, synsets of all types will be
+	 *         returned.
+	 * @param  useMorphology When <code>true</code>, indicates that synsets
+	 *         should also be returned that contain any morphological
+	 *         variation of the word forms.
+	 * @return Future that's completed with the synsets that contain each
+	 *         word form, in the same order as the word forms.
+	 */
+	public CompletableFuture<Synset[][]> getSynsets(String[] wordForms,
+			final SynsetType type, final boolean useMorphology)
+	{
+		//  Copied so that later changes by the caller don't affect the batch
+		final String[] batch = wordForms.clone();
+		return CompletableFuture.supplyAsync(new Supplier<Synset[][]>()
+		{
+			public Synset[][] get()
+			{
+				Synset[][] results = new Synset[batch.length][];
+				for (int i = 0; i < batch.length; i++)
+				{
+					results[i] = database.getSynsets(
+							batch[i], type, useMorphology);
+				}
+				return results;
+			}
+		}, executor);
+	}
+
+	/**
+	 * Returns the synset that's identified by a sense key.
+	 * 
+	 * @param  senseKey Sense key of one of the word senses of the synset.
+	 * @return Future that's completed with the synset or with
+	 *         <code>null</code> if there's no such sense key.
+	 * @see    WordNetDatabase#getSynsetWithSenseKey(String)
+	 */
+	public CompletableFuture<Synset> getSynsetWithSenseKey(
+			final String senseKey)
+	{
+		return CompletableFuture.supplyAsync(new Supplier<Synset>()
+		{
+			public Synset get()
+			{
+				return database.getSynsetWithSenseKey(senseKey);
+			}
+		}, executor);
+	}
+
+	/**
+	 * Performs an arbitrary query on the executor, which is typically used
+	 * to retrieve the relationships of a synset since those may also have
+	 * to be read from the database files.
+	 * 
+	 * @param  query Query to perform.
+	 * @return Future that's completed with the result of the query, or
+	 *         exceptionally with the exception that it threw.
+	 */
+	public <T> CompletableFuture<T> query(final Callable<T> query)
+	{
+		return CompletableFuture.supplyAsync(new Supplier<T>()
+		{
+			public T get()
+			{
+				try
+				{
+					return query.call();
+				}
+				catch (RuntimeException e)
+				{
+					throw e;
+				}
+				catch (Exception e)
+				{
+					throw new CompletionException(e);
+				}
+			}
+		}, executor);
+	}
+
+	/**
+	 * Holds the default executor, which is only created when it's first
+	 * needed.
+	 */
+	private static class DefaultExecutor
+	{
+
+		/**
+		 * Executor that's used when none is specified.
+		 */
+		static final Executor instance = createExecutor();
+
+		/**
+		 * Creates an executor that starts a virtual thread for each task if
+		 * they're supported by the virtual machine, or else one that uses a
+		 * pool of daemon threads.
+		 * 
+		 * @return Default executor.
+		 */
+		private static Executor createExecutor()
+		{
+			try
+			{
+				//  Looked up by name since this is compiled for earlier
+				//  versions of Java that don't have virtual threads
+				Method method = Executors.class.getMethod(
+						"newVirtualThreadPerTaskExecutor");
+				return (Executor)(method.invoke(null));
+			}
+			catch (Exception e)
+			{
+				return Executors.newCachedThreadPool(new ThreadFactory()
+				{
+					public Thread newThread(Runnable runnable)
+					{
+						Thread thread = new Thread(runnable,
+								"WordNet lookup");
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+			}
+		}
+
+	}
+
+}
\ No newline at end of file
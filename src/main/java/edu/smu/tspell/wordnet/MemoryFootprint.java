@@ -0,0 +1,216 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reports how much memory the structures that make up a database use.
+ * <br><p>
+ * The memory is reported per component (for example, the synsets of each
+ * type or the sense index entries) as the number of objects that the
+ * component consists of and an estimate of the number of bytes that they
+ * retain. The estimates are based upon the object layout of a typical
+ * 64-bit virtual machine with compressed object pointers, so they're
+ * intended to show which components use the most memory rather than to
+ * match the heap usage exactly. Memory that's allocated outside of the
+ * heap is reported separately.
+ * 
+ * @author Brett Spell
+ * @see    WordNetDatabase#getMemoryFootprint()
+ */
+public class MemoryFootprint
+{
+
+	/**
+	 * Maps the name of each component to its object count and estimated
+	 * number of bytes, in the order in which the components were added.
+	 */
+	private Map<String, long[]> components = new LinkedHashMap<String, long[]>();
+
+	/**
+	 * Number of bytes allocated outside of the heap.
+	 */
+	private long offHeapBytes;
+
+	/**
+	 * No-argument constructor.
+	 */
+	public MemoryFootprint()
+	{
+	}
+
+	/**
+	 * Adds objects to a component, creating the component if this is the
+	 * first time it's been specified.
+	 * 
+	 * @param  component Name of the component.
+	 * @param  objectCount Number of objects to add.
+	 * @param  estimatedBytes Estimated number of bytes used by the objects.
+	 */
+	public void add(String component, long objectCount, long estimatedBytes)
+	{
+		long[] totals = components.get(component);
+		if (totals == null)
+		{
+			totals = new long[2];
+			components.put(component, totals);
+		}
+		totals[0] += objectCount;
+		totals[1] += estimatedBytes;
+	}
+
+	/**
+	 * Adds memory that's allocated outside of the heap.
+	 * 
+	 * @param  bytes Number of bytes to add.
+	 */
+	public void addOffHeapBytes(long bytes)
+	{
+		offHeapBytes += bytes;
+	}
+
+	/**
+	 * Returns the names of the components, in the order in which they were
+	 * added.
+	 * 
+	 * @return Names of the components.
+	 */
+	public String[] getComponents()
+	{
+		return components.keySet().toArray(new String[components.size()]);
+	}
+
+	/**
+	 * Returns the number of objects that a component consists of.
+	 * 
+	 * @param  component Name of the component.
+	 * @return Number of objects, or zero if there's no such component.
+	 */
+	public long getObjectCount(String component)
+	{
+		long[] totals = components.get(component);
+		return (totals != null ? totals[0] : 0);
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by a component.
+	 * 
+	 * @param  component Name of the component.
+	 * @return Estimated number of bytes, or zero if there's no such
+	 *         component.
+	 */
+	public long getEstimatedBytes(String component)
+	{
+		long[] totals = components.get(component);
+		return (totals != null ? totals[1] : 0);
+	}
+
+	/**
+	 * Returns the number of objects in all of the components.
+	 * 
+	 * @return Total number of objects.
+	 */
+	public long getTotalObjectCount()
+	{
+		long total = 0;
+		for (long[] totals : components.values())
+		{
+			total += totals[0];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by all of the
+	 * components, not including the memory allocated outside of the heap.
+	 * 
+	 * @return Total estimated number of bytes.
+	 */
+	public long getTotalEstimatedBytes()
+	{
+		long total = 0;
+		for (long[] totals : components.values())
+		{
+			total += totals[1];
+		}
+		return total;
+	}
+
+	/**
+	 * Returns the number of bytes allocated outside of the heap.
+	 * 
+	 * @return Number of bytes allocated outside of the heap.
+	 */
+	public long getOffHeapBytes()
+	{
+		return offHeapBytes;
+	}
+
+	/**
+	 * Returns a table that lists the object count and estimated number of
+	 * bytes of each component.
+	 * 
+	 * @return String representation of this object.
+	 */
+	public String toString()
+	{
+		StringBuilder buffer = new StringBuilder();
+		for (Map.Entry<String, long[]> entry : components.entrySet())
+		{
+			appendLine(buffer, entry.getKey(), entry.getValue()[0],
+					entry.getValue()[1]);
+		}
+		appendLine(buffer, "total", getTotalObjectCount(),
+				getTotalEstimatedBytes());
+		if (offHeapBytes > 0)
+		{
+			appendLine(buffer, "off-heap", 0, offHeapBytes);
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends a line of the table returned by {@link #toString()}.
+	 * 
+	 * @param  buffer Buffer to which the line is appended.
+	 * @param  name Name of the component.
+	 * @param  objectCount Number of objects.
+	 * @param  bytes Estimated number of bytes.
+	 */
+	private static void appendLine(StringBuilder buffer, String name,
+			long objectCount, long bytes)
+	{
+		buffer.append(name);
+		for (int i = name.length(); i < 32; i++)
+		{
+			buffer.append(' ');
+		}
+		buffer.append(String.format("%12d objects %14d bytes%n",
+				objectCount, bytes));
+	}
+
+}
\ No newline at end of file
@@ -1,168 +1,565 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet;
-
-import java.util.Set;
-
-import edu.smu.tspell.wordnet.impl.file.FileDatabase;
-
-/**
- * A concrete implementation of this class provides access to the WordNet
- * database information.
- * 
- * @author Brett Spell
- */
-public abstract class WordNetDatabase
-{
-
-	/**
-	 * An instance of this class that can retrieve WordNet data from files
-	 * on the local file system.
-	 */
-	private static final WordNetDatabase fileInstance = new FileDatabase();
-
-	/**
-	 * No-argument constructor.
-	 */
-	public WordNetDatabase()
-	{
-	}
-
-	/**
-	 * Returns all synsets that contain the specified word form or a
-	 * morphological variation of that word form.
-	 * 
-	 * @param  wordForm Text representing a word or collocation (phrase).
-	 * @return All synsets that contain the specified word form.
-	 * @throws WordNetException An error occurred retrieving the data.
-	 */
-	public Synset[] getSynsets(String wordForm) throws WordNetException
-	{
-		return getSynsets(wordForm, null, true);
-	}
-
-	/**
-	 * Returns only the synsets of a particular type (e.g., noun) that contain
-	 * a word form or morphological variation of that form.
-	 * 
-	 * @param  wordForm Text representing a word or collocation (phrase).
-	 * @param  type Type of synsets (e.g., noun) to return; if this
-	 *         argument is <code>null</code>, all synsets will be returned
-	 *         that contain the specified word form.
-	 * @return Synsets that contain the specified word form or a morphological
-	 *         variation of that word form.
-	 *         If the category argument is specified, only synsets of that
-	 *         type will be returned, otherwise all synsets containing the
-	 *         form are returned.
-	 * @throws WordNetException An error occurred retrieving the data.
-	 */
-	public Synset[] getSynsets(String wordForm, SynsetType type)
-	{
-		return getSynsets(wordForm, type, true);
-	}
-
-	/**
-	 * Returns only the synsets of a particular type (e.g., noun) that contain
-	 * a word form matching the specified text or one of that word form's
-	 * variants. The caller can request that variants be by specifying that
-	 * WordNet's morphology rules should be applied when determining which
-	 * synsets to return. For example, if the caller requests that noun
-	 * synsets be returned that contain the word form "masses" and the caller
-	 * also requests that morphological processing be used, this method will
-	 * return all noun synsets that contain <i>either</i> "masses" or "mass".
-	 * That's due to the fact that one of WordNet's morphology rules,
-	 * specifically a detachment rule, produces "mass" as a candidate form of
-	 * "masses" as a result of stripping the "es" suffix.
-	 * 
-	 * @param  wordForm Text representing a word or collocation (phrase).
-	 * @param  type Type of synsets (e.g., noun) to return; if this
-	 *         argument is <code>null</code>, all synsets will be returned
-	 *         that contain the specified word form.
-	 * @param  useMorphology When <code>true</code>, indicates that this
-	 *         method should return synsets that contain any morphological
-	 *         variation of the specified word form; conversely, a value of
-	 *         <code>false</code> returns in only synsets being returned that
-	 *         contain the word for exactly as it is specified. In other words,
-	 *         specifying <code>false</code> indicates that an exact-match-only
-	 *         approach should be used to determine which synsets to return.
-	 * @return Synsets that contain the specified word form.
-	 *         If the category argument is specified, only synsets of that
-	 *         type will be returned, otherwise all synsets containing the
-	 *         form are returned.
-	 * @throws WordNetException An error occurred retrieving the data.
-	 */
-	public abstract Synset[] getSynsets(String wordForm, SynsetType type,
-			boolean useMorphology) throws WordNetException;
-
-	/**
-	 * Returns lemma representing word forms that <u>might</u> be present
-	 * in WordNet. For example, if "geese" is passed to this method along
-	 * with a parameter that indicates that noun forms should be returned
-	 * it will return the base form of "goose".
-	 * 
-	 * @param  inflection Irregular inflection for which to return root words.
-	 * @param  type Syntactic type for which to perform the lookup.
-	 * @return Root word(s) from which the inflection is derived.
-	 * @see    <a href="http://wordnet.princeton.edu/man/morphy.7WN">
-	 *         WordNet morphological processing</a>
-	 * @see    <a href="http://wordnet.princeton.edu/man/wndb.5WN#sect5">
-	 *         Format of WordNet database files ("Exception List File Format")
-	 *         </a>
-	 */
-	public abstract String[] getBaseFormCandidates(String inflection,
-			SynsetType type);
-
-	/**
-	 * Returns an implementation of this class that can access the WordNet
-	 * database by searching files on the local file system.
-	 * <br><p>
-	 * You can specify the directory location of those files by setting the
-	 * <code>wordnet.database.dir</code> system property.
-	 * 
-	 * @return Instance of this class that can be used to read the WordNet
-	 *         database stored on the local file system.
-	 */
-	public static WordNetDatabase getFileInstance()
-	{
-		return fileInstance;
-	}
-
-	/**
-	 * Returns a set of all word forms that are in the WordNet.
-	 * 
-	 * @return a set of word forms
-	 */
-	public abstract Set<String> allWordForms();
-	
-	
-	/**
-	 * Return the synset associated with the sense key.
-	 * 
-	 * @param senseKey
-	 * @return
-	 */
-	public abstract Synset getSynsetWithSenseKey(String senseKey);
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+import edu.smu.tspell.wordnet.impl.DoubleMetaphone;
+import edu.smu.tspell.wordnet.impl.LevenshteinAutomaton;
+import edu.smu.tspell.wordnet.impl.WordFormPattern;
+import edu.smu.tspell.wordnet.impl.file.DatabaseInitialization;
+import edu.smu.tspell.wordnet.impl.file.FileDatabase;
+import edu.smu.tspell.wordnet.impl.file.LazyFileDatabase;
+import edu.smu.tspell.wordnet.impl.file.TextTranslator;
+
+/**
+ * A concrete implementation of this class provides access to the WordNet
+ * database information.
+ * 
+ * @author Brett Spell
+ */
+public abstract class WordNetDatabase
+{
+
+	/**
+	 * An instance of this class that can retrieve WordNet data from files
+	 * on the local file system.
+	 */
+	private static final WordNetDatabase fileInstance = new FileDatabase();
+
+	/**
+	 * An instance of this class that reads WordNet data from files on the
+	 * local file system only when it's requested.
+	 */
+	private static final WordNetDatabase lazyFileInstance =
+			new LazyFileDatabase();
+
+	/**
+	 * No-argument constructor.
+	 */
+	public WordNetDatabase()
+	{
+	}
+
+	/**
+	 * Returns all synsets that contain the specified word form or a
+	 * morphological variation of that word form.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @return All synsets that contain the specified word form.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public Synset[] getSynsets(String wordForm) throws WordNetException
+	{
+		return getSynsets(wordForm, null, true);
+	}
+
+	/**
+	 * Returns only the synsets of a particular type (e.g., noun) that contain
+	 * a word form or morphological variation of that form.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, all synsets will be returned
+	 *         that contain the specified word form.
+	 * @return Synsets that contain the specified word form or a morphological
+	 *         variation of that word form.
+	 *         If the category argument is specified, only synsets of that
+	 *         type will be returned, otherwise all synsets containing the
+	 *         form are returned.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public Synset[] getSynsets(String wordForm, SynsetType type)
+	{
+		return getSynsets(wordForm, type, true);
+	}
+
+	/**
+	 * Returns only the synsets of a particular type (e.g., noun) that contain
+	 * a word form matching the specified text or one of that word form's
+	 * variants. The caller can request that variants be by specifying that
+	 * WordNet's morphology rules should be applied when determining which
+	 * synsets to return. For example, if the caller requests that noun
+	 * synsets be returned that contain the word form "masses" and the caller
+	 * also requests that morphological processing be used, this method will
+	 * return all noun synsets that contain <i>either</i> "masses" or "mass".
+	 * That's due to the fact that one of WordNet's morphology rules,
+	 * specifically a detachment rule, produces "mass" as a candidate form of
+	 * "masses" as a result of stripping the "es" suffix.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, all synsets will be returned
+	 *         that contain the specified word form.
+	 * @param  useMorphology When <code>true</code>, indicates that this
+	 *         method should return synsets that contain any morphological
+	 *         variation of the specified word form; conversely, a value of
+	 *         <code>false</code> returns in only synsets being returned that
+	 *         contain the word for exactly as it is specified. In other words,
+	 *         specifying <code>false</code> indicates that an exact-match-only
+	 *         approach should be used to determine which synsets to return.
+	 * @return Synsets that contain the specified word form.
+	 *         If the category argument is specified, only synsets of that
+	 *         type will be returned, otherwise all synsets containing the
+	 *         form are returned.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public abstract Synset[] getSynsets(String wordForm, SynsetType type,
+			boolean useMorphology) throws WordNetException;
+
+	/**
+	 * Returns lemma representing word forms that <u>might</u> be present
+	 * in WordNet. For example, if "geese" is passed to this method along
+	 * with a parameter that indicates that noun forms should be returned
+	 * it will return the base form of "goose".
+	 * 
+	 * @param  inflection Irregular inflection for which to return root words.
+	 * @param  type Syntactic type for which to perform the lookup.
+	 * @return Root word(s) from which the inflection is derived.
+	 * @see    <a href="http://wordnet.princeton.edu/man/morphy.7WN">
+	 *         WordNet morphological processing</a>
+	 * @see    <a href="http://wordnet.princeton.edu/man/wndb.5WN#sect5">
+	 *         Format of WordNet database files ("Exception List File Format")
+	 *         </a>
+	 */
+	public abstract String[] getBaseFormCandidates(String inflection,
+			SynsetType type);
+
+	/**
+	 * Returns an implementation of this class that can access the WordNet
+	 * database by searching files on the local file system.
+	 * <br><p>
+	 * You can specify the directory location of those files by setting the
+	 * <code>wordnet.database.dir</code> system property.
+	 * <br><p>
+	 * Startup can be made faster by setting the
+	 * <code>wordnet.database.snapshot</code> property to the location of a
+	 * snapshot written by
+	 * {@link edu.smu.tspell.wordnet.impl.file.SnapshotWriter}, in which case
+	 * the database is loaded from the snapshot instead of being parsed. A
+	 * snapshot that's out of date with respect to the database files is
+	 * ignored.
+	 * 
+	 * @return Instance of this class that can be used to read the WordNet
+	 *         database stored on the local file system.
+	 */
+	public static WordNetDatabase getFileInstance()
+	{
+		return fileInstance;
+	}
+
+	/**
+	 * Starts loading the database returned by {@link #getFileInstance()} in
+	 * a background thread and returns a future that completes when the load
+	 * does. The database can be used before then: lookups that don't apply
+	 * morphology are answered as soon as the word form has been loaded, and
+	 * other requests wait only for the stage of the load they depend upon.
+	 * <br><p>
+	 * The future can be cast to
+	 * {@link edu.smu.tspell.wordnet.impl.file.DatabaseInitialization} to
+	 * wait for a specific stage or, by calling
+	 * {@link edu.smu.tspell.wordnet.impl.file.DatabaseInitialization#start(edu.smu.tspell.wordnet.impl.file.InitializationListener)}
+	 * directly, to be notified of the progress of the load.
+	 * 
+	 * @return Future whose result is the file-based database.
+	 */
+	public static Future<WordNetDatabase> initializeFileInstance()
+	{
+		return DatabaseInitialization.start(null);
+	}
+
+	/**
+	 * Returns an implementation of this class that accesses the same files
+	 * as {@link #getFileInstance()} but doesn't load them into memory.
+	 * Instead, the sense index file is searched each time a word form is
+	 * looked up and only the synsets that are needed are read from the data
+	 * files. This allows the database to be used almost immediately and with
+	 * little memory, although individual lookups are slower.
+	 * <br><p>
+	 * The number of recently read synsets that are kept in memory can be
+	 * set with the <code>wordnet.database.lazyCacheSize</code> property.
+	 * If the <code>wordnet.database.snapshot</code> property identifies a
+	 * snapshot, the synsets are read from the memory-mapped snapshot
+	 * instead, so that several processes using the same snapshot share a
+	 * single copy of the database in physical memory.
+	 * 
+	 * @return Instance of this class that reads the WordNet database stored
+	 *         on the local file system on demand.
+	 */
+	public static WordNetDatabase getLazyFileInstance()
+	{
+		return lazyFileInstance;
+	}
+
+	/**
+	 * Returns a set of all word forms that are in the WordNet.
+	 * 
+	 * @return a set of word forms
+	 */
+	public abstract Set<String> allWordForms();
+	
+	
+	/**
+	 * Return the synset associated with the sense key.
+	 * 
+	 * @param senseKey
+	 * @return
+	 */
+	public abstract Synset getSynsetWithSenseKey(String senseKey);
+
+	/**
+	 * Returns the word forms that start with the specified text, such as
+	 * those that an autocompletion would offer. The word forms are ordered
+	 * by the sum of the tag counts of their senses (which indicates how
+	 * frequently they're used), most frequently used first, and then
+	 * alphabetically.
+	 * 
+	 * @param  prefix Text with which the word forms start.
+	 * @param  type Type of synsets (e.g., noun) that must contain the word
+	 *         forms, whose senses of that type are the only ones whose tag
+	 *         counts are summed; if this argument is <code>null</code>,
+	 *         word forms of any type are returned.
+	 * @param  limit Maximum number of word forms to return.
+	 * @return Matching word forms, in the format returned by
+	 *         {@link #allWordForms()}.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public String[] getWordFormsWithPrefix(String prefix, SynsetType type,
+			int limit) throws WordNetException
+	{
+		checkLimit(limit);
+		return findWordForms(WordFormPattern.forPrefix(
+				TextTranslator.translateToDatabaseFormat(prefix)), type, limit);
+	}
+
+	/**
+	 * Returns the word forms that match a pattern in which an asterisk
+	 * (<code>*</code>) matches any sequence of characters and a question
+	 * mark (<code>?</code>) matches any single character, such as
+	 * <code>*berry</code> or <code>colo?r</code>. The word forms are ordered
+	 * in the same way as by {@link #getWordFormsWithPrefix(String, SynsetType, int)}.
+	 * 
+	 * @param  pattern Pattern that the word forms must match.
+	 * @param  type Type of synsets (e.g., noun) that must contain the word
+	 *         forms; if this argument is <code>null</code>, word forms of
+	 *         any type are returned.
+	 * @param  limit Maximum number of word forms to return.
+	 * @return Matching word forms, in the format returned by
+	 *         {@link #allWordForms()}.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public String[] getWordFormsMatching(String pattern, SynsetType type,
+			int limit) throws WordNetException
+	{
+		checkLimit(limit);
+		return findWordForms(WordFormPattern.compile(
+				TextTranslator.translateToDatabaseFormat(pattern)), type, limit);
+	}
+
+	/**
+	 * Returns the word forms that match a pattern, ordered by the sum of the
+	 * tag counts of their senses and then alphabetically.
+	 * <br><p>
+	 * This implementation examines every word form returned by
+	 * {@link #allWordForms()} and looks up the synsets of those that match
+	 * the pattern to obtain their tag counts. Subclasses that can search the
+	 * word forms more efficiently should override it.
+	 * 
+	 * @param  pattern Pattern, in database format, that the word forms must
+	 *         match.
+	 * @param  type Type of synsets that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @param  limit Maximum number of word forms to return.
+	 * @return Matching word forms.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	protected String[] findWordForms(WordFormPattern pattern, SynsetType type,
+			int limit) throws WordNetException
+	{
+		final Map<String, Integer> tagCounts = new HashMap<String, Integer>();
+		for (String wordForm : allWordForms())
+		{
+			if (pattern.matches(TextTranslator.translateToDatabaseFormat(wordForm)))
+			{
+				int tagCount = getTagCount(wordForm, type);
+				if (tagCount >= 0)
+				{
+					tagCounts.put(wordForm, Integer.valueOf(tagCount));
+				}
+			}
+		}
+		List<String> wordForms = new ArrayList<String>(tagCounts.keySet());
+		Collections.sort(wordForms, new Comparator<String>()
+		{
+			public int compare(String o1, String o2)
+			{
+				int relativeValue = tagCounts.get(o2).compareTo(tagCounts.get(o1));
+				return (relativeValue != 0 ? relativeValue : o1.compareTo(o2));
+			}
+		});
+		wordForms = wordForms.subList(0, Math.min(limit, wordForms.size()));
+		return wordForms.toArray(new String[wordForms.size()]);
+	}
+
+	/**
+	 * Returns the synsets that contain a word form within a maximum number
+	 * of edits (insertions, deletions or substitutions of a single
+	 * character) of the specified text, which can be used to look up text
+	 * that may be misspelled. The synsets of the closest word forms are
+	 * returned first, and those of word forms at the same distance are
+	 * ordered by the sum of the tag counts of the word forms' senses, most
+	 * frequently used first. Each synset is returned only once, and the
+	 * synsets of each word form are in the order returned by
+	 * {@link #getSynsets(String, SynsetType, boolean)}; morphology isn't
+	 * applied.
+	 * <br><p>
+	 * A maximum of one or two edits is usually sufficient for typing
+	 * errors, and the number of word forms that are examined grows quickly
+	 * beyond that.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase),
+	 *         which may be misspelled.
+	 * @param  maxEdits Maximum number of edits between the text and the
+	 *         word forms whose synsets are returned; zero returns only the
+	 *         synsets that contain the text exactly.
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, synsets of all types are
+	 *         returned.
+	 * @return Synsets that contain a word form close to the text.
+	 * @throws IllegalArgumentException The maximum number of edits is
+	 *         negative.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public Synset[] getSynsetsFuzzy(String wordForm, int maxEdits,
+			SynsetType type) throws WordNetException
+	{
+		LevenshteinAutomaton automaton = new LevenshteinAutomaton(
+				TextTranslator.translateToDatabaseFormat(wordForm), maxEdits);
+		Set<Synset> synsets = new LinkedHashSet<Synset>();
+		String[] wordForms = findWordFormsWithin(automaton, type);
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			Collections.addAll(synsets, getSynsets(wordForms[i], type, false));
+		}
+		return synsets.toArray(new Synset[synsets.size()]);
+	}
+
+	/**
+	 * Returns the word forms that are accepted by a Levenshtein automaton,
+	 * ordered by the number of edits between them and the automaton's text,
+	 * then by the sum of the tag counts of their senses and then
+	 * alphabetically.
+	 * <br><p>
+	 * This implementation runs the automaton over every word form returned
+	 * by {@link #allWordForms()}. Subclasses that can avoid examining every
+	 * word form should override it.
+	 * 
+	 * @param  automaton Levenshtein automaton whose text is a word form, in
+	 *         database format, and which accepts the word forms to return.
+	 * @param  type Type of synsets that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @return Accepted word forms.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	protected String[] findWordFormsWithin(LevenshteinAutomaton automaton,
+			SynsetType type) throws WordNetException
+	{
+		final Map<String, Integer> distances = new HashMap<String, Integer>();
+		final Map<String, Integer> tagCounts = new HashMap<String, Integer>();
+		for (String wordForm : allWordForms())
+		{
+			int distance = automaton.getDistance(
+					TextTranslator.translateToDatabaseFormat(wordForm));
+			if (distance <= automaton.getMaxEdits())
+			{
+				int tagCount = getTagCount(wordForm, type);
+				if (tagCount >= 0)
+				{
+					distances.put(wordForm, Integer.valueOf(distance));
+					tagCounts.put(wordForm, Integer.valueOf(tagCount));
+				}
+			}
+		}
+		List<String> wordForms = new ArrayList<String>(tagCounts.keySet());
+		Collections.sort(wordForms, new Comparator<String>()
+		{
+			public int compare(String o1, String o2)
+			{
+				int relativeValue = distances.get(o1).compareTo(distances.get(o2));
+				if (relativeValue == 0)
+				{
+					relativeValue = tagCounts.get(o2).compareTo(tagCounts.get(o1));
+				}
+				return (relativeValue != 0 ? relativeValue : o1.compareTo(o2));
+			}
+		});
+		return wordForms.toArray(new String[wordForms.size()]);
+	}
+
+	/**
+	 * Returns the synsets that contain a word form that sounds like the
+	 * specified text, which can be used to look up text that has been
+	 * spelled phonetically or produced by speech recognition. Two word
+	 * forms sound alike when they share a {@link DoubleMetaphone} key; the
+	 * synsets of the word forms that share the text's primary key are
+	 * returned first. Each synset is returned only once, and the synsets
+	 * of each word form are in the order returned by
+	 * {@link #getSynsets(String, SynsetType, boolean)}; morphology isn't
+	 * applied.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase),
+	 *         which may be misspelled.
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, synsets of all types are
+	 *         returned.
+	 * @return Synsets that contain a word form that sounds like the text.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public Synset[] getSynsetsSoundingLike(String wordForm, SynsetType type)
+			throws WordNetException
+	{
+		DoubleMetaphone metaphone = new DoubleMetaphone(
+				TextTranslator.translateToDatabaseFormat(wordForm),
+				DoubleMetaphone.PACKED_MAX_LENGTH);
+		Set<Synset> synsets = new LinkedHashSet<Synset>();
+		String[] wordForms = findWordFormsSoundingLike(metaphone);
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			Collections.addAll(synsets, getSynsets(wordForms[i], type, false));
+		}
+		return synsets.toArray(new Synset[synsets.size()]);
+	}
+
+	/**
+	 * Returns the word forms that share a Double Metaphone key with a word
+	 * form. Those that share its primary key are returned first, followed
+	 * by those that only share its alternate key, and each group is in
+	 * alphabetical order.
+	 * <br><p>
+	 * This implementation computes the keys of every word form returned by
+	 * {@link #allWordForms()}. Subclasses that can look up the keys in an
+	 * index should override it.
+	 * 
+	 * @param  metaphone Keys of the word form, computed with a maximum
+	 *         length of {@link DoubleMetaphone#PACKED_MAX_LENGTH}.
+	 * @return Word forms that sound alike.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	protected String[] findWordFormsSoundingLike(DoubleMetaphone metaphone)
+			throws WordNetException
+	{
+		String primaryKey = metaphone.getPrimaryKey();
+		String alternateKey = metaphone.getAlternateKey();
+		List<String> primaryMatches = new ArrayList<String>();
+		List<String> alternateMatches = new ArrayList<String>();
+		if (primaryKey.length() > 0)
+		{
+			for (String wordForm : allWordForms())
+			{
+				DoubleMetaphone candidate = new DoubleMetaphone(
+						TextTranslator.translateToDatabaseFormat(wordForm),
+						DoubleMetaphone.PACKED_MAX_LENGTH);
+				String candidatePrimaryKey = candidate.getPrimaryKey();
+				String candidateAlternateKey = candidate.getAlternateKey();
+				if (primaryKey.equals(candidatePrimaryKey) ||
+						primaryKey.equals(candidateAlternateKey))
+				{
+					primaryMatches.add(wordForm);
+				}
+				else if (alternateKey.equals(candidatePrimaryKey) ||
+						alternateKey.equals(candidateAlternateKey))
+				{
+					alternateMatches.add(wordForm);
+				}
+			}
+		}
+		Collections.sort(primaryMatches);
+		Collections.sort(alternateMatches);
+		primaryMatches.addAll(alternateMatches);
+		return primaryMatches.toArray(new String[primaryMatches.size()]);
+	}
+
+	/**
+	 * Returns the sum of the tag counts of the senses of a word form.
+	 * 
+	 * @param  wordForm Word form for which to return the tag count.
+	 * @param  type Type of synsets whose senses are counted, or
+	 *         <code>null</code> for any type.
+	 * @return Sum of the tag counts, or -1 if no synset of the type
+	 *         contains the word form.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	private int getTagCount(String wordForm, SynsetType type)
+	{
+		Synset[] synsets = getSynsets(wordForm, type, false);
+		int tagCount = 0;
+		for (int i = 0; i < synsets.length; i++)
+		{
+			tagCount += synsets[i].getTagCount(wordForm);
+		}
+		return (synsets.length > 0 ? tagCount : -1);
+	}
+
+	/**
+	 * Checks that the maximum number of results of a search isn't negative.
+	 * 
+	 * @param  limit Maximum number of results.
+	 * @throws IllegalArgumentException The limit is negative.
+	 */
+	private static void checkLimit(int limit)
+	{
+		if (limit < 0)
+		{
+			throw new IllegalArgumentException("Negative limit: " + limit);
+		}
+	}
+
+	/**
+	 * Returns the number of objects in, and the estimated number of bytes
+	 * retained by, each of the structures that hold this database in memory,
+	 * such as the sense index entries, the synsets of each type and their
+	 * relationships. This can be used to decide which parts of the database
+	 * are worth loading, or to find out where the memory goes.
+	 * <br><p>
+	 * This implementation returns an empty footprint. The footprint of the
+	 * file-based databases can also be monitored through JMX by setting the
+	 * <code>wordnet.database.jmx</code> property to <code>true</code>.
+	 * 
+	 * @return Memory footprint of this database.
+	 */
+	public MemoryFootprint getMemoryFootprint()
+	{
+		return new MemoryFootprint();
+	}
+
 }
\ No newline at end of file
@@ -1,101 +1,171 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl;
-
-import edu.smu.tspell.wordnet.Synset;
-import edu.smu.tspell.wordnet.SynsetType;
-
-/**
- * An abstract Synset implementation. This provides encapsulation of some
- * of the basic properties of a synset, specifically a type / part of speech,
- * a definition, and example sentences.
- * 
- * @author Brett Spell
- */
-public abstract class AbstractSynset implements Synset
-{
-
-	/**
-	 * Identifies the type (e.g., noun, verb, adjective, etc.) of this
-	 * synset.
-	 */
-	private SynsetType type;
-
-	/**
-	 * A short description / definition for this concept.
-	 */
-	private String definition;
-
-	/**
-	 * Example sentences showing how the word form is used (optional).
-	 */
-	private String[] examples;
-
-	/**
-	 * Constructor that accepts the basic synset properties.
-	 * 
-	 * @param  type Type of synset this instance represents.
-	 * @param  definition Short description / definition of the meaning.
-	 * @param  examples Examples of how the synset is used.
-	 */
-	protected AbstractSynset(SynsetType type, String definition,
-			String[] examples)
-	{
-		this.type = type;
-		this.definition = definition;
-		this.examples = examples;
-	}
-
-	/**
-	 * Retrieve the type of synset this object represents.
-	 * 
-	 * @return Type of synset this object represents.
-	 */
-	public SynsetType getType()
-	{
-		return type;
-	}
-
-	/**
-	 * Retrieve a short description / definition of this concept.
-	 * 
-	 * @return Description / definition of what this synset represents.
-	 */
-	public String getDefinition()
-	{
-		return definition;
-	}
-
-	/**
-	 * Retrieve sentences showing examples of how this synset is used.
-	 * 
-	 * @return Example sentences.
-	 */
-	public String[] getUsageExamples()
-	{
-		return examples;
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+
+/**
+ * An abstract Synset implementation. This provides encapsulation of some
+ * of the basic properties of a synset, specifically a type / part of speech,
+ * a definition, and example sentences.
+ * <br><p>
+ * The definition and example sentences can optionally be parsed from the
+ * gloss only when one of them is first requested (see
+ * {@link #readGloss()}), since most lookups never use them.
+ * 
+ * @author Brett Spell
+ */
+public abstract class AbstractSynset implements Synset
+{
+
+	/**
+	 * Identifies the type (e.g., noun, verb, adjective, etc.) of this
+	 * synset.
+	 */
+	private SynsetType type;
+
+	/**
+	 * A short description / definition for this concept.
+	 */
+	private String definition;
+
+	/**
+	 * Example sentences showing how the word form is used (optional);
+	 * <code>null</code> until the gloss has been parsed.
+	 */
+	private volatile String[] examples;
+
+	/**
+	 * Constructor that accepts the basic synset properties.
+	 * 
+	 * @param  type Type of synset this instance represents.
+	 * @param  definition Short description / definition of the meaning.
+	 * @param  examples Examples of how the synset is used, or
+	 *         <code>null</code> if the gloss should be read and parsed when
+	 *         it's first needed.
+	 */
+	protected AbstractSynset(SynsetType type, String definition,
+			String[] examples)
+	{
+		this.type = type;
+		this.definition = definition;
+		this.examples = examples;
+	}
+
+	/**
+	 * Retrieve the type of synset this object represents.
+	 * 
+	 * @return Type of synset this object represents.
+	 */
+	public SynsetType getType()
+	{
+		return type;
+	}
+
+	/**
+	 * Retrieve a short description / definition of this concept.
+	 * 
+	 * @return Description / definition of what this synset represents.
+	 */
+	public String getDefinition()
+	{
+		parseGloss();
+		return definition;
+	}
+
+	/**
+	 * Retrieve sentences showing examples of how this synset is used.
+	 * 
+	 * @return Example sentences.
+	 */
+	public String[] getUsageExamples()
+	{
+		parseGloss();
+		String[] usage = examples;
+		return (usage.length > 0 ? usage.clone() : usage);
+	}
+
+	/**
+	 * Makes sure that the definition and example sentences are available,
+	 * parsing the gloss if this is the first time either has been requested.
+	 * <br><p>
+	 * No lock is held while the gloss is read, so a virtual thread that
+	 * blocks on the read doesn't pin its carrier thread. If several threads
+	 * request the gloss at the same time, each of them may read it, but
+	 * they all store the same text.
+	 */
+	private void parseGloss()
+	{
+		if (examples == null)
+		{
+			Gloss gloss = readGloss();
+			definition = gloss.getDefinition();
+			//  Assigned last so that the definition is visible to any
+			//  thread that sees the examples
+			examples = gloss.getExamples();
+		}
+	}
+
+	/**
+	 * Releases the definition and example sentences once they've been
+	 * stored elsewhere by a subclass, which must then also override
+	 * {@link #getDefinition()} and {@link #getUsageExamples()}. This is
+	 * only called while the synset is being created.
+	 */
+	protected void discardGloss()
+	{
+		definition = null;
+		examples = new String[0];
+	}
+
+	/**
+	 * Reads and parses the gloss of a synset that was created without its
+	 * definition and example sentences. This implementation returns an
+	 * empty gloss; subclasses that defer parsing the gloss must override it.
+	 * 
+	 * @return Content of the gloss.
+	 */
+	protected Gloss readGloss()
+	{
+		return new Gloss(null, new String[0]);
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this synset, including
+	 * the definition and example sentences if they're held in memory.
+	 * Subclasses add the size of their own fields.
+	 * 
+	 * @return Estimated number of bytes used by this synset.
+	 * @see    SizeEstimates
+	 */
+	protected long getEstimatedSize()
+	{
+		return SizeEstimates.getObjectSize(3, 0) +
+				SizeEstimates.getStringSize(definition) +
+				SizeEstimates.getStringsSize(examples);
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,1113 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import java.util.Locale;
+
+/**
+ * Phonetic keys of a word or collocation computed with Lawrence Philips'
+ * Double Metaphone algorithm, so that words that sound alike, such as
+ * "phonetic" and "fonetik", have the same keys even though they're spelled
+ * differently.
+ * <br><p>
+ * The algorithm reduces the text to the consonant sounds that it contains,
+ * taking into account the many spelling conventions of English and of the
+ * languages from which it borrows. Where the pronunciation is ambiguous it
+ * produces an alternate key in addition to the primary key, and two texts
+ * are considered to sound alike if either key of one equals either key of
+ * the other. The keys consist of the letters <code>AFHJKLMNPRSTX</code>
+ * and the digit <code>0</code> (which stands for "th"), and vowels are
+ * only represented at the start of the text (as <code>A</code>).
+ * <br><p>
+ * The keys are traditionally truncated to {@link #DEFAULT_MAX_LENGTH}
+ * characters, which suits names but makes long words that merely start
+ * alike indistinguishable, so a longer maximum can be specified. Spaces
+ * and underscores separate the words of a collocation. Instances are
+ * immutable.
+ * 
+ * @author Brett Spell
+ * @see    <a href="https://dl.acm.org/doi/10.5555/349124.349132">
+ *         The Double Metaphone Search Algorithm</a>
+ */
+public final class DoubleMetaphone
+{
+
+	/**
+	 * Maximum length of the keys when none is specified.
+	 */
+	public final static int DEFAULT_MAX_LENGTH = 4;
+
+	/**
+	 * Maximum length of the keys that can be packed into a long by
+	 * {@link #pack(String)}, which is enough to represent all but the
+	 * longest word forms completely.
+	 */
+	public final static int PACKED_MAX_LENGTH = 16;
+
+	/**
+	 * Characters that can occur in a key, in the order of the numbers
+	 * (starting at one) that represent them in a packed key.
+	 */
+	private final static String KEY_CHARACTERS = "0AFHJKLMNPRSTX";
+
+	/**
+	 * Key that represents the most likely pronunciation.
+	 */
+	private final String primaryKey;
+
+	/**
+	 * Key that represents an alternate pronunciation, which is the same as
+	 * the primary key if there is none.
+	 */
+	private final String alternateKey;
+
+	/**
+	 * Constructor that computes keys of the default maximum length.
+	 * 
+	 * @param  text Word or collocation for which to compute the keys.
+	 */
+	public DoubleMetaphone(String text)
+	{
+		this(text, DEFAULT_MAX_LENGTH);
+	}
+
+	/**
+	 * Constructor that computes keys of a specific maximum length.
+	 * 
+	 * @param  text Word or collocation for which to compute the keys.
+	 * @param  maxLength Maximum number of characters in each key.
+	 * @throws IllegalArgumentException The maximum length isn't positive.
+	 */
+	public DoubleMetaphone(String text, int maxLength)
+	{
+		if (maxLength <= 0)
+		{
+			throw new IllegalArgumentException(
+					"Invalid maximum key length: " + maxLength);
+		}
+		Encoder encoder = new Encoder(text, maxLength);
+		encoder.encode();
+		primaryKey = encoder.getKey(encoder.primary);
+		alternateKey = encoder.getKey(encoder.alternate);
+	}
+
+	/**
+	 * Returns the key that represents the most likely pronunciation.
+	 * 
+	 * @return Primary key, which is empty if the text contains no sounds
+	 *         that are represented.
+	 */
+	public String getPrimaryKey()
+	{
+		return primaryKey;
+	}
+
+	/**
+	 * Returns the key that represents an alternate pronunciation.
+	 * 
+	 * @return Alternate key, which is the same as the primary key if the
+	 *         pronunciation isn't ambiguous.
+	 */
+	public String getAlternateKey()
+	{
+		return alternateKey;
+	}
+
+	/**
+	 * Indicates whether this text sounds like another one, which is the
+	 * case if either of its keys equals either key of the other text.
+	 * 
+	 * @param  other Keys of the other text.
+	 * @return <code>true</code> if the texts sound alike.
+	 */
+	public boolean soundsLike(DoubleMetaphone other)
+	{
+		if (primaryKey.length() == 0)
+		{
+			return false;
+		}
+		return (primaryKey.equals(other.primaryKey) ||
+				primaryKey.equals(other.alternateKey) ||
+				alternateKey.equals(other.primaryKey) ||
+				alternateKey.equals(other.alternateKey));
+	}
+
+	/**
+	 * Packs a key into a long, using four bits for each character, so that
+	 * keys can be stored and compared without creating strings.
+	 * 
+	 * @param  key Key to pack, which can't be longer than
+	 *         {@link #PACKED_MAX_LENGTH}.
+	 * @return Packed key, which is zero only for an empty key.
+	 * @throws IllegalArgumentException The key is too long or contains a
+	 *         character that doesn't occur in keys.
+	 */
+	public static long pack(String key)
+	{
+		if (key.length() > PACKED_MAX_LENGTH)
+		{
+			throw new IllegalArgumentException("Key is too long: " + key);
+		}
+		long packed = 0;
+		for (int i = 0; i < key.length(); i++)
+		{
+			int code = KEY_CHARACTERS.indexOf(key.charAt(i)) + 1;
+			if (code == 0)
+			{
+				throw new IllegalArgumentException("Invalid key: " + key);
+			}
+			packed = (packed << 4) | code;
+		}
+		return packed;
+	}
+
+	/**
+	 * Returns a string representation of the keys.
+	 * 
+	 * @return String representation of the keys.
+	 */
+	public String toString()
+	{
+		return (primaryKey.equals(alternateKey) ? primaryKey :
+				primaryKey + "/" + alternateKey);
+	}
+
+	/**
+	 * Computes the keys of a text, scanning it from left to right and
+	 * appending the sound that each letter or group of letters represents.
+	 */
+	private static class Encoder
+	{
+
+		/**
+		 * Number of spaces appended to the text so that the rules can look
+		 * past its end, some of which test for a space there.
+		 */
+		private final static String PADDING = "     ";
+
+		/**
+		 * Text in upper case, followed by the padding.
+		 */
+		private final String value;
+
+		/**
+		 * Length of the text without the padding.
+		 */
+		private final int length;
+
+		/**
+		 * Position of the last character of the text.
+		 */
+		private final int last;
+
+		/**
+		 * Maximum number of characters in each key.
+		 */
+		private final int maxLength;
+
+		/**
+		 * Indicates whether the text appears to be of Slavic or Germanic
+		 * origin, which changes how some letters are pronounced.
+		 */
+		private final boolean isSlavoGermanic;
+
+		/**
+		 * Primary key being built.
+		 */
+		private final StringBuilder primary = new StringBuilder();
+
+		/**
+		 * Alternate key being built.
+		 */
+		private final StringBuilder alternate = new StringBuilder();
+
+		/**
+		 * Position of the character being encoded.
+		 */
+		private int current;
+
+		/**
+		 * Constructor that accepts the text to encode.
+		 * 
+		 * @param  text Text to encode.
+		 * @param  maxLength Maximum number of characters in each key.
+		 */
+		Encoder(String text, int maxLength)
+		{
+			String upper = text.replace('_', ' ').trim().toUpperCase(
+					Locale.ENGLISH);
+			this.value = upper + PADDING;
+			this.length = upper.length();
+			this.last = length - 1;
+			this.maxLength = maxLength;
+			isSlavoGermanic = ((upper.indexOf('W') >= 0) ||
+					(upper.indexOf('K') >= 0) || (upper.indexOf("CZ") >= 0) ||
+					(upper.indexOf("WITZ") >= 0));
+		}
+
+		/**
+		 * Returns a key, truncated to the maximum length.
+		 * 
+		 * @param  key Key that was built.
+		 * @return Truncated key.
+		 */
+		String getKey(StringBuilder key)
+		{
+			return key.substring(0, Math.min(key.length(), maxLength));
+		}
+
+		/**
+		 * Encodes the text.
+		 */
+		void encode()
+		{
+			//  Skip these when at the start of the text
+			if (stringAt(0, 2, "GN", "KN", "PN", "WR", "PS"))
+			{
+				current = 1;
+			}
+			//  Initial 'X' is pronounced 'Z' (e.g., 'Xavier'), which maps to 'S'
+			if (charAt(0) == 'X')
+			{
+				add("S");
+				current = 1;
+			}
+			while (((primary.length() < maxLength) ||
+					(alternate.length() < maxLength)) && (current < length))
+			{
+				char c = charAt(current);
+				switch (c)
+				{
+					case 'A':
+					case 'E':
+					case 'I':
+					case 'O':
+					case 'U':
+					case 'Y':
+						//  Vowels are only kept at the start
+						if (current == 0)
+						{
+							add("A");
+						}
+						current++;
+						break;
+					case 'B':
+						//  "-mb", e.g. "dumb", is already skipped over
+						addLetter("P");
+						break;
+					case '\u00C7':
+						add("S");
+						current++;
+						break;
+					case 'C':
+						encodeC();
+						break;
+					case 'D':
+						encodeD();
+						break;
+					case 'F':
+					case 'V':
+						addLetter("F");
+						break;
+					case 'K':
+					case 'Q':
+						addLetter("K");
+						break;
+					case 'N':
+						addLetter("N");
+						break;
+					case 'G':
+						encodeG();
+						break;
+					case 'H':
+						//  Only kept if first or between vowels
+						if (((current == 0) || (isVowel(current - 1))) &&
+								(isVowel(current + 1)))
+						{
+							add("H");
+							current += 2;
+						}
+						else
+						{
+							current++;
+						}
+						break;
+					case 'J':
+						encodeJ();
+						break;
+					case 'L':
+						encodeL();
+						break;
+					case 'M':
+						if (((stringAt(current - 1, 3, "UMB")) &&
+								((current + 1 == last) ||
+								(stringAt(current + 2, 2, "ER")))) ||
+								(charAt(current + 1) == 'M'))
+						{
+							current += 2;
+						}
+						else
+						{
+							current++;
+						}
+						add("M");
+						break;
+					case '\u00D1':
+						add("N");
+						current++;
+						break;
+					case 'P':
+						if (charAt(current + 1) == 'H')
+						{
+							add("F");
+							current += 2;
+						}
+						else
+						{
+							//  Also accounts for "campbell" and "raspberry"
+							add("P");
+							current += (stringAt(current + 1, 1, "P", "B") ? 2 : 1);
+						}
+						break;
+					case 'R':
+						//  French, e.g. "rogier", but not "hochmeier"
+						if ((current == last) && (!isSlavoGermanic) &&
+								(stringAt(current - 2, 2, "IE")) &&
+								(!stringAt(current - 4, 2, "ME", "MA")))
+						{
+							add("", "R");
+						}
+						else
+						{
+							add("R");
+						}
+						current += (charAt(current + 1) == 'R' ? 2 : 1);
+						break;
+					case 'S':
+						encodeS();
+						break;
+					case 'T':
+						encodeT();
+						break;
+					case 'W':
+						encodeW();
+						break;
+					case 'X':
+						//  French, e.g. "breaux"
+						if (!((current == last) &&
+								((stringAt(current - 3, 3, "IAU", "EAU")) ||
+								(stringAt(current - 2, 2, "AU", "OU")))))
+						{
+							add("KS");
+						}
+						current += (stringAt(current + 1, 1, "C", "X") ? 2 : 1);
+						break;
+					case 'Z':
+						encodeZ();
+						break;
+					default:
+						current++;
+						break;
+				}
+			}
+		}
+
+		/**
+		 * Encodes the letter 'C'.
+		 */
+		private void encodeC()
+		{
+			//  Various Germanic, e.g. "bacher", "macher"
+			if ((current > 1) && (!isVowel(current - 2)) &&
+					(stringAt(current - 1, 3, "ACH")) &&
+					(charAt(current + 2) != 'I') &&
+					((charAt(current + 2) != 'E') ||
+					(stringAt(current - 2, 6, "BACHER", "MACHER"))))
+			{
+				add("K");
+				current += 2;
+			}
+			else if ((current == 0) && (stringAt(current, 6, "CAESAR")))
+			{
+				add("S");
+				current += 2;
+			}
+			else if (stringAt(current, 4, "CHIA"))
+			{
+				//  Italian, e.g. "chianti"
+				add("K");
+				current += 2;
+			}
+			else if (stringAt(current, 2, "CH"))
+			{
+				encodeCH();
+				current += 2;
+			}
+			else if ((stringAt(current, 2, "CZ")) &&
+					(!stringAt(current - 2, 4, "WICZ")))
+			{
+				//  E.g. "czerny"
+				add("S", "X");
+				current += 2;
+			}
+			else if (stringAt(current + 1, 3, "CIA"))
+			{
+				//  E.g. "focaccia"
+				add("X");
+				current += 3;
+			}
+			else if ((stringAt(current, 2, "CC")) &&
+					(!((current == 1) && (charAt(0) == 'M'))))
+			{
+				//  Double 'C', but not in e.g. "McClellan"
+				if ((stringAt(current + 2, 1, "I", "E", "H")) &&
+						(!stringAt(current + 2, 2, "HU")))
+				{
+					//  "accident", "accede" and "succeed" but "bacci"
+					if (((current == 1) && (charAt(current - 1) == 'A')) ||
+							(stringAt(current - 1, 5, "UCCEE", "UCCES")))
+					{
+						add("KS");
+					}
+					else
+					{
+						add("X");
+					}
+					current += 3;
+				}
+				else
+				{
+					//  E.g. "bacchus"
+					add("K");
+					current += 2;
+				}
+			}
+			else if (stringAt(current, 2, "CK", "CG", "CQ"))
+			{
+				add("K");
+				current += 2;
+			}
+			else if (stringAt(current, 2, "CI", "CE", "CY"))
+			{
+				//  Italian or English
+				if (stringAt(current, 3, "CIO", "CIE", "CIA"))
+				{
+					add("S", "X");
+				}
+				else
+				{
+					add("S");
+				}
+				current += 2;
+			}
+			else
+			{
+				add("K");
+				//  E.g. "mac caffrey" or "mac gregor"
+				if (stringAt(current + 1, 2, " C", " Q", " G"))
+				{
+					current += 3;
+				}
+				else if ((stringAt(current + 1, 1, "C", "K", "Q")) &&
+						(!stringAt(current + 1, 2, "CE", "CI")))
+				{
+					current += 2;
+				}
+				else
+				{
+					current++;
+				}
+			}
+		}
+
+		/**
+		 * Encodes the letters "CH", without advancing past them.
+		 */
+		private void encodeCH()
+		{
+			if ((current > 0) && (stringAt(current, 4, "CHAE")))
+			{
+				//  E.g. "michael"
+				add("K", "X");
+			}
+			else if ((current == 0) &&
+					((stringAt(current + 1, 5, "HARAC", "HARIS")) ||
+					(stringAt(current + 1, 3, "HOR", "HYM", "HIA", "HEM"))) &&
+					(!stringAt(0, 5, "CHORE")))
+			{
+				//  Greek roots, e.g. "chemistry" or "chorus"
+				add("K");
+			}
+			else if ((stringAt(0, 4, "VAN ", "VON ")) ||
+					(stringAt(0, 3, "SCH")) ||
+					(stringAt(current - 2, 6, "ORCHES", "ARCHIT", "ORCHID")) ||
+					(stringAt(current + 2, 1, "T", "S")) ||
+					(((stringAt(current - 1, 1, "A", "O", "U", "E")) ||
+					(current == 0)) &&
+					(stringAt(current + 2, 1, "L", "R", "N", "M", "B", "H",
+					"F", "V", "W", " "))))
+			{
+				//  Germanic, Greek or otherwise pronounced "kh", e.g.
+				//  "architect" or "wechsler" but not "arch" or "tichner"
+				add("K");
+			}
+			else if (current > 0)
+			{
+				if (stringAt(0, 2, "MC"))
+				{
+					//  E.g. "McHugh"
+					add("K");
+				}
+				else
+				{
+					add("X", "K");
+				}
+			}
+			else
+			{
+				add("X");
+			}
+		}
+
+		/**
+		 * Encodes the letter 'D'.
+		 */
+		private void encodeD()
+		{
+			if (stringAt(current, 2, "DG"))
+			{
+				if (stringAt(current + 2, 1, "I", "E", "Y"))
+				{
+					//  E.g. "edge"
+					add("J");
+					current += 3;
+				}
+				else
+				{
+					//  E.g. "edgar"
+					add("TK");
+					current += 2;
+				}
+			}
+			else if (stringAt(current, 2, "DT", "DD"))
+			{
+				add("T");
+				current += 2;
+			}
+			else
+			{
+				add("T");
+				current++;
+			}
+		}
+
+		/**
+		 * Encodes the letter 'G'.
+		 */
+		private void encodeG()
+		{
+			if (charAt(current + 1) == 'H')
+			{
+				encodeGH();
+			}
+			else if (charAt(current + 1) == 'N')
+			{
+				if ((current == 1) && (isVowel(0)) && (!isSlavoGermanic))
+				{
+					add("KN", "N");
+				}
+				else if ((!stringAt(current + 2, 2, "EY")) &&
+						(charAt(current + 1) != 'Y') && (!isSlavoGermanic))
+				{
+					//  Not e.g. "cagney"
+					add("N", "KN");
+				}
+				else
+				{
+					add("KN");
+				}
+				current += 2;
+			}
+			else if ((stringAt(current + 1, 2, "LI")) && (!isSlavoGermanic))
+			{
+				//  E.g. "tagliaro"
+				add("KL", "L");
+				current += 2;
+			}
+			else if ((current == 0) && ((charAt(current + 1) == 'Y') ||
+					(stringAt(current + 1, 2, "ES", "EP", "EB", "EL", "EY",
+					"IB", "IL", "IN", "IE", "EI", "ER"))))
+			{
+				//  "-ges-", "-gep-", "-gel-" or "-gie-" at the start
+				add("K", "J");
+				current += 2;
+			}
+			else if (((stringAt(current + 1, 2, "ER")) ||
+					(charAt(current + 1) == 'Y')) &&
+					(!stringAt(0, 6, "DANGER", "RANGER", "MANGER")) &&
+					(!stringAt(current - 1, 1, "E", "I")) &&
+					(!stringAt(current - 1, 3, "RGY", "OGY")))
+			{
+				//  "-ger-" or "-gy-"
+				add("K", "J");
+				current += 2;
+			}
+			else if ((stringAt(current + 1, 1, "E", "I", "Y")) ||
+					(stringAt(current - 1, 4, "AGGI", "OGGI")))
+			{
+				//  Italian, e.g. "biaggi"
+				if ((stringAt(0, 4, "VAN ", "VON ")) ||
+						(stringAt(0, 3, "SCH")) ||
+						(stringAt(current + 1, 2, "ET")))
+				{
+					//  Obviously Germanic
+					add("K");
+				}
+				else if (stringAt(current + 1, 4, "IER "))
+				{
+					//  Always soft with a French ending
+					add("J");
+				}
+				else
+				{
+					add("J", "K");
+				}
+				current += 2;
+			}
+			else
+			{
+				add("K");
+				current += (charAt(current + 1) == 'G' ? 2 : 1);
+			}
+		}
+
+		/**
+		 * Encodes the letters "GH".
+		 */
+		private void encodeGH()
+		{
+			if ((current > 0) && (!isVowel(current - 1)))
+			{
+				add("K");
+			}
+			else if (current == 0)
+			{
+				//  E.g. "ghislane" or "ghiradelli"
+				add(charAt(current + 2) == 'I' ? "J" : "K");
+			}
+			else if (((current > 1) && (stringAt(current - 2, 1, "B", "H", "D"))) ||
+					((current > 2) && (stringAt(current - 3, 1, "B", "H", "D"))) ||
+					((current > 3) && (stringAt(current - 4, 1, "B", "H"))))
+			{
+				//  Parker's rule, e.g. "hugh", "bough" or "broughton"
+			}
+			else if ((current > 2) && (charAt(current - 1) == 'U') &&
+					(stringAt(current - 3, 1, "C", "G", "L", "R", "T")))
+			{
+				//  E.g. "laugh", "McLaughlin", "cough" or "rough"
+				add("F");
+			}
+			else if (charAt(current - 1) != 'I')
+			{
+				add("K");
+			}
+			current += 2;
+		}
+
+		/**
+		 * Encodes the letter 'J'.
+		 */
+		private void encodeJ()
+		{
+			if ((stringAt(current, 4, "JOSE")) || (stringAt(0, 4, "SAN ")))
+			{
+				//  Obviously Spanish, e.g. "jose" or "san jacinto"
+				if (((current == 0) && (charAt(current + 4) == ' ')) ||
+						(stringAt(0, 4, "SAN ")))
+				{
+					add("H");
+				}
+				else
+				{
+					add("J", "H");
+				}
+				current++;
+				return;
+			}
+			if (current == 0)
+			{
+				//  E.g. "Yankelovich" or "Jankelowicz"
+				add("J", "A");
+			}
+			else if ((isVowel(current - 1)) && (!isSlavoGermanic) &&
+					((charAt(current + 1) == 'A') || (charAt(current + 1) == 'O')))
+			{
+				//  Spanish pronunciation of e.g. "bajador"
+				add("J", "H");
+			}
+			else if (current == last)
+			{
+				add("J", " ");
+			}
+			else if ((!stringAt(current + 1, 1, "L", "T", "K", "S", "N", "M",
+					"B", "Z")) && (!stringAt(current - 1, 1, "S", "K", "L")))
+			{
+				add("J");
+			}
+			current += (charAt(current + 1) == 'J' ? 2 : 1);
+		}
+
+		/**
+		 * Encodes the letter 'L'.
+		 */
+		private void encodeL()
+		{
+			if (charAt(current + 1) == 'L')
+			{
+				//  Spanish, e.g. "cabrillo" or "gallegos"
+				if (((current == length - 3) &&
+						(stringAt(current - 1, 4, "ILLO", "ILLA", "ALLE"))) ||
+						(((stringAt(last - 1, 2, "AS", "OS")) ||
+						(stringAt(last, 1, "A", "O"))) &&
+						(stringAt(current - 1, 4, "ALLE"))))
+				{
+					add("L", " ");
+				}
+				else
+				{
+					add("L");
+				}
+				current += 2;
+			}
+			else
+			{
+				add("L");
+				current++;
+			}
+		}
+
+		/**
+		 * Encodes the letter 'S'.
+		 */
+		private void encodeS()
+		{
+			if (stringAt(current - 1, 3, "ISL", "YSL"))
+			{
+				//  E.g. "island", "isle" or "carlisle"
+				current++;
+			}
+			else if ((current == 0) && (stringAt(current, 5, "SUGAR")))
+			{
+				add("X", "S");
+				current++;
+			}
+			else if (stringAt(current, 2, "SH"))
+			{
+				//  Germanic, e.g. "holmsheim"
+				add(stringAt(current + 1, 4, "HEIM", "HOEK", "HOLM", "HOLZ") ?
+						"S" : "X");
+				current += 2;
+			}
+			else if ((stringAt(current, 3, "SIO", "SIA")) ||
+					(stringAt(current, 4, "SIAN")))
+			{
+				//  Italian or Armenian
+				if (isSlavoGermanic)
+				{
+					add("S");
+				}
+				else
+				{
+					add("S", "X");
+				}
+				current += 3;
+			}
+			else if (((current == 0) &&
+					(stringAt(current + 1, 1, "M", "N", "L", "W"))) ||
+					(stringAt(current + 1, 1, "Z")))
+			{
+				//  German and anglicisations, e.g. "smith" and "schmidt",
+				//  and "-sz-" in Slavic languages
+				add("S", "X");
+				current += (stringAt(current + 1, 1, "Z") ? 2 : 1);
+			}
+			else if (stringAt(current, 2, "SC"))
+			{
+				encodeSC();
+			}
+			else
+			{
+				//  French, e.g. "resnais" or "artois"
+				if ((current == last) && (stringAt(current - 2, 2, "AI", "OI")))
+				{
+					add("", "S");
+				}
+				else
+				{
+					add("S");
+				}
+				current += (stringAt(current + 1, 1, "S", "Z") ? 2 : 1);
+			}
+		}
+
+		/**
+		 * Encodes the letters "SC".
+		 */
+		private void encodeSC()
+		{
+			if (charAt(current + 2) == 'H')
+			{
+				//  Schlesinger's rule
+				if (stringAt(current + 3, 2, "OO", "ER", "EN", "UY", "ED", "EM"))
+				{
+					//  Dutch, e.g. "school", "schooner" or "schermerhorn"
+					if (stringAt(current + 3, 2, "ER", "EN"))
+					{
+						add("X", "SK");
+					}
+					else
+					{
+						add("SK");
+					}
+				}
+				else if ((current == 0) && (!isVowel(3)) && (charAt(3) != 'W'))
+				{
+					add("X", "S");
+				}
+				else
+				{
+					add("X");
+				}
+			}
+			else if (stringAt(current + 2, 1, "I", "E", "Y"))
+			{
+				add("S");
+			}
+			else
+			{
+				add("SK");
+			}
+			current += 3;
+		}
+
+		/**
+		 * Encodes the letter 'T'.
+		 */
+		private void encodeT()
+		{
+			if (stringAt(current, 4, "TION"))
+			{
+				add("X");
+				current += 3;
+			}
+			else if (stringAt(current, 3, "TIA", "TCH"))
+			{
+				add("X");
+				current += 3;
+			}
+			else if ((stringAt(current, 2, "TH")) ||
+					(stringAt(current, 3, "TTH")))
+			{
+				//  Special case for "thomas" and "thames", or Germanic
+				if ((stringAt(current + 2, 2, "OM", "AM")) ||
+						(stringAt(0, 4, "VAN ", "VON ")) ||
+						(stringAt(0, 3, "SCH")))
+				{
+					add("T");
+				}
+				else
+				{
+					add("0", "T");
+				}
+				current += 2;
+			}
+			else
+			{
+				add("T");
+				current += (stringAt(current + 1, 1, "T", "D") ? 2 : 1);
+			}
+		}
+
+		/**
+		 * Encodes the letter 'W'.
+		 */
+		private void encodeW()
+		{
+			if (stringAt(current, 2, "WR"))
+			{
+				//  Can also be in the middle of a word
+				add("R");
+				current += 2;
+				return;
+			}
+			if ((current == 0) &&
+					((isVowel(current + 1)) || (stringAt(current, 2, "WH"))))
+			{
+				//  "Wasserman" should match "Vasserman" and "Uomo" "Womo"
+				if (isVowel(current + 1))
+				{
+					add("A", "F");
+				}
+				else
+				{
+					add("A");
+				}
+			}
+			if (((current == last) && (isVowel(current - 1))) ||
+					(stringAt(current - 1, 5, "EWSKI", "EWSKY", "OWSKI",
+					"OWSKY")) || (stringAt(0, 3, "SCH")))
+			{
+				//  "Arnow" should match "Arnoff"
+				add("", "F");
+				current++;
+			}
+			else if (stringAt(current, 4, "WICZ", "WITZ"))
+			{
+				//  Polish, e.g. "filipowicz"
+				add("TS", "FX");
+				current += 4;
+			}
+			else
+			{
+				current++;
+			}
+		}
+
+		/**
+		 * Encodes the letter 'Z'.
+		 */
+		private void encodeZ()
+		{
+			if (charAt(current + 1) == 'H')
+			{
+				//  Chinese pinyin, e.g. "zhao"
+				add("J");
+				current += 2;
+				return;
+			}
+			if ((stringAt(current + 1, 2, "ZO", "ZI", "ZA")) ||
+					((isSlavoGermanic) && (current > 0) &&
+					(charAt(current - 1) != 'T')))
+			{
+				add("S", "TS");
+			}
+			else
+			{
+				add("S");
+			}
+			current += (charAt(current + 1) == 'Z' ? 2 : 1);
+		}
+
+		/**
+		 * Appends the same sound to both keys.
+		 * 
+		 * @param  sound Sound to append.
+		 */
+		private void add(String sound)
+		{
+			primary.append(sound);
+			alternate.append(sound);
+		}
+
+		/**
+		 * Appends the sound of the current letter to both keys and skips
+		 * the letter, along with the next one if it's the same letter.
+		 * 
+		 * @param  sound Sound of the letter.
+		 */
+		private void addLetter(String sound)
+		{
+			add(sound);
+			current += (charAt(current + 1) == charAt(current) ? 2 : 1);
+		}
+
+		/**
+		 * Appends a sound to the primary key and another to the alternate
+		 * key; an alternate sound of a single space appends nothing.
+		 * 
+		 * @param  sound Sound to append to the primary key.
+		 * @param  alternateSound Sound to append to the alternate key.
+		 */
+		private void add(String sound, String alternateSound)
+		{
+			primary.append(sound);
+			if (!alternateSound.equals(" "))
+			{
+				alternate.append(alternateSound);
+			}
+		}
+
+		/**
+		 * Returns the character at a position of the text.
+		 * 
+		 * @param  index Position of the character.
+		 * @return Character at the position, a space after the end of the
+		 *         text or a null character before its start.
+		 */
+		private char charAt(int index)
+		{
+			return ((index >= 0) && (index < value.length()) ?
+					value.charAt(index) : '\0');
+		}
+
+		/**
+		 * Indicates whether the character at a position is a vowel.
+		 * 
+		 * @param  index Position of the character.
+		 * @return <code>true</code> if the character is a vowel.
+		 */
+		private boolean isVowel(int index)
+		{
+			return ((index < length) && ("AEIOUY".indexOf(charAt(index)) >= 0));
+		}
+
+		/**
+		 * Indicates whether the text contains one of several strings at a
+		 * position.
+		 * 
+		 * @param  start Position at which to look for the strings.
+		 * @param  count Length of the strings.
+		 * @param  candidates Strings to look for.
+		 * @return <code>true</code> if one of the strings is found.
+		 */
+		private boolean stringAt(int start, int count, String... candidates)
+		{
+			if ((start < 0) || (start + count > value.length()))
+			{
+				return false;
+			}
+			for (int i = 0; i < candidates.length; i++)
+			{
+				if (value.startsWith(candidates[i], start))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+
+	}
+
+}
\ No newline at end of file
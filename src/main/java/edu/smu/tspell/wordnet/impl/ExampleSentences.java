@@ -1,166 +1,240 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl;
-
-import java.text.MessageFormat;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-/**
- * Encapsulates example sentences applicable to a synset and / or word sense.
- * 
- * @author Brett Spell
- */
-public class ExampleSentences
-{
-
-	/**
-	 * Used as the word form "key" for frames associated with all word forms
-	 * in the synset. In other words, this lets us treat the common frames
-	 * essentially the same as those associated with a particular word form.
-	 */
-	private final static String SYNSET_KEY = "*";
-
-	/**
-	 * Mapping of word forms to their associated frames. For each entry in
-	 * this map, the key is a string representing a word form (or the entire
-	 * synset) and the corresponding value is a {@link List} containing the
-	 * appropriate frames.
-	 * 
-	 * @see    <a href="http://wordnet.princeton.edu/man/wninput.5WN#sect4">
-	 *         Format of Lexicographer Files ("Verb Frames")</a>
-	 */
-	private Map wordFrames = new HashMap();
-
-	/**
-	 * Mapping of word forms to their associated templates. For each entry in
-	 * the map, the key is a string representing a word form and the
-	 * corresponding value is an array of strings representing templates that
-	 * are associated with the word form.
-	 * 
-	 */
-	private Map senseTemplates = new HashMap();
-
-	/**
-	 * No-argument constructor.
-	 */
-	public ExampleSentences()
-	{
-	}
-
-	/**
-	 * Adds to this collection a frame that's common to all word forms in the
-	 * synset.
-	 * 
-	 * @param  frameText Sentence frame that's applicable to all word forms in
-	 *         the synset.
-	 */
-	public void addCommonFrame(String frameText)
-	{
-		addFrame(frameText, SYNSET_KEY);
-	}
-
-	/**
-	 * Adds to this collection a frame that's applicable to a specific word
-	 * form within the synset.
-	 * 
-	 * @param  frameText Sentence frame that's applicable to the word form.
-	 * @param  wordForm Word form associated with the sentence frame.
-	 */
-	public void addFrame(String frameText, String wordForm)
-	{
-		List frameList = (List)(wordFrames.get(wordForm));
-		if (frameList == null)
-		{
-			frameList = new ArrayList();
-			wordFrames.put(wordForm, frameList);
-		}
-		frameList.add(frameText);
-	}
-
-	/**
-	 * Saves the list of templates that apply to a particular word form.
-	 * 
-	 * @param  wordForm Word form for which to set the sentence templates.
-	 * @param  templates Templates associated with the specified word form.
-	 */
-	public void setTemplates(String wordForm, String[] templates)
-	{
-		senseTemplates.put(wordForm, templates);
-	}
-
-	/**
-	 * Returns the templates associated with a word form (if any) with the
-	 * specified word form substituted into the appropriate place within the
-	 * templates.
-	 * 
-	 * @param  wordForm Word form for which to return sentence templates.
-	 * @return Sentence templates associated with the specified word form.
-	 */
-	public String[] getFormattedTemplates(String wordForm)
-	{
-		Object[] arguments = new Object[] {wordForm};
-		String[] templates = (String[])(senseTemplates.get(wordForm));
-		for (int i = 0; i < templates.length; i++)
-		{
-			templates[i] = MessageFormat.format(templates[i], arguments);
-		}
-		return templates;
-	}
-
-	/**
-	 * Returns the sentence frames that are common to all word forms in the
-	 * synset.
-	 * 
-	 * @return Sentence frames applicable to all word forms in the synset.
-	 */
-	public String[] getCommonFrames()
-	{
-		return getFrames(SYNSET_KEY);
-	}
-
-	/**
-	 * Returns the sentence frames that are associated with a particular word
-	 * form.
-	 * 
-	 * @param  wordForm Word form for which to return sentence frames.
-	 * @return Sentence frames associated with the word form.
-	 */
-	public String[] getFrames(String wordForm)
-	{
-		String[] frames = null;
-		List frameList = (List)(wordFrames.get(wordForm));
-		if (frameList != null)
-		{
-			frames = new String[frameList.size()];
-			frameList.toArray(frames);
-		}
-		return (frames != null ? frames : new String[0]);
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encapsulates example sentences applicable to a synset and / or word sense.
+ * 
+ * @author Brett Spell
+ */
+public class ExampleSentences
+{
+
+	/**
+	 * Used as the word form "key" for frames associated with all word forms
+	 * in the synset. In other words, this lets us treat the common frames
+	 * essentially the same as those associated with a particular word form.
+	 */
+	private final static String SYNSET_KEY = "*";
+
+	/**
+	 * Mapping of word forms to their associated frames. For each entry in
+	 * this map, the key is a string representing a word form (or the entire
+	 * synset) and the corresponding value is a {@link List} containing the
+	 * appropriate frames.
+	 * 
+	 * @see    <a href="http://wordnet.princeton.edu/man/wninput.5WN#sect4">
+	 *         Format of Lexicographer Files ("Verb Frames")</a>
+	 */
+	private Map wordFrames = new HashMap();
+
+	/**
+	 * Mapping of word forms to their associated templates. For each entry in
+	 * the map, the key is a string representing a word form and the
+	 * corresponding value is an array of {@link SentenceTemplate} instances
+	 * that are associated with the word form.
+	 */
+	private Map senseTemplates = new HashMap();
+
+	/**
+	 * No-argument constructor.
+	 */
+	public ExampleSentences()
+	{
+	}
+
+	/**
+	 * Adds to this collection a frame that's common to all word forms in the
+	 * synset.
+	 * 
+	 * @param  frameText Sentence frame that's applicable to all word forms in
+	 *         the synset.
+	 */
+	public void addCommonFrame(String frameText)
+	{
+		addFrame(frameText, SYNSET_KEY);
+	}
+
+	/**
+	 * Adds to this collection a frame that's applicable to a specific word
+	 * form within the synset.
+	 * 
+	 * @param  frameText Sentence frame that's applicable to the word form.
+	 * @param  wordForm Word form associated with the sentence frame.
+	 */
+	public void addFrame(String frameText, String wordForm)
+	{
+		List frameList = (List)(wordFrames.get(wordForm));
+		if (frameList == null)
+		{
+			frameList = new ArrayList();
+			wordFrames.put(wordForm, frameList);
+		}
+		frameList.add(frameText);
+	}
+
+	/**
+	 * Saves the list of templates that apply to a particular word form.
+	 * 
+	 * @param  wordForm Word form for which to set the sentence templates.
+	 * @param  templates Templates associated with the specified word form.
+	 */
+	public void setTemplates(String wordForm, SentenceTemplate[] templates)
+	{
+		senseTemplates.put(wordForm, templates);
+	}
+
+	/**
+	 * Saves the list of templates that apply to a particular word form,
+	 * given the text of each one.
+	 * 
+	 * @param  wordForm Word form for which to set the sentence templates.
+	 * @param  templates Text of the templates associated with the specified
+	 *         word form, in the format used by the database.
+	 * @see    SentenceTemplate#getInstance(String)
+	 */
+	public void setTemplates(String wordForm, String[] templates)
+	{
+		SentenceTemplate[] compiled = new SentenceTemplate[templates.length];
+		for (int i = 0; i < templates.length; i++)
+		{
+			compiled[i] = SentenceTemplate.getInstance(templates[i]);
+		}
+		setTemplates(wordForm, compiled);
+	}
+
+	/**
+	 * Returns the text of the templates associated with a word form as they
+	 * were stored, that is without the word form substituted into them.
+	 * 
+	 * @param  wordForm Word form for which to return sentence templates.
+	 * @return Sentence templates associated with the specified word form or
+	 *         <code>null</code> if none were stored.
+	 */
+	public String[] getTemplates(String wordForm)
+	{
+		SentenceTemplate[] templates =
+				(SentenceTemplate[])(senseTemplates.get(wordForm));
+		if (templates == null)
+		{
+			return null;
+		}
+		String[] text = new String[templates.length];
+		for (int i = 0; i < templates.length; i++)
+		{
+			text[i] = templates[i].getText();
+		}
+		return text;
+	}
+
+	/**
+	 * Returns the templates associated with a word form (if any) with the
+	 * specified word form substituted into the appropriate place within the
+	 * templates. The templates were split around the places where the word
+	 * form goes when they were stored, so each one is rendered by simply
+	 * concatenating the pieces and the word form.
+	 * 
+	 * @param  wordForm Word form for which to return sentence templates.
+	 * @return Sentence templates associated with the specified word form.
+	 */
+	public String[] getFormattedTemplates(String wordForm)
+	{
+		SentenceTemplate[] templates =
+				(SentenceTemplate[])(senseTemplates.get(wordForm));
+		String[] formatted = new String[templates.length];
+		for (int i = 0; i < templates.length; i++)
+		{
+			formatted[i] = templates[i].render(wordForm);
+		}
+		return formatted;
+	}
+
+	/**
+	 * Returns the sentence frames that are common to all word forms in the
+	 * synset.
+	 * 
+	 * @return Sentence frames applicable to all word forms in the synset.
+	 */
+	public String[] getCommonFrames()
+	{
+		return getFrames(SYNSET_KEY);
+	}
+
+	/**
+	 * Returns the sentence frames that are associated with a particular word
+	 * form.
+	 * 
+	 * @param  wordForm Word form for which to return sentence frames.
+	 * @return Sentence frames associated with the word form.
+	 */
+	public String[] getFrames(String wordForm)
+	{
+		String[] frames = null;
+		List frameList = (List)(wordFrames.get(wordForm));
+		if (frameList != null)
+		{
+			frames = new String[frameList.size()];
+			frameList.toArray(frames);
+		}
+		return (frames != null ? frames : new String[0]);
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this collection. The
+	 * frame and template text is shared with other synsets, so only the
+	 * maps, lists and arrays that refer to it are included.
+	 * 
+	 * @return Estimated number of bytes used by this collection.
+	 * @see    SizeEstimates
+	 */
+	public long getEstimatedSize()
+	{
+		long size = SizeEstimates.getObjectSize(2, 0) +
+				SizeEstimates.getHashMapSize(wordFrames.size()) +
+				SizeEstimates.getHashMapSize(senseTemplates.size());
+		for (Iterator iterator = wordFrames.values().iterator();
+				iterator.hasNext(); )
+		{
+			List frameList = (List)(iterator.next());
+			size += SizeEstimates.getArrayListSize(frameList.size());
+		}
+		for (Iterator iterator = senseTemplates.values().iterator();
+				iterator.hasNext(); )
+		{
+			SentenceTemplate[] templates =
+					(SentenceTemplate[])(iterator.next());
+			size += SizeEstimates.getArraySize(templates.length,
+					SizeEstimates.REFERENCE_SIZE);
+		}
+		return size;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import java.util.ArrayList;
+
+/**
+ * Encapsulates the content of a synset gloss: a short definition followed
+ * by any number of example sentences, each enclosed in double quotes.
+ * 
+ * @author Brett Spell
+ */
+public class Gloss
+{
+
+	/**
+	 * Separates elements of the gloss (definition and example sentences).
+	 */
+	private final static String GLOSS_DELIMITERS = "; ";
+
+	/**
+	 * Identifies a gloss element as a definition or example sentence.
+	 */
+	private final static String DOUBLE_QUOTE = "\"";
+
+	/**
+	 * Short definition of the meaning.
+	 */
+	private final String definition;
+
+	/**
+	 * Example sentences.
+	 */
+	private final String[] examples;
+
+	/**
+	 * Constructor that accepts a definition and array of example sentences.
+	 * 
+	 * @param  definition Short definition of the synset's meaning.
+	 * @param  examples Example sentences showing usage of the word forms.
+	 */
+	public Gloss(String definition, String[] examples)
+	{
+		this.definition = definition;
+		this.examples = examples;
+	}
+
+	/**
+	 * Parses gloss text and returns the content found there.
+	 * 
+	 * @param  glossText Gloss text to parse.
+	 * @return Content of the gloss.
+	 */
+	public static Gloss parse(String glossText)
+	{
+		int quoteIndex;
+		int textEnd;
+		String example;
+
+		String definition = null;
+		ArrayList<String> exampleList = new ArrayList<String>();
+		StringBuffer buffer = new StringBuffer(glossText.trim());
+		//  Do we have a gloss at all?
+		if (buffer.length() > 0)
+		{
+			//  Does it start with a definition?
+			if (!(DOUBLE_QUOTE.equals(buffer.substring(0, 1))))
+			{
+				//  Find out where the definition ends
+				quoteIndex = buffer.indexOf(DOUBLE_QUOTE);
+				if (quoteIndex == -1)
+				{
+					quoteIndex = buffer.length();
+				}
+				//  Strip any delimiter characters from the end
+				textEnd = quoteIndex - 1;
+				while ((textEnd >= 0) && (GLOSS_DELIMITERS.indexOf(
+						buffer.charAt(textEnd)) != -1))
+				{
+					textEnd--;
+				}
+				//  Get the definition text
+				definition = buffer.substring(0, textEnd + 1);
+				//  Delete everything prior to the start of the first example
+				buffer.delete(0, quoteIndex);
+			}
+			//  Loop through the example sentences
+			while (buffer.length() > 0)
+			{
+				//  Find where the current example sentence ends
+				quoteIndex = buffer.indexOf(DOUBLE_QUOTE, 1);
+				if (quoteIndex == -1)
+				{
+					quoteIndex = buffer.length() - 1;
+				}
+				example = buffer.substring(0, quoteIndex + 1);
+				//  Add it to the list
+				if (example.length() > 0)
+				{
+					exampleList.add(buffer.substring(0, quoteIndex + 1));
+				}
+				buffer.delete(0, quoteIndex + 1);
+				//  Trim any delimiter characters from the front
+				while ((buffer.length() > 0) &&
+						(GLOSS_DELIMITERS.indexOf(buffer.charAt(0)) != -1))
+				{
+					buffer.delete(0, 1);
+				}
+			}
+		}
+		//  Return the data we collected
+		String[] exampleArray = new String[exampleList.size()];
+		exampleList.toArray(exampleArray);
+		return new Gloss(definition, exampleArray);
+	}
+
+	/**
+	 * Returns a definition of the synset.
+	 * 
+	 * @return Synset definition.
+	 */
+	public String getDefinition()
+	{
+		return definition;
+	}
+
+	/**
+	 * Returns sentences showing examples of usage of the synset's word
+	 * forms.
+	 * 
+	 * @return Usage examples for the synset.
+	 */
+	public String[] getExamples()
+	{
+		return examples;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,309 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+/**
+ * Levenshtein automaton, which accepts the strings that are within a
+ * maximum number of edits (insertions, deletions and substitutions of a
+ * single character) of some text.
+ * <br><p>
+ * The automaton is deterministic, but its states are computed as the input
+ * is read instead of being built in advance: each state is a row of the
+ * edit distance table between the text and the characters read so far,
+ * with every distance greater than the maximum recorded as one more than
+ * the maximum. Only the distances within the maximum number of edits of
+ * the diagonal are computed, since the others always exceed the maximum,
+ * so each transition costs time proportional to the number of edits rather
+ * than to the length of the text. For the same reason, every character
+ * that doesn't occur in the corresponding window of the text leads to the
+ * same state.
+ * <br><p>
+ * Because a state indicates whether <i>any</i> continuation of the input
+ * can still be accepted, the automaton can be run over a trie or other
+ * automaton of word forms to find the ones that are close to the text
+ * while visiting only the paths that can lead to them. Instances are
+ * immutable; the states are stored in arrays supplied by the caller so
+ * that they can be reused during such a traversal.
+ * 
+ * @author Brett Spell
+ */
+public final class LevenshteinAutomaton
+{
+
+	/**
+	 * Text to which the accepted strings are close.
+	 */
+	private final String text;
+
+	/**
+	 * Characters of the text, which are read while the states are computed.
+	 */
+	private final char[] characters;
+
+	/**
+	 * Maximum number of edits between the text and an accepted string.
+	 */
+	private final int maxEdits;
+
+	/**
+	 * Constructor that accepts the text and the maximum number of edits.
+	 * 
+	 * @param  text Text to which the accepted strings are close.
+	 * @param  maxEdits Maximum number of edits between the text and an
+	 *         accepted string.
+	 * @throws IllegalArgumentException The maximum number of edits is
+	 *         negative.
+	 */
+	public LevenshteinAutomaton(String text, int maxEdits)
+	{
+		if (maxEdits < 0)
+		{
+			throw new IllegalArgumentException(
+					"Negative number of edits: " + maxEdits);
+		}
+		this.text = text;
+		this.maxEdits = maxEdits;
+		characters = text.toCharArray();
+	}
+
+	/**
+	 * Returns the text to which the accepted strings are close.
+	 * 
+	 * @return Text of the automaton.
+	 */
+	public String getText()
+	{
+		return text;
+	}
+
+	/**
+	 * Returns the maximum number of edits between the text and an accepted
+	 * string.
+	 * 
+	 * @return Maximum number of edits.
+	 */
+	public int getMaxEdits()
+	{
+		return maxEdits;
+	}
+
+	/**
+	 * Returns the length of the longest string that can be accepted, which
+	 * is also the number of characters after which no state can lead to
+	 * acceptance.
+	 * 
+	 * @return Maximum length of an accepted string.
+	 */
+	public int getMaxLength()
+	{
+		return text.length() + maxEdits;
+	}
+
+	/**
+	 * Creates an array that can hold a state of the automaton.
+	 * 
+	 * @return Array for a state.
+	 */
+	public int[] createState()
+	{
+		return new int[text.length() + 1];
+	}
+
+	/**
+	 * Stores the state in which the automaton starts, before any characters
+	 * have been read, in an array.
+	 * 
+	 * @param  state Array returned by {@link #createState()}, which
+	 *         receives the initial state.
+	 */
+	public void start(int[] state)
+	{
+		for (int j = 0; j < state.length; j++)
+		{
+			state[j] = Math.min(j, maxEdits + 1);
+		}
+	}
+
+	/**
+	 * Indicates whether a character occurs in the part of the text that
+	 * can match the next character read, which is the window of characters
+	 * within the maximum number of edits of the diagonal of the edit
+	 * distance table. The characters that don't occur in the window all
+	 * lead to the state computed by {@link #stepOther(int[], int, int[])}.
+	 * 
+	 * @param  depth Number of characters already read.
+	 * @param  c Character to look for.
+	 * @return <code>true</code> if the character occurs in the window.
+	 */
+	public boolean isInWindow(int depth, char c)
+	{
+		int end = Math.min(characters.length, depth + maxEdits + 1);
+		for (int i = Math.max(0, depth - maxEdits); i < end; i++)
+		{
+			if (characters[i] == c)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Computes the state that the automaton moves to when it reads a
+	 * character.
+	 * 
+	 * @param  state Current state.
+	 * @param  depth Number of characters read to reach the current state,
+	 *         which must be less than {@link #getMaxLength()}.
+	 * @param  c Character that is read.
+	 * @param  next Array that receives the next state, which must be
+	 *         different from the one that holds the current state.
+	 * @return <code>true</code> if a string that continues with the
+	 *         character can still be accepted, or <code>false</code> if
+	 *         the next state is a dead end.
+	 */
+	public boolean step(int[] state, int depth, char c, int[] next)
+	{
+		return step(state, depth, c, false, next);
+	}
+
+	/**
+	 * Computes the state that the automaton moves to when it reads any
+	 * character for which {@link #isInWindow(int, char)} returns
+	 * <code>false</code>. All such characters lead to the same state, so it
+	 * only needs to be computed once.
+	 * 
+	 * @param  state Current state.
+	 * @param  depth Number of characters read to reach the current state,
+	 *         which must be less than {@link #getMaxLength()}.
+	 * @param  next Array that receives the next state, which must be
+	 *         different from the one that holds the current state.
+	 * @return <code>true</code> if a string that continues with such a
+	 *         character can still be accepted, or <code>false</code> if
+	 *         the next state is a dead end.
+	 */
+	public boolean stepOther(int[] state, int depth, int[] next)
+	{
+		return step(state, depth, '\0', true, next);
+	}
+
+	/**
+	 * Computes the state that the automaton moves to when it reads a
+	 * character.
+	 * 
+	 * @param  state Current state.
+	 * @param  depth Number of characters read to reach the current state.
+	 * @param  c Character that is read.
+	 * @param  isOther Whether the character is known not to match any
+	 *         character of the text within the window, in which case
+	 *         <code>c</code> is ignored.
+	 * @param  next Array that receives the next state.
+	 * @return <code>true</code> if the next state isn't a dead end.
+	 */
+	private boolean step(int[] state, int depth, char c, boolean isOther,
+			int[] next)
+	{
+		int length = characters.length;
+		int limit = maxEdits + 1;
+		int row = depth + 1;
+		int low = Math.max(1, row - maxEdits);
+		int high = Math.min(length, row + maxEdits);
+		//  The distances next to the band are never within the maximum and
+		//  are read when the following row is computed
+		next[low - 1] = (low == 1 ? Math.min(row, limit) : limit);
+		if (high < length)
+		{
+			next[high + 1] = limit;
+		}
+		boolean isLive = (next[low - 1] < limit);
+		for (int j = low; j <= high; j++)
+		{
+			int cost = ((!isOther) && (characters[j - 1] == c) ? 0 : 1);
+			int distance = Math.min(state[j - 1] + cost, state[j] + 1);
+			distance = Math.min(distance, next[j - 1] + 1);
+			next[j] = Math.min(distance, limit);
+			isLive |= (next[j] < limit);
+		}
+		return isLive;
+	}
+
+	/**
+	 * Returns the number of edits between the text and the characters read
+	 * to reach a state.
+	 * 
+	 * @param  state State of the automaton.
+	 * @param  depth Number of characters read to reach the state.
+	 * @return Number of edits, or one more than the maximum number of edits
+	 *         if the characters read aren't accepted.
+	 */
+	public int getDistance(int[] state, int depth)
+	{
+		int length = text.length();
+		return (Math.abs(length - depth) <= maxEdits ?
+				state[length] : maxEdits + 1);
+	}
+
+	/**
+	 * Returns the number of edits between the text and a string, stopping
+	 * as soon as it's known to exceed the maximum.
+	 * 
+	 * @param  wordForm String to compare to the text.
+	 * @return Number of edits, or one more than the maximum number of edits
+	 *         if the string isn't accepted.
+	 */
+	public int getDistance(String wordForm)
+	{
+		int length = wordForm.length();
+		if (length > getMaxLength())
+		{
+			return maxEdits + 1;
+		}
+		int[] state = createState();
+		int[] next = createState();
+		start(state);
+		for (int i = 0; i < length; i++)
+		{
+			if (!step(state, i, wordForm.charAt(i), next))
+			{
+				return maxEdits + 1;
+			}
+			int[] swap = state;
+			state = next;
+			next = swap;
+		}
+		return getDistance(state, length);
+	}
+
+	/**
+	 * Returns a string representation of this automaton.
+	 * 
+	 * @return String representation of this automaton.
+	 */
+	public String toString()
+	{
+		return text + "~" + maxEdits;
+	}
+
+}
\ No newline at end of file
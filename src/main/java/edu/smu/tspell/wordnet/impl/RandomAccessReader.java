@@ -1,196 +1,339 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl;
-
-import java.io.FileNotFoundException;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.RandomAccessFile;
-import java.nio.ByteBuffer;
-
-import org.apache.commons.io.IOUtils;
-
-/**
- * Used to access the data at arbitrary positions within a file.
- * 
- * @author Brett Spell
- */
-public abstract class RandomAccessReader
-{
-
-	/**
-	 * Separates the lines within the file.
-	 */
-	protected final static char LINE_SEPARATOR = '\n';
-
-	/**
-	 * Mode in which to open the file (read-only).
-	 */
-	protected final static String ACCESS_MODE = "r";
-
-	/**
-	 * Provides random access to the content of the file being read.
-	 */
-	protected ByteBuffer accessor;
-	
-	/**
-	 * The file's size in bytes, which is assumed not to change.
-	 */
-	private int fileSize;
-
-	/**
-	 * Pointer to the next byte in the file that will be read.
-	 */
-	private int filePointer;
-	
-	/**
-	 * Constructs an instance of this class, specifying the file that is to
-	 * be read.
-	 * 
-	 * @param  file File that is to be read.
-	 * @throws FileNotFoundException The specified file does not exist.
-	 */
-	protected RandomAccessReader(String name) throws IOException
-	{
-		super();
-		InputStream stream = getClass().getResourceAsStream(name);
-		if (stream == null) {
-			throw new IOException("Cannot open resource: " + name);
-		}
-		fileSize = stream.available();
-		byte [] buffer = IOUtils.toByteArray(stream);
-		int read = buffer.length;
-		if (read != fileSize) {
-			throw new IOException("Unsuccessful read from: " + name + " " + read + " instead of " + fileSize);			
-		}
-		accessor = ByteBuffer.wrap(buffer);
-		filePointer = accessor.position();
-		stream.close();
-	}
-
-
-	/**
-	 * Moves the file pointer to a new position and records that position so
-	 * that it's available for quick retrieval.
-	 * 
-	 * @param  newPosition New byte position within the file.
-	 * @throws IOException An error occurred updating the file pointer.
-	 */
-	protected void seek(long newPosition) throws IOException
-	{
-		if (newPosition != filePointer)
-		{
-			ByteBuffer reader = getAccessor();
-			reader.position((int)newPosition);
-			filePointer = (int)newPosition;
-		}
-	}
-
-	/**
-	 * Beginning with the current / next character in the file, read until
-	 * we encounter either the line delimiter or the end of the file and
-	 * return the characters (excluding the delimiter) that were read.
-	 * 
-	 * @return Characters read from the file position at entry until a line
-	 *         delimiter or the end of the file was encountered.
-	 * @throws IOException An error occurred reading the file.
-	 */
-	protected String readToNextEndOfLine() throws IOException
-	{
-		char nextChar;
-
-		StringBuffer buffer = new StringBuffer();
-		while (filePointer < fileSize)
-		{
-			nextChar = readNextCharacter();
-			if (nextChar != LINE_SEPARATOR)
-			{
-				buffer.append(nextChar);
-			}
-			else
-			{
-				break;
-			}
-		}
-		return buffer.toString();
-	}
-
-	/**
-	 * Reads the next sequential character from the file.
-	 * 
-	 * @return Next character in the file or -1 if reached end-of-file.
-	 * @throws IOException An error occurred reading the character.
-	 * @see    RandomAccessFile#read()
-	 */
-	protected char readNextCharacter() throws IOException
-	{
-		char nextChar = (char)(-1);
-		if (filePointer < fileSize)
-		{
-			nextChar = (char)accessor.get();
-			filePointer++;
-		}
-		return nextChar;
-	}
-
-	/**
-	 * Returns a reference to the file reader used to access the file.
-	 * 
-	 * @return Random access file reader.
-	 */
-	protected ByteBuffer getAccessor()
-	{
-		return accessor;
-	}
-
-	/**
-	 * Returns the number of bytes in the file being read.
-	 * 
-	 * @return Number of bytes in the file being read.
-	 */
-	protected long getFileSize()
-	{
-		return fileSize;
-	}
-
-	/**
-	 * Returns a reference to the current file pointer value.
-	 * 
-	 * @return Current file pointer value.
-	 */
-	protected long getFilePointer()
-	{
-		return filePointer;
-	}
-
-	/**
-	 * Release the data of the file that was being read.
-	 */
-	public void close()
-	{
-		accessor = null;
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Used to access the data at arbitrary positions within a file.
+ * 
+ * @author Brett Spell
+ */
+public abstract class RandomAccessReader
+{
+
+	/**
+	 * Separates the lines within the file.
+	 */
+	protected final static char LINE_SEPARATOR = '\n';
+
+	/**
+	 * Mode in which to open the file (read-only).
+	 */
+	protected final static String ACCESS_MODE = "r";
+
+	/**
+	 * Protocol of the URL of a resource that's stored in a local file.
+	 */
+	private final static String FILE_PROTOCOL = "file";
+
+	/**
+	 * Provides random access to the content of the file being read.
+	 */
+	protected ByteBuffer accessor;
+	
+	/**
+	 * The file's size in bytes, which is assumed not to change.
+	 */
+	private int fileSize;
+
+	/**
+	 * Pointer to the next byte in the file that will be read.
+	 */
+	private int filePointer;
+	
+	/**
+	 * Constructs an instance of this class, specifying the file that is to
+	 * be read.
+	 * <br><p>
+	 * When the resource is a file on the local file system (for example,
+	 * when the database directory is on the class path as a directory and
+	 * not packaged in a JAR file) the file is mapped into memory. Its data
+	 * then resides in the operating system's page cache instead of the Java
+	 * heap and is shared by all processes that read the same file. Any other
+	 * resource is read into the heap in its entirety.
+	 * 
+	 * @param  name Resource name of the file that is to be read.
+	 * @throws IOException The specified file does not exist or can't be read.
+	 */
+	protected RandomAccessReader(String name) throws IOException
+	{
+		super();
+		File file = getLocalFile(name);
+		if (file != null)
+		{
+			mapFile(file);
+		}
+		else
+		{
+			readResource(name);
+		}
+		filePointer = accessor.position();
+	}
+
+	/**
+	 * Returns the file on the local file system that corresponds to a
+	 * resource.
+	 * 
+	 * @param  name Resource name of the file.
+	 * @return File that contains the resource or <code>null</code> if the
+	 *         resource isn't stored in a file of its own.
+	 */
+	private File getLocalFile(String name)
+	{
+		File file = null;
+		URL url = getClass().getResource(name);
+		if ((url != null) && (FILE_PROTOCOL.equals(url.getProtocol())))
+		{
+			try
+			{
+				file = new File(url.toURI());
+			}
+			catch (URISyntaxException e)
+			{
+				//  Fall back to reading the resource into the heap
+			}
+			catch (IllegalArgumentException e)
+			{
+				//  Fall back to reading the resource into the heap
+			}
+		}
+		return ((file != null) && (file.isFile()) ? file : null);
+	}
+
+	/**
+	 * Maps the contents of a file on the local file system into memory.
+	 * 
+	 * @param  file File that is to be read.
+	 * @throws IOException An error occurred mapping the file.
+	 */
+	private void mapFile(File file) throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, ACCESS_MODE);
+		try
+		{
+			FileChannel channel = raf.getChannel();
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE)
+			{
+				throw new IOException("File is too large: " + file);
+			}
+			fileSize = (int)size;
+			accessor = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+		finally
+		{
+			//  The mapping remains valid after the channel is closed
+			raf.close();
+		}
+	}
+
+	/**
+	 * Reads the entire contents of a resource into the heap.
+	 * 
+	 * @param  name Resource name of the file that is to be read.
+	 * @throws IOException The resource does not exist or can't be read.
+	 */
+	private void readResource(String name) throws IOException
+	{
+		InputStream stream = getClass().getResourceAsStream(name);
+		if (stream == null) {
+			throw new IOException("Cannot open resource: " + name);
+		}
+		fileSize = stream.available();
+		byte [] buffer = IOUtils.toByteArray(stream);
+		int read = buffer.length;
+		if (read != fileSize) {
+			throw new IOException("Unsuccessful read from: " + name + " " + read + " instead of " + fileSize);			
+		}
+		accessor = ByteBuffer.wrap(buffer);
+		stream.close();
+	}
+
+
+	/**
+	 * Moves the file pointer to a new position and records that position so
+	 * that it's available for quick retrieval.
+	 * 
+	 * @param  newPosition New byte position within the file.
+	 * @throws IOException An error occurred updating the file pointer.
+	 */
+	protected void seek(long newPosition) throws IOException
+	{
+		if (newPosition != filePointer)
+		{
+			ByteBuffer reader = getAccessor();
+			reader.position((int)newPosition);
+			filePointer = (int)newPosition;
+		}
+	}
+
+	/**
+	 * Beginning with the current / next character in the file, read until
+	 * we encounter either the line delimiter or the end of the file and
+	 * return the characters (excluding the delimiter) that were read.
+	 * 
+	 * @return Characters read from the file position at entry until a line
+	 *         delimiter or the end of the file was encountered.
+	 * @throws IOException An error occurred reading the file.
+	 */
+	protected String readToNextEndOfLine() throws IOException
+	{
+		char nextChar;
+
+		StringBuffer buffer = new StringBuffer();
+		while (filePointer < fileSize)
+		{
+			nextChar = readNextCharacter();
+			if (nextChar != LINE_SEPARATOR)
+			{
+				buffer.append(nextChar);
+			}
+			else
+			{
+				break;
+			}
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Reads the line that begins at the specified position without moving
+	 * the file pointer, which allows multiple threads to read lines from the
+	 * same instance concurrently.
+	 * 
+	 * @param  position Byte position within the file at which the line
+	 *         begins.
+	 * @return Characters read from the specified position until a line
+	 *         delimiter or the end of the file was encountered.
+	 * @throws IOException An error occurred reading the file.
+	 */
+	protected String readLineAt(int position) throws IOException
+	{
+		ByteBuffer reader = getAccessor();
+		if (reader == null)
+		{
+			throw new IOException("The file has already been closed");
+		}
+		int end = position;
+		while ((end < fileSize) && (reader.get(end) != LINE_SEPARATOR))
+		{
+			end++;
+		}
+		return readTextAt(position, end - position);
+	}
+
+	/**
+	 * Reads a number of characters beginning at the specified position
+	 * without moving the file pointer, which allows multiple threads to
+	 * read from the same instance concurrently.
+	 * 
+	 * @param  position Byte position within the file at which the text
+	 *         begins.
+	 * @param  length Number of characters to read.
+	 * @return Characters read from the specified position.
+	 * @throws IOException An error occurred reading the file.
+	 */
+	protected String readTextAt(int position, int length) throws IOException
+	{
+		ByteBuffer reader = getAccessor();
+		if (reader == null)
+		{
+			throw new IOException("The file has already been closed");
+		}
+		char[] characters = new char[length];
+		for (int i = 0; i < characters.length; i++)
+		{
+			characters[i] = (char)reader.get(position + i);
+		}
+		return new String(characters);
+	}
+
+	/**
+	 * Reads the next sequential character from the file.
+	 * 
+	 * @return Next character in the file or -1 if reached end-of-file.
+	 * @throws IOException An error occurred reading the character.
+	 * @see    RandomAccessFile#read()
+	 */
+	protected char readNextCharacter() throws IOException
+	{
+		char nextChar = (char)(-1);
+		if (filePointer < fileSize)
+		{
+			nextChar = (char)accessor.get();
+			filePointer++;
+		}
+		return nextChar;
+	}
+
+	/**
+	 * Returns a reference to the file reader used to access the file.
+	 * 
+	 * @return Random access file reader.
+	 */
+	protected ByteBuffer getAccessor()
+	{
+		return accessor;
+	}
+
+	/**
+	 * Returns the number of bytes in the file being read.
+	 * 
+	 * @return Number of bytes in the file being read.
+	 */
+	protected long getFileSize()
+	{
+		return fileSize;
+	}
+
+	/**
+	 * Returns a reference to the current file pointer value.
+	 * 
+	 * @return Current file pointer value.
+	 */
+	protected long getFilePointer()
+	{
+		return filePointer;
+	}
+
+	/**
+	 * Release the data of the file that was being read.
+	 */
+	public void close()
+	{
+		accessor = null;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,170 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Sentence template of a verb sense, such as "They won't %s the story",
+ * into which a word form is substituted to produce an example sentence.
+ * <br><p>
+ * The template text is split into the pieces that come before, between and
+ * after the places where the word form is substituted when the template is
+ * created, so rendering a sentence is a single concatenation. Instances
+ * are immutable, so they can be shared by all of the synsets that use the
+ * same template and rendered by any number of threads at the same time.
+ * 
+ * @author Brett Spell
+ * @see    <a href="http://wordnet.princeton.edu/man/wndb.5WN#sect6">
+ *         Format of WordNet database files ("Verb Example Sentences")</a>
+ */
+public final class SentenceTemplate
+{
+
+	/**
+	 * Text that's replaced by the word form, as it appears in the database.
+	 */
+	public final static String PLACEHOLDER = "%s";
+
+	/**
+	 * Templates that have been created, keyed by their text, so that each
+	 * distinct template is only compiled and stored once.
+	 */
+	private final static ConcurrentMap<String, SentenceTemplate> templates =
+			new ConcurrentHashMap<String, SentenceTemplate>();
+
+	/**
+	 * Text of the template, including the placeholders.
+	 */
+	private final String text;
+
+	/**
+	 * Text that precedes, separates and follows the placeholders.
+	 */
+	private final String[] pieces;
+
+	/**
+	 * Number of characters in all of the pieces.
+	 */
+	private final int length;
+
+	/**
+	 * Returns the template that has the specified text, creating it if no
+	 * template with that text has been created yet.
+	 * 
+	 * @param  text Text of the template, in which each occurrence of
+	 *         {@link #PLACEHOLDER} is replaced by the word form.
+	 * @return Template that has the specified text.
+	 */
+	public static SentenceTemplate getInstance(String text)
+	{
+		SentenceTemplate template = templates.get(text);
+		if (template == null)
+		{
+			template = new SentenceTemplate(text);
+			SentenceTemplate existing = templates.putIfAbsent(text, template);
+			if (existing != null)
+			{
+				template = existing;
+			}
+		}
+		return template;
+	}
+
+	/**
+	 * Constructor that accepts the text of the template and splits it into
+	 * the pieces around the placeholders.
+	 * 
+	 * @param  text Text of the template.
+	 */
+	private SentenceTemplate(String text)
+	{
+		this.text = text;
+		List<String> pieceList = new ArrayList<String>();
+		int start = 0;
+		int index = text.indexOf(PLACEHOLDER);
+		while (index != -1)
+		{
+			pieceList.add(text.substring(start, index));
+			start = index + PLACEHOLDER.length();
+			index = text.indexOf(PLACEHOLDER, start);
+		}
+		pieceList.add(text.substring(start));
+		pieces = pieceList.toArray(new String[pieceList.size()]);
+		int total = 0;
+		for (int i = 0; i < pieces.length; i++)
+		{
+			total += pieces[i].length();
+		}
+		length = total;
+	}
+
+	/**
+	 * Returns the text of this template, including the placeholders.
+	 * 
+	 * @return Text of the template.
+	 */
+	public String getText()
+	{
+		return text;
+	}
+
+	/**
+	 * Returns the sentence produced by substituting a word form into this
+	 * template.
+	 * 
+	 * @param  wordForm Word form to substitute for the placeholders.
+	 * @return Sentence that contains the word form.
+	 */
+	public String render(String wordForm)
+	{
+		if (pieces.length == 1)
+		{
+			return text;
+		}
+		StringBuilder buffer = new StringBuilder(
+				length + (pieces.length - 1) * wordForm.length());
+		buffer.append(pieces[0]);
+		for (int i = 1; i < pieces.length; i++)
+		{
+			buffer.append(wordForm).append(pieces[i]);
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the text of this template.
+	 * 
+	 * @return Text of the template.
+	 */
+	public String toString()
+	{
+		return text;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+/**
+ * Estimates the number of bytes used by objects, for reporting the memory
+ * footprint of a database (see
+ * {@link edu.smu.tspell.wordnet.MemoryFootprint}).
+ * <br><p>
+ * The estimates assume the object layout of a 64-bit virtual machine with
+ * compressed object pointers: a twelve byte object header, sixteen byte
+ * array header, four byte references and sizes that are a multiple of
+ * eight bytes.
+ * 
+ * @author Brett Spell
+ */
+public final class SizeEstimates
+{
+
+	/**
+	 * Number of bytes in the header of an object.
+	 */
+	public final static int OBJECT_HEADER_SIZE = 12;
+
+	/**
+	 * Number of bytes in the header of an array, including its length.
+	 */
+	public final static int ARRAY_HEADER_SIZE = 16;
+
+	/**
+	 * Number of bytes used by a reference.
+	 */
+	public final static int REFERENCE_SIZE = 4;
+
+	/**
+	 * Estimated size of a hash map entry (key, value, next entry and hash).
+	 */
+	public final static long HASH_ENTRY_SIZE = getObjectSize(3, 4);
+
+	/**
+	 * Estimated size of a tree map entry (key, value, left, right, parent
+	 * and color).
+	 */
+	public final static long TREE_ENTRY_SIZE = getObjectSize(5, 1);
+
+	/**
+	 * Estimated size of a boxed integer.
+	 */
+	public final static long INTEGER_SIZE = getObjectSize(0, 4);
+
+	/**
+	 * No-argument constructor.
+	 */
+	private SizeEstimates()
+	{
+	}
+
+	/**
+	 * Returns the estimated size of an object.
+	 * 
+	 * @param  references Number of reference fields.
+	 * @param  primitiveBytes Number of bytes used by primitive fields.
+	 * @return Estimated number of bytes.
+	 */
+	public static long getObjectSize(int references, int primitiveBytes)
+	{
+		return align(OBJECT_HEADER_SIZE + references * REFERENCE_SIZE +
+				primitiveBytes);
+	}
+
+	/**
+	 * Returns the estimated size of an array.
+	 * 
+	 * @param  length Number of elements.
+	 * @param  elementSize Number of bytes used by each element, which is
+	 *         {@link #REFERENCE_SIZE} for arrays of objects.
+	 * @return Estimated number of bytes.
+	 */
+	public static long getArraySize(int length, int elementSize)
+	{
+		return align(ARRAY_HEADER_SIZE + (long)length * elementSize);
+	}
+
+	/**
+	 * Returns the estimated size of a string, including its characters.
+	 * 
+	 * @param  text String whose size is estimated (may be <code>null</code>).
+	 * @return Estimated number of bytes, or zero for <code>null</code>.
+	 */
+	public static long getStringSize(String text)
+	{
+		if (text == null)
+		{
+			return 0;
+		}
+		//  Strings that only contain Latin-1 characters use one byte each
+		int charSize = 1;
+		for (int i = 0; (i < text.length()) && (charSize == 1); i++)
+		{
+			if (text.charAt(i) > 0xFF)
+			{
+				charSize = 2;
+			}
+		}
+		return getObjectSize(1, 6) + getArraySize(text.length(), charSize);
+	}
+
+	/**
+	 * Returns the estimated size of an array of strings, including the
+	 * strings.
+	 * 
+	 * @param  texts Strings whose size is estimated (may be
+	 *         <code>null</code>).
+	 * @return Estimated number of bytes, or zero for <code>null</code>.
+	 */
+	public static long getStringsSize(String[] texts)
+	{
+		if (texts == null)
+		{
+			return 0;
+		}
+		long size = getArraySize(texts.length, REFERENCE_SIZE);
+		for (int i = 0; i < texts.length; i++)
+		{
+			size += getStringSize(texts[i]);
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the estimated size of a hash map and its entries, not
+	 * including the keys and values.
+	 * 
+	 * @param  size Number of entries.
+	 * @return Estimated number of bytes.
+	 */
+	public static long getHashMapSize(int size)
+	{
+		int capacity = 16;
+		while (capacity * 3 < size * 4)
+		{
+			capacity *= 2;
+		}
+		return getObjectSize(4, 16) + getArraySize(capacity, REFERENCE_SIZE) +
+				size * HASH_ENTRY_SIZE;
+	}
+
+	/**
+	 * Returns the estimated size of a tree map and its entries, not
+	 * including the keys and values.
+	 * 
+	 * @param  size Number of entries.
+	 * @return Estimated number of bytes.
+	 */
+	public static long getTreeMapSize(int size)
+	{
+		return getObjectSize(5, 8) + size * TREE_ENTRY_SIZE;
+	}
+
+	/**
+	 * Returns the estimated size of an array list, not including its
+	 * elements.
+	 * 
+	 * @param  size Number of elements.
+	 * @return Estimated number of bytes.
+	 */
+	public static long getArrayListSize(int size)
+	{
+		return getObjectSize(1, 8) +
+				getArraySize(Math.max(size, 10), REFERENCE_SIZE);
+	}
+
+	/**
+	 * Rounds a number of bytes up to a multiple of eight.
+	 * 
+	 * @param  size Number of bytes.
+	 * @return Aligned number of bytes.
+	 */
+	private static long align(long size)
+	{
+		return (size + 7) & ~7L;
+	}
+
+}
\ No newline at end of file
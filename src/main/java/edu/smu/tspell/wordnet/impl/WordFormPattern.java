@@ -0,0 +1,257 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pattern that selects word forms, in which an asterisk (<code>*</code>)
+ * matches any sequence of characters and a question mark (<code>?</code>)
+ * matches any single character; for example, <code>*berry</code> or
+ * <code>colo?r</code>.
+ * <br><p>
+ * Besides matching word forms, a pattern exposes the literal text at its
+ * start and end and the runs of literal text within it, which a search
+ * can use to narrow down the word forms that it has to examine. Instances
+ * are immutable.
+ * 
+ * @author Brett Spell
+ */
+public final class WordFormPattern
+{
+
+	/**
+	 * Matches any sequence of characters, including an empty one.
+	 */
+	public final static char ANY_SEQUENCE = '*';
+
+	/**
+	 * Matches any single character.
+	 */
+	public final static char ANY_CHARACTER = '?';
+
+	/**
+	 * Text of the pattern.
+	 */
+	private final String text;
+
+	/**
+	 * Indicates whether the text is a literal prefix rather than a pattern
+	 * that can contain wildcards.
+	 */
+	private final boolean isPrefix;
+
+	/**
+	 * Literal text that matching word forms must start with.
+	 */
+	private final String prefix;
+
+	/**
+	 * Literal text that matching word forms must end with.
+	 */
+	private final String suffix;
+
+	/**
+	 * Runs of literal text that matching word forms must contain.
+	 */
+	private final String[] literals;
+
+	/**
+	 * Returns a pattern that can contain wildcards.
+	 * 
+	 * @param  text Text of the pattern.
+	 * @return Compiled pattern.
+	 */
+	public static WordFormPattern compile(String text)
+	{
+		return new WordFormPattern(text, false);
+	}
+
+	/**
+	 * Returns a pattern that matches the word forms that start with some
+	 * literal text, in which asterisks and question marks aren't wildcards.
+	 * 
+	 * @param  prefix Text that the word forms start with.
+	 * @return Compiled pattern.
+	 */
+	public static WordFormPattern forPrefix(String prefix)
+	{
+		return new WordFormPattern(prefix, true);
+	}
+
+	/**
+	 * Constructor that accepts the text of the pattern.
+	 * 
+	 * @param  text Text of the pattern.
+	 * @param  isPrefix Whether the text is a literal prefix.
+	 */
+	private WordFormPattern(String text, boolean isPrefix)
+	{
+		this.text = text;
+		this.isPrefix = isPrefix;
+		if (isPrefix)
+		{
+			prefix = text;
+			suffix = "";
+			literals = (text.length() > 0 ?
+					new String[] {text} : new String[0]);
+		}
+		else
+		{
+			List<String> runs = new ArrayList<String>();
+			int start = 0;
+			for (int i = 0; i <= text.length(); i++)
+			{
+				if ((i == text.length()) || (isWildcard(text.charAt(i))))
+				{
+					if (i > start)
+					{
+						runs.add(text.substring(start, i));
+					}
+					start = i + 1;
+				}
+			}
+			literals = runs.toArray(new String[runs.size()]);
+			int first = 0;
+			while ((first < text.length()) && (!isWildcard(text.charAt(first))))
+			{
+				first++;
+			}
+			int last = text.length();
+			while ((last > first) && (!isWildcard(text.charAt(last - 1))))
+			{
+				last--;
+			}
+			prefix = text.substring(0, first);
+			suffix = (last > first ? text.substring(last) : "");
+		}
+	}
+
+	/**
+	 * Indicates whether a character is a wildcard.
+	 * 
+	 * @param  c Character to check.
+	 * @return <code>true</code> if the character is a wildcard.
+	 */
+	private static boolean isWildcard(char c)
+	{
+		return ((c == ANY_SEQUENCE) || (c == ANY_CHARACTER));
+	}
+
+	/**
+	 * Returns the literal text that matching word forms start with, which
+	 * is the whole pattern if it contains no wildcards.
+	 * 
+	 * @return Literal prefix, which may be empty.
+	 */
+	public String getPrefix()
+	{
+		return prefix;
+	}
+
+	/**
+	 * Returns the literal text that matching word forms end with, not
+	 * including any text that's part of the prefix.
+	 * 
+	 * @return Literal suffix, which may be empty.
+	 */
+	public String getSuffix()
+	{
+		return suffix;
+	}
+
+	/**
+	 * Returns the runs of literal text between the wildcards, each of which
+	 * matching word forms must contain.
+	 * 
+	 * @return Literal text in the pattern.
+	 */
+	public String[] getLiterals()
+	{
+		return literals.clone();
+	}
+
+	/**
+	 * Indicates whether a word form matches this pattern.
+	 * 
+	 * @param  wordForm Word form to check.
+	 * @return <code>true</code> if the word form matches the pattern.
+	 */
+	public boolean matches(String wordForm)
+	{
+		if (isPrefix)
+		{
+			return wordForm.startsWith(text);
+		}
+		//  Match greedily, backtracking to the last asterisk on a mismatch
+		int position = 0;
+		int index = 0;
+		int star = -1;
+		int mark = 0;
+		while (index < wordForm.length())
+		{
+			if ((position < text.length()) &&
+					((text.charAt(position) == ANY_CHARACTER) ||
+					(text.charAt(position) == wordForm.charAt(index))))
+			{
+				position++;
+				index++;
+			}
+			else if ((position < text.length()) &&
+					(text.charAt(position) == ANY_SEQUENCE))
+			{
+				star = position++;
+				mark = index;
+			}
+			else if (star >= 0)
+			{
+				position = star + 1;
+				index = ++mark;
+			}
+			else
+			{
+				return false;
+			}
+		}
+		while ((position < text.length()) &&
+				(text.charAt(position) == ANY_SEQUENCE))
+		{
+			position++;
+		}
+		return (position == text.length());
+	}
+
+	/**
+	 * Returns the text of the pattern.
+	 * 
+	 * @return Text of the pattern.
+	 */
+	public String toString()
+	{
+		return text;
+	}
+
+}
\ No newline at end of file
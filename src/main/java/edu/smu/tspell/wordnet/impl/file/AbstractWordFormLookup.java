@@ -0,0 +1,219 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetException;
+
+/**
+ * Performs lookups based upon a word form, optionally applying WordNet's
+ * morphology rules to find the base forms of the word form.
+ * <br><p>
+ * Subclasses determine how the synsets that contain a specific (base) word
+ * form are located: {@link WordFormLookup} loads all of them into memory
+ * while {@link LazyWordFormLookup} searches the sense index file on demand.
+ *
+ * @author Brett Spell
+ */
+public abstract class AbstractWordFormLookup
+{
+
+	/**
+	 * No-argument constructor.
+	 */
+	protected AbstractWordFormLookup()
+	{
+	}
+
+	/**
+	 * Returns the synsets of a particular type (e.g., noun) that contain a
+	 * specific word form.
+	 *
+	 * @param  wordForm Word form, in database format, for which to return
+	 *         containing synsets.
+	 * @param  type Type of synsets to be returned.
+	 * @return Synsets of a single type that contain the specified word form.
+	 * @throws WordNetException An error occurred retrieving the synsets.
+	 */
+	protected abstract Synset[] getSynsets(String wordForm, SynsetType type);
+
+	/**
+	 * Check if each candidate form exists in Wordnet and if not already added to synsetList.
+	 * 
+	 * @param type
+	 * @param candidates
+	 * @param synsetList
+	 * @return if a candidate was added
+	 */
+	private void filterCandidates(SynsetType type, List<String> candidates, List<Synset> synsetList) {
+		for (String wordForm : candidates) {
+			addSynsets(wordForm, type, synsetList);
+		}
+	}
+
+	/**
+	 * Adds the synsets of a particular type (e.g., noun) that contain a
+	 * specific word form to a list, skipping any that the list already
+	 * contains. Subclasses that can read the synsets without copying them
+	 * into an array may override this.
+	 *
+	 * @param  wordForm Word form, in database format, for which to add
+	 *         containing synsets.
+	 * @param  type Type of synsets to be added.
+	 * @param  synsetList List to which the synsets are added.
+	 * @throws WordNetException An error occurred retrieving the synsets.
+	 */
+	protected void addSynsets(String wordForm, SynsetType type, List<Synset> synsetList) {
+		// Get synsets for the candidate and loop through them
+		Synset[] synsetArray = getSynsets(wordForm, type);
+		for (int k = 0; k < synsetArray.length; k++) {
+			// Add (non-duplicate) synsets to the list
+			if (!synsetList.contains(synsetArray[k])) {
+				synsetList.add(synsetArray[k]);
+			}
+		}
+	}
+
+
+	/**
+	 * Returns only the synsets of the specified types (e.g., noun) that
+	 * contain a word form matching the specified text and / or possibly
+	 * synsets that contain one of that word form's variants. The caller
+	 * can request that variants be by specifying that WordNet's morphology
+	 * rules should be applied when determining which synsets to return. For
+	 * example, if the caller requests that noun synsets be returned that
+	 * contain the word form "masses" and the caller also requests that
+	 * morphological processing be used, this method will return all noun
+	 * synsets that contain <i>either</i> "masses" or "mass". That's due to
+	 * the fact that one of WordNet's morphology rules, specifically a
+	 * detachment rule, produces "mass" as a candidate form of "masses" as
+	 * a result of stripping the "es" suffix.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  types Types of synsets (e.g., noun) to return.
+	 * @param  useMorphology When <code>true</code>, indicates that this
+	 *         method should return synsets that contain any morphological
+	 *         variation of the specified word form; conversely, a value of
+	 *         <code>false</code> returns in only synsets being returned that
+	 *         contain the word for exactly as it is specified. In other words,
+	 *         specifying <code>false</code> indicates that an exact-match-only
+	 *         approach should be used to determine which synsets to return.
+	 * @return Synsets that contain the specified word form.
+	 *         If the category argument is specified, only synsets of that
+	 *         type will be returned, otherwise all synsets containing the
+	 *         form are returned.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public Synset[] getSynsets(
+			String externalWordForm, SynsetType[] types, boolean useMorphology)
+			throws WordNetException
+	{
+		Synset[] synsetArray;
+		List<String> candidates;
+		
+		String wordForm = TextTranslator.translateToDatabaseFormat(externalWordForm);
+
+		//  Create the list that will hold the results
+		List<Synset> synsetList = new ArrayList<Synset>();
+		//  Loop through the synset types
+		for (int i = 0; i < types.length; i++)
+		{
+			//  Get all synsets for the current type
+			candidates = Arrays.asList(wordForm);
+			filterCandidates(types[i], candidates, synsetList);
+			//  Does caller also want synsets containing base form candidates?
+			if (useMorphology)
+			{
+				//  Find possible base forms and loop through each one
+		        // 0. Check the exception lists
+				candidates = getExceptionCandidates(wordForm, types[i]);
+				if (candidates.size() > 0) {
+					filterCandidates(types[i], candidates, synsetList);
+				}
+				else {
+					// No exceptions so..
+			        // 1. Apply rules once to the input to get y1, y2, y3, etc.
+					candidates = getBaseFormCandidates(wordForm, types[i]);
+					filterCandidates(types[i], candidates, synsetList);
+			        // 2. Return all that are in the database (and the original too) otherwise...
+					while (candidates.size() > 0 && synsetList.size() == 0) {
+				        // 3. If there are no matches, keep applying rules until we find a match
+						ArrayList<String> newCandidates = new ArrayList<String>();
+						for (String candidate: candidates) {
+							newCandidates.addAll(getBaseFormCandidates(candidate, types[i]));
+						}
+						candidates = newCandidates;
+						filterCandidates(types[i], candidates, synsetList);
+					}
+				}
+			}
+		}
+		//  Convert the list to an array and return it
+		synsetArray = new Synset[synsetList.size()];
+		synsetList.toArray(synsetArray);
+		return synsetArray;
+	}
+
+
+	/**
+	 * Returns lemma representing word forms that <u>might</u> be present
+	 * in WordNet. For example, if "geese" is passed to this method (along
+	 * with a parameter that indicates that noun forms should be returned),
+	 * it will return the base form of "goose".
+	 * 
+	 * @param  inflection Irregular inflection for which to return root words.
+	 * @param  type Syntactic type for which to perform the lookup.
+	 * @return Root word(s) from which the inflection is derived.
+	 * @see    Morphology
+	 */
+	private List<String>  getExceptionCandidates(String inflection, SynsetType type)
+	{
+		Morphology morphology = Morphology.getInstance();
+		return Arrays.asList(morphology.getExceptionCandidates(inflection, type));
+	}
+
+
+	/**
+	 * Returns lemma representing word forms that <u>might</u> be present
+	 * in WordNet..
+	 * 
+	 * @param  inflection Irregular inflection for which to return root words.
+	 * @param  type Syntactic type for which to perform the lookup.
+	 * @return Root word(s) from which the inflection is derived.
+	 * @see    Morphology
+	 */
+	private List<String>  getBaseFormCandidates(String inflection, SynsetType type)
+	{
+		Morphology morphology = Morphology.getInstance();
+		return Arrays.asList(morphology.getBaseFormCandidates(inflection, type));
+	}
+
+
+}
\ No newline at end of file
@@ -0,0 +1,219 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+import edu.smu.tspell.wordnet.WordNetDatabase;
+
+/**
+ * Loads the file-based database in a background thread, allowing the
+ * caller to continue while the database is loaded and to start using it
+ * before the load completes.
+ * <br><p>
+ * The load proceeds through the stages identified by
+ * {@link ReadinessLevel#LOAD_STAGES}: first the synsets of each word form
+ * are loaded (beginning with the most frequently used word forms), then the
+ * morphology and finally the relationships between the synsets. The
+ * database returned by {@link WordNetDatabase#getFileInstance()} can be
+ * used throughout; each request waits only until the stage it depends upon
+ * has been completed. For example, a lookup that doesn't use morphology
+ * and is for a word form that has already been loaded is answered
+ * immediately.
+ * <br><p>
+ * This class is a {@link java.util.concurrent.Future} whose result is
+ * the database and that completes once all of the stages have been
+ * completed. Calling {@link #cancel(boolean) cancel(true)} stops the load
+ * at its next check for cancellation and discards the word form index and
+ * the synsets it parsed; the load is then started again by the next
+ * request for data from the database, which parses the synsets afresh.
+ * Synsets already returned by lookups made during the load remain usable,
+ * and any glosses they stored in the off-heap gloss store stay there. The
+ * morphology isn't discarded if the load got that far, and neither is a
+ * snapshot that was opened.
+ *
+ * @author Brett Spell
+ */
+public class DatabaseInitialization extends FutureTask<WordNetDatabase>
+		implements InitializationListener
+{
+
+	/**
+	 * Name of the thread that performs the load.
+	 */
+	private final static String THREAD_NAME = "WordNet initialization";
+
+	/**
+	 * Listener supplied by the caller; may be <code>null</code>.
+	 */
+	private final InitializationListener listener;
+
+	/**
+	 * Counted down as each stage is completed, or when the load ends.
+	 */
+	private final CountDownLatch[] stageLatches =
+			new CountDownLatch[ReadinessLevel.LOAD_STAGES.length];
+
+	/**
+	 * Starts loading the file-based database in a new daemon thread.
+	 * 
+	 * @param  listener Receives notifications about the progress of the
+	 *         load, or <code>null</code> if no notifications are required.
+	 * @return Object that represents the load.
+	 */
+	public static DatabaseInitialization start(InitializationListener listener)
+	{
+		DatabaseInitialization initialization =
+				new DatabaseInitialization(new Loader(), listener);
+		Thread thread = new Thread(initialization, THREAD_NAME);
+		thread.setDaemon(true);
+		thread.start();
+		return initialization;
+	}
+
+	/**
+	 * Constructs an instance that will perform the load when it's run.
+	 * 
+	 * @param  loader Performs the load.
+	 * @param  listener Receives notifications about the progress of the
+	 *         load, or <code>null</code> if no notifications are required.
+	 */
+	private DatabaseInitialization(Loader loader,
+			InitializationListener listener)
+	{
+		super(loader);
+		loader.initialization = this;
+		this.listener = listener;
+		for (int i = 0; i < stageLatches.length; i++)
+		{
+			stageLatches[i] = new CountDownLatch(1);
+		}
+	}
+
+	/**
+	 * Returns the level of readiness that the database has reached.
+	 * 
+	 * @return Current level of readiness.
+	 */
+	public ReadinessLevel getReadinessLevel()
+	{
+		return WordFormLookup.getCurrentReadinessLevel();
+	}
+
+	/**
+	 * Waits until the database has reached the specified level of readiness.
+	 * 
+	 * @param  required Level of readiness to wait for.
+	 * @return The database.
+	 * @throws InterruptedException The calling thread was interrupted while
+	 *         waiting.
+	 * @throws CancellationException The load was cancelled.
+	 * @throws ExecutionException The load failed.
+	 */
+	public WordNetDatabase awaitReadiness(ReadinessLevel required)
+			throws InterruptedException, ExecutionException
+	{
+		if (required.isAtLeast(ReadinessLevel.EXACT_LOOKUP))
+		{
+			stageLatches[required.getCode() - 1].await();
+		}
+		if (!getReadinessLevel().isAtLeast(required))
+		{
+			//  The load ended before reaching the level; report the reason
+			get();
+		}
+		return WordNetDatabase.getFileInstance();
+	}
+
+	/**
+	 * Called periodically while the work for a level is being performed.
+	 * 
+	 * @param  stage Level that will be reached when the work is complete.
+	 * @param  completed Number of units of work completed for the level.
+	 * @param  total Total number of units of work for the level.
+	 */
+	public void progressed(ReadinessLevel stage, int completed, int total)
+	{
+		if (listener != null)
+		{
+			listener.progressed(stage, completed, total);
+		}
+	}
+
+	/**
+	 * Called when a level has been reached.
+	 * 
+	 * @param  level Level that was reached.
+	 */
+	public void levelReached(ReadinessLevel level)
+	{
+		stageLatches[level.getCode() - 1].countDown();
+		if (listener != null)
+		{
+			listener.levelReached(level);
+		}
+	}
+
+	/**
+	 * Releases the threads waiting for a level when the load ends,
+	 * whether it was completed, cancelled or failed.
+	 */
+	protected void done()
+	{
+		for (int i = 0; i < stageLatches.length; i++)
+		{
+			stageLatches[i].countDown();
+		}
+	}
+
+	/**
+	 * Performs the load in the thread that runs the initialization.
+	 */
+	private static class Loader implements Callable<WordNetDatabase>
+	{
+
+		/**
+		 * Initialization on whose behalf the load is performed.
+		 */
+		DatabaseInitialization initialization;
+
+		/**
+		 * Loads the database.
+		 * 
+		 * @return The database.
+		 */
+		public WordNetDatabase call()
+		{
+			WordFormLookup.initialize(initialization);
+			return WordNetDatabase.getFileInstance();
+		}
+
+	}
+
+}
\ No newline at end of file
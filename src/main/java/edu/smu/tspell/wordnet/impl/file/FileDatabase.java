@@ -1,130 +1,220 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.util.Set;
-
-import edu.smu.tspell.wordnet.Synset;
-import edu.smu.tspell.wordnet.SynsetType;
-import edu.smu.tspell.wordnet.WordNetDatabase;
-import edu.smu.tspell.wordnet.WordNetException;
-
-/**
- * Reference implementation of a file-based Java API for WordNet.
- * <br><p>
- * This is essentially a facade that delegates the requests to the appropriate
- * implementation classes.
- * 
- * @author Brett Spell
- */
-public class FileDatabase extends WordNetDatabase
-{
-
-	/**
-	 * No-argument constructor.
-	 */
-	public FileDatabase()
-	{
-	}
-
-	/**
-	 * Returns the synsets that contain a word form matching the specified
-	 * text and optionally also those synsets containing one of that word
-	 * form's variants. The caller can request that variants be retrieved
-	 * by specifying that WordNet's morphology rules should be applied when
-	 * determining which synsets to return. For example, if the caller
-	 * requests that noun synsets be returned that contain the word form
-	 * "masses" and the caller also requests that morphological processing
-	 * be used, this method will return all noun synsets that contain
-	 * <i>either</i> "masses" or "mass". That's due to the fact that one of
-	 * WordNet's morphology rules, specifically a detachment rule, produces
-	 * "mass" as a candidate form of "masses" as a result of stripping the
-	 * "es" suffix.
-	 * 
-	 * @param  wordForm Text representing a word or collocation (phrase).
-	 * @param  type Type of synsets (e.g., noun) to return; if this
-	 *         argument is <code>null</code>, all synsets will be returned
-	 *         that contain the specified word form.
-	 * @param  useMorphology When <code>true</code>, indicates that this
-	 *         method should return synsets that contain any morphological
-	 *         variation of the specified word form; conversely, a value of
-	 *         <code>false</code> returns in only synsets being returned that
-	 *         contain the word for exactly as it is specified. In other words,
-	 *         specifying <code>false</code> indicates that an exact-match-only
-	 *         approach should be used to determine which synsets to return.
-	 * @return Synsets that contain the specified word form.
-	 *         If the category argument is specified, only synsets of that
-	 *         type will be returned, otherwise all synsets containing the
-	 *         form are returned.
-	 * @throws WordNetException An error occurred retrieving the data.
-	 */
-	public Synset[] getSynsets(String wordForm, SynsetType type,
-			boolean useMorphology) throws WordNetException
-	{
-		SynsetType[] typeArray = (type != null ?
-				new SynsetType[] {type} : SynsetType.ALL_TYPES);
-		WordFormLookup factory = WordFormLookup.getInstance();
-		return factory.getSynsets(wordForm, typeArray, useMorphology);
-	}
-
-	/**
-	 * Returns lemma representing word forms that <u>might</u> be present
-	 * in WordNet. For example, if "geese" is passed to this method (along
-	 * with a parameter that indicates that noun forms should be returned),
-	 * it will return the base form of "goose".
-	 * 
-	 * @param  inflection Irregular inflection for which to return root words.
-	 * @param  type Syntactic type for which to perform the lookup.
-	 * @return Root word(s) from which the inflection is derived.
-	 * @see    Morphology
-	 */
-	public String[] getBaseFormCandidates(String inflection, SynsetType type)
-	{
-		Morphology morphology = Morphology.getInstance();
-		return morphology.getBaseFormCandidates(inflection, type);
-	}
-
-	/**
-	 * Returns a set of all word forms that are in the WordNet.
-	 * 
-	 * @return a set of word forms
-	 */
-	public Set<String> allWordForms() {
-		WordFormLookup factory = WordFormLookup.getInstance();
-		return factory.allWordForms();
-	}
-	
-	/**
-	 * Return the synset associated with the sense key.
-	 * 
-	 * @param senseKey
-	 * @return
-	 */
-	public Synset getSynsetWithSenseKey(String senseKey) {
-		WordFormLookup factory = WordFormLookup.getInstance();
-		return factory.getSynsetWithSenseKey(senseKey);
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.Set;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+import edu.smu.tspell.wordnet.WordNetException;
+import edu.smu.tspell.wordnet.impl.DoubleMetaphone;
+import edu.smu.tspell.wordnet.impl.LevenshteinAutomaton;
+import edu.smu.tspell.wordnet.impl.WordFormPattern;
+
+/**
+ * Reference implementation of a file-based Java API for WordNet.
+ * <br><p>
+ * This is essentially a facade that delegates the requests to the appropriate
+ * implementation classes.
+ * <br><p>
+ * Each request waits only until the database has been loaded to the extent
+ * that the request requires (see {@link ReadinessLevel}), which matters
+ * when the load was started by {@link DatabaseInitialization}.
+ * 
+ * @author Brett Spell
+ */
+public class FileDatabase extends WordNetDatabase
+{
+
+	/**
+	 * No-argument constructor.
+	 */
+	public FileDatabase()
+	{
+		if (PropertyNames.jmxMonitor)
+		{
+			FootprintMonitor.register(this, "file");
+		}
+	}
+
+	/**
+	 * Returns the synsets that contain a word form matching the specified
+	 * text and optionally also those synsets containing one of that word
+	 * form's variants. The caller can request that variants be retrieved
+	 * by specifying that WordNet's morphology rules should be applied when
+	 * determining which synsets to return. For example, if the caller
+	 * requests that noun synsets be returned that contain the word form
+	 * "masses" and the caller also requests that morphological processing
+	 * be used, this method will return all noun synsets that contain
+	 * <i>either</i> "masses" or "mass". That's due to the fact that one of
+	 * WordNet's morphology rules, specifically a detachment rule, produces
+	 * "mass" as a candidate form of "masses" as a result of stripping the
+	 * "es" suffix.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, all synsets will be returned
+	 *         that contain the specified word form.
+	 * @param  useMorphology When <code>true</code>, indicates that this
+	 *         method should return synsets that contain any morphological
+	 *         variation of the specified word form; conversely, a value of
+	 *         <code>false</code> returns in only synsets being returned that
+	 *         contain the word for exactly as it is specified. In other words,
+	 *         specifying <code>false</code> indicates that an exact-match-only
+	 *         approach should be used to determine which synsets to return.
+	 * @return Synsets that contain the specified word form.
+	 *         If the category argument is specified, only synsets of that
+	 *         type will be returned, otherwise all synsets containing the
+	 *         form are returned.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 */
+	public Synset[] getSynsets(String wordForm, SynsetType type,
+			boolean useMorphology) throws WordNetException
+	{
+		SynsetType[] typeArray = (type != null ?
+				new SynsetType[] {type} : SynsetType.ALL_TYPES);
+		WordFormLookup factory = WordFormLookup.getInstance(useMorphology ?
+				ReadinessLevel.MORPHOLOGY : ReadinessLevel.EXACT_LOOKUP);
+		return factory.getSynsets(wordForm, typeArray, useMorphology);
+	}
+
+	/**
+	 * Returns lemma representing word forms that <u>might</u> be present
+	 * in WordNet. For example, if "geese" is passed to this method (along
+	 * with a parameter that indicates that noun forms should be returned),
+	 * it will return the base form of "goose".
+	 * 
+	 * @param  inflection Irregular inflection for which to return root words.
+	 * @param  type Syntactic type for which to perform the lookup.
+	 * @return Root word(s) from which the inflection is derived.
+	 * @see    Morphology
+	 */
+	public String[] getBaseFormCandidates(String inflection, SynsetType type)
+	{
+		Morphology morphology = Morphology.getInstance();
+		return morphology.getBaseFormCandidates(inflection, type);
+	}
+
+	/**
+	 * Returns a set of all word forms that are in the WordNet.
+	 * 
+	 * @return a set of word forms
+	 */
+	public Set<String> allWordForms() {
+		WordFormLookup factory =
+				WordFormLookup.getInstance(ReadinessLevel.EXACT_LOOKUP);
+		return factory.allWordForms();
+	}
+	
+	/**
+	 * Returns the word forms that match a pattern, ordered by the sum of the
+	 * tag counts of their senses and then alphabetically. Instead of
+	 * examining every word form, this searches indexes of the word forms
+	 * that are built the first time it's called and stops as soon as it has
+	 * found enough of them.
+	 * 
+	 * @param  pattern Pattern, in database format, that the word forms must
+	 *         match.
+	 * @param  type Type of synsets that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @param  limit Maximum number of word forms to return.
+	 * @return Matching word forms.
+	 * @see    WordFormLookup#findWordForms(WordFormPattern, SynsetType, int)
+	 */
+	protected String[] findWordForms(WordFormPattern pattern, SynsetType type,
+			int limit)
+	{
+		WordFormLookup factory =
+				WordFormLookup.getInstance(ReadinessLevel.EXACT_LOOKUP);
+		return factory.findWordForms(pattern, type, limit);
+	}
+
+	/**
+	 * Returns the word forms that are accepted by a Levenshtein automaton,
+	 * ordered by the number of edits and then by the sum of the tag counts
+	 * of their senses.
+	 * 
+	 * @param  automaton Levenshtein automaton whose text is a word form, in
+	 *         database format, and which accepts the word forms to return.
+	 * @param  type Type of synsets that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @return Accepted word forms.
+	 * @see    WordFormLookup#findWordFormsWithin(LevenshteinAutomaton, SynsetType)
+	 */
+	protected String[] findWordFormsWithin(LevenshteinAutomaton automaton,
+			SynsetType type)
+	{
+		WordFormLookup factory =
+				WordFormLookup.getInstance(ReadinessLevel.EXACT_LOOKUP);
+		return factory.findWordFormsWithin(automaton, type);
+	}
+
+	/**
+	 * Returns the word forms that share a Double Metaphone key with a word
+	 * form, with those that share its primary key first.
+	 * 
+	 * @param  metaphone Keys of the word form.
+	 * @return Word forms that sound alike.
+	 * @see    WordFormLookup#findWordFormsSoundingLike(DoubleMetaphone)
+	 */
+	protected String[] findWordFormsSoundingLike(DoubleMetaphone metaphone)
+	{
+		WordFormLookup factory =
+				WordFormLookup.getInstance(ReadinessLevel.EXACT_LOOKUP);
+		return factory.findWordFormsSoundingLike(metaphone);
+	}
+
+	/**
+	 * Return the synset associated with the sense key.
+	 * 
+	 * @param senseKey
+	 * @return
+	 */
+	public Synset getSynsetWithSenseKey(String senseKey) {
+		WordFormLookup factory =
+				WordFormLookup.getInstance(ReadinessLevel.EXACT_LOOKUP);
+		return factory.getSynsetWithSenseKey(senseKey);
+	}
+
+	/**
+	 * Returns the number of objects in, and the estimated memory used by,
+	 * each of the structures that hold the database. This waits until the
+	 * database has been loaded (starting the load if necessary) and then
+	 * visits every synset, so it takes a moment to complete.
+	 * 
+	 * @return Memory footprint of the loaded database.
+	 */
+	public MemoryFootprint getMemoryFootprint()
+	{
+		WordFormLookup factory =
+				WordFormLookup.getInstance(ReadinessLevel.RELATIONS);
+		MemoryFootprint footprint = new MemoryFootprint();
+		factory.estimateFootprint(footprint);
+		return footprint;
+	}
+
 }
\ No newline at end of file
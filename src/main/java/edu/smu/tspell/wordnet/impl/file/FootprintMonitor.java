@@ -0,0 +1,201 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.lang.management.ManagementFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+
+/**
+ * Makes the memory footprint of a database available through JMX, under
+ * the name <code>edu.smu.tspell.wordnet:type=MemoryFootprint</code> with
+ * a <code>name</code> key that identifies the database.
+ * <br><p>
+ * Measuring the footprint visits every synset that's in memory and, for
+ * the database returned by {@link WordNetDatabase#getFileInstance()},
+ * requires the database to have been loaded. The attributes therefore
+ * report the most recent measurement, which is only taken when the
+ * <code>refresh</code> operation is invoked, so that merely browsing the
+ * attributes doesn't start loading the database.
+ * 
+ * @author Brett Spell
+ * @see    PropertyNames#jmxMonitor
+ */
+public class FootprintMonitor implements FootprintMonitorMBean
+{
+
+	/**
+	 * Domain of the names under which the monitors are registered.
+	 */
+	private final static String DOMAIN = "edu.smu.tspell.wordnet";
+
+	private static Logger logger = Logger.getLogger("edu.smu.tspell.wordnet");
+
+	/**
+	 * Database whose footprint is reported.
+	 */
+	private WordNetDatabase database;
+
+	/**
+	 * Most recent measurement of the footprint.
+	 */
+	private volatile MemoryFootprint footprint = new MemoryFootprint();
+
+	/**
+	 * Constructs a monitor for a database.
+	 * 
+	 * @param  database Database whose footprint is reported.
+	 */
+	public FootprintMonitor(WordNetDatabase database)
+	{
+		this.database = database;
+	}
+
+	/**
+	 * Registers a monitor for a database with the platform MBean server.
+	 * A failure to register it is logged rather than thrown, since it
+	 * doesn't affect the database itself.
+	 * 
+	 * @param  database Database whose footprint is reported.
+	 * @param  name Value of the <code>name</code> key of the MBean name.
+	 */
+	static void register(WordNetDatabase database, String name)
+	{
+		try
+		{
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			server.registerMBean(new FootprintMonitor(database),
+					new ObjectName(DOMAIN + ":type=MemoryFootprint,name=" +
+					name));
+		}
+		catch (JMException e)
+		{
+			logger.log(Level.WARNING,
+					"Unable to register the memory footprint monitor", e);
+		}
+	}
+
+	/**
+	 * Returns the names of the components that were measured.
+	 * 
+	 * @return Names of the components.
+	 */
+	public String[] getComponents()
+	{
+		return footprint.getComponents();
+	}
+
+	/**
+	 * Returns the number of objects in each component, in the same order as
+	 * the names returned by {@link #getComponents()}.
+	 * 
+	 * @return Number of objects in each component.
+	 */
+	public long[] getObjectCounts()
+	{
+		MemoryFootprint current = footprint;
+		String[] components = current.getComponents();
+		long[] counts = new long[components.length];
+		for (int i = 0; i < components.length; i++)
+		{
+			counts[i] = current.getObjectCount(components[i]);
+		}
+		return counts;
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by each component, in
+	 * the same order as the names returned by {@link #getComponents()}.
+	 * 
+	 * @return Estimated number of bytes retained by each component.
+	 */
+	public long[] getEstimatedBytes()
+	{
+		MemoryFootprint current = footprint;
+		String[] components = current.getComponents();
+		long[] bytes = new long[components.length];
+		for (int i = 0; i < components.length; i++)
+		{
+			bytes[i] = current.getEstimatedBytes(components[i]);
+		}
+		return bytes;
+	}
+
+	/**
+	 * Returns the number of objects in all of the components.
+	 * 
+	 * @return Total number of objects.
+	 */
+	public long getTotalObjectCount()
+	{
+		return footprint.getTotalObjectCount();
+	}
+
+	/**
+	 * Returns the estimated number of bytes retained by all components.
+	 * 
+	 * @return Total estimated number of bytes.
+	 */
+	public long getTotalEstimatedBytes()
+	{
+		return footprint.getTotalEstimatedBytes();
+	}
+
+	/**
+	 * Returns the number of bytes allocated outside of the heap.
+	 * 
+	 * @return Number of bytes allocated outside of the heap.
+	 */
+	public long getOffHeapBytes()
+	{
+		return footprint.getOffHeapBytes();
+	}
+
+	/**
+	 * Returns a table that lists each component.
+	 * 
+	 * @return Table of the components.
+	 */
+	public String getReport()
+	{
+		return footprint.toString();
+	}
+
+	/**
+	 * Measures the footprint of the database again.
+	 */
+	public void refresh()
+	{
+		footprint = database.getMemoryFootprint();
+	}
+
+}
\ No newline at end of file
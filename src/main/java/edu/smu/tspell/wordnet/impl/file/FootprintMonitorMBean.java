@@ -0,0 +1,92 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+/**
+ * Management interface through which {@link FootprintMonitor} exposes the
+ * memory footprint of a database.
+ * 
+ * @author Brett Spell
+ */
+public interface FootprintMonitorMBean
+{
+
+	/**
+	 * Returns the names of the components that were measured.
+	 * 
+	 * @return Names of the components.
+	 */
+	public String[] getComponents();
+
+	/**
+	 * Returns the number of objects in each component, in the same order as
+	 * the names returned by {@link #getComponents()}.
+	 * 
+	 * @return Number of objects in each component.
+	 */
+	public long[] getObjectCounts();
+
+	/**
+	 * Returns the estimated number of bytes retained by each component, in
+	 * the same order as the names returned by {@link #getComponents()}.
+	 * 
+	 * @return Estimated number of bytes retained by each component.
+	 */
+	public long[] getEstimatedBytes();
+
+	/**
+	 * Returns the number of objects in all of the components.
+	 * 
+	 * @return Total number of objects.
+	 */
+	public long getTotalObjectCount();
+
+	/**
+	 * Returns the estimated number of bytes retained by all components.
+	 * 
+	 * @return Total estimated number of bytes.
+	 */
+	public long getTotalEstimatedBytes();
+
+	/**
+	 * Returns the number of bytes allocated outside of the heap.
+	 * 
+	 * @return Number of bytes allocated outside of the heap.
+	 */
+	public long getOffHeapBytes();
+
+	/**
+	 * Returns a table that lists each component.
+	 * 
+	 * @return Table of the components.
+	 */
+	public String getReport();
+
+	/**
+	 * Measures the footprint of the database again.
+	 */
+	public void refresh();
+
+}
\ No newline at end of file
@@ -0,0 +1,703 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import edu.smu.tspell.wordnet.impl.Gloss;
+
+/**
+ * Stores the glosses (definitions and example sentences) of the synsets
+ * that are loaded into memory outside of the Java heap, in compressed form,
+ * so that they take up very little memory until they're requested.
+ * <br><p>
+ * The glosses are compressed using a dictionary of the words that occur
+ * most often in them, which is built from the first glosses that are added
+ * and then shared by all of them: each of those words is replaced by a one
+ * or two byte code and any other text is stored as is. The compressed
+ * glosses are written to direct byte buffers and are decoded each time
+ * they're requested. Optionally, the most recently decoded glosses are
+ * kept in a small cache so that frequently used synsets don't have to be
+ * decoded repeatedly (see {@link PropertyNames#glossCacheSize}).
+ * <br><p>
+ * The store is used when the <code>wordnet.database.glossStore</code>
+ * property is set to <code>true</code>. Access to it is serialized by a
+ * {@link ReentrantLock} rather than a monitor so that virtual threads that
+ * wait for it don't pin their carrier threads.
+ *
+ * @author Brett Spell
+ */
+public class GlossStore
+{
+
+	/**
+	 * Number of glosses from which the word dictionary is built; glosses
+	 * added before then are kept uncompressed until it has been built.
+	 */
+	private final static int TRAINING_GLOSSES = 4096;
+
+	/**
+	 * Size of each of the direct buffers in which the glosses are stored.
+	 */
+	private final static int CHUNK_SIZE = 1 << 20;
+
+	/**
+	 * Separates the definition and example sentences of a gloss.
+	 */
+	private final static int SEPARATOR = 0x00;
+
+	/**
+	 * Followed by a two byte character value that's stored as is.
+	 */
+	private final static int ESCAPE = 0x7F;
+
+	/**
+	 * First of the codes that represent a word with a single byte.
+	 */
+	private final static int SHORT_CODE = 0x80;
+
+	/**
+	 * First of the codes that represent a word with two bytes.
+	 */
+	private final static int LONG_CODE = 0xC0;
+
+	/**
+	 * Number of words that can be represented by a single byte.
+	 */
+	private final static int SHORT_CODE_COUNT = LONG_CODE - SHORT_CODE;
+
+	/**
+	 * Number of words that can be represented by two bytes.
+	 */
+	private final static int LONG_CODE_COUNT = (0x100 - LONG_CODE) << 8;
+
+	/**
+	 * Store used by the file-based implementation.
+	 */
+	private static final GlossStore instance =
+			new GlossStore(PropertyNames.glossCacheSize);
+
+	/**
+	 * Buffers in which the compressed glosses are stored.
+	 */
+	private List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+
+	/**
+	 * Position of each gloss, where the chunk is given by the position
+	 * divided by the chunk size.
+	 */
+	private int[] positions = new int[TRAINING_GLOSSES];
+
+	/**
+	 * Number of glosses in the store.
+	 */
+	private int size;
+
+	/**
+	 * Position at which the next gloss is written.
+	 */
+	private int nextPosition;
+
+	/**
+	 * Glosses added before the word dictionary was built; <code>null</code>
+	 * once it has been.
+	 */
+	private List<Gloss> pendingGlosses = new ArrayList<Gloss>();
+
+	/**
+	 * Words of the dictionary, indexed by code.
+	 */
+	private String[] words;
+
+	/**
+	 * Maps the words of the dictionary to their codes.
+	 */
+	private HashMap<String, Integer> wordCodes;
+
+	/**
+	 * Number of characters in all of the glosses that have been added.
+	 */
+	private long textSize;
+
+	/**
+	 * Recently decoded glosses, or <code>null</code> if they aren't cached.
+	 */
+	private LinkedHashMap<Integer, Gloss> recentGlosses;
+
+	/**
+	 * Held while glosses are added, decoded or cached.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Returns the store used by the file-based implementation. Nothing is
+	 * allocated outside of the heap until the first gloss is added.
+	 * 
+	 * @return Gloss store.
+	 */
+	public static GlossStore getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * Constructor that accepts the number of decoded glosses to cache.
+	 * 
+	 * @param  cacheSize Maximum number of decoded glosses that are kept, or
+	 *         zero if they shouldn't be.
+	 */
+	public GlossStore(final int cacheSize)
+	{
+		if (cacheSize > 0)
+		{
+			recentGlosses = new LinkedHashMap<Integer, Gloss>(16, 0.75f, true)
+			{
+				protected boolean removeEldestEntry(
+						Map.Entry<Integer, Gloss> eldest)
+				{
+					return (size() > cacheSize);
+				}
+			};
+		}
+	}
+
+	/**
+	 * Adds a gloss to the store.
+	 * 
+	 * @param  definition Definition of the synset, which may be
+	 *         <code>null</code>.
+	 * @param  examples Example sentences of the synset.
+	 * @return Entry number that identifies the gloss within the store.
+	 */
+	public int add(String definition, String[] examples)
+	{
+		lock.lock();
+		try
+		{
+			if (size == positions.length)
+			{
+				int[] newPositions = new int[size * 2];
+				System.arraycopy(positions, 0, newPositions, 0, size);
+				positions = newPositions;
+			}
+			textSize += (definition != null ? definition.length() : 0);
+			for (int i = 0; i < examples.length; i++)
+			{
+				textSize += examples[i].length();
+			}
+			int entry = size++;
+			if (pendingGlosses != null)
+			{
+				pendingGlosses.add(new Gloss(definition, examples));
+				if (pendingGlosses.size() == TRAINING_GLOSSES)
+				{
+					buildDictionary();
+				}
+			}
+			else
+			{
+				positions[entry] = write(encode(definition, examples));
+			}
+			return entry;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a gloss, decoding it unless it's in the cache.
+	 * 
+	 * @param  entry Entry number returned when the gloss was added.
+	 * @return Definition and example sentences.
+	 */
+	public Gloss getGloss(int entry)
+	{
+		lock.lock();
+		try
+		{
+			if (pendingGlosses != null)
+			{
+				buildDictionary();
+			}
+			Gloss gloss = null;
+			Integer key = null;
+			if (recentGlosses != null)
+			{
+				key = Integer.valueOf(entry);
+				gloss = recentGlosses.get(key);
+			}
+			if (gloss == null)
+			{
+				gloss = decode(positions[entry]);
+				if (recentGlosses != null)
+				{
+					recentGlosses.put(key, gloss);
+				}
+			}
+			return gloss;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of glosses in the store.
+	 * 
+	 * @return Number of glosses.
+	 */
+	public int size()
+	{
+		lock.lock();
+		try
+		{
+			return size;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of characters in all of the glosses, that is,
+	 * their size before compression.
+	 * 
+	 * @return Number of characters in the glosses.
+	 */
+	public long getTextSize()
+	{
+		lock.lock();
+		try
+		{
+			return textSize;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of bytes used to store the compressed glosses
+	 * outside of the heap.
+	 * 
+	 * @return Number of bytes written to the direct buffers.
+	 */
+	public long getStorageSize()
+	{
+		lock.lock();
+		try
+		{
+			return nextPosition;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Builds the word dictionary from the glosses added so far and then
+	 * compresses them.
+	 */
+	private void buildDictionary()
+	{
+		final HashMap<String, int[]> counts = new HashMap<String, int[]>();
+		for (Gloss gloss : pendingGlosses)
+		{
+			countWords(gloss.getDefinition(), counts);
+			String[] examples = gloss.getExamples();
+			for (int i = 0; i < examples.length; i++)
+			{
+				countWords(examples[i], counts);
+			}
+		}
+		//  Words that save the most space get the shortest codes
+		List<String> candidates = new ArrayList<String>();
+		for (Map.Entry<String, int[]> entry : counts.entrySet())
+		{
+			if ((entry.getValue()[0] > 1) && (entry.getKey().length() > 1))
+			{
+				candidates.add(entry.getKey());
+			}
+		}
+		Collections.sort(candidates, new Comparator<String>()
+		{
+			public int compare(String o1, String o2)
+			{
+				long saving1 = (long)counts.get(o1)[0] * o1.length();
+				long saving2 = (long)counts.get(o2)[0] * o2.length();
+				return (saving1 != saving2 ? (saving2 > saving1 ? 1 : -1) :
+						o1.compareTo(o2));
+			}
+		});
+		List<String> dictionary = new ArrayList<String>();
+		for (String word : candidates)
+		{
+			//  Only the single byte codes save space for two letter words
+			if ((dictionary.size() < SHORT_CODE_COUNT) ||
+					((word.length() > 2) && (dictionary.size() <
+					SHORT_CODE_COUNT + LONG_CODE_COUNT)))
+			{
+				dictionary.add(word);
+			}
+		}
+		words = dictionary.toArray(new String[dictionary.size()]);
+		wordCodes = new HashMap<String, Integer>();
+		for (int i = 0; i < words.length; i++)
+		{
+			wordCodes.put(words[i], Integer.valueOf(i));
+		}
+		//  Now that there's a dictionary, the pending glosses can be written
+		List<Gloss> glosses = pendingGlosses;
+		pendingGlosses = null;
+		int first = size - glosses.size();
+		for (int i = 0; i < glosses.size(); i++)
+		{
+			Gloss gloss = glosses.get(i);
+			positions[first + i] =
+					write(encode(gloss.getDefinition(), gloss.getExamples()));
+		}
+	}
+
+	/**
+	 * Counts the occurrences of the words in a text.
+	 * 
+	 * @param  text Text containing the words, which may be
+	 *         <code>null</code>.
+	 * @param  counts Number of occurrences of each word, to which the words
+	 *         in the text are added.
+	 */
+	private static void countWords(String text, Map<String, int[]> counts)
+	{
+		if (text == null)
+		{
+			return;
+		}
+		int length = text.length();
+		int i = 0;
+		while (i < length)
+		{
+			int end = getWordEnd(text, i);
+			if (end > i)
+			{
+				String word = text.substring(i, end);
+				int[] count = counts.get(word);
+				if (count == null)
+				{
+					count = new int[1];
+					counts.put(word, count);
+				}
+				count[0]++;
+				i = end;
+			}
+			else
+			{
+				i++;
+			}
+		}
+	}
+
+	/**
+	 * Returns the end of the word, if any, that starts at a position in a
+	 * text. Words consist of ASCII letters only.
+	 * 
+	 * @param  text Text containing the word.
+	 * @param  start Position at which the word starts.
+	 * @return Position after the last letter of the word, which is the start
+	 *         position if there's no letter there.
+	 */
+	private static int getWordEnd(String text, int start)
+	{
+		int end = start;
+		while ((end < text.length()) && (isLetter(text.charAt(end))))
+		{
+			end++;
+		}
+		return end;
+	}
+
+	/**
+	 * Indicates whether a character is an ASCII letter.
+	 * 
+	 * @param  c Character to check.
+	 * @return <code>true</code> if the character is a letter.
+	 */
+	private static boolean isLetter(char c)
+	{
+		return (((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')));
+	}
+
+	/**
+	 * Compresses a gloss. The first byte indicates whether there is a
+	 * definition and the definition and example sentences that follow are
+	 * each preceded by a separator.
+	 * 
+	 * @param  definition Definition, which may be <code>null</code>.
+	 * @param  examples Example sentences.
+	 * @return Compressed gloss.
+	 */
+	private byte[] encode(String definition, String[] examples)
+	{
+		ByteArrayBuilder output = new ByteArrayBuilder();
+		output.add(definition != null ? 1 : 0);
+		if (definition != null)
+		{
+			output.add(SEPARATOR);
+			encode(definition, output);
+		}
+		for (int i = 0; i < examples.length; i++)
+		{
+			output.add(SEPARATOR);
+			encode(examples[i], output);
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * Compresses a text.
+	 * 
+	 * @param  text Text to compress.
+	 * @param  output Receives the compressed text.
+	 */
+	private void encode(String text, ByteArrayBuilder output)
+	{
+		int length = text.length();
+		int i = 0;
+		while (i < length)
+		{
+			int end = getWordEnd(text, i);
+			Integer code = (end > i ?
+					wordCodes.get(text.substring(i, end)) : null);
+			if (code != null)
+			{
+				int value = code.intValue();
+				if (value < SHORT_CODE_COUNT)
+				{
+					output.add(SHORT_CODE + value);
+				}
+				else
+				{
+					value -= SHORT_CODE_COUNT;
+					output.add(LONG_CODE + (value >> 8));
+					output.add(value & 0xFF);
+				}
+				i = end;
+			}
+			else
+			{
+				end = Math.max(end, i + 1);
+				for (; i < end; i++)
+				{
+					char c = text.charAt(i);
+					if ((c > SEPARATOR) && (c < ESCAPE))
+					{
+						output.add(c);
+					}
+					else
+					{
+						output.add(ESCAPE);
+						output.add(c >> 8);
+						output.add(c & 0xFF);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Decodes a gloss.
+	 * 
+	 * @param  position Position at which the gloss is stored.
+	 * @return Definition and example sentences.
+	 */
+	private Gloss decode(int position)
+	{
+		ByteBuffer chunk = chunks.get(position / CHUNK_SIZE);
+		int offset = position % CHUNK_SIZE;
+		//  The length precedes the gloss itself
+		int length = 0;
+		int shift = 0;
+		int b;
+		do
+		{
+			b = chunk.get(offset++);
+			length |= (b & 0x7F) << shift;
+			shift += 7;
+		}
+		while ((b & 0x80) != 0);
+		int end = offset + length;
+
+		boolean hasDefinition = (chunk.get(offset++) != 0);
+		List<String> texts = new ArrayList<String>();
+		StringBuilder buffer = null;
+		while (offset < end)
+		{
+			int value = chunk.get(offset++) & 0xFF;
+			if (value == SEPARATOR)
+			{
+				if (buffer != null)
+				{
+					texts.add(buffer.toString());
+				}
+				buffer = new StringBuilder();
+			}
+			else if (value == ESCAPE)
+			{
+				int high = chunk.get(offset++) & 0xFF;
+				int low = chunk.get(offset++) & 0xFF;
+				buffer.append((char)((high << 8) | low));
+			}
+			else if (value >= LONG_CODE)
+			{
+				int low = chunk.get(offset++) & 0xFF;
+				buffer.append(words[SHORT_CODE_COUNT +
+						(((value - LONG_CODE) << 8) | low)]);
+			}
+			else if (value >= SHORT_CODE)
+			{
+				buffer.append(words[value - SHORT_CODE]);
+			}
+			else
+			{
+				buffer.append((char)value);
+			}
+		}
+		if (buffer != null)
+		{
+			texts.add(buffer.toString());
+		}
+		String definition = (hasDefinition ? texts.remove(0) : null);
+		return new Gloss(definition, texts.toArray(new String[texts.size()]));
+	}
+
+	/**
+	 * Writes a compressed gloss, preceded by its length, to the direct
+	 * buffers. A gloss is never split across buffers.
+	 * 
+	 * @param  data Compressed gloss.
+	 * @return Position at which the gloss was written.
+	 */
+	private int write(byte[] data)
+	{
+		ByteArrayBuilder length = new ByteArrayBuilder();
+		int value = data.length;
+		while (value >= 0x80)
+		{
+			length.add((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		length.add(value);
+		byte[] prefix = length.toByteArray();
+		int total = prefix.length + data.length;
+
+		int offset = nextPosition % CHUNK_SIZE;
+		if ((chunks.isEmpty()) || (offset + total > CHUNK_SIZE))
+		{
+			//  Start a new buffer; a gloss larger than a buffer (which the
+			//  database doesn't contain) would need a larger chunk size
+			if (total > CHUNK_SIZE)
+			{
+				throw new IllegalArgumentException(
+						"Gloss too large to store: " + total + " bytes");
+			}
+			chunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE));
+			nextPosition = (chunks.size() - 1) * CHUNK_SIZE;
+			offset = 0;
+		}
+		ByteBuffer chunk = chunks.get(chunks.size() - 1);
+		for (int i = 0; i < prefix.length; i++)
+		{
+			chunk.put(offset + i, prefix[i]);
+		}
+		for (int i = 0; i < data.length; i++)
+		{
+			chunk.put(offset + prefix.length + i, data[i]);
+		}
+		int position = nextPosition;
+		nextPosition += total;
+		return position;
+	}
+
+	/**
+	 * Growable array of bytes to which unsigned byte values are added.
+	 */
+	private static class ByteArrayBuilder
+	{
+
+		/**
+		 * Bytes added so far.
+		 */
+		private byte[] bytes = new byte[64];
+
+		/**
+		 * Number of bytes added.
+		 */
+		private int count;
+
+		/**
+		 * Adds a byte.
+		 * 
+		 * @param  value Value of the byte, of which only the low eight bits
+		 *         are used.
+		 */
+		void add(int value)
+		{
+			if (count == bytes.length)
+			{
+				byte[] newBytes = new byte[count * 2];
+				System.arraycopy(bytes, 0, newBytes, 0, count);
+				bytes = newBytes;
+			}
+			bytes[count++] = (byte)value;
+		}
+
+		/**
+		 * Returns the bytes that were added.
+		 * 
+		 * @return Copy of the bytes.
+		 */
+		byte[] toByteArray()
+		{
+			byte[] result = new byte[count];
+			System.arraycopy(bytes, 0, result, 0, count);
+			return result;
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,55 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+/**
+ * Receives notifications about the progress of a database load that was
+ * started by {@link DatabaseInitialization#start(InitializationListener)}.
+ * <br><p>
+ * The notifications are sent by the thread that performs the load, so
+ * implementations should return quickly and must be thread-safe.
+ *
+ * @author Brett Spell
+ */
+public interface InitializationListener
+{
+
+	/**
+	 * Called periodically while the work for a level is being performed.
+	 * 
+	 * @param  stage Level that will be reached when the work is complete.
+	 * @param  completed Number of units of work completed for the level.
+	 * @param  total Total number of units of work for the level.
+	 */
+	public void progressed(ReadinessLevel stage, int completed, int total);
+
+	/**
+	 * Called when a level has been reached.
+	 * 
+	 * @param  level Level that was reached.
+	 */
+	public void levelReached(ReadinessLevel level);
+
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.Set;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+import edu.smu.tspell.wordnet.WordNetException;
+
+/**
+ * File-based implementation of the WordNet API that reads the database
+ * files on demand instead of loading them into memory on startup.
+ * <br><p>
+ * This is essentially a facade that delegates the requests to
+ * {@link LazyWordFormLookup}; it returns the same results as
+ * {@link FileDatabase} but uses far less memory and starts immediately,
+ * while each lookup is slower because it searches the files.
+ * 
+ * @author Brett Spell
+ */
+public class LazyFileDatabase extends WordNetDatabase
+{
+
+	/**
+	 * No-argument constructor.
+	 */
+	public LazyFileDatabase()
+	{
+		if (PropertyNames.jmxMonitor)
+		{
+			FootprintMonitor.register(this, "lazyFile");
+		}
+	}
+
+	/**
+	 * Returns the synsets that contain a word form matching the specified
+	 * text and optionally also those synsets containing one of that word
+	 * form's variants.
+	 * 
+	 * @param  wordForm Text representing a word or collocation (phrase).
+	 * @param  type Type of synsets (e.g., noun) to return; if this
+	 *         argument is <code>null</code>, all synsets will be returned
+	 *         that contain the specified word form.
+	 * @param  useMorphology When <code>true</code>, indicates that this
+	 *         method should return synsets that contain any morphological
+	 *         variation of the specified word form.
+	 * @return Synsets that contain the specified word form.
+	 * @throws WordNetException An error occurred retrieving the data.
+	 * @see    FileDatabase#getSynsets(String, SynsetType, boolean)
+	 */
+	public Synset[] getSynsets(String wordForm, SynsetType type,
+			boolean useMorphology) throws WordNetException
+	{
+		SynsetType[] typeArray = (type != null ?
+				new SynsetType[] {type} : SynsetType.ALL_TYPES);
+		LazyWordFormLookup factory = LazyWordFormLookup.getInstance();
+		return factory.getSynsets(wordForm, typeArray, useMorphology);
+	}
+
+	/**
+	 * Returns lemma representing word forms that <u>might</u> be present
+	 * in WordNet.
+	 * 
+	 * @param  inflection Irregular inflection for which to return root words.
+	 * @param  type Syntactic type for which to perform the lookup.
+	 * @return Root word(s) from which the inflection is derived.
+	 * @see    Morphology
+	 */
+	public String[] getBaseFormCandidates(String inflection, SynsetType type)
+	{
+		Morphology morphology = Morphology.getInstance();
+		return morphology.getBaseFormCandidates(inflection, type);
+	}
+
+	/**
+	 * Returns a set of all word forms that are in the WordNet.
+	 * 
+	 * @return a set of word forms
+	 */
+	public Set<String> allWordForms() {
+		LazyWordFormLookup factory = LazyWordFormLookup.getInstance();
+		return factory.allWordForms();
+	}
+
+	/**
+	 * Return the synset associated with the sense key.
+	 * 
+	 * @param senseKey
+	 * @return
+	 */
+	public Synset getSynsetWithSenseKey(String senseKey) {
+		LazyWordFormLookup factory = LazyWordFormLookup.getInstance();
+		return factory.getSynsetWithSenseKey(senseKey);
+	}
+
+	/**
+	 * Returns the number of objects in, and the estimated memory used by,
+	 * the synsets that are currently cached and their relationships.
+	 * 
+	 * @return Memory footprint of the cached part of the database.
+	 */
+	public MemoryFootprint getMemoryFootprint()
+	{
+		MemoryFootprint footprint = new MemoryFootprint();
+		LazyWordFormLookup.getInstance().estimateFootprint(footprint);
+		return footprint;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,269 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Synset factory that reads synsets and sense index entries only when
+ * they're requested instead of loading the entire database on startup.
+ * <br><p>
+ * The sense index file is searched using {@link SenseIndexLocator} and each
+ * synset is read from its data file by offset. Only a limited number of the
+ * synsets that were read most recently are cached, so the memory used by
+ * this factory stays small regardless of how many lookups are performed.
+ * <br><p>
+ * Instances of this class can safely be used by multiple threads
+ * concurrently. The cached synsets are kept in a concurrent map so that a
+ * synset that's in the cache is returned without acquiring any lock; since
+ * that doesn't allow the map to track the order in which the synsets are
+ * used, the synset to discard when the cache is full is chosen using the
+ * "second chance" approximation of least recently used replacement. The
+ * synsets are queued in the order in which they were cached and each one
+ * is marked when it's returned from the cache; a marked synset at the head
+ * of the queue is unmarked and moved to the tail instead of being
+ * discarded.
+ * 
+ * @author Brett Spell
+ * @see    PropertyNames#lazyCacheSize
+ */
+public class LazySynsetFactory extends SynsetFactory
+{
+
+	/**
+	 * Maximum number of synsets that are cached.
+	 */
+	private final int cacheSize;
+
+	/**
+	 * Maps pointers to the synsets that were read most recently.
+	 */
+	private final ConcurrentHashMap<SynsetPointer,CachedSynset> recentSynsets =
+			new ConcurrentHashMap<SynsetPointer,CachedSynset>();
+
+	/**
+	 * Pointers to the cached synsets in the order in which they're
+	 * considered for removal; guarded by the cache lock.
+	 */
+	private final ArrayDeque<SynsetPointer> replacementOrder =
+			new ArrayDeque<SynsetPointer>();
+
+	/**
+	 * Constructs a factory that caches the specified number of synsets.
+	 * 
+	 * @param  cacheSize Maximum number of synsets to cache.
+	 */
+	public LazySynsetFactory(int cacheSize)
+	{
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Returns a synset from the cache without acquiring any lock, marking
+	 * it as recently used.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @return Cached synset or <code>null</code> if it isn't cached.
+	 */
+	Synset getCachedSynset(SynsetType type, int offset)
+	{
+		CachedSynset cached = recentSynsets.get(new SynsetPointer(type, offset));
+		if (cached == null)
+		{
+			return null;
+		}
+		cached.referenced = true;
+		return cached.synset;
+	}
+
+	/**
+	 * Adds a synset to the cache, discarding one that hasn't been used
+	 * recently if the cache is full.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @param  synset Synset to cache.
+	 */
+	void putSynset(SynsetType type, int offset, Synset synset)
+	{
+		cacheLock.lock();
+		try
+		{
+			SynsetPointer pointer = new SynsetPointer(type, offset);
+			if (recentSynsets.put(pointer, new CachedSynset(synset)) == null)
+			{
+				replacementOrder.addLast(pointer);
+			}
+			while (recentSynsets.size() > cacheSize)
+			{
+				pointer = replacementOrder.removeFirst();
+				CachedSynset cached = recentSynsets.get(pointer);
+				if (cached.referenced)
+				{
+					cached.referenced = false;
+					replacementOrder.addLast(pointer);
+				}
+				else
+				{
+					recentSynsets.remove(pointer);
+				}
+			}
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a copy of the synsets that are currently cached.
+	 * 
+	 * @return Cached synsets.
+	 */
+	Collection<Synset> getCachedSynsets()
+	{
+		List<Synset> synsets = new ArrayList<Synset>();
+		for (CachedSynset cached : recentSynsets.values())
+		{
+			synsets.add(cached.synset);
+		}
+		return synsets;
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the cache itself, not
+	 * including the synsets in it.
+	 * 
+	 * @return Estimated number of bytes used by the cache.
+	 */
+	long getCacheEstimatedSize()
+	{
+		//  Each entry is also queued for replacement, is keyed by a pointer
+		//  object and refers to its synset through a CachedSynset
+		int size = recentSynsets.size();
+		return SizeEstimates.getHashMapSize(size) + size *
+				(SizeEstimates.REFERENCE_SIZE +
+				SizeEstimates.getObjectSize(1, 4) +
+				SizeEstimates.getObjectSize(1, 1));
+	}
+
+	/**
+	 * Leaves the gloss of a synset that was just read in the synset itself,
+	 * since the synsets read by this factory are only kept in memory while
+	 * they're cached and the gloss store never releases anything.
+	 * 
+	 * @param  synset Synset that was read.
+	 */
+	void storeGloss(ReferenceSynset synset)
+	{
+	}
+
+	/**
+	 * Returns the sense index entry that has the specified sense key.
+	 * 
+	 * @param  senseKey Sense key, including any head word.
+	 * @return Matching entry or <code>null</code> if there is none.
+	 */
+	SenseIndexEntry getSenseIndexEntry(SenseKey senseKey)
+	{
+		return findEntry(senseKey.getFullSenseKeyText());
+	}
+
+	/**
+	 * Returns the adjective satellite entries of the sense index that have
+	 * the specified partial sense key (that is, without head word).
+	 * 
+	 * @param  senseKey Sense key, whose head word (if any) is ignored.
+	 * @return Matching entries, which may be an empty list.
+	 */
+	List<SenseIndexEntry> getSatelliteEntries(SenseKey senseKey)
+	{
+		return findSatelliteEntries(senseKey.getPartialSenseKeyText());
+	}
+
+	/**
+	 * Returns all sense index entries for the specified lemma.
+	 * 
+	 * @param  lemma Lemma, in database format, for which to return entries.
+	 * @return Entries for the lemma, which may be an empty list.
+	 */
+	List<SenseIndexEntry> getLemmaEntries(String lemma)
+	{
+		return findEntries(lemma + SenseKey.LEMMA_TERMINATOR);
+	}
+
+	/**
+	 * Returns the lemmas of all of the sense index entries. Note that this
+	 * requires reading the entire sense index.
+	 * 
+	 * @return Lemmas, in external format, in sense key order.
+	 * @throws RetrievalException An error occurred reading the entries.
+	 */
+	Set<String> findLemmas()
+	{
+		return getLocator().getLemmas();
+	}
+
+	/**
+	 * Synset in the cache, along with whether it has been used since it was
+	 * last considered for removal.
+	 */
+	private static class CachedSynset
+	{
+
+		/**
+		 * Cached synset.
+		 */
+		private final Synset synset;
+
+		/**
+		 * Set each time the synset is returned from the cache and cleared
+		 * when it's given a second chance instead of being removed.
+		 */
+		private volatile boolean referenced;
+
+		/**
+		 * Constructor that accepts the synset to cache.
+		 * 
+		 * @param  synset Synset to cache.
+		 */
+		private CachedSynset(Synset synset)
+		{
+			this.synset = synset;
+		}
+
+	}
+
+}
\ No newline at end of file
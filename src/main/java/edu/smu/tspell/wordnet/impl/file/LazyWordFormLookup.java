@@ -0,0 +1,168 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetException;
+
+/**
+ * Performs lookups based upon a word form without loading the database
+ * into memory.
+ * <br><p>
+ * The sense index entries for a word form are located by searching the
+ * sense index file and the synsets they identify are then read from the
+ * data files by a {@link LazySynsetFactory}, which keeps only a small
+ * number of recently used synsets in memory. Startup is therefore almost
+ * instantaneous, at the cost of each lookup reading from the files.
+ * <br><p>
+ * If a snapshot is specified by the <code>wordnet.database.snapshot</code>
+ * property, the synsets and entries are read from it instead of from the
+ * database files (see {@link MappedSynsetFactory}).
+ *
+ * @author Brett Spell
+ * @see    WordFormLookup
+ */
+public class LazyWordFormLookup extends AbstractWordFormLookup
+{
+
+	/**
+	 * Singleton instance of this class.
+	 */
+	private static final LazyWordFormLookup instance = new LazyWordFormLookup();
+
+	/**
+	 * Reads the synsets and sense index entries when they're requested.
+	 */
+	private LazySynsetFactory factory;
+
+	/**
+	 * Returns a reference to the singleton instance of this class.
+	 *
+	 * @return Singleton instance of this class.
+	 */
+	public static LazyWordFormLookup getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * This constructor ensures that instances of this class can't be
+	 * constructed by other classes.
+	 */
+	private LazyWordFormLookup()
+	{
+		SnapshotReader image =
+				SnapshotReader.openImage(PropertyNames.snapshotFile);
+		factory = (image != null ?
+				new MappedSynsetFactory(PropertyNames.lazyCacheSize, image) :
+				new LazySynsetFactory(PropertyNames.lazyCacheSize));
+	}
+
+	/**
+	 * Returns the synsets of a particular type (e.g., noun) that contain a
+	 * specific word form, ordered in the same way as those returned by
+	 * {@link WordFormLookup}.
+	 *
+	 * @param  wordForm Word form, in database format, for which to return
+	 *         containing synsets.
+	 * @param  type Type of synsets to be returned.
+	 * @return Synsets of a single type that contain the specified word form.
+	 * @throws WordNetException An error occurred retrieving the synsets.
+	 */
+	protected Synset[] getSynsets(String wordForm, SynsetType type)
+	{
+		//  Find the index entries for the word form that are of this type
+		List<SenseIndexEntry> entries = new ArrayList<SenseIndexEntry>();
+		for (SenseIndexEntry entry : factory.getLemmaEntries(wordForm))
+		{
+			if (entry.getSenseKey().getType() == type)
+			{
+				entries.add(entry);
+			}
+		}
+		Collections.sort(entries);
+		//  Read the synsets they identify, excluding any duplicates
+		List<Synset> synsetList = new ArrayList<Synset>(entries.size());
+		for (SenseIndexEntry entry : entries)
+		{
+			Synset synset = factory.getSynset(
+					entry.getSenseKey().getType(), entry.getSynsetOffset());
+			if (!synsetList.contains(synset))
+			{
+				synsetList.add(synset);
+			}
+		}
+		//  Convert the list to an array and return it
+		Synset[] synsetArray = new Synset[synsetList.size()];
+		synsetList.toArray(synsetArray);
+		return synsetArray;
+	}
+
+	/**
+	 * Adds the synsets that are currently cached, along with the cache
+	 * itself, to a memory footprint. A mapped snapshot is shared with
+	 * other processes and isn't included.
+	 * 
+	 * @param  footprint Footprint to which the synsets are added.
+	 */
+	void estimateFootprint(MemoryFootprint footprint)
+	{
+		factory.estimateFootprint(footprint);
+	}
+
+	/**
+	 * Returns a set of all word forms that are in the WordNet. Note that
+	 * this requires reading the entire sense index file.
+	 * 
+	 * @return a set of word forms
+	 */
+	public Set<String> allWordForms()
+	{
+		return factory.findLemmas();
+	}
+
+	/**
+	 * Return the synset associated with the sense key.
+	 * 
+	 * @param  senseKey Full text of the sense key.
+	 * @return Synset identified by the sense key or <code>null</code> if
+	 *         there is no such sense key.
+	 */
+	public Synset getSynsetWithSenseKey(String senseKey)
+	{
+		SenseIndexEntry entry = factory.findEntry(senseKey);
+		return (entry != null ?
+				factory.getSynset(entry.getSenseKey().getType(),
+				entry.getSynsetOffset()) : null);
+	}
+
+}
\ No newline at end of file
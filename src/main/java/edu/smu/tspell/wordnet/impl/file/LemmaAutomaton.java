@@ -0,0 +1,956 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.SortedSet;
+
+import edu.smu.tspell.wordnet.impl.LevenshteinAutomaton;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Immutable, minimal acyclic automaton that contains a sorted set of word
+ * forms and maps each one to an integer value, which is its identifier in
+ * the {@link LemmaDictionary}.
+ * <br><p>
+ * The automaton is built from the sorted word forms with the incremental
+ * algorithm of Daciuk et al., which merges states that accept the same
+ * suffixes as the word forms are added, so that common prefixes and
+ * suffixes are stored only once. Each transition records how many word
+ * forms precede the ones reached through it, so that the position (rank)
+ * of a word form in sorted order is accumulated while it's looked up and
+ * the word form with a given rank can be found by following the
+ * transitions. The value of each word form is then stored in an array
+ * indexed by rank.
+ * <br><p>
+ * This supports testing whether a word form is in the set, iterating over
+ * the word forms in sorted order, scanning ranges of them and finding the
+ * ones that are close to a misspelled word form without a separate object
+ * for each word form. The automaton is kept in a handful of arrays, which
+ * can be written to a snapshot and read back without rebuilding it.
+ *
+ * @author Brett Spell
+ * @see    <a href="https://aclanthology.org/J00-1002/">
+ *         Incremental Construction of Minimal Acyclic Finite-State
+ *         Automata</a>
+ */
+final class LemmaAutomaton
+{
+
+	/**
+	 * Rank returned for a word form that isn't in the automaton.
+	 */
+	final static int NOT_FOUND = -1;
+
+	/**
+	 * Index of the state in which every word form starts.
+	 */
+	private final int root;
+
+	/**
+	 * Position of the first transition of each state, shifted left by one,
+	 * with the lowest bit set if the state is final (that is, a word form
+	 * ends there). The entry after the last state is the end of its
+	 * transitions.
+	 */
+	private final int[] states;
+
+	/**
+	 * Number of word forms that start with the path to each state.
+	 */
+	private final int[] counts;
+
+	/**
+	 * Character of each transition; the transitions of each state are
+	 * sorted by character.
+	 */
+	private final char[] labels;
+
+	/**
+	 * State to which each transition leads.
+	 */
+	private final int[] targets;
+
+	/**
+	 * Number of word forms that start with the path to the source state of
+	 * each transition and sort before the ones reached through it.
+	 */
+	private final int[] skips;
+
+	/**
+	 * Value of each word form, indexed by rank.
+	 */
+	private final int[] values;
+
+	/**
+	 * Constructs an automaton from the arrays that represent it.
+	 * 
+	 * @param  root Index of the initial state.
+	 * @param  states First transition and final flag of each state.
+	 * @param  counts Number of word forms reached from each state.
+	 * @param  labels Character of each transition.
+	 * @param  targets Target state of each transition.
+	 * @param  skips Word forms that precede each transition.
+	 * @param  values Value of each word form, by rank.
+	 */
+	private LemmaAutomaton(int root, int[] states, int[] counts,
+			char[] labels, int[] targets, int[] skips, int[] values)
+	{
+		this.root = root;
+		this.states = states;
+		this.counts = counts;
+		this.labels = labels;
+		this.targets = targets;
+		this.skips = skips;
+		this.values = values;
+	}
+
+	/**
+	 * Builds an automaton that contains a set of word forms.
+	 * 
+	 * @param  wordForms Word forms, which must be distinct and sorted in
+	 *         the order used by <code>String.compareTo()</code>.
+	 * @param  values Value of each word form.
+	 * @return Automaton that contains the word forms.
+	 * @throws IllegalArgumentException The word forms aren't distinct and
+	 *         sorted.
+	 */
+	static LemmaAutomaton build(String[] wordForms, int[] values)
+	{
+		Builder builder = new Builder();
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			if ((i > 0) && (wordForms[i - 1].compareTo(wordForms[i]) >= 0))
+			{
+				throw new IllegalArgumentException("Word forms are not " +
+						"sorted: '" + wordForms[i] + "'");
+			}
+			builder.add(wordForms[i]);
+		}
+		return builder.finish(values.clone());
+	}
+
+	/**
+	 * Reads an automaton that was written by {@link #write(DataOutput)}.
+	 * 
+	 * @param  input Input from which to read the automaton.
+	 * @param  values Value of each word form, by rank, which isn't stored
+	 *         with the automaton.
+	 * @return Automaton that was read.
+	 * @throws IOException An error occurred reading the automaton or it
+	 *         doesn't match the values.
+	 */
+	static LemmaAutomaton read(DataInput input, int[] values)
+			throws IOException
+	{
+		int root = input.readInt();
+		int stateCount = input.readInt();
+		int[] states = new int[stateCount + 1];
+		int[] counts = new int[stateCount];
+		for (int i = 0; i < stateCount; i++)
+		{
+			states[i] = input.readInt();
+			counts[i] = input.readInt();
+		}
+		states[stateCount] = input.readInt();
+		int transitionCount = states[stateCount] >>> 1;
+		char[] labels = new char[transitionCount];
+		int[] targets = new int[transitionCount];
+		int[] skips = new int[transitionCount];
+		for (int i = 0; i < transitionCount; i++)
+		{
+			labels[i] = input.readChar();
+			targets[i] = input.readInt();
+			skips[i] = input.readInt();
+		}
+		if ((root >= stateCount) || (counts[root] != values.length))
+		{
+			throw new IOException("Lemma automaton doesn't match the lemmas");
+		}
+		return new LemmaAutomaton(root, states, counts, labels, targets,
+				skips, values);
+	}
+
+	/**
+	 * Writes the automaton, without the values of the word forms.
+	 * 
+	 * @param  output Output to which the automaton is written.
+	 * @throws IOException An error occurred writing the automaton.
+	 */
+	void write(DataOutput output) throws IOException
+	{
+		output.writeInt(root);
+		output.writeInt(counts.length);
+		for (int i = 0; i < counts.length; i++)
+		{
+			output.writeInt(states[i]);
+			output.writeInt(counts[i]);
+		}
+		output.writeInt(states[counts.length]);
+		for (int i = 0; i < labels.length; i++)
+		{
+			output.writeChar(labels[i]);
+			output.writeInt(targets[i]);
+			output.writeInt(skips[i]);
+		}
+	}
+
+	/**
+	 * Returns the number of word forms in the automaton.
+	 * 
+	 * @return Number of word forms.
+	 */
+	int size()
+	{
+		return counts[root];
+	}
+
+	/**
+	 * Returns the value of a word form.
+	 * 
+	 * @param  wordForm Word form for which to return the value.
+	 * @return Value of the word form or {@link #NOT_FOUND} if it isn't in
+	 *         the automaton.
+	 */
+	int get(String wordForm)
+	{
+		int rank = rank(wordForm);
+		return (rank != NOT_FOUND ? values[rank] : NOT_FOUND);
+	}
+
+	/**
+	 * Returns the value of the word form that has a particular rank.
+	 * 
+	 * @param  rank Position of the word form in sorted order.
+	 * @return Value of the word form.
+	 */
+	int getValue(int rank)
+	{
+		return values[rank];
+	}
+
+	/**
+	 * Returns the position of a word form in sorted order.
+	 * 
+	 * @param  wordForm Word form for which to return the rank.
+	 * @return Rank of the word form or {@link #NOT_FOUND} if it isn't in
+	 *         the automaton.
+	 */
+	int rank(String wordForm)
+	{
+		int state = root;
+		int rank = 0;
+		int length = wordForm.length();
+		for (int i = 0; i < length; i++)
+		{
+			int transition = findTransition(state, wordForm.charAt(i));
+			if ((transition == getEnd(state)) ||
+					(labels[transition] != wordForm.charAt(i)))
+			{
+				return NOT_FOUND;
+			}
+			rank += skips[transition];
+			state = targets[transition];
+		}
+		return (isFinal(state) ? rank : NOT_FOUND);
+	}
+
+	/**
+	 * Returns the number of word forms in the automaton that sort before a
+	 * string, which need not be in the automaton itself.
+	 * 
+	 * @param  text String for which to return the number of word forms.
+	 * @return Number of word forms that are less than the string.
+	 */
+	int countBefore(String text)
+	{
+		int state = root;
+		int rank = 0;
+		int length = text.length();
+		for (int i = 0; i < length; i++)
+		{
+			int transition = findTransition(state, text.charAt(i));
+			if (transition == getEnd(state))
+			{
+				//  Every word form that continues from here sorts before
+				return rank + counts[state];
+			}
+			rank += skips[transition];
+			if (labels[transition] != text.charAt(i))
+			{
+				return rank;
+			}
+			state = targets[transition];
+		}
+		return rank;
+	}
+
+	/**
+	 * Returns the number of word forms in the automaton that start with a
+	 * prefix. Those word forms follow the ones counted by
+	 * {@link #countBefore(String)} for the same prefix.
+	 *
+	 * @param  prefix Prefix of the word forms to count.
+	 * @return Number of word forms that start with the prefix.
+	 */
+	int countWithPrefix(String prefix)
+	{
+		int state = root;
+		int length = prefix.length();
+		for (int i = 0; i < length; i++)
+		{
+			int transition = findTransition(state, prefix.charAt(i));
+			if ((transition == getEnd(state)) ||
+					(labels[transition] != prefix.charAt(i)))
+			{
+				return 0;
+			}
+			state = targets[transition];
+		}
+		return counts[state];
+	}
+
+	/**
+	 * Returns the word form that has a particular rank.
+	 * 
+	 * @param  rank Position of the word form in sorted order.
+	 * @return Word form that has the rank.
+	 * @throws IndexOutOfBoundsException There is no word form with the rank.
+	 */
+	String getWordForm(int rank)
+	{
+		if ((rank < 0) || (rank >= size()))
+		{
+			throw new IndexOutOfBoundsException("Rank: " + rank);
+		}
+		StringBuilder buffer = new StringBuilder();
+		int state = root;
+		while ((rank > 0) || (!isFinal(state)))
+		{
+			//  Follow the last transition that doesn't skip past the rank
+			int low = getStart(state);
+			int high = getEnd(state) - 1;
+			while (low < high)
+			{
+				int middle = (low + high + 1) >>> 1;
+				if (skips[middle] <= rank)
+				{
+					low = middle;
+				}
+				else
+				{
+					high = middle - 1;
+				}
+			}
+			buffer.append(labels[low]);
+			rank -= skips[low];
+			state = targets[low];
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Returns the word forms that are accepted by a Levenshtein automaton,
+	 * that is, those within its maximum number of edits of its text.
+	 * <br><p>
+	 * The paths of this automaton are followed depth first while the
+	 * Levenshtein automaton reads their characters, and a path is abandoned
+	 * as soon as the Levenshtein automaton reaches a dead end, so only the
+	 * paths that start like a word form close to the text are visited
+	 * rather than every word form.
+	 * 
+	 * @param  automaton Levenshtein automaton that accepts the word forms.
+	 * @return Edit distance of each accepted word form shifted left by 32
+	 *         bits and combined with its rank, in ascending order (that is,
+	 *         by distance and then alphabetically).
+	 */
+	long[] findWithin(LevenshteinAutomaton automaton)
+	{
+		//  Each depth has one array for the state reached through a
+		//  character in the window and one for all the other characters
+		int[][] rows = new int[(automaton.getMaxLength() + 1) * 2][];
+		for (int i = 0; i < rows.length; i++)
+		{
+			rows[i] = automaton.createState();
+		}
+		automaton.start(rows[0]);
+		List<Long> matchList = new ArrayList<Long>();
+		findWithin(automaton, root, 0, 0, rows[0], rows, matchList);
+		long[] matches = new long[matchList.size()];
+		for (int i = 0; i < matches.length; i++)
+		{
+			matches[i] = matchList.get(i).longValue();
+		}
+		Arrays.sort(matches);
+		return matches;
+	}
+
+	/**
+	 * Adds the word forms accepted by a Levenshtein automaton that are
+	 * reached from a state of this automaton to a list.
+	 * 
+	 * @param  automaton Levenshtein automaton that accepts the word forms.
+	 * @param  state State of this automaton.
+	 * @param  rank Number of word forms that precede those reached from
+	 *         the state.
+	 * @param  depth Number of characters read to reach the state.
+	 * @param  row State of the Levenshtein automaton that corresponds to
+	 *         the state.
+	 * @param  rows Arrays that receive the states of the Levenshtein
+	 *         automaton, two for each depth.
+	 * @param  matches List to which the accepted word forms are added, in
+	 *         the format returned by {@link #findWithin(LevenshteinAutomaton)}.
+	 */
+	private void findWithin(LevenshteinAutomaton automaton, int state,
+			int rank, int depth, int[] row, int[][] rows, List<Long> matches)
+	{
+		if (isFinal(state))
+		{
+			int distance = automaton.getDistance(row, depth);
+			if (distance <= automaton.getMaxEdits())
+			{
+				matches.add(Long.valueOf(((long)distance << 32) | rank));
+			}
+		}
+		if (depth == automaton.getMaxLength())
+		{
+			return;
+		}
+		int[] next = rows[(depth + 1) * 2];
+		int[] other = rows[(depth + 1) * 2 + 1];
+		//  The state for the characters outside the window is computed
+		//  when it's first needed; when it's a dead end, as it is for most
+		//  states, only the transitions for the characters in the window
+		//  are followed
+		int otherState = 0;
+		int end = getEnd(state);
+		for (int transition = getStart(state); transition < end; transition++)
+		{
+			char c = labels[transition];
+			int[] target;
+			if (automaton.isInWindow(depth, c))
+			{
+				target = (automaton.step(row, depth, c, next) ? next : null);
+			}
+			else
+			{
+				if (otherState == 0)
+				{
+					otherState = (automaton.stepOther(row, depth, other) ? 1 : -1);
+				}
+				target = (otherState > 0 ? other : null);
+			}
+			if (target != null)
+			{
+				findWithin(automaton, targets[transition],
+						rank + skips[transition], depth + 1, target, rows, matches);
+			}
+		}
+	}
+
+	/**
+	 * Returns a read-only view of the word forms in sorted order.
+	 * 
+	 * @return Set of the word forms.
+	 */
+	SortedSet<String> getWordForms()
+	{
+		return new WordFormSet(null, null);
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the automaton.
+	 * 
+	 * @return Estimated number of bytes used by the automaton.
+	 */
+	long getEstimatedSize()
+	{
+		return SizeEstimates.getObjectSize(6, 4) +
+				SizeEstimates.getArraySize(states.length, 4) +
+				SizeEstimates.getArraySize(counts.length, 4) +
+				SizeEstimates.getArraySize(labels.length, 2) +
+				SizeEstimates.getArraySize(targets.length, 4) +
+				SizeEstimates.getArraySize(skips.length, 4) +
+				SizeEstimates.getArraySize(values.length, 4);
+	}
+
+	/**
+	 * Returns the first transition of a state whose character isn't less
+	 * than the specified one.
+	 * 
+	 * @param  state State whose transitions are searched.
+	 * @param  c Character to search for.
+	 * @return Index of the transition, which is the end of the state's
+	 *         transitions if all of them have smaller characters.
+	 */
+	private int findTransition(int state, char c)
+	{
+		int low = getStart(state);
+		int high = getEnd(state);
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (labels[middle] < c)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Returns the index of the first transition of a state.
+	 * 
+	 * @param  state Index of the state.
+	 * @return Index of its first transition.
+	 */
+	private int getStart(int state)
+	{
+		return states[state] >>> 1;
+	}
+
+	/**
+	 * Returns the index after the last transition of a state.
+	 * 
+	 * @param  state Index of the state.
+	 * @return Index after its last transition.
+	 */
+	private int getEnd(int state)
+	{
+		return states[state + 1] >>> 1;
+	}
+
+	/**
+	 * Indicates whether a word form ends at a state.
+	 * 
+	 * @param  state Index of the state.
+	 * @return <code>true</code> if the state is final.
+	 */
+	private boolean isFinal(int state)
+	{
+		return ((states[state] & 1) != 0);
+	}
+
+	/**
+	 * Read-only view of the word forms between two bounds, which are
+	 * retrieved from the automaton by rank as they're needed.
+	 */
+	private class WordFormSet extends AbstractSet<String>
+			implements SortedSet<String>
+	{
+
+		/**
+		 * Lowest word form in the set, or <code>null</code> if unbounded.
+		 */
+		private final String fromWordForm;
+
+		/**
+		 * Word form above the set, or <code>null</code> if unbounded.
+		 */
+		private final String toWordForm;
+
+		/**
+		 * Rank of the first word form in the set.
+		 */
+		private final int startRank;
+
+		/**
+		 * Rank after the last word form in the set.
+		 */
+		private final int endRank;
+
+		/**
+		 * Constructs a view of the word forms in a range.
+		 * 
+		 * @param  fromWordForm Lowest word form (inclusive), or
+		 *         <code>null</code> if there's no lower bound.
+		 * @param  toWordForm Highest word form (exclusive), or
+		 *         <code>null</code> if there's no upper bound.
+		 */
+		WordFormSet(String fromWordForm, String toWordForm)
+		{
+			this.fromWordForm = fromWordForm;
+			this.toWordForm = toWordForm;
+			startRank = (fromWordForm != null ? countBefore(fromWordForm) : 0);
+			endRank = Math.max(startRank,
+					(toWordForm != null ? countBefore(toWordForm) :
+					LemmaAutomaton.this.size()));
+		}
+
+		public Iterator<String> iterator()
+		{
+			return new Iterator<String>()
+			{
+				private int rank = startRank;
+
+				public boolean hasNext()
+				{
+					return (rank < endRank);
+				}
+
+				public String next()
+				{
+					if (rank >= endRank)
+					{
+						throw new NoSuchElementException();
+					}
+					return getWordForm(rank++);
+				}
+
+				public void remove()
+				{
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+
+		public int size()
+		{
+			return endRank - startRank;
+		}
+
+		public boolean contains(Object o)
+		{
+			if (!(o instanceof String))
+			{
+				return false;
+			}
+			int rank = rank((String)o);
+			return ((rank >= startRank) && (rank < endRank));
+		}
+
+		public Comparator<? super String> comparator()
+		{
+			return null;
+		}
+
+		public String first()
+		{
+			if (startRank == endRank)
+			{
+				throw new NoSuchElementException();
+			}
+			return getWordForm(startRank);
+		}
+
+		public String last()
+		{
+			if (startRank == endRank)
+			{
+				throw new NoSuchElementException();
+			}
+			return getWordForm(endRank - 1);
+		}
+
+		public SortedSet<String> subSet(String fromElement, String toElement)
+		{
+			if (fromElement.compareTo(toElement) > 0)
+			{
+				throw new IllegalArgumentException(
+						"fromElement > toElement");
+			}
+			return new WordFormSet(checkInRange(fromElement),
+					checkInRange(toElement));
+		}
+
+		public SortedSet<String> headSet(String toElement)
+		{
+			return new WordFormSet(fromWordForm, checkInRange(toElement));
+		}
+
+		public SortedSet<String> tailSet(String fromElement)
+		{
+			return new WordFormSet(checkInRange(fromElement), toWordForm);
+		}
+
+		/**
+		 * Checks that a bound is within the range of this set, which may
+		 * include the upper bound of this set itself.
+		 * 
+		 * @param  wordForm Bound to check.
+		 * @return The bound.
+		 * @throws IllegalArgumentException The bound is outside the range.
+		 */
+		private String checkInRange(String wordForm)
+		{
+			if (((fromWordForm != null) &&
+					(wordForm.compareTo(fromWordForm) < 0)) ||
+					((toWordForm != null) &&
+					(wordForm.compareTo(toWordForm) > 0)))
+			{
+				throw new IllegalArgumentException(
+						"Word form out of range: " + wordForm);
+			}
+			return wordForm;
+		}
+
+	}
+
+	/**
+	 * Builds an automaton from word forms that are added in sorted order.
+	 * <br><p>
+	 * The states along the path of the word form that was added last are
+	 * still being built; when a word form is added, the states of the
+	 * previous one that aren't shared with it can no longer change and are
+	 * replaced by an equivalent state that has already been built, if
+	 * there is one, or are otherwise numbered and added to the register
+	 * of built states.
+	 */
+	private static class Builder
+	{
+
+		/**
+		 * Built states, keyed by a signature of their final flag and
+		 * transitions.
+		 */
+		private final HashMap<String, Integer> register =
+				new HashMap<String, Integer>();
+
+		/**
+		 * Built states, in the order in which they were numbered.
+		 */
+		private final ArrayList<PendingState> built =
+				new ArrayList<PendingState>();
+
+		/**
+		 * States along the path of the last word form, starting with the
+		 * root.
+		 */
+		private final ArrayList<PendingState> path =
+				new ArrayList<PendingState>();
+
+		/**
+		 * Last word form that was added.
+		 */
+		private String previous = "";
+
+		/**
+		 * Reusable buffer for the signatures of states.
+		 */
+		private final StringBuilder signature = new StringBuilder();
+
+		/**
+		 * Constructs a builder that initially contains no word forms.
+		 */
+		Builder()
+		{
+			path.add(new PendingState());
+		}
+
+		/**
+		 * Adds a word form, which must be greater than the previous one.
+		 * 
+		 * @param  wordForm Word form to add.
+		 */
+		void add(String wordForm)
+		{
+			int prefix = 0;
+			int limit = Math.min(previous.length(), wordForm.length());
+			while ((prefix < limit) &&
+					(previous.charAt(prefix) == wordForm.charAt(prefix)))
+			{
+				prefix++;
+			}
+			freeze(prefix);
+			for (int i = prefix; i < wordForm.length(); i++)
+			{
+				PendingState state = new PendingState();
+				path.get(i).addTransition(wordForm.charAt(i));
+				path.add(state);
+			}
+			path.get(wordForm.length()).isFinal = true;
+			previous = wordForm;
+		}
+
+		/**
+		 * Registers the states along the path of the previous word form
+		 * beyond a particular depth, deepest first, and links each one to
+		 * its parent.
+		 * 
+		 * @param  depth Depth of the deepest state that's kept pending.
+		 */
+		private void freeze(int depth)
+		{
+			for (int i = path.size() - 1; i > depth; i--)
+			{
+				int state = register(path.remove(i));
+				path.get(i - 1).setLastTarget(state);
+			}
+		}
+
+		/**
+		 * Returns the number of an equivalent state that has already been
+		 * built, registering the state if there is none.
+		 * 
+		 * @param  state State whose transitions are all complete.
+		 * @return Number of the built state.
+		 */
+		private int register(PendingState state)
+		{
+			signature.setLength(0);
+			signature.append(state.isFinal ? 'F' : 'N');
+			for (int i = 0; i < state.size; i++)
+			{
+				signature.append(state.labels[i]);
+				signature.append((char)(state.targets[i] >>> 16));
+				signature.append((char)state.targets[i]);
+			}
+			String key = signature.toString();
+			Integer existing = register.get(key);
+			if (existing != null)
+			{
+				return existing.intValue();
+			}
+			int number = built.size();
+			built.add(state);
+			register.put(key, Integer.valueOf(number));
+			return number;
+		}
+
+		/**
+		 * Completes the automaton.
+		 * 
+		 * @param  values Value of each word form, by rank.
+		 * @return Automaton that contains the word forms that were added.
+		 */
+		LemmaAutomaton finish(int[] values)
+		{
+			freeze(0);
+			int root = register(path.remove(0));
+			int stateCount = built.size();
+			int transitionCount = 0;
+			for (PendingState state : built)
+			{
+				transitionCount += state.size;
+			}
+
+			//  States are numbered after their targets, so the counts can
+			//  be computed in a single pass
+			int[] states = new int[stateCount + 1];
+			int[] counts = new int[stateCount];
+			char[] labels = new char[transitionCount];
+			int[] targets = new int[transitionCount];
+			int[] skips = new int[transitionCount];
+			int transition = 0;
+			for (int i = 0; i < stateCount; i++)
+			{
+				PendingState state = built.get(i);
+				states[i] = (transition << 1) | (state.isFinal ? 1 : 0);
+				int count = (state.isFinal ? 1 : 0);
+				for (int j = 0; j < state.size; j++)
+				{
+					labels[transition] = state.labels[j];
+					targets[transition] = state.targets[j];
+					skips[transition] = count;
+					count += counts[state.targets[j]];
+					transition++;
+				}
+				counts[i] = count;
+			}
+			states[stateCount] = transition << 1;
+			if (counts[root] != values.length)
+			{
+				throw new IllegalArgumentException("Expected " +
+						counts[root] + " values but got " + values.length);
+			}
+			return new LemmaAutomaton(root, states, counts, labels, targets,
+					skips, values);
+		}
+
+	}
+
+	/**
+	 * State that's still being built.
+	 */
+	private static class PendingState
+	{
+
+		/**
+		 * Indicates whether a word form ends at this state.
+		 */
+		boolean isFinal;
+
+		/**
+		 * Characters of the transitions, in the order they were added.
+		 */
+		char[] labels = new char[2];
+
+		/**
+		 * Built states to which the transitions lead; the last transition
+		 * leads to a pending state until that state is built.
+		 */
+		int[] targets = new int[2];
+
+		/**
+		 * Number of transitions.
+		 */
+		int size;
+
+		/**
+		 * Adds a transition whose target is still pending.
+		 * 
+		 * @param  c Character of the transition.
+		 */
+		void addTransition(char c)
+		{
+			if (size == labels.length)
+			{
+				char[] newLabels = new char[size * 2];
+				System.arraycopy(labels, 0, newLabels, 0, size);
+				labels = newLabels;
+				int[] newTargets = new int[size * 2];
+				System.arraycopy(targets, 0, newTargets, 0, size);
+				targets = newTargets;
+			}
+			labels[size++] = c;
+		}
+
+		/**
+		 * Sets the target of the last transition once it has been built.
+		 * 
+		 * @param  state Number of the built state.
+		 */
+		void setLastTarget(int state)
+		{
+			targets[size - 1] = state;
+		}
+
+	}
+
+}
\ No newline at end of file
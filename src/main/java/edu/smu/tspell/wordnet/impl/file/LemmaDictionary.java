@@ -0,0 +1,665 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Assigns dense integer identifiers to the lemmas (word forms) that appear
+ * in the database and stores a single copy of the text of each one.
+ * <br><p>
+ * The same lemma occurs in many places: in the sense keys of the synsets
+ * and of the sense index entries, in the keys of the lexical relationships
+ * and in the map used to look up word forms. Rather than keeping a
+ * separate <code>String</code> for each occurrence, those structures refer
+ * to the lemma by its identifier and the text is retrieved from this
+ * dictionary when it's needed. Since the lemmas in the database are
+ * (almost) all Latin-1 text, the characters are packed into a single byte
+ * array with one byte per character; any lemma that contains a character
+ * outside of that range is kept as a <code>String</code> instead.
+ * <br><p>
+ * Identifiers are assigned in the order in which the lemmas are first
+ * seen and are never reused, so they're only meaningful within a single
+ * instance of the virtual machine.
+ * <br><p>
+ * Lemmas are read far more often than they're added, since every call to
+ * <code>Synset.getWordForms()</code> retrieves the text of the lemmas of
+ * the synset, so reads don't acquire any lock. The arrays in which the
+ * lemmas are stored are referenced by a {@link Storage} object that's
+ * published through a volatile field: a lemma is added by writing it
+ * beyond the part of the arrays that has been published and then
+ * publishing a new <code>Storage</code> that includes it, and arrays that
+ * are too small are copied rather than modified. A reader therefore only
+ * ever sees lemmas that were completely written. Additions are serialized
+ * by a {@link ReentrantLock} instead of a monitor, so virtual threads that
+ * contend for it don't pin their carrier threads.
+ * <br><p>
+ * Recently decoded lemmas are kept in a small cache so that repeated
+ * requests for the same lemma don't create a new <code>String</code> each
+ * time.
+ *
+ * @author Brett Spell
+ */
+public class LemmaDictionary
+{
+
+	/**
+	 * Value returned by {@link #findID(String)} for an unknown lemma.
+	 */
+	public final static int UNKNOWN = -1;
+
+	/**
+	 * Largest character value that can be stored in a single byte.
+	 */
+	private final static int MAX_PACKED_CHAR = 0xFF;
+
+	/**
+	 * Initial number of lemmas for which space is allocated.
+	 */
+	private final static int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Number of slots in the cache of decoded lemmas, which must be a power
+	 * of two.
+	 */
+	private final static int DECODED_CACHE_SIZE = 4096;
+
+	/**
+	 * Singleton instance of this class.
+	 */
+	private static final LemmaDictionary instance = new LemmaDictionary();
+
+	/**
+	 * Lemmas that have been published to readers.
+	 */
+	private volatile Storage storage = new Storage(
+			new byte[INITIAL_CAPACITY * 8], new int[INITIAL_CAPACITY + 1],
+			new int[INITIAL_CAPACITY], new int[INITIAL_CAPACITY * 2], 0, 0);
+
+	/**
+	 * Lemmas that can't be packed, keyed by identifier.
+	 */
+	private final ConcurrentHashMap<Integer, String> wideLemmas =
+			new ConcurrentHashMap<Integer, String>();
+
+	/**
+	 * Recently decoded lemmas, each of which is stored in the slot selected
+	 * by the low bits of its identifier.
+	 */
+	private final DecodedLemma[] decodedLemmas =
+			new DecodedLemma[DECODED_CACHE_SIZE];
+
+	/**
+	 * Held while a lemma is added to the dictionary.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Returns the dictionary shared by the file-based implementation.
+	 * 
+	 * @return Singleton instance of this class.
+	 */
+	public static LemmaDictionary getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * No-argument constructor.
+	 */
+	private LemmaDictionary()
+	{
+	}
+
+	/**
+	 * Returns the identifier of a lemma, adding the lemma to the dictionary
+	 * if it isn't already in it.
+	 * 
+	 * @param  lemma Lemma for which to return the identifier.
+	 * @return Identifier of the lemma.
+	 */
+	public int getID(String lemma)
+	{
+		int hashCode = lemma.hashCode();
+		int id = find(storage, lemma, hashCode);
+		if (id != UNKNOWN)
+		{
+			return id;
+		}
+		lock.lock();
+		try
+		{
+			//  Another thread may have added it since it was looked for
+			Storage current = storage;
+			int slot = findSlot(current, lemma, hashCode);
+			if (current.table[slot] != 0)
+			{
+				return current.table[slot] - 1;
+			}
+			id = current.size;
+			storage = add(current, lemma, hashCode, slot);
+			return id;
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the identifier of a lemma without adding it to the dictionary,
+	 * which is used when looking up a word form that may not be in the
+	 * database.
+	 * 
+	 * @param  lemma Lemma for which to return the identifier.
+	 * @return Identifier of the lemma or {@link #UNKNOWN} if it isn't in
+	 *         the dictionary.
+	 */
+	public int findID(String lemma)
+	{
+		return find(storage, lemma, lemma.hashCode());
+	}
+
+	/**
+	 * Returns the identifier of a lemma as a key for the maps that are
+	 * keyed by word form.
+	 * 
+	 * @param  lemma Lemma for which to return the key.
+	 * @param  shouldAdd Whether the lemma should be added to the dictionary
+	 *         if it isn't already in it.
+	 * @return Identifier of the lemma or <code>null</code> if it isn't in
+	 *         the dictionary and wasn't added.
+	 */
+	public Integer getKey(String lemma, boolean shouldAdd)
+	{
+		int id = (shouldAdd ? getID(lemma) : findID(lemma));
+		return (id != UNKNOWN ? Integer.valueOf(id) : null);
+	}
+
+	/**
+	 * Returns the text of the lemma that has the specified identifier.
+	 * 
+	 * @param  id Identifier of the lemma.
+	 * @return Text of the lemma.
+	 */
+	public String getLemma(int id)
+	{
+		int index = id & (DECODED_CACHE_SIZE - 1);
+		DecodedLemma decoded = decodedLemmas[index];
+		if ((decoded != null) && (decoded.id == id))
+		{
+			return decoded.text;
+		}
+		Storage current = storage;
+		String lemma = getWideLemma(current, id);
+		if (lemma == null)
+		{
+			int start = current.offsets[id];
+			int length = current.offsets[id + 1] - start;
+			char[] chars = new char[length];
+			for (int i = 0; i < length; i++)
+			{
+				chars[i] = (char)(current.text[start + i] & MAX_PACKED_CHAR);
+			}
+			lemma = new String(chars);
+		}
+		decodedLemmas[index] = new DecodedLemma(id, lemma);
+		return lemma;
+	}
+
+	/**
+	 * Compares the text of two lemmas lexicographically, giving the same
+	 * result as <code>String.compareTo()</code> would.
+	 * 
+	 * @param  id1 Identifier of the first lemma.
+	 * @param  id2 Identifier of the second lemma.
+	 * @return A negative, zero, or positive value if the first lemma is
+	 *         less than, equal to, or greater than the second one,
+	 *         respectively.
+	 */
+	public int compare(int id1, int id2)
+	{
+		if (id1 == id2)
+		{
+			return 0;
+		}
+		Storage current = storage;
+		if ((getWideLemma(current, id1) != null) ||
+				(getWideLemma(current, id2) != null))
+		{
+			return getLemma(id1).compareTo(getLemma(id2));
+		}
+		int start1 = current.offsets[id1];
+		int length1 = current.offsets[id1 + 1] - start1;
+		int start2 = current.offsets[id2];
+		int length2 = current.offsets[id2 + 1] - start2;
+		int length = Math.min(length1, length2);
+		for (int i = 0; i < length; i++)
+		{
+			int c1 = current.text[start1 + i] & MAX_PACKED_CHAR;
+			int c2 = current.text[start2 + i] & MAX_PACKED_CHAR;
+			if (c1 != c2)
+			{
+				return c1 - c2;
+			}
+		}
+		return length1 - length2;
+	}
+
+	/**
+	 * Indicates whether the text of a lemma is equal to a string, ignoring
+	 * case considerations in the same way as
+	 * <code>String.equalsIgnoreCase()</code>.
+	 * 
+	 * @param  id Identifier of the lemma.
+	 * @param  text Text to compare to the lemma.
+	 * @return <code>true</code> if the two are equal ignoring case.
+	 */
+	public boolean equalsIgnoreCase(int id, String text)
+	{
+		Storage current = storage;
+		String lemma = getWideLemma(current, id);
+		if (lemma != null)
+		{
+			return lemma.equalsIgnoreCase(text);
+		}
+		int start = current.offsets[id];
+		int length = current.offsets[id + 1] - start;
+		if (text.length() != length)
+		{
+			return false;
+		}
+		for (int i = 0; i < length; i++)
+		{
+			char c1 = (char)(current.text[start + i] & MAX_PACKED_CHAR);
+			char c2 = text.charAt(i);
+			if ((c1 != c2) &&
+					(Character.toUpperCase(c1) != Character.toUpperCase(c2)) &&
+					(Character.toLowerCase(c1) != Character.toLowerCase(c2)))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates whether the text of a lemma is equal to a string, which is
+	 * determined without creating a <code>String</code> for the lemma.
+	 *
+	 * @param  id Identifier of the lemma.
+	 * @param  text Text to compare to the lemma.
+	 * @return <code>true</code> if the two are equal.
+	 */
+	public boolean equals(int id, String text)
+	{
+		return matches(storage, id, text);
+	}
+
+	/**
+	 * Returns the number of lemmas in the dictionary.
+	 * 
+	 * @return Number of lemmas.
+	 */
+	public int size()
+	{
+		return storage.size;
+	}
+
+	/**
+	 * Returns the approximate number of bytes of memory used by the arrays
+	 * in which the lemmas are stored, which doesn't include any lemmas that
+	 * couldn't be packed.
+	 * 
+	 * @return Bytes of memory used by the dictionary.
+	 */
+	public long getStorageSize()
+	{
+		Storage current = storage;
+		return current.text.length + (4L * current.offsets.length) +
+				(4L * current.hashCodes.length) + (4L * current.table.length);
+	}
+
+	/**
+	 * Returns the identifier of a lemma that has been published.
+	 * 
+	 * @param  current Lemmas that have been published.
+	 * @param  lemma Lemma for which to return the identifier.
+	 * @param  hashCode Hash code of the lemma.
+	 * @return Identifier of the lemma or {@link #UNKNOWN} if it isn't in
+	 *         the dictionary.
+	 */
+	private int find(Storage current, String lemma, int hashCode)
+	{
+		//  The search may end at a lemma that was added after the ones
+		//  that were published
+		int id = current.table[findSlot(current, lemma, hashCode)] - 1;
+		return (id < current.size ? id : UNKNOWN);
+	}
+
+	/**
+	 * Returns the slot of the hash table that contains a lemma or, if the
+	 * lemma hasn't been published, the slot at which the search for it
+	 * ended, which is the unused slot in which it would be stored.
+	 * <br><p>
+	 * A slot that refers to a lemma added after <code>current</code> was
+	 * published is treated as unused. That lemma was stored in a slot that
+	 * was unused when every published lemma was added, so it can't be in
+	 * the path followed to reach any of them.
+	 * 
+	 * @param  current Lemmas that have been published.
+	 * @param  lemma Lemma for which to return the slot.
+	 * @param  hashCode Hash code of the lemma.
+	 * @return Index of the slot within the hash table.
+	 */
+	private int findSlot(Storage current, String lemma, int hashCode)
+	{
+		int[] table = current.table;
+		int mask = table.length - 1;
+		int slot = spread(hashCode) & mask;
+		int id;
+		while (((id = table[slot] - 1) >= 0) && (id < current.size))
+		{
+			if ((current.hashCodes[id] == hashCode) &&
+					(matches(current, id, lemma)))
+			{
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Indicates whether the text of a lemma is equal to a string.
+	 * 
+	 * @param  current Lemmas that have been published.
+	 * @param  id Identifier of the lemma.
+	 * @param  lemma Text to compare to the lemma.
+	 * @return <code>true</code> if the two are equal.
+	 */
+	private boolean matches(Storage current, int id, String lemma)
+	{
+		String wideLemma = getWideLemma(current, id);
+		if (wideLemma != null)
+		{
+			return wideLemma.equals(lemma);
+		}
+		int start = current.offsets[id];
+		int length = current.offsets[id + 1] - start;
+		if (lemma.length() != length)
+		{
+			return false;
+		}
+		for (int i = 0; i < length; i++)
+		{
+			if ((current.text[start + i] & MAX_PACKED_CHAR) != lemma.charAt(i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Stores the text of a new lemma, assigns it the next identifier and
+	 * returns the lemmas to publish. The lock must be held by the caller.
+	 * 
+	 * @param  current Lemmas that have been published.
+	 * @param  lemma Lemma to store.
+	 * @param  hashCode Hash code of the lemma.
+	 * @param  slot Unused slot of the hash table in which to store it.
+	 * @return Lemmas that have been published, along with the new one.
+	 */
+	private Storage add(Storage current, String lemma, int hashCode, int slot)
+	{
+		int id = current.size;
+		byte[] text = current.text;
+		int textLength = current.textLength;
+		int[] offsets = current.offsets;
+		int[] hashCodes = current.hashCodes;
+		int[] table = current.table;
+		if (id + 1 >= offsets.length)
+		{
+			offsets = grow(offsets, offsets.length * 2);
+			hashCodes = grow(hashCodes, offsets.length);
+		}
+		int length = lemma.length();
+		if (isPackable(lemma))
+		{
+			if (textLength + length > text.length)
+			{
+				byte[] newText = new byte[Math.max(
+						text.length * 2, textLength + length)];
+				System.arraycopy(text, 0, newText, 0, textLength);
+				text = newText;
+			}
+			for (int i = 0; i < length; i++)
+			{
+				text[textLength++] = (byte)lemma.charAt(i);
+			}
+		}
+		else
+		{
+			wideLemmas.put(Integer.valueOf(id), lemma);
+		}
+		hashCodes[id] = hashCode;
+		offsets[id + 1] = textLength;
+		int size = id + 1;
+		if (size * 2 > table.length)
+		{
+			table = rehash(hashCodes, size, table.length * 2);
+		}
+		else
+		{
+			table[slot] = id + 1;
+		}
+		return new Storage(text, offsets, hashCodes, table, size, textLength);
+	}
+
+	/**
+	 * Creates a larger hash table and inserts all the lemmas into it.
+	 * 
+	 * @param  hashCodes Hash code of each lemma.
+	 * @param  size Number of lemmas.
+	 * @param  length Length of the new hash table.
+	 * @return New hash table.
+	 */
+	private static int[] rehash(int[] hashCodes, int size, int length)
+	{
+		int[] table = new int[length];
+		int mask = length - 1;
+		for (int id = 0; id < size; id++)
+		{
+			int slot = spread(hashCodes[id]) & mask;
+			while (table[slot] != 0)
+			{
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = id + 1;
+		}
+		return table;
+	}
+
+	/**
+	 * Returns a lemma that couldn't be packed.
+	 * 
+	 * @param  current Lemmas that have been published.
+	 * @param  id Identifier of the lemma.
+	 * @return Text of the lemma or <code>null</code> if the lemma is packed.
+	 */
+	private String getWideLemma(Storage current, int id)
+	{
+		//  A lemma that can't be packed takes no space in the text
+		if (current.offsets[id] != current.offsets[id + 1])
+		{
+			return null;
+		}
+		return wideLemmas.get(Integer.valueOf(id));
+	}
+
+	/**
+	 * Indicates whether every character of a lemma fits in a single byte.
+	 * 
+	 * @param  lemma Lemma to check.
+	 * @return <code>true</code> if the lemma can be packed.
+	 */
+	private static boolean isPackable(String lemma)
+	{
+		for (int i = lemma.length() - 1; i >= 0; i--)
+		{
+			if (lemma.charAt(i) > MAX_PACKED_CHAR)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Mixes the bits of a hash code so that similar strings are spread
+	 * across the hash table.
+	 * 
+	 * @param  hashCode Hash code to mix.
+	 * @return Mixed hash code.
+	 */
+	private static int spread(int hashCode)
+	{
+		int h = hashCode * 0x9E3779B9;
+		return h ^ (h >>> 16);
+	}
+
+	/**
+	 * Returns a copy of an array with a larger length.
+	 * 
+	 * @param  array Array to copy.
+	 * @param  length Length of the new array.
+	 * @return New array that contains the elements of the old one.
+	 */
+	private static int[] grow(int[] array, int length)
+	{
+		int[] newArray = new int[length];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+	/**
+	 * Arrays in which the lemmas are stored, along with the number of
+	 * lemmas that have been published. The parts of the arrays that
+	 * describe those lemmas are never modified; a new lemma is written after
+	 * them, into the same arrays unless they're too small.
+	 */
+	private static class Storage
+	{
+
+		/**
+		 * Characters of all the packed lemmas, one byte per character.
+		 */
+		private final byte[] text;
+
+		/**
+		 * Position in <code>text</code> at which each lemma starts, indexed
+		 * by identifier; the entry after the last lemma is its end.
+		 */
+		private final int[] offsets;
+
+		/**
+		 * Hash code of each lemma, indexed by identifier.
+		 */
+		private final int[] hashCodes;
+
+		/**
+		 * Open addressing hash table that contains the identifier plus one
+		 * of each lemma, or zero for an unused slot. Its length is always a
+		 * power of two.
+		 */
+		private final int[] table;
+
+		/**
+		 * Number of lemmas that have been published.
+		 */
+		private final int size;
+
+		/**
+		 * Number of bytes of <code>text</code> that are in use.
+		 */
+		private final int textLength;
+
+		/**
+		 * Constructor that accepts the arrays and the number of lemmas.
+		 * 
+		 * @param  text Characters of the packed lemmas.
+		 * @param  offsets Position at which each lemma starts.
+		 * @param  hashCodes Hash code of each lemma.
+		 * @param  table Hash table of the identifiers.
+		 * @param  size Number of lemmas.
+		 * @param  textLength Number of bytes of the text in use.
+		 */
+		private Storage(byte[] text, int[] offsets, int[] hashCodes,
+				int[] table, int size, int textLength)
+		{
+			this.text = text;
+			this.offsets = offsets;
+			this.hashCodes = hashCodes;
+			this.table = table;
+			this.size = size;
+			this.textLength = textLength;
+		}
+
+	}
+
+	/**
+	 * Lemma that has been decoded from the packed text, along with its
+	 * identifier.
+	 */
+	private static class DecodedLemma
+	{
+
+		/**
+		 * Identifier of the lemma.
+		 */
+		private final int id;
+
+		/**
+		 * Text of the lemma.
+		 */
+		private final String text;
+
+		/**
+		 * Constructor that accepts the identifier and text of the lemma.
+		 * 
+		 * @param  id Identifier of the lemma.
+		 * @param  text Text of the lemma.
+		 */
+		private DecodedLemma(int id, String text)
+		{
+			this.id = id;
+			this.text = text;
+		}
+
+	}
+
+}
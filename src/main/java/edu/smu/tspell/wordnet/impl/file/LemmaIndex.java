@@ -0,0 +1,696 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Immutable index that maps each word form in the database to the synsets
+ * that contain it, grouped by type, through a minimal perfect hash function.
+ * <br><p>
+ * The hash function is built with the "hash, displace and compress"
+ * algorithm: the word forms are divided among buckets by one part of their
+ * hash code and each bucket, largest first, is assigned the smallest
+ * displacement that places all of its word forms in distinct slots that
+ * haven't been used by an earlier bucket. There are exactly as many slots
+ * as word forms, so a lookup computes the hash code of the word form once,
+ * reads the displacement of its bucket and goes straight to the slot
+ * without any probing.
+ * <br><p>
+ * Each slot is a fixed-size record within a single array, which holds a
+ * fingerprint of the word form's hash code, the identifier of the word form
+ * in the {@link LemmaDictionary} and the boundaries of its synsets of each
+ * type within a shared array of synsets, so that reading a record touches
+ * a single cache line. A word form that isn't in the database also maps to
+ * some slot; it's rejected by the fingerprint or, in the unlikely event
+ * that the fingerprints match, by comparing it to the text of the word form
+ * in the slot.
+ * <br><p>
+ * Since the hash function depends only on the text of the word forms, an
+ * index can be written to a snapshot and read back when the snapshot is
+ * loaded rather than being built again.
+ *
+ * @author Brett Spell
+ * @see    WordFormLookup
+ */
+final class LemmaIndex
+{
+
+	/**
+	 * Average number of word forms in each bucket.
+	 */
+	private final static int AVERAGE_BUCKET_SIZE = 4;
+
+	/**
+	 * Number of displacements tried for a bucket before the hash function
+	 * is rebuilt with a different seed.
+	 */
+	private final static int MAX_DISPLACEMENT = 1 << 24;
+
+	/**
+	 * Number of different types of synset, whose codes are consecutive
+	 * starting at one.
+	 */
+	private final static int TYPE_COUNT = SynsetType.ALL_TYPES.length;
+
+	/**
+	 * Position of the fingerprint within a record.
+	 */
+	private final static int FINGERPRINT = 0;
+
+	/**
+	 * Position of the lemma identifier within a record.
+	 */
+	private final static int LEMMA_ID = 1;
+
+	/**
+	 * Position within a record of the start of the synsets of the first
+	 * type, which is followed by the start of those of each other type and
+	 * then by the end of the synsets of the last type.
+	 */
+	private final static int FIRST_BOUNDARY = 2;
+
+	/**
+	 * Number of values in each record.
+	 */
+	private final static int RECORD_SIZE = FIRST_BOUNDARY + TYPE_COUNT + 1;
+
+	/**
+	 * Prime used by the FNV-1a hash function.
+	 */
+	private final static long FNV_PRIME = 0x100000001B3L;
+
+	/**
+	 * Initial value used by the FNV-1a hash function.
+	 */
+	private final static long FNV_BASIS = 0xCBF29CE484222325L;
+
+	/**
+	 * Multiplier used to spread the seeds and displacements.
+	 */
+	private final static long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+	/**
+	 * Returned for a word form that has no synsets of a type.
+	 */
+	private final static Synset[] NO_SYNSETS = new Synset[0];
+
+	/**
+	 * Value from which the hash code of each word form is computed.
+	 */
+	private final long seed;
+
+	/**
+	 * Displacement of each bucket.
+	 */
+	private final int[] displacements;
+
+	/**
+	 * Record of each slot, which uses {@link #RECORD_SIZE} values.
+	 */
+	private final int[] records;
+
+	/**
+	 * Synsets of all the word forms, in slot order and then in type order.
+	 */
+	private final Synset[] synsets;
+
+	/**
+	 * Constructs an index from the structures that were built for it.
+	 * 
+	 * @param  seed Value from which the hash codes are computed.
+	 * @param  displacements Displacement of each bucket.
+	 * @param  records Record of each slot.
+	 * @param  synsets Synsets to which the records refer.
+	 */
+	private LemmaIndex(long seed, int[] displacements, int[] records,
+			Synset[] synsets)
+	{
+		this.seed = seed;
+		this.displacements = displacements;
+		this.records = records;
+		this.synsets = synsets;
+	}
+
+	/**
+	 * Builds an index over the synsets that have been loaded for each word
+	 * form. The synsets of each type are kept in the order in which they
+	 * appear in the map, with any duplicates removed.
+	 * 
+	 * @param  wordCategories Synsets of each word form, keyed by lemma
+	 *         identifier and then by synset type.
+	 * @return Index of the synsets.
+	 */
+	static LemmaIndex build(
+			Map<Integer, TreeMap<SynsetType, ArrayList<Synset>>> wordCategories)
+	{
+		int count = wordCategories.size();
+		int[] lemmaIDs = new int[count];
+		@SuppressWarnings("unchecked")
+		TreeMap<SynsetType, ArrayList<Synset>>[] categories =
+				new TreeMap[count];
+		int i = 0;
+		for (Map.Entry<Integer, TreeMap<SynsetType, ArrayList<Synset>>> entry :
+				wordCategories.entrySet())
+		{
+			lemmaIDs[i] = entry.getKey().intValue();
+			categories[i] = entry.getValue();
+			i++;
+		}
+
+		//  Text of each word form, which is only needed while building
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		String[] lemmas = new String[count];
+		for (i = 0; i < count; i++)
+		{
+			lemmas[i] = dictionary.getLemma(lemmaIDs[i]);
+		}
+		return build(lemmas, lemmaIDs, categories);
+	}
+
+	/**
+	 * Builds an index over the synsets of a set of word forms whose text is
+	 * known. The identifiers that the records hold don't have to be those of
+	 * the lemma dictionary, which allows {@link SnapshotWriter} to build an
+	 * index that refers to the lemmas by their position in the snapshot.
+	 * 
+	 * @param  lemmas Text of each word form.
+	 * @param  lemmaIDs Identifier to store for each word form.
+	 * @param  categories Synsets of each word form, keyed by synset type.
+	 * @return Index of the synsets.
+	 */
+	static LemmaIndex build(String[] lemmas, int[] lemmaIDs,
+			TreeMap<SynsetType, ArrayList<Synset>>[] categories)
+	{
+		int count = lemmas.length;
+		int synsetCount = 0;
+		for (int i = 0; i < count; i++)
+		{
+			for (ArrayList<Synset> categoryList : categories[i].values())
+			{
+				synsetCount += categoryList.size();
+			}
+		}
+
+		int bucketCount = Math.max(1, count / AVERAGE_BUCKET_SIZE);
+		long[] hashCodes = new long[count];
+		int[] displacements = new int[bucketCount];
+		int[] slots = new int[count];
+		long seed = 0;
+		while (!assignSlots(lemmas, seed, hashCodes, displacements, slots))
+		{
+			seed++;
+		}
+
+		//  Store the records and synsets in slot order
+		int[] keys = new int[count];
+		for (int i = 0; i < count; i++)
+		{
+			keys[slots[i]] = i;
+		}
+		int[] records = new int[count * RECORD_SIZE];
+		ArrayList<Synset> synsetList = new ArrayList<Synset>(synsetCount);
+		for (int slot = 0; slot < count; slot++)
+		{
+			int key = keys[slot];
+			int record = slot * RECORD_SIZE;
+			records[record + FINGERPRINT] = getFingerprint(hashCodes[key]);
+			records[record + LEMMA_ID] = lemmaIDs[key];
+			for (int j = 0; j < TYPE_COUNT; j++)
+			{
+				records[record + FIRST_BOUNDARY + j] = synsetList.size();
+				ArrayList<Synset> categoryList =
+						categories[key].get(SynsetType.ALL_TYPES[j]);
+				if (categoryList != null)
+				{
+					int start = synsetList.size();
+					for (Synset synset : categoryList)
+					{
+						if (synsetList.subList(start, synsetList.size()).indexOf(
+								synset) < 0)
+						{
+							synsetList.add(synset);
+						}
+					}
+				}
+			}
+			records[record + FIRST_BOUNDARY + TYPE_COUNT] = synsetList.size();
+		}
+		return new LemmaIndex(seed, displacements, records,
+				synsetList.toArray(new Synset[synsetList.size()]));
+	}
+
+	/**
+	 * Tries to build a minimal perfect hash function for a set of word
+	 * forms with a particular seed, which fails only if two of them have
+	 * the same hash code or a bucket can't be placed.
+	 * 
+	 * @param  lemmas Word forms for which to build the function.
+	 * @param  seed Value from which the hash codes are computed.
+	 * @param  hashCodes Receives the hash code of each word form.
+	 * @param  displacements Receives the displacement of each bucket.
+	 * @param  slots Receives the slot assigned to each word form.
+	 * @return <code>true</code> if a slot was assigned to every word form.
+	 */
+	private static boolean assignSlots(String[] lemmas, long seed,
+			long[] hashCodes, int[] displacements, int[] slots)
+	{
+		int count = lemmas.length;
+		int bucketCount = displacements.length;
+
+		//  Group the word forms by bucket, with the members of each bucket
+		//  stored consecutively
+		int[] bucketStarts = new int[bucketCount + 1];
+		for (int i = 0; i < count; i++)
+		{
+			hashCodes[i] = hash(lemmas[i], seed);
+			bucketStarts[getBucket(hashCodes[i], bucketCount) + 1]++;
+		}
+		int largest = 0;
+		for (int i = 0; i < bucketCount; i++)
+		{
+			largest = Math.max(largest, bucketStarts[i + 1]);
+			bucketStarts[i + 1] += bucketStarts[i];
+		}
+		int[] members = new int[count];
+		int[] filled = new int[bucketCount];
+		for (int i = 0; i < count; i++)
+		{
+			int bucket = getBucket(hashCodes[i], bucketCount);
+			members[bucketStarts[bucket] + filled[bucket]++] = i;
+		}
+
+		//  Place the buckets from largest to smallest, since the large
+		//  ones are the hardest to place once the slots start to fill up
+		boolean[] used = new boolean[count];
+		int[] placed = new int[largest];
+		for (int size = largest; size > 0; size--)
+		{
+			for (int bucket = 0; bucket < bucketCount; bucket++)
+			{
+				int start = bucketStarts[bucket];
+				if (bucketStarts[bucket + 1] - start != size)
+				{
+					continue;
+				}
+				int displacement = 0;
+				while (!tryPlacement(hashCodes, members, start, size,
+						displacement, used, placed))
+				{
+					if (++displacement == MAX_DISPLACEMENT)
+					{
+						return false;
+					}
+				}
+				displacements[bucket] = displacement;
+				for (int i = 0; i < size; i++)
+				{
+					used[placed[i]] = true;
+					slots[members[start + i]] = placed[i];
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determines whether a displacement places all of the word forms in a
+	 * bucket in distinct slots that are still unused.
+	 * 
+	 * @param  hashCodes Hash code of each word form.
+	 * @param  members Word forms grouped by bucket.
+	 * @param  start Position in <code>members</code> of the first word form
+	 *         of the bucket.
+	 * @param  size Number of word forms in the bucket.
+	 * @param  displacement Displacement to try.
+	 * @param  used Indicates which slots are already used.
+	 * @param  placed Receives the slot of each word form in the bucket.
+	 * @return <code>true</code> if the displacement can be used.
+	 */
+	private static boolean tryPlacement(long[] hashCodes, int[] members,
+			int start, int size, int displacement, boolean[] used, int[] placed)
+	{
+		for (int i = 0; i < size; i++)
+		{
+			int slot = getSlot(hashCodes[members[start + i]], displacement,
+					used.length);
+			if (used[slot])
+			{
+				return false;
+			}
+			for (int j = 0; j < i; j++)
+			{
+				if (placed[j] == slot)
+				{
+					return false;
+				}
+			}
+			placed[i] = slot;
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the hash code of a word form, which is the FNV-1a hash of its
+	 * characters followed by the finalization step of MurmurHash3.
+	 * 
+	 * @param  text Word form for which to compute the hash code.
+	 * @param  seed Value from which the hash code is computed.
+	 * @return Hash code of the word form.
+	 */
+	private static long hash(String text, long seed)
+	{
+		long hashCode = FNV_BASIS ^ (seed * GOLDEN_RATIO);
+		int length = text.length();
+		for (int i = 0; i < length; i++)
+		{
+			hashCode = (hashCode ^ text.charAt(i)) * FNV_PRIME;
+		}
+		return mix(hashCode);
+	}
+
+	/**
+	 * Scrambles the bits of a value so that each bit of the result depends
+	 * on every bit of the value.
+	 * 
+	 * @param  value Value to scramble.
+	 * @return Scrambled value.
+	 */
+	private static long mix(long value)
+	{
+		value ^= value >>> 33;
+		value *= 0xFF51AFD7ED558CCDL;
+		value ^= value >>> 33;
+		value *= 0xC4CEB9FE1A85EC53L;
+		value ^= value >>> 33;
+		return value;
+	}
+
+	/**
+	 * Returns the bucket to which a hash code belongs, which is given by
+	 * its upper bits.
+	 * 
+	 * @param  hashCode Hash code of a word form.
+	 * @param  bucketCount Number of buckets.
+	 * @return Bucket of the word form.
+	 */
+	private static int getBucket(long hashCode, int bucketCount)
+	{
+		return (int)((hashCode >>> 32) % bucketCount);
+	}
+
+	/**
+	 * Returns the slot to which a displacement moves a hash code.
+	 * 
+	 * @param  hashCode Hash code of a word form.
+	 * @param  displacement Displacement of the word form's bucket.
+	 * @param  slotCount Number of slots.
+	 * @return Slot of the word form.
+	 */
+	private static int getSlot(long hashCode, int displacement, int slotCount)
+	{
+		return (int)((mix(hashCode + displacement * GOLDEN_RATIO) >>> 1) %
+				slotCount);
+	}
+
+	/**
+	 * Returns the fingerprint of a hash code, which is given by its lower
+	 * bits so that it's independent of the bucket.
+	 * 
+	 * @param  hashCode Hash code of a word form.
+	 * @return Fingerprint of the word form.
+	 */
+	private static int getFingerprint(long hashCode)
+	{
+		return (int)hashCode;
+	}
+
+	/**
+	 * Returns the slot that contains a word form.
+	 * 
+	 * @param  wordForm Word form to look up.
+	 * @return Slot of the word form or <code>-1</code> if it isn't in the
+	 *         index.
+	 */
+	int find(String wordForm)
+	{
+		int slotCount = size();
+		if (slotCount == 0)
+		{
+			return -1;
+		}
+		long hashCode = hash(wordForm, seed);
+		int slot = getSlot(hashCode, displacements[getBucket(hashCode,
+				displacements.length)], slotCount);
+		int record = slot * RECORD_SIZE;
+		if ((records[record + FINGERPRINT] != getFingerprint(hashCode)) ||
+				(!LemmaDictionary.getInstance().equals(
+				records[record + LEMMA_ID], wordForm)))
+		{
+			return -1;
+		}
+		return slot;
+	}
+
+	/**
+	 * Returns the synsets of a particular type that contain a word form.
+	 * 
+	 * @param  wordForm Word form for which to return the synsets.
+	 * @param  type Type of synsets to return.
+	 * @return Synsets of the word form, which may be an empty array.
+	 */
+	Synset[] getSynsets(String wordForm, SynsetType type)
+	{
+		int slot = find(wordForm);
+		if (slot < 0)
+		{
+			return NO_SYNSETS;
+		}
+		int boundary = slot * RECORD_SIZE + FIRST_BOUNDARY + type.getCode() - 1;
+		int start = records[boundary];
+		int length = records[boundary + 1] - start;
+		if (length == 0)
+		{
+			return NO_SYNSETS;
+		}
+		Synset[] result = new Synset[length];
+		System.arraycopy(synsets, start, result, 0, length);
+		return result;
+	}
+
+	/**
+	 * Adds the synsets of a particular type that contain a word form to a
+	 * list, skipping any that it already contains. Unlike
+	 * {@link #getSynsets(String, SynsetType)}, this doesn't allocate anything
+	 * unless the list has to grow.
+	 * 
+	 * @param  wordForm Word form for which to add the synsets.
+	 * @param  type Type of synsets to add.
+	 * @param  synsetList List to which the synsets are added.
+	 */
+	void addSynsets(String wordForm, SynsetType type, List<Synset> synsetList)
+	{
+		int slot = find(wordForm);
+		if (slot >= 0)
+		{
+			int boundary = slot * RECORD_SIZE + FIRST_BOUNDARY + type.getCode() - 1;
+			int end = records[boundary + 1];
+			for (int i = records[boundary]; i < end; i++)
+			{
+				if (!synsetList.contains(synsets[i]))
+				{
+					synsetList.add(synsets[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the synsets that contain a word form, grouped by type.
+	 * 
+	 * @param  slot Slot of the word form.
+	 * @return Synsets of each type that the word form has.
+	 */
+	TreeMap<SynsetType, ArrayList<Synset>> getCategories(int slot)
+	{
+		TreeMap<SynsetType, ArrayList<Synset>> categories =
+				new TreeMap<SynsetType, ArrayList<Synset>>();
+		int record = slot * RECORD_SIZE;
+		for (int i = 0; i < TYPE_COUNT; i++)
+		{
+			int start = records[record + FIRST_BOUNDARY + i];
+			int end = records[record + FIRST_BOUNDARY + i + 1];
+			if (end > start)
+			{
+				ArrayList<Synset> categoryList = new ArrayList<Synset>(end - start);
+				for (int j = start; j < end; j++)
+				{
+					categoryList.add(synsets[j]);
+				}
+				categories.put(SynsetType.ALL_TYPES[i], categoryList);
+			}
+		}
+		return categories;
+	}
+
+	/**
+	 * Returns the identifier in the lemma dictionary of the word form in
+	 * a slot.
+	 * 
+	 * @param  slot Slot of the word form.
+	 * @return Identifier of the word form.
+	 */
+	int getLemmaID(int slot)
+	{
+		return records[slot * RECORD_SIZE + LEMMA_ID];
+	}
+
+	/**
+	 * Returns the number of word forms in the index, which is also the
+	 * number of slots.
+	 * 
+	 * @return Number of word forms.
+	 */
+	int size()
+	{
+		return records.length / RECORD_SIZE;
+	}
+
+	/**
+	 * Reads an index that was written by {@link #write(DataOutput, Map)}.
+	 * 
+	 * @param  input Input from which to read the index.
+	 * @param  lemmaIDs Identifier in the lemma dictionary of each word form,
+	 *         in the order of the identifiers that were written.
+	 * @param  synsetsByOrdinal Synsets, in the order of the ordinals that
+	 *         were written.
+	 * @return Index that was read.
+	 * @throws IOException An error occurred reading the index or it doesn't
+	 *         match the word forms or synsets.
+	 */
+	static LemmaIndex read(DataInput input, int[] lemmaIDs,
+			Synset[] synsetsByOrdinal) throws IOException
+	{
+		long seed = input.readLong();
+		int[] displacements = new int[input.readInt()];
+		for (int i = 0; i < displacements.length; i++)
+		{
+			displacements[i] = input.readInt();
+		}
+		int count = input.readInt();
+		if (count != lemmaIDs.length)
+		{
+			throw new IOException("Lemma index doesn't match the lemmas");
+		}
+		int[] records = new int[count * RECORD_SIZE];
+		for (int i = 0; i < records.length; i++)
+		{
+			records[i] = input.readInt();
+		}
+		Synset[] synsets = new Synset[input.readInt()];
+		for (int i = 0; i < synsets.length; i++)
+		{
+			int ordinal = input.readInt();
+			if ((ordinal < 0) || (ordinal >= synsetsByOrdinal.length))
+			{
+				throw new IOException("Lemma index doesn't match the synsets");
+			}
+			synsets[i] = synsetsByOrdinal[ordinal];
+		}
+		for (int record = 0; record < records.length; record += RECORD_SIZE)
+		{
+			int position = records[record + LEMMA_ID];
+			if ((position < 0) || (position >= count) ||
+					(records[record + FIRST_BOUNDARY + TYPE_COUNT] >
+					synsets.length))
+			{
+				throw new IOException("Lemma index doesn't match the lemmas");
+			}
+			records[record + LEMMA_ID] = lemmaIDs[position];
+		}
+		return new LemmaIndex(seed, displacements, records, synsets);
+	}
+
+	/**
+	 * Writes the index, with each synset replaced by its ordinal.
+	 * 
+	 * @param  output Output to which the index is written.
+	 * @param  ordinals Ordinal of each synset in the index.
+	 * @throws IOException An error occurred writing the index or one of its
+	 *         synsets has no ordinal.
+	 */
+	void write(DataOutput output, Map<Synset, Integer> ordinals)
+			throws IOException
+	{
+		output.writeLong(seed);
+		output.writeInt(displacements.length);
+		for (int i = 0; i < displacements.length; i++)
+		{
+			output.writeInt(displacements[i]);
+		}
+		output.writeInt(size());
+		for (int i = 0; i < records.length; i++)
+		{
+			output.writeInt(records[i]);
+		}
+		output.writeInt(synsets.length);
+		for (int i = 0; i < synsets.length; i++)
+		{
+			Integer ordinal = ordinals.get(synsets[i]);
+			if (ordinal == null)
+			{
+				throw new IOException("Synset '" + synsets[i] +
+						"' has no ordinal");
+			}
+			output.writeInt(ordinal.intValue());
+		}
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the index, not
+	 * including the synsets themselves.
+	 * 
+	 * @return Estimated number of bytes used by the index.
+	 */
+	long getEstimatedSize()
+	{
+		return SizeEstimates.getObjectSize(3, 8) +
+				SizeEstimates.getArraySize(displacements.length, 4) +
+				SizeEstimates.getArraySize(records.length, 4) +
+				SizeEstimates.getArraySize(synsets.length,
+				SizeEstimates.REFERENCE_SIZE);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,357 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.StringTokenizer;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.LineIterator;
+
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetException;
+
+/**
+ * Identifies the part of the database that's loaded into memory by the
+ * file-based implementation.
+ * <br><p>
+ * A profile can be limited to certain synset types (e.g., nouns) and / or
+ * to certain lexicographer files (e.g., <code>noun.person</code>), which
+ * are specified by the <code>wordnet.database.profile.types</code> and
+ * <code>wordnet.database.profile.lexicalFiles</code> properties as comma
+ * separated lists. Types can be specified by name (<code>noun</code>,
+ * <code>verb</code>, <code>adjective</code> or <code>adverb</code>) or by
+ * part of speech code, and lexicographer files by the names listed in the
+ * database's <code>lexnames</code> file or by number. Adjectives always
+ * include adjective satellites since both are stored in the same file.
+ * When lexicographer files are specified but types aren't, the types are
+ * those of the lexicographer files.
+ * <br><p>
+ * Only the sense index entries and synsets within the profile are loaded.
+ * A relationship whose target is outside the profile is left unresolved
+ * and the target is read from the data file the first time that the
+ * relationship is retrieved.
+ *
+ * @author Brett Spell
+ */
+public class LoadProfile
+{
+
+	/**
+	 * Name of the file that lists the lexicographer files.
+	 */
+	private final static String LEXICAL_FILE_NAMES = "lexnames";
+
+	/**
+	 * Separates the entries in the property values.
+	 */
+	private final static String LIST_DELIMITER = ",";
+
+	/**
+	 * Separates the fields of the lines in the lexicographer file list.
+	 */
+	private final static String FIELD_DELIMITER = " \t";
+
+	/**
+	 * Maps the names of the synset types to the types.
+	 */
+	private final static HashMap<String, SynsetType> TYPE_NAMES =
+			new HashMap<String, SynsetType>();
+
+	static
+	{
+		TYPE_NAMES.put("noun", SynsetType.NOUN);
+		TYPE_NAMES.put("verb", SynsetType.VERB);
+		TYPE_NAMES.put("adjective", SynsetType.ADJECTIVE);
+		TYPE_NAMES.put("adverb", SynsetType.ADVERB);
+	}
+
+	/**
+	 * Profile defined by the properties file.
+	 */
+	private static final LoadProfile instance = new LoadProfile(
+			PropertyNames.profileTypes, PropertyNames.profileLexicalFiles);
+
+	/**
+	 * Indicates which synset types are included, indexed by type code;
+	 * <code>null</code> if all of them are.
+	 */
+	private boolean[] types;
+
+	/**
+	 * Indicates which lexicographer files are included, indexed by file
+	 * number; <code>null</code> if all of them are.
+	 */
+	private boolean[] lexicalFiles;
+
+	/**
+	 * Returns the profile defined by the properties file.
+	 * 
+	 * @return Profile that determines which part of the database is loaded.
+	 */
+	public static LoadProfile getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * Constructs a profile from lists of synset types and lexicographer
+	 * files, either of which may be empty to include all of them.
+	 * 
+	 * @param  typeList Comma separated list of synset types.
+	 * @param  lexicalFileList Comma separated list of lexicographer files.
+	 * @throws WordNetException A type or lexicographer file isn't valid or
+	 *         the list of lexicographer files couldn't be read.
+	 */
+	public LoadProfile(String typeList, String lexicalFileList)
+	{
+		List<String> typeNames = split(typeList);
+		List<String> lexicalFileNames = split(lexicalFileList);
+		if (!typeNames.isEmpty())
+		{
+			types = new boolean[SynsetType.ALL_TYPES.length + 1];
+			for (String name : typeNames)
+			{
+				include(getType(name));
+			}
+		}
+		if (!lexicalFileNames.isEmpty())
+		{
+			HashMap<String, Integer> numbers = new HashMap<String, Integer>();
+			HashMap<Integer, SynsetType> fileTypes =
+					new HashMap<Integer, SynsetType>();
+			readLexicalFileNames(numbers, fileTypes);
+			boolean[] fileTypesIncluded =
+					new boolean[SynsetType.ALL_TYPES.length + 1];
+			lexicalFiles = new boolean[fileTypes.size()];
+			for (String name : lexicalFileNames)
+			{
+				Integer number = numbers.get(name);
+				if (number == null)
+				{
+					try
+					{
+						number = Integer.valueOf(name);
+					}
+					catch (NumberFormatException e)
+					{
+						number = null;
+					}
+				}
+				if ((number == null) || (number.intValue() < 0) ||
+						(number.intValue() >= lexicalFiles.length))
+				{
+					throw new WordNetException(
+							"Unknown lexicographer file: " + name);
+				}
+				lexicalFiles[number.intValue()] = true;
+				SynsetType type = fileTypes.get(number);
+				fileTypesIncluded[type.getCode()] = true;
+				if (type == SynsetType.ADJECTIVE)
+				{
+					fileTypesIncluded[
+							SynsetType.ADJECTIVE_SATELLITE.getCode()] = true;
+				}
+			}
+			if (types == null)
+			{
+				types = fileTypesIncluded;
+			}
+		}
+	}
+
+	/**
+	 * Splits a comma separated list into its (trimmed) entries.
+	 * 
+	 * @param  list List to split.
+	 * @return Entries in the list.
+	 */
+	private static List<String> split(String list)
+	{
+		List<String> entries = new ArrayList<String>();
+		StringTokenizer tokenizer = new StringTokenizer(list, LIST_DELIMITER);
+		while (tokenizer.hasMoreTokens())
+		{
+			String entry = tokenizer.nextToken().trim();
+			if (entry.length() > 0)
+			{
+				entries.add(entry);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Returns the synset type identified by a name or part of speech code.
+	 * 
+	 * @param  name Name or part of speech code of the type.
+	 * @return Type identified by the name.
+	 * @throws WordNetException The name doesn't identify a type.
+	 */
+	private static SynsetType getType(String name)
+	{
+		SynsetType type = TYPE_NAMES.get(name.toLowerCase());
+		if ((type == null) && (name.length() == 1))
+		{
+			type = SynsetTypeConverter.getType(name.charAt(0));
+		}
+		if (type == null)
+		{
+			throw new WordNetException("Unknown synset type: " + name);
+		}
+		return type;
+	}
+
+	/**
+	 * Marks a synset type as included, along with adjective satellites if
+	 * it's the adjective type.
+	 * 
+	 * @param  type Type to include.
+	 */
+	private void include(SynsetType type)
+	{
+		types[type.getCode()] = true;
+		if ((type == SynsetType.ADJECTIVE) ||
+				(type == SynsetType.ADJECTIVE_SATELLITE))
+		{
+			types[SynsetType.ADJECTIVE.getCode()] = true;
+			types[SynsetType.ADJECTIVE_SATELLITE.getCode()] = true;
+		}
+	}
+
+	/**
+	 * Reads the list of lexicographer files from the database directory.
+	 * 
+	 * @param  numbers Receives the number of each lexicographer file, keyed
+	 *         by name.
+	 * @param  fileTypes Receives the synset type of each lexicographer file,
+	 *         keyed by number.
+	 * @throws RetrievalException The list couldn't be read.
+	 */
+	private void readLexicalFileNames(HashMap<String, Integer> numbers,
+			HashMap<Integer, SynsetType> fileTypes)
+	{
+		String fileName = PropertyNames.databaseDirectory + LEXICAL_FILE_NAMES;
+		try
+		{
+			InputStream file = getClass().getResourceAsStream(fileName);
+			if (file == null)
+			{
+				throw new IOException("Cannot open resource: " + fileName);
+			}
+			LineIterator iterator = IOUtils.lineIterator(file, null);
+			while (iterator.hasNext())
+			{
+				StringTokenizer tokenizer = new StringTokenizer(
+						iterator.nextLine(), FIELD_DELIMITER);
+				if (tokenizer.countTokens() >= 3)
+				{
+					Integer number = Integer.valueOf(tokenizer.nextToken());
+					numbers.put(tokenizer.nextToken(), number);
+					fileTypes.put(number, SynsetTypeConverter.getType(
+							Integer.parseInt(tokenizer.nextToken())));
+				}
+			}
+			file.close();
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException(
+					"Error reading lexicographer file names", e);
+		}
+	}
+
+	/**
+	 * Indicates whether this profile includes the entire database.
+	 * 
+	 * @return <code>true</code> if no types or lexicographer files are
+	 *         excluded.
+	 */
+	public boolean isComplete()
+	{
+		return ((types == null) && (lexicalFiles == null));
+	}
+
+	/**
+	 * Indicates whether this profile includes synsets of a particular type.
+	 * 
+	 * @param  type Synset type.
+	 * @return <code>true</code> if synsets of the type may be loaded.
+	 */
+	public boolean includes(SynsetType type)
+	{
+		return ((types == null) || (types[type.getCode()]));
+	}
+
+	/**
+	 * Indicates whether this profile includes the synsets of a particular
+	 * type that are defined in a particular lexicographer file.
+	 * 
+	 * @param  type Synset type.
+	 * @param  lexicalFileNumber Number of the lexicographer file.
+	 * @return <code>true</code> if the synsets are loaded.
+	 */
+	public boolean includes(SynsetType type, int lexicalFileNumber)
+	{
+		return (includes(type) && ((lexicalFiles == null) ||
+				((lexicalFileNumber < lexicalFiles.length) &&
+				(lexicalFiles[lexicalFileNumber]))));
+	}
+
+	/**
+	 * Indicates whether this profile includes the word sense identified by
+	 * a sense key.
+	 * 
+	 * @param  senseKey Key of the word sense.
+	 * @return <code>true</code> if the word sense is loaded.
+	 */
+	public boolean includes(SenseKey senseKey)
+	{
+		return includes(senseKey.getType(), senseKey.getLexicalFileNumber());
+	}
+
+	/**
+	 * Returns the synset types that this profile includes.
+	 * 
+	 * @return Included synset types.
+	 */
+	public SynsetType[] getTypes()
+	{
+		List<SynsetType> included = new ArrayList<SynsetType>();
+		for (int i = 0; i < SynsetType.ALL_TYPES.length; i++)
+		{
+			if (includes(SynsetType.ALL_TYPES[i]))
+			{
+				included.add(SynsetType.ALL_TYPES[i]);
+			}
+		}
+		return included.toArray(new SynsetType[included.size()]);
+	}
+
+}
\ No newline at end of file
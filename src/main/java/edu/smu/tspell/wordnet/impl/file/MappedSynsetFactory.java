@@ -0,0 +1,163 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+import edu.smu.tspell.wordnet.Synset;
+
+/**
+ * Synset factory that reads synsets and sense index entries on demand from
+ * a snapshot (see {@link SnapshotWriter}) instead of from the database
+ * files.
+ * <br><p>
+ * The snapshot is memory-mapped and used as a read-only image of the
+ * database: the synsets and sense index entries are located within it by
+ * binary search and only those that are requested are created, with the
+ * same limited cache of recently used synsets as {@link LazySynsetFactory}.
+ * Since the operating system shares the pages of a file that's mapped by
+ * several processes, running multiple virtual machines that use the same
+ * snapshot requires only one copy of the database in physical memory,
+ * while each of them uses little more heap than the cache.
+ * 
+ * @author Brett Spell
+ * @see    SnapshotReader#openImage(String)
+ */
+public class MappedSynsetFactory extends LazySynsetFactory
+{
+
+	/**
+	 * Snapshot from which the synsets and entries are read.
+	 */
+	private SnapshotReader image;
+
+	/**
+	 * Constructs a factory that reads from a snapshot and caches the
+	 * specified number of synsets.
+	 * 
+	 * @param  cacheSize Maximum number of synsets to cache.
+	 * @param  image Snapshot from which to read.
+	 */
+	MappedSynsetFactory(int cacheSize, SnapshotReader image)
+	{
+		super(cacheSize);
+		this.image = image;
+	}
+
+	/**
+	 * Reads a synset from the snapshot without acquiring any lock.
+	 * 
+	 * @param  pointer Identifies the synset to read.
+	 * @return Newly created synset instance.
+	 * @throws RetrievalException The snapshot doesn't contain the synset or
+	 *         an error occurred reading it.
+	 */
+	Synset parseSynset(SynsetPointer pointer) throws RetrievalException
+	{
+		ReferenceSynset synset;
+		try
+		{
+			synset = image.readSynset(pointer);
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading snapshot: " + e, e);
+		}
+		if (synset == null)
+		{
+			throw new RetrievalException(
+					"Synset not found in snapshot: " + pointer);
+		}
+		synset.setFactory(this);
+		return synset;
+	}
+
+	/**
+	 * Returns the entry that has the specified sense key.
+	 * 
+	 * @param  senseKey Full text of the sense key.
+	 * @return Matching entry or <code>null</code> if there is none.
+	 * @throws RetrievalException An error occurred reading the snapshot.
+	 */
+	SenseIndexEntry findEntry(String senseKey)
+	{
+		int index = senseKey.indexOf(SenseKey.LEMMA_TERMINATOR);
+		if (index < 0)
+		{
+			return null;
+		}
+		for (SenseIndexEntry entry : findEntries(senseKey))
+		{
+			if (entry.getSenseKey().getFullSenseKeyText().equals(senseKey))
+			{
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the entries that have a sense key beginning with the
+	 * specified text.
+	 * 
+	 * @param  prefix Text with which the sense keys begin, which includes
+	 *         at least the lemma and the character that terminates it.
+	 * @return Matching entries, in sense key order, which may be an empty
+	 *         list.
+	 * @throws RetrievalException An error occurred reading the snapshot.
+	 */
+	List<SenseIndexEntry> findEntries(String prefix)
+	{
+		try
+		{
+			return image.readEntries(prefix);
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading snapshot: " + e, e);
+		}
+	}
+
+	/**
+	 * Returns the lemmas of all of the sense index entries in the snapshot.
+	 * 
+	 * @return Lemmas, in external format, in sense key order.
+	 * @throws RetrievalException An error occurred reading the snapshot.
+	 */
+	Set<String> findLemmas()
+	{
+		try
+		{
+			return image.readLemmas();
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading snapshot: " + e, e);
+		}
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,465 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.apache.commons.io.IOUtils;
+
+import edu.smu.tspell.wordnet.Synset;
+
+/**
+ * Parses the sense index and the data files using a fork / join pool so
+ * that startup can take advantage of multiple processors.
+ * <br><p>
+ * Only the parsing is done concurrently: the work is split into ranges of
+ * lines (or synset pointers), each range is parsed by a separate task and
+ * the results are joined back together in their original order. The
+ * parsed entries and synsets are therefore identical to those produced by
+ * a sequential load and are added to the caches in the same order, so the
+ * loaded database doesn't depend on the number of threads used.
+ * <br><p>
+ * Parallel loading is enabled by setting the
+ * <code>wordnet.database.loadThreads</code> property to a value other than
+ * one. Running this class reports the time taken to parse the files using
+ * different numbers of threads:
+ * <pre>
+ * java edu.smu.tspell.wordnet.impl.file.ParallelLoader [iterations]
+ * </pre>
+ * 
+ * @author Brett Spell
+ */
+public class ParallelLoader
+{
+
+	/**
+	 * Number of lines of the sense index that a single task parses.
+	 */
+	private final static int LINES_PER_TASK = 4096;
+
+	/**
+	 * Number of synsets that a single task parses.
+	 */
+	private final static int SYNSETS_PER_TASK = 1024;
+
+	/**
+	 * Pool that executes the parsing tasks.
+	 */
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructor that accepts the number of threads to use.
+	 * 
+	 * @param  threads Number of threads used for parsing.
+	 */
+	ParallelLoader(int threads)
+	{
+		pool = new ForkJoinPool(threads);
+	}
+
+	/**
+	 * Parses the content of the sense index file.
+	 * 
+	 * @param  data Content of the sense index file.
+	 * @return Entries in the order in which they appear in the file.
+	 */
+	List<SenseIndexEntry> parseSenseIndex(byte[] data)
+	{
+		//  Find the start of each line
+		int[] lineStarts = new int[64 * 1024];
+		int lineCount = 0;
+		int position = 0;
+		while (position < data.length)
+		{
+			if (lineCount == lineStarts.length)
+			{
+				lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+			}
+			lineStarts[lineCount++] = position;
+			while ((position < data.length) && (data[position] != '\n'))
+			{
+				position++;
+			}
+			position++;
+		}
+		return pool.invoke(new SenseIndexTask(
+				data, lineStarts, 0, lineCount));
+	}
+
+	/**
+	 * Reads and parses the synsets identified by a set of pointers using
+	 * the readers of the synset factory.
+	 * 
+	 * @param  pointers Pointers that identify the synsets to parse.
+	 * @return Parsed synsets in the same order as the pointers.
+	 */
+	Synset[] parseSynsets(SynsetPointer[] pointers)
+	{
+		return parseSynsets(pointers, null);
+	}
+
+	/**
+	 * Reads and parses the synsets identified by a set of pointers using
+	 * the readers of the synset factory, stopping if the thread on whose
+	 * behalf they're parsed is interrupted.
+	 * <br><p>
+	 * Each task checks the interrupted status of that thread before it
+	 * starts parsing its range, so a cancelled load stops after at most
+	 * one range per thread instead of parsing the remaining synsets.
+	 * 
+	 * @param  pointers Pointers that identify the synsets to parse.
+	 * @param  owner Thread whose interruption cancels the parsing, or
+	 *         <code>null</code> if the parsing can't be cancelled.
+	 * @return Parsed synsets in the same order as the pointers.
+	 * @throws CancellationException The owner thread was interrupted.
+	 */
+	Synset[] parseSynsets(SynsetPointer[] pointers, Thread owner)
+	{
+		Synset[] synsets = new Synset[pointers.length];
+		pool.invoke(new SynsetTask(pointers, synsets, owner, 0,
+				pointers.length));
+		return synsets;
+	}
+
+	/**
+	 * Releases the threads used for parsing.
+	 */
+	void shutdown()
+	{
+		pool.shutdown();
+	}
+
+	/**
+	 * Returns the pointers to the synsets referenced by the sense index
+	 * entries, in the order in which they're first referenced.
+	 * 
+	 * @param  entries Iterator over the sense index entries.
+	 * @return Distinct pointers referenced by the entries.
+	 */
+	static SynsetPointer[] getSynsetPointers(Iterator<SenseIndexEntry> entries)
+	{
+		Set<SynsetPointer> pointers = new LinkedHashSet<SynsetPointer>();
+		while (entries.hasNext())
+		{
+			pointers.add(entries.next().getSynsetPointer());
+		}
+		return pointers.toArray(new SynsetPointer[pointers.size()]);
+	}
+
+	/**
+	 * Parses a range of lines from the sense index file.
+	 */
+	private static class SenseIndexTask
+			extends RecursiveTask<List<SenseIndexEntry>>
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Content of the sense index file.
+		 */
+		private final byte[] data;
+
+		/**
+		 * Positions at which the lines of the file begin.
+		 */
+		private final int[] lineStarts;
+
+		/**
+		 * Index of the first line to parse.
+		 */
+		private final int first;
+
+		/**
+		 * Index after that of the last line to parse.
+		 */
+		private final int last;
+
+		/**
+		 * Constructor that accepts the range of lines to parse.
+		 * 
+		 * @param  data Content of the sense index file.
+		 * @param  lineStarts Positions at which the lines begin.
+		 * @param  first Index of the first line to parse.
+		 * @param  last Index after that of the last line to parse.
+		 */
+		SenseIndexTask(byte[] data, int[] lineStarts, int first, int last)
+		{
+			this.data = data;
+			this.lineStarts = lineStarts;
+			this.first = first;
+			this.last = last;
+		}
+
+		/**
+		 * Parses the lines, splitting the range if it's too large.
+		 * 
+		 * @return Entries parsed from the lines, in file order.
+		 */
+		protected List<SenseIndexEntry> compute()
+		{
+			List<SenseIndexEntry> entries;
+			if (last - first <= LINES_PER_TASK)
+			{
+				SenseIndexParser parser = new SenseIndexParser();
+				entries = new ArrayList<SenseIndexEntry>(last - first);
+				for (int i = first; i < last; i++)
+				{
+					int start = lineStarts[i];
+					int end = findEnd(start);
+					if ((end > start) && (data[end - 1] == '\r'))
+					{
+						end--;
+					}
+					entries.add(parser.parse(
+							new String(data, start, end - start)));
+				}
+			}
+			else
+			{
+				int middle = (first + last) >>> 1;
+				SenseIndexTask head =
+						new SenseIndexTask(data, lineStarts, first, middle);
+				SenseIndexTask tail =
+						new SenseIndexTask(data, lineStarts, middle, last);
+				tail.fork();
+				entries = head.compute();
+				entries.addAll(tail.join());
+			}
+			return entries;
+		}
+
+		/**
+		 * Returns the position of the line separator that ends the line
+		 * beginning at the specified position (or the end of the data).
+		 * 
+		 * @param  start Position at which the line begins.
+		 * @return Position after the last character of the line.
+		 */
+		private int findEnd(int start)
+		{
+			int end = start;
+			while ((end < data.length) && (data[end] != '\n'))
+			{
+				end++;
+			}
+			return end;
+		}
+
+	}
+
+	/**
+	 * Reads and parses a range of synsets.
+	 */
+	private static class SynsetTask extends RecursiveTask<Void>
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Pointers that identify the synsets.
+		 */
+		private final SynsetPointer[] pointers;
+
+		/**
+		 * Array in which to store the parsed synsets.
+		 */
+		private final Synset[] synsets;
+
+		/**
+		 * Thread whose interruption cancels the parsing, or
+		 * <code>null</code>.
+		 */
+		private final Thread owner;
+
+		/**
+		 * Index of the first synset to parse.
+		 */
+		private final int first;
+
+		/**
+		 * Index after that of the last synset to parse.
+		 */
+		private final int last;
+
+		/**
+		 * Constructor that accepts the range of synsets to parse.
+		 * 
+		 * @param  pointers Pointers that identify the synsets.
+		 * @param  synsets Array in which to store the parsed synsets.
+		 * @param  owner Thread whose interruption cancels the parsing, or
+		 *         <code>null</code>.
+		 * @param  first Index of the first synset to parse.
+		 * @param  last Index after that of the last synset to parse.
+		 */
+		SynsetTask(SynsetPointer[] pointers, Synset[] synsets, Thread owner,
+				int first, int last)
+		{
+			this.pointers = pointers;
+			this.synsets = synsets;
+			this.owner = owner;
+			this.first = first;
+			this.last = last;
+		}
+
+		/**
+		 * Parses the synsets, splitting the range if it's too large.
+		 * 
+		 * @return Always <code>null</code>.
+		 * @throws CancellationException The owner thread was interrupted.
+		 */
+		protected Void compute()
+		{
+			if (last - first <= SYNSETS_PER_TASK)
+			{
+				if ((owner != null) && (owner.isInterrupted()))
+				{
+					throw new CancellationException(
+							"Parsing of the synsets was cancelled");
+				}
+				SynsetFactory factory = SynsetFactory.getInstance();
+				for (int i = first; i < last; i++)
+				{
+					synsets[i] = factory.readSynset(pointers[i]);
+				}
+			}
+			else
+			{
+				int middle = (first + last) >>> 1;
+				SynsetTask tail =
+						new SynsetTask(pointers, synsets, owner, middle, last);
+				tail.fork();
+				new SynsetTask(pointers, synsets, owner, first, middle)
+						.compute();
+				tail.join();
+			}
+			return null;
+		}
+
+	}
+
+	/**
+	 * Measures the time taken to parse the sense index and the synsets it
+	 * references using from one thread up to one thread per processor and
+	 * reports the speedup relative to a single thread.
+	 * 
+	 * @param  args Optionally, the number of times to repeat each
+	 *         measurement (the fastest time is reported).
+	 * @throws IOException An error occurred reading the database files.
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		int iterations = (args.length > 0 ? Integer.parseInt(args[0]) : 3);
+		int processors = Runtime.getRuntime().availableProcessors();
+
+		String dir = PropertyNames.databaseDirectory;
+		InputStream stream = ParallelLoader.class.getResourceAsStream(
+				dir + "index.sense");
+		if (stream == null)
+		{
+			throw new IOException("Cannot open resource: " + dir +
+					"index.sense");
+		}
+		byte[] data = IOUtils.toByteArray(stream);
+		stream.close();
+
+		List<String> expected = null;
+		long baseline = 0;
+		System.out.println("Processors: " + processors);
+		System.out.println("Threads\tTime (ms)\tSpeedup");
+		for (int threads = 1; threads <= processors;
+				threads = (threads < processors ?
+						Math.min(threads * 2, processors) : threads + 1))
+		{
+			long best = Long.MAX_VALUE;
+			List<String> result = null;
+			for (int i = 0; i < iterations; i++)
+			{
+				long start = System.nanoTime();
+				ParallelLoader loader = new ParallelLoader(threads);
+				List<SenseIndexEntry> entries;
+				Synset[] synsets;
+				try
+				{
+					entries = loader.parseSenseIndex(data);
+					synsets = loader.parseSynsets(
+							getSynsetPointers(entries.iterator()));
+				}
+				finally
+				{
+					loader.shutdown();
+				}
+				best = Math.min(best, System.nanoTime() - start);
+				result = describe(entries, synsets);
+			}
+			if (expected == null)
+			{
+				expected = result;
+				baseline = best;
+			}
+			else if (!expected.equals(result))
+			{
+				throw new IllegalStateException("Parsing with " + threads +
+						" threads produced different results");
+			}
+			System.out.println(threads + "\t" + (best / 1000000) + "\t\t" +
+					((baseline * 100 / best) / 100.0));
+		}
+	}
+
+	/**
+	 * Returns a textual description of parsed entries and synsets that's
+	 * used to verify that they don't depend on the number of threads.
+	 * 
+	 * @param  entries Parsed sense index entries.
+	 * @param  synsets Parsed synsets.
+	 * @return Description of the entries and synsets.
+	 */
+	private static List<String> describe(List<SenseIndexEntry> entries,
+			Synset[] synsets)
+	{
+		List<String> description = new ArrayList<String>();
+		for (SenseIndexEntry entry : entries)
+		{
+			description.add(entry.toString());
+		}
+		for (int i = 0; i < synsets.length; i++)
+		{
+			description.add(synsets[i] + " " + synsets[i].getDefinition());
+		}
+		return description;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,258 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.smu.tspell.wordnet.impl.DoubleMetaphone;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Index of the word forms by their phonetic keys, which finds the word
+ * forms that sound like a given one even when they're spelled quite
+ * differently, such as those produced by speech recognition.
+ * <br><p>
+ * Each word form is indexed under both of its {@link DoubleMetaphone}
+ * keys (which are usually the same). The keys are packed into longs and
+ * kept in an open-addressing hash table, so looking up a key takes a
+ * single probe in the common case, and each entry of the table refers to
+ * a run of word form ranks in one shared array. The keys are
+ * {@link DoubleMetaphone#PACKED_MAX_LENGTH} characters long instead of the
+ * customary four, which would make every word form that starts with the
+ * same few sounds alike.
+ * <br><p>
+ * Instances are immutable and are built from the automaton of the word
+ * forms the first time that a sound-alike lookup is performed, so the
+ * index costs nothing if it isn't used.
+ *
+ * @author Brett Spell
+ * @see    WordFormLookup#findWordFormsSoundingLike(DoubleMetaphone)
+ */
+final class PhoneticIndex
+{
+
+	/**
+	 * Word forms in sorted order, which are referred to by rank.
+	 */
+	private final LemmaAutomaton automaton;
+
+	/**
+	 * Packed key in each slot of the hash table, which is zero for an
+	 * empty slot.
+	 */
+	private final long[] keys;
+
+	/**
+	 * Position in <code>postings</code> of the first rank of the word forms
+	 * that have the key in each slot.
+	 */
+	private final int[] starts;
+
+	/**
+	 * Position in <code>postings</code> after the last rank of the word
+	 * forms that have the key in each slot.
+	 */
+	private final int[] ends;
+
+	/**
+	 * Ranks of the word forms that have each key, in ascending order.
+	 */
+	private final int[] postings;
+
+	/**
+	 * Builds the index of the word forms in an automaton.
+	 * 
+	 * @param  automaton Automaton that contains the word forms.
+	 */
+	PhoneticIndex(LemmaAutomaton automaton)
+	{
+		this.automaton = automaton;
+		int count = automaton.size();
+
+		//  Collect the ranks of the word forms that have each key
+		Map<Long, int[]> keyRanks = new HashMap<Long, int[]>();
+		int postingCount = 0;
+		for (int rank = 0; rank < count; rank++)
+		{
+			DoubleMetaphone metaphone = new DoubleMetaphone(
+					automaton.getWordForm(rank), DoubleMetaphone.PACKED_MAX_LENGTH);
+			long primaryKey = DoubleMetaphone.pack(metaphone.getPrimaryKey());
+			long alternateKey = DoubleMetaphone.pack(metaphone.getAlternateKey());
+			for (int i = 0; i < 2; i++)
+			{
+				long key = (i == 0 ? primaryKey : alternateKey);
+				if ((key == 0) || ((i == 1) && (key == primaryKey)))
+				{
+					continue;
+				}
+				Long keyObject = Long.valueOf(key);
+				int[] ranks = keyRanks.get(keyObject);
+				if (ranks == null)
+				{
+					//  The first element is the number of ranks
+					ranks = new int[2];
+					keyRanks.put(keyObject, ranks);
+				}
+				else if (ranks[0] + 1 == ranks.length)
+				{
+					ranks = Arrays.copyOf(ranks, ranks.length * 2);
+					keyRanks.put(keyObject, ranks);
+				}
+				ranks[++ranks[0]] = rank;
+				postingCount++;
+			}
+		}
+
+		//  Store the keys in a table that's at most half full
+		int capacity = Integer.highestOneBit(Math.max(keyRanks.size(), 1)) * 4;
+		keys = new long[capacity];
+		starts = new int[capacity];
+		ends = new int[capacity];
+		postings = new int[postingCount];
+		int position = 0;
+		for (Map.Entry<Long, int[]> entry : keyRanks.entrySet())
+		{
+			long key = entry.getKey().longValue();
+			int[] ranks = entry.getValue();
+			int slot = findSlot(key);
+			keys[slot] = key;
+			starts[slot] = position;
+			System.arraycopy(ranks, 1, postings, position, ranks[0]);
+			position += ranks[0];
+			ends[slot] = position;
+		}
+	}
+
+	/**
+	 * Returns the word forms that sound like a word form, that is, those
+	 * that have a key equal to either of its keys. The word forms that
+	 * share the primary key are returned first, in sorted order, followed
+	 * by those that only share the alternate key.
+	 * 
+	 * @param  metaphone Keys of the word form, which must have been
+	 *         computed with a maximum length of
+	 *         {@link DoubleMetaphone#PACKED_MAX_LENGTH}.
+	 * @return Word forms that sound alike, in the format used by the
+	 *         database.
+	 */
+	String[] find(DoubleMetaphone metaphone)
+	{
+		List<String> results = new ArrayList<String>();
+		long primaryKey = DoubleMetaphone.pack(metaphone.getPrimaryKey());
+		long alternateKey = DoubleMetaphone.pack(metaphone.getAlternateKey());
+		int primarySlot = -1;
+		if (primaryKey != 0)
+		{
+			int slot = findSlot(primaryKey);
+			if (keys[slot] != 0)
+			{
+				primarySlot = slot;
+				for (int i = starts[slot]; i < ends[slot]; i++)
+				{
+					results.add(automaton.getWordForm(postings[i]));
+				}
+			}
+		}
+		if ((alternateKey != primaryKey) && (alternateKey != 0))
+		{
+			int slot = findSlot(alternateKey);
+			if (keys[slot] != 0)
+			{
+				for (int i = starts[slot]; i < ends[slot]; i++)
+				{
+					//  Skip the word forms that were found through both keys
+					if ((primarySlot < 0) ||
+							(!containsRank(primarySlot, postings[i])))
+					{
+						results.add(automaton.getWordForm(postings[i]));
+					}
+				}
+			}
+		}
+		return results.toArray(new String[results.size()]);
+	}
+
+	/**
+	 * Returns the slot of the hash table that contains a key or, if the
+	 * key isn't in the table, the empty slot where it would be stored.
+	 * 
+	 * @param  key Packed key to look for.
+	 * @return Slot for the key.
+	 */
+	private int findSlot(long key)
+	{
+		int mask = keys.length - 1;
+		long hash = key * 0x9E3779B97F4A7C15L;
+		int slot = (int)(hash >>> 32) & mask;
+		while ((keys[slot] != 0) && (keys[slot] != key))
+		{
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Indicates whether the word forms that have the key in a slot include
+	 * a particular rank.
+	 * 
+	 * @param  slot Slot of the key.
+	 * @param  rank Rank to look for.
+	 * @return <code>true</code> if the rank is among those of the key.
+	 */
+	private boolean containsRank(int slot, int rank)
+	{
+		return (Arrays.binarySearch(postings, starts[slot], ends[slot], rank) >= 0);
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the index, not
+	 * including the automaton of the word forms, which is shared.
+	 * 
+	 * @return Estimated number of bytes used.
+	 */
+	long getEstimatedSize()
+	{
+		return SizeEstimates.getObjectSize(5, 0) +
+				SizeEstimates.getArraySize(keys.length, 8) +
+				SizeEstimates.getArraySize(starts.length, 4) +
+				SizeEstimates.getArraySize(ends.length, 4) +
+				SizeEstimates.getArraySize(postings.length, 4);
+	}
+
+	/**
+	 * Returns the number of word forms in the index.
+	 * 
+	 * @return Number of word forms.
+	 */
+	int size()
+	{
+		return automaton.size();
+	}
+
+}
\ No newline at end of file
@@ -1,90 +1,193 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
-
-/**
- * Names of system properties used by the application.
- * 
- * @author Brett Spell
- */
-public class PropertyNames
-{
-	
-	/**
-	 * Identifies the location of the database directory.
-	 */
-	private final static String DATABASE_DIRECTORY = "wordnet.database.dir";
-	public final static String databaseDirectory;
-
-	/**
-	 * If true use the native word forms form (compound words joined by underscores).
-	 */
-	private final static String WORD_FORMAT = "wordnet.database.nativeFormat";
-	public final static boolean nativeFormat;
-
-	/**
-	 * If true asume that all queries will be single words.
-	 */
-	private final static String SINGLE_WORD_QUERIES = "wordnet.database.singleWordQueries";
-	public final static boolean singleWordQueries;
-
-	static {
-		Properties props = new Properties();
-		String propertyValue = "";
-
-		// try retrieve data from file
-		try {
-			InputStream input = PropertyNames.class.getResourceAsStream("/wordnet.properties");
-			props.load(input);
-
-			propertyValue = props.getProperty(DATABASE_DIRECTORY);
-			databaseDirectory = propertyValue;
-			propertyValue = props.getProperty(WORD_FORMAT);
-			nativeFormat = propertyValue.toLowerCase().equals("true");
-			propertyValue = props.getProperty(SINGLE_WORD_QUERIES);
-			singleWordQueries = propertyValue.toLowerCase().equals("true");
-			input.close();
-		}
-		// catch exception in case properties file does not exist
-		catch (IOException e) {
-			String msg = "'" + propertyValue + "' is an invalid.";
-	        throw new Error(msg, e);
-		}
-	}
-	
-	
-	/**
-	 * No-argument constructor.
-	 */
-	private PropertyNames()
-	{
-	}
-
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+/**
+ * Names of system properties used by the application.
+ * 
+ * @author Brett Spell
+ */
+public class PropertyNames
+{
+	
+	/**
+	 * Identifies the location of the database directory.
+	 */
+	private final static String DATABASE_DIRECTORY = "wordnet.database.dir";
+	public final static String databaseDirectory;
+
+	/**
+	 * If true use the native word forms form (compound words joined by underscores).
+	 */
+	private final static String WORD_FORMAT = "wordnet.database.nativeFormat";
+	public final static boolean nativeFormat;
+
+	/**
+	 * If true asume that all queries will be single words.
+	 */
+	private final static String SINGLE_WORD_QUERIES = "wordnet.database.singleWordQueries";
+	public final static boolean singleWordQueries;
+
+	/**
+	 * Location on the file system of a precompiled snapshot of the database
+	 * (see {@link SnapshotWriter}); when empty, the data files are parsed.
+	 * The database that reads synsets on demand uses the snapshot as a
+	 * memory-mapped image in place of the data files (see
+	 * {@link MappedSynsetFactory}).
+	 */
+	final static String SNAPSHOT_FILE = "wordnet.database.snapshot";
+	public final static String snapshotFile;
+
+	/**
+	 * Number of threads used to parse the database files on startup; a value
+	 * of zero uses one thread per available processor. The default of one
+	 * parses the files sequentially (see {@link ParallelLoader}).
+	 */
+	private final static String LOAD_THREADS = "wordnet.database.loadThreads";
+	public final static int loadThreads;
+
+	/**
+	 * Maximum number of recently read synsets that are kept in memory by
+	 * the database returned by
+	 * {@link edu.smu.tspell.wordnet.WordNetDatabase#getLazyFileInstance()}.
+	 */
+	private final static String LAZY_CACHE_SIZE = "wordnet.database.lazyCacheSize";
+	public final static int lazyCacheSize;
+
+	/**
+	 * If true, the gloss (definition and example sentences) of each synset
+	 * read from the data files is only parsed when it's first requested,
+	 * and the data files are left open so that it can be read then.
+	 */
+	private final static String LAZY_GLOSSES = "wordnet.database.lazyGlosses";
+	public final static boolean lazyGlosses;
+
+	/**
+	 * If true, the glosses of the synsets loaded into memory are compressed
+	 * and stored outside of the Java heap (see {@link GlossStore}).
+	 */
+	private final static String GLOSS_STORE = "wordnet.database.glossStore";
+	public final static boolean glossStore;
+
+	/**
+	 * Maximum number of glosses decoded from the gloss store that are kept
+	 * in memory; zero decodes them each time they're requested.
+	 */
+	private final static String GLOSS_CACHE_SIZE = "wordnet.database.glossCacheSize";
+	public final static int glossCacheSize;
+
+	/**
+	 * If true, the memory footprint of each database is made available
+	 * through JMX (see {@link FootprintMonitor}).
+	 */
+	private final static String JMX_MONITOR = "wordnet.database.jmx";
+	public final static boolean jmxMonitor;
+
+	/**
+	 * Comma separated list of the synset types that are loaded into memory;
+	 * when empty, all types are loaded (see {@link LoadProfile}).
+	 */
+	private final static String PROFILE_TYPES = "wordnet.database.profile.types";
+	public final static String profileTypes;
+
+	/**
+	 * Comma separated list of the lexicographer files whose synsets are
+	 * loaded into memory; when empty, all files are loaded (see
+	 * {@link LoadProfile}).
+	 */
+	private final static String PROFILE_LEXICAL_FILES = "wordnet.database.profile.lexicalFiles";
+	public final static String profileLexicalFiles;
+
+	static {
+		Properties props = new Properties();
+		String propertyValue = "";
+
+		// try retrieve data from file
+		try {
+			InputStream input = PropertyNames.class.getResourceAsStream("/wordnet.properties");
+			props.load(input);
+
+			propertyValue = props.getProperty(DATABASE_DIRECTORY);
+			databaseDirectory = propertyValue;
+			propertyValue = props.getProperty(WORD_FORMAT);
+			nativeFormat = propertyValue.toLowerCase().equals("true");
+			propertyValue = props.getProperty(SINGLE_WORD_QUERIES);
+			singleWordQueries = propertyValue.toLowerCase().equals("true");
+			snapshotFile = getOptionalProperty(props, SNAPSHOT_FILE, "").trim();
+			propertyValue = getOptionalProperty(props, LOAD_THREADS, "1").trim();
+			int threads = Integer.parseInt(propertyValue);
+			loadThreads = (threads > 0 ? threads :
+					Runtime.getRuntime().availableProcessors());
+			propertyValue = getOptionalProperty(props, LAZY_CACHE_SIZE, "1000").trim();
+			lazyCacheSize = Integer.parseInt(propertyValue);
+			propertyValue = getOptionalProperty(props, LAZY_GLOSSES, "false").trim();
+			lazyGlosses = propertyValue.toLowerCase().equals("true");
+			propertyValue = getOptionalProperty(props, GLOSS_STORE, "false").trim();
+			glossStore = propertyValue.toLowerCase().equals("true");
+			propertyValue = getOptionalProperty(props, GLOSS_CACHE_SIZE, "0").trim();
+			glossCacheSize = Integer.parseInt(propertyValue);
+			propertyValue = getOptionalProperty(props, JMX_MONITOR, "false").trim();
+			jmxMonitor = propertyValue.toLowerCase().equals("true");
+			profileTypes = getOptionalProperty(props, PROFILE_TYPES, "").trim();
+			profileLexicalFiles = getOptionalProperty(props, PROFILE_LEXICAL_FILES, "").trim();
+			input.close();
+		}
+		// catch exception in case properties file does not exist
+		catch (IOException e) {
+			String msg = "'" + propertyValue + "' is an invalid.";
+	        throw new Error(msg, e);
+		}
+	}
+	
+	
+	/**
+	 * Returns the value of a property that may be omitted from the properties
+	 * file. A system property with the same name takes precedence over the
+	 * value in the file.
+	 * 
+	 * @param  props Properties read from the properties file.
+	 * @param  name Name of the property.
+	 * @param  defaultValue Value to use when the property isn't specified.
+	 * @return Value of the property.
+	 */
+	private static String getOptionalProperty(Properties props, String name,
+			String defaultValue)
+	{
+		return System.getProperty(name, props.getProperty(name, defaultValue));
+	}
+
+	/**
+	 * No-argument constructor.
+	 */
+	private PropertyNames()
+	{
+	}
+
+
 }
\ No newline at end of file
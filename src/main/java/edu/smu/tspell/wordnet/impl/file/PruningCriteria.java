@@ -0,0 +1,123 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Identifies the word senses that are kept in a pruned snapshot written by
+ * {@link SnapshotWriter}.
+ * <br><p>
+ * A word sense is kept if it satisfies all of the criteria that have been
+ * specified: its tag count is at least the minimum, its synset type and
+ * lexicographer file are included in the {@link LoadProfile} and its lemma
+ * is on the list of allowed lemmas. A criterion that isn't specified
+ * doesn't exclude any word senses. The snapshot then contains the synsets
+ * of the kept word senses along with their hypernyms (see
+ * {@link SnapshotWriter#write(java.io.File, PruningCriteria)}).
+ * 
+ * @author Brett Spell
+ */
+public class PruningCriteria
+{
+
+	/**
+	 * Minimum tag count of the word senses that are kept.
+	 */
+	private int minimumTagCount;
+
+	/**
+	 * Synset types and lexicographer files of the word senses that are kept.
+	 */
+	private LoadProfile profile = new LoadProfile("", "");
+
+	/**
+	 * Lemmas of the word senses that are kept, in external format, or
+	 * <code>null</code> if there's no restriction on the lemma.
+	 */
+	private Set<String> lemmas;
+
+	/**
+	 * No-argument constructor that creates criteria which keep all of the
+	 * word senses.
+	 */
+	public PruningCriteria()
+	{
+	}
+
+	/**
+	 * Sets the minimum tag count of the word senses that are kept.
+	 * 
+	 * @param  minimumTagCount Minimum tag count.
+	 * @see    SenseIndexEntry#getTagCount()
+	 */
+	public void setMinimumTagCount(int minimumTagCount)
+	{
+		this.minimumTagCount = minimumTagCount;
+	}
+
+	/**
+	 * Sets the synset types and lexicographer files of the word senses
+	 * that are kept.
+	 * 
+	 * @param  profile Profile that includes the types and files to keep.
+	 */
+	public void setProfile(LoadProfile profile)
+	{
+		this.profile = profile;
+	}
+
+	/**
+	 * Adds a lemma to the list of allowed lemmas; once a lemma has been
+	 * added, word senses of lemmas that aren't on the list are discarded.
+	 * 
+	 * @param  lemma Lemma to allow.
+	 */
+	public void addLemma(String lemma)
+	{
+		if (lemmas == null)
+		{
+			lemmas = new HashSet<String>();
+		}
+		lemmas.add(TextTranslator.translateToExternalFormat(
+				TextTranslator.translateToDatabaseFormat(lemma.trim())));
+	}
+
+	/**
+	 * Indicates whether a word sense satisfies these criteria.
+	 * 
+	 * @param  entry Sense index entry of the word sense.
+	 * @return <code>true</code> if the word sense is kept.
+	 */
+	public boolean matches(SenseIndexEntry entry)
+	{
+		SenseKey key = entry.getSenseKey();
+		return ((entry.getTagCount() >= minimumTagCount) &&
+				(profile.includes(key)) &&
+				((lemmas == null) || (lemmas.contains(key.getLemma()))));
+	}
+
+}
\ No newline at end of file
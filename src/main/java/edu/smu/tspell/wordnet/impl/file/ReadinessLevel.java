@@ -0,0 +1,146 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+/**
+ * Identifies how much of the database has been loaded and therefore which
+ * requests can be answered without waiting for the remainder of the load.
+ * <br><p>
+ * The levels are reached in the order in which they're defined here, and
+ * each level implies that all of the lower levels have also been reached.
+ *
+ * @author Brett Spell
+ * @see    DatabaseInitialization
+ */
+public class ReadinessLevel implements Comparable
+{
+
+	/**
+	 * Nothing has been loaded yet.
+	 */
+	public final static ReadinessLevel NONE =
+			new ReadinessLevel(0, "none");
+
+	/**
+	 * The synsets containing each word form have been loaded, which allows
+	 * lookups to be performed that don't apply the morphology rules.
+	 */
+	public final static ReadinessLevel EXACT_LOOKUP =
+			new ReadinessLevel(1, "exact lookup");
+
+	/**
+	 * The morphology (exception lists and detachment rules) has also been
+	 * loaded, so that lookups can find the base forms of inflections.
+	 */
+	public final static ReadinessLevel MORPHOLOGY =
+			new ReadinessLevel(2, "morphology");
+
+	/**
+	 * The relationships between the synsets have been resolved, which
+	 * completes the load.
+	 */
+	public final static ReadinessLevel RELATIONS =
+			new ReadinessLevel(3, "relations");
+
+	/**
+	 * The levels that are reached by a load, in the order reached.
+	 */
+	public final static ReadinessLevel[] LOAD_STAGES =
+			{EXACT_LOOKUP, MORPHOLOGY, RELATIONS};
+
+	/**
+	 * Numeric value that determines the order of the levels.
+	 */
+	private int code;
+
+	/**
+	 * Description of the level.
+	 */
+	private String name;
+
+	/**
+	 * Accepts the code and description of a level.
+	 * 
+	 * @param  code Value that determines the order of the level.
+	 * @param  name Description of the level.
+	 */
+	private ReadinessLevel(int code, String name)
+	{
+		this.code = code;
+		this.name = name;
+	}
+
+	/**
+	 * Returns the code associated with this level.
+	 * 
+	 * @return Code that's associated with this level.
+	 */
+	public int getCode()
+	{
+		return code;
+	}
+
+	/**
+	 * Indicates whether this level implies that another one has been reached.
+	 * 
+	 * @param  level Level with which to compare this one.
+	 * @return <code>true</code> if this level is the same as or higher than
+	 *         the specified one.
+	 */
+	public boolean isAtLeast(ReadinessLevel level)
+	{
+		return (compareTo(level) >= 0);
+	}
+
+	/**
+	 * Compares this object to another one to determine their relative order.
+	 * 
+	 * @param  o The reference object with which to compare.
+	 * @return A negative, zero, or positive value if this object is less
+	 *         than, equal to, or greater than the reference object,
+	 *         respectively.
+	 */
+	public int compareTo(Object o)
+	{
+		int relativeValue = 1;
+		if (o != null)
+		{
+			ReadinessLevel target = (ReadinessLevel)o;
+			relativeValue = this.getCode() - target.getCode();
+		}
+		return relativeValue;
+	}
+
+	/**
+	 * Returns a string representation of this object.
+	 * 
+	 * @return String representation of this object.
+	 */
+	public String toString()
+	{
+		return name;
+	}
+
+}
\ No newline at end of file
@@ -1,726 +1,1213 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import edu.smu.tspell.wordnet.AdjectiveSynset;
-import edu.smu.tspell.wordnet.NounSynset;
-import edu.smu.tspell.wordnet.Synset;
-import edu.smu.tspell.wordnet.SynsetType;
-import edu.smu.tspell.wordnet.VerbSynset;
-import edu.smu.tspell.wordnet.WordNetException;
-import edu.smu.tspell.wordnet.WordSense;
-import edu.smu.tspell.wordnet.impl.AbstractSynset;
-
-/**
- * A synset implementation that supports the concept of unresolved semantic
- * and lexical relationships to other synsets. An "unresolved" relationship
- * is one for which we have identifying information for the related synset(s)
- * but have not yet converted that information into an actual reference to
- * another synset object. Conversely, a "resolved" relationship is one for
- * which the identifying information has been converted into an object
- * reference to another synset. This approach allows us to load synset
- * information without immediately loading / creating the synsets to which
- * that original one has relationships defined. In other words, we can perform
- * lazy instantiation of the related synsets only when / if a request is made
- * to access them.
- * <br><p>
- * Note that the unresolved / resolved state for a given relationship is a
- * one-way conversion. In on other words, once an unresolved relationship is
- * converted to a resolved object reference, the original relationship
- * information is assumed to no longer be needed and is dropped. As a result,
- * it's not practical (and probably isn't ever necessary) to convert a
- * resolved object reference back to an unresolved relationship. 
- * 
- * @author Brett Spell
- */
-/**
- * @author fcr
- *
- */
-/**
- * @author fcr
- *
- */
-/**
- * @author fcr
- *
- */
-public abstract class ReferenceSynset extends AbstractSynset
-{
-
-	/**
-	 * Keys of the word senses associated with this synset.
-	 */
-	private SenseKey[] senseKeys;
-
-	/**
-	 * Tag count associated with each word sense.
-	 */
-	private int[] tagCounts;
-
-	/**
-	 * Encapsulates the unresolved relationships between this synset and
-	 * others.
-	 */
-	private RelationshipPointers pointers;
-
-	/**
-	 * Number of the lexical file associated with this synset.
-	 */
-	private int lexicalFileNumber;
-
-	/**
-	 * Offset into the appropriate data file where this synset is defined.
-	 */
-	private int offset;
-
-	/**
-	 * Encapsulates the resolved relationships between this synset and others.
-	 */
-	private RelationshipReferences references = new RelationshipReferences();
-
-	/**
-	 * Constructor that accepts the basic synset properties.
-	 * 
-	 * @param  type Type of synset this instance represents.
-	 * @param  definition Short description / definition of the meaning.
-	 * @param  examples Examples of how the synset is used.
-	 * @param  senseKeys Keys of word senses associated with this synset.
-	 * @param  pointers Unresolved relationships.
-	 * @param  lexicalFile Number of the lexical file containing synset.
-	 * @param  offset Byte offset into the data file where synset is defined.
-	 */
-	protected ReferenceSynset(SynsetType type, String definition,
-			String[] examples, SenseKey[] senseKeys,
-			RelationshipPointers pointers, int lexicalFile, int offset)
-	{
-		super(type, definition, examples);
-		this.senseKeys = senseKeys;
-		this.pointers = pointers;
-		this.lexicalFileNumber = lexicalFile;
-		this.offset = offset;
-
-		this.tagCounts = new int[senseKeys.length];
-		for (int i = 0; i < tagCounts.length; i++)
-		{
-			tagCounts[i] = -1;
-		}
-	}
-
-	/**
-	 * Retrieve the word forms.
-	 * 
-	 * @return Array of synonymous words and phrases.
-	 */
-	public String[] getWordForms()
-	{
-		String[] wordForms = new String[senseKeys.length];
-		for (int i = 0; i < wordForms.length; i++)
-		{
-			wordForms[i] = senseKeys[i].getLemma();
-		}
-		return wordForms;
-	}
-
-	/**
-	 * Returns a number that's intended to provide an approximation of how
-	 * frequently the specified word form is used to represent this meaning
-	 * relative to how often it's used to represent other meanings.
-	 * 
-	 * @param  wordForm Word form for which to return the tag count.
-	 * @return Number that's used to indicate an approximate frequency of use.
-	 * @throws WordNetException The specified word form is not part of this
-	 *         synset.
-	 * @see    <a href="http://wordnet.princeton.edu/man/cntlist.5WN">Format
-	 *         of <i>cntlist</i> File.</a>
-	 */
-	public int getTagCount(String wordForm) throws WordNetException
-	{
-		int index = getWordIndex(
-				TextTranslator.translateToExternalFormat(wordForm));
-		if (index < 0)
-		{
-			throw new WordNetException("Attempted to get the tag count for '" +
-					wordForm + "' from a synset that does not contain it.");
-		}
-		if (tagCounts[index] < 0)
-		{
-			SenseIndexEntry entry = getIndexEntry(senseKeys[index]);
-			tagCounts[index] = entry.getTagCount();
-		}
-		return tagCounts[index];
-	}
-	
-	/**
-	/**
-	 * Returns SynsetIndexEntry that corresponds to the reciever.
-	 *
-	 * @return Value that uniquely identifies a word sense.
-	 * @param  wordForm Word form for which to return the sense number.
-	 * @throws WordNetException The specified word form is not part of this
-	 */
-	private SenseIndexEntry getSenseIndexEntry(String wordForm) throws WordNetException
-	{
-		int index = getWordIndex(
-				TextTranslator.translateToExternalFormat(wordForm));
-		if (index < 0)
-		{
-			throw new WordNetException("Attempted to get the tag count for '" +
-					wordForm + "' from a synset that does not contain it.");
-		}
-		SenseIndexEntry entry = getIndexEntry(senseKeys[index]);
-		return entry;
-	}
-	
-	/**
-	 * Compare two synsets using information from the SenseIndex.
-	 * 
-	 * @param wordForm
-	 * @param o
-	 * @return
-	 */
-	public int compareSenseIndex(String wordForm, ReferenceSynset o) {
-		SenseIndexEntry thisEntry = getSenseIndexEntry(wordForm);
-		SenseIndexEntry thatEntry = o.getSenseIndexEntry(wordForm);
-		return thisEntry.compareTo(thatEntry);
-	}
-	
-	/**
-	 * Set a number that's intended to provide an approximation of how
-	 * frequently the specified word form is used to represent this meaning
-	 * relative to how often it's used to represent other meanings.
-	 * 
-	 * @param  wordForm Word form for which to return the tag count.
-	 * @param  tagCount - the tag count.
-	 * @return Number that's used to indicate an approximate frequency of use.
-	 * @see    <a href="http://wordnet.princeton.edu/man/cntlist.5WN">Format
-	 *         of <i>cntlist</i> File.</a>
-	 */
-	void setTagCount(String wordForm, int tagCount)
-	{
-		int index = getWordIndex(wordForm);
-		tagCounts[index] = tagCount;
-	}
-	
-	/**
-	 * Returns the index of the word form that matches the one specified.
-	 * 
-	 * @param  wordForm Word form for which to return the index.
-	 * @return Index of the specified word form in this synset's word list or
-	 *         -1 if the word form does not appear in this synset.
-	 */
-	private int getWordIndex(String wordForm)
-	{
-		int index = -1;
-		for (int i = 0; i < senseKeys.length; i++)
-		{
-			if (wordForm.equalsIgnoreCase(senseKeys[i].getLemma()))
-			{
-				index = i;
-				break;
-			}
-		}
-		return index;
-	}
-
-	/**
-	 * Identifies the lexicographer file containing the synset.
-	 * 
-	 * @return Lexicographer file number.
-	 */
-	public int getLexicalFileNumber()
-	{
-		return lexicalFileNumber;
-	}
-
-	/**
-	 * Returns the byte position within the appropriate data file where this
-	 * synset is defined.
-	 * 
-	 * @return Byte offset of this synset within the appropriate data file.
-	 */
-	public int getOffset()
-	{
-		return offset;
-	}
-
-	/**
-	 * Returns the antonyms (words with the opposite meaning), if any,
-	 * associated with a word form in this synset.
-	 * <br><p>
-	 * For example, an antonym of "inhale" is "exhale".
-	 * 
-	 * @param  wordForm Word form for which to return antonyms.
-	 * @return The antonyms of this synset.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	public WordSense[] getAntonyms(String wordForm) throws WordNetException
-	{
-		return getReferences(RelationshipType.ANTONYM, wordForm);
-	}
-
-	/**
-	 * Returns word forms that derivationally related to the one specified.
-	 * <br><p>
-	 * For example, a derivationally related form of "meter" is "metrical".
-	 * 
-	 * @param  wordForm Word form for which to return derivationally related
-	 *         senses.
-	 * @return Derivationally related word senses.
-	 * @throws RetrievalException An error occurred retrieving data.
-	 */
-	public WordSense[] getDerivationallyRelatedForms(String wordForm)
-			throws RetrievalException
-	{
-		return getReferences(RelationshipType.RELATED_FORM, wordForm);
-	}
-
-	/**
-	 * Returns the set of synsets that have the specified type of
-	 * relationship to this synset.
-	 * 
-	 * @param  type Type of relationship for which to return synsets.
-	 * @return Synsets that have the specified relationship type.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	protected Synset[] getSynsets(RelationshipType type)
-			throws WordNetException
-	{
-		Synset[] synsets = (Synset[])(getReferences(type));
-		if (synsets == null)
-		{
-			synsets = resolvePointers(type);
-		}
-		return synsets;
-	}
-
-	/**
-	 * Returns the set of noun synsets that have the specified type of
-	 * relationship to this synset.
-	 * 
-	 * @param  type Type of relationship for which to return noun synsets.
-	 * @return Noun synsets that have the specified relationship type.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	protected NounSynset[] getNounSynsets(RelationshipType type)
-			throws WordNetException
-	{
-		NounSynset[] nounSynsets = (NounSynset[])(getReferences(type));
-		if (nounSynsets == null)
-		{
-			Synset[] synsets = resolvePointers(type);
-			nounSynsets = new NounSynset[synsets.length];
-			System.arraycopy(synsets, 0, nounSynsets, 0, synsets.length);
-			putReferences(type, nounSynsets);
-		}
-		return nounSynsets;
-	}
-
-	/**
-	 * Returns the set of verb synsets that have the specified type of
-	 * relationship to this synset.
-	 * 
-	 * @param  type Type of relationship for which to return verb synsets.
-	 * @return Verb synsets that have the specified relationship type.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	protected VerbSynset[] getVerbSynsets(RelationshipType type)
-			throws WordNetException
-	{
-		VerbSynset[] verbSynsets = (VerbSynset[])(getReferences(type));
-		if (verbSynsets == null)
-		{
-			Synset[] synsets = resolvePointers(type);
-			verbSynsets = new VerbSynset[synsets.length];
-			System.arraycopy(synsets, 0, verbSynsets, 0, synsets.length);
-			putReferences(type, verbSynsets);
-		}
-		return verbSynsets;
-	}
-
-	/**
-	 * Returns the set of adjective synsets that have the specified type of
-	 * relationship to this synset.
-	 * 
-	 * @param  type Type of relationship for which to return adjective synsets.
-	 * @return Adjective synsets that have the specified relationship type.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	protected AdjectiveSynset[] getAdjectiveSynsets(
-			RelationshipType type) throws WordNetException
-	{
-		AdjectiveSynset[] nounSynsets =
-				(AdjectiveSynset[])(getReferences(type));
-		if (nounSynsets == null)
-		{
-			Synset[] synsets = resolvePointers(type);
-			nounSynsets = new AdjectiveSynset[synsets.length];
-			System.arraycopy(synsets, 0, nounSynsets, 0, synsets.length);
-			putReferences(type, nounSynsets);
-		}
-		return nounSynsets;
-	}
-
-	/**
-	 * Returns resolved references to synsets that have a semantic relationship
-	 * of the specified type.
-	 * 
-	 * @param  type Type of relationship for which to return synsets.
-	 * @return Synsets that have the specified semantic relationship.
-	 */
-	private Synset[] getReferences(RelationshipType type)
-	{
-		return references.getSemanticRelationships(type);
-	}
-
-	/**
-	 * Stores the list of synsets that have a specific type of semantic
-	 * relationship.
-	 * 
-	 * @param  type Type of relationship for which to store synset references.
-	 * @param  synsets Synsets that have the specified relationship type.
-	 */
-	private void putReferences(RelationshipType type, Synset[] synsets)
-	{
-		references.putSemanticRelationships(type, synsets);
-	}
-
-	/**
-	 * Converts unresolved pointers of a particular type to resolved
-	 * references to the corresponding synsets.
-	 * <br><p>
-	 * Note that on successful completion of this method that the pointers
-	 * that were resolved will be removed. This is done to reduce memory
-	 * usage since the pointers are presumed to no longer be needed given
-	 * that their sole purpose was to provide eventual access to their
-	 * corresponding synsets.
-	 * 
-	 * @param  type Type of relationships to resolve and return.
-	 * @return Synsets that were referenced by pointers or <code>null</code>
-	 *         if no pointers existed for the specified type.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	private Synset[] resolvePointers(RelationshipType type)
-			throws WordNetException
-	{
-		Synset[] synsets = null;
-		SynsetPointer[] pointers = getPointers(type);
-		if (pointers != null)
-		{
-			SynsetFactory factory = SynsetFactory.getInstance();
-			synsets = new Synset[pointers.length];
-			for (int i = 0; i < synsets.length; i++)
-			{
-				synsets[i] = factory.getSynset(pointers[i]);
-			}
-			clearPointers(type);
-		}
-		return synsets;
-	}
-
-	/**
-	 * Returns all unresolved synset pointers for a particular relationship
-	 * type.
-	 * 
-	 * @param  type Type of relationship for which to return pointers.
-	 * @return Pointers to synsets which have the specified relationship but
-	 *         for which the references have not yet been resolved.
-	 */
-	private SynsetPointer[] getPointers(RelationshipType type)
-	{
-		return pointers.getSemanticRelationships(type);
-	}
-
-	/**
-	 * Removes all unresolved semantic relationships of the specified type.
-	 * 
-	 * @param  type Type of relationship for which to remove pointers.
-	 */
-	private void clearPointers(RelationshipType type)
-	{
-		pointers.removeAllSemanticRelationships(type);
-	}
-
-	/**
-	 * Identifies the topics with which this synset is associated.
-	 * <br><p>
-	 * For example, "acidic" is within the domain of "chemistry".
-	 * 
-	 * @return Topics / subjects associated with this synset.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	public NounSynset[] getTopics() throws WordNetException
-	{
-		return getNounSynsets(RelationshipType.DOMAIN_TOPIC);
-	}
-
-	/**
-	 * Identifies the regions with which this synset is associated.
-	 * <br><p>
-	 * For example, "al dente" is within the domain of "Italy".
-	 * 
-	 * @return Region associated with this synset.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	public NounSynset[] getRegions() throws WordNetException
-	{
-		return getNounSynsets(RelationshipType.DOMAIN_REGION);
-	}
-
-	/**
-	 * Identifies the usage types associated with this synset.
-	 * <br><p>
-	 * For example, "boom box" is a "colloquialism".
-	 * 
-	 * @return Usage types associated with this synset.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	public NounSynset[] getUsages() throws WordNetException
-	{
-		return getNounSynsets(RelationshipType.DOMAIN_USAGE);
-	}
-
-	/**
-	 * Returns either zero or one word sense for a particular relationship
-	 * type and word form. This is used when there can't be more than one
-	 * relationship of a particular type for a given word form and this code
-	 * validates that cardinality, throwing an exception if it is violated.
-	 * 
-	 * @param  type Relationship type for which to return a word sense.
-	 * @param  wordForm Word form for which to return the word sense.
-	 * @return Word sense for the specified word form of the indicated type or
-	 *         <code>null</code> if no such relationship exists.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	protected WordSense getSingletonSense(
-			RelationshipType type, String wordForm) throws WordNetException
-	{
-		WordSense sense;
-		WordSense[] references =
-				getReferences(RelationshipType.PARTICIPLE, wordForm);
-		switch (references.length)
-		{
-			//  Zero is ok; it means that there isn't one
-			case 0:
-				sense = null;
-				break;
-			//  One is also ok; save a reference to it
-			case 1:
-				sense = references[0];
-				break;
-			//  More than one is invalid
-			default:
-				throw new WordNetException(
-						"Can't resolve to a exactly one reference of type " +
-						type + ": " + this);
-		}
-		return sense;
-	}
-
-	/**
-	 * Returns the lexical relationships for a particular word form.
-	 * <br><p>
-	 * Note that the relationships are left as pointers until they're
-	 * actually retrieved for the first time, at which point they'll be
-	 * resolved.
-	 * 
-	 * @param  type Type of relationships to return.
-	 * @param  wordForm Word form for which to return lexical relationships.
-	 * @return Lexical relationships of a single type for the specified word
-	 *         form.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	protected WordSense[] getReferences(
-			RelationshipType type, String wordForm) throws WordNetException
-	{
-		Synset synset;
-		String[] wordForms;
-
-		wordForm = TextTranslator.translateToExternalFormat(wordForm);
-		//  Get relationship we already resolved
-		WordSense[] senses = references.getLexicalRelationships(wordForm, type);
-		//  If we haven't resolved them, do it now
-		if (senses == null)
-		{
-			//  Get the lexical relationship pointers
-			WordSensePointer[] sensePtrs = pointers.getLexicalRelationships(
-					wordForm, type);
-			//  Create a new array for the relationships
-			senses = new WordSense[sensePtrs.length];
-			SynsetFactory factory = SynsetFactory.getInstance();
-			//  Loop through the pointers and resolve each one
-			for (int i = 0; i < senses.length; i++)
-			{
-				//  Get (and possibly create) the synset
-				synset = factory.getSynset(sensePtrs[i]);
-				//  Now get the word form in the target synset
-				wordForms = synset.getWordForms();
-				senses[i] = new WordSense(
-						wordForms[sensePtrs[i].getWordNumber() - 1], synset);
-			}
-			references.putLexicalRelationships(
-					wordForm, type, senses);
-		}
-		return senses;
-	}
-
-	/**
-	 * Returns the sense key that corresponds to the word at the specified
-	 * index.
-	 * 
-	 * @param  wordIndex Index of the word form for which to return the sense
-	 *         key.
-	 * @return Sense key associated with the word at the specified index.
-	 */
-	protected SenseKey getSenseKey(int wordIndex)
-	{
-		return senseKeys[wordIndex];
-	}
-
-	/* (non-Javadoc)
-	 * @see edu.smu.tspell.wordnet.Synset#getSenseKeys()
-	 */
-	@Override
-	public String [] getSenseKeys()
-	{
-		String [] keys = new String [senseKeys.length];
-		for (int i = 0; i < senseKeys.length; i++) {
-			SenseKey senseKey = senseKeys[i];
-			keys[i] = senseKey.toString();
-		}
-		return keys;
-	}
-
-	/**
-	 * Returns the entry from the sense index file that corresponds to a
-	 * word sense in this synset.
-	 * <br><p>
-	 * Because we don't have the full sense key when we build the entries
-	 * in this synset (we only have what's in the pos.data file for the
-	 * synset), we'll need to check this synset's offset / pointer value
-	 * with each one that's stored in the index entries. That's necessary
-	 * because there can be multiple index entries that vary only by their
-	 * head word information, and since we don't have the head word
-	 * information we'll need to make sure that the index entry is associated
-	 * with this synset by comparing offset values.
-	 * 
-	 * @param  senseKey Sense key for which to return the sense index entry.
-	 * @return Index entry for this synset's word sense.
-	 */
-	protected SenseIndexEntry getIndexEntry(SenseKey senseKey)
-	{
-		SenseIndexReader reader = SenseIndexReader.getInstance();
-		String key = senseKey.getFullSenseKeyText();
-		return reader.getEntry(key);
-	}
-
-	/**
-	 * Returns a hash code for the object.
-	 * 
-	 * @return Returns the numeric code associated with this instance.
-	 */
-	public int hashCode()
-	{
-		return getOffset();
-	}
-
-	/**
-	 * Indicates whether some object is "equal to" this one.
-	 * 
-	 * @param  o The reference object with which to compare.
-	 * @return <code>true</code> if this object is "equal to" the reference
-	 *         one; <code>false</code> otherwise.
-	 */
-	public boolean equals(Object o)
-	{
-		boolean isEqual = false;
-		if (o != null)
-		{
-			ReferenceSynset target = (ReferenceSynset)o;
-			isEqual = ((this.getType().equals(target.getType())) &&
-					(this.getOffset() == target.getOffset()));
-		}
-		return isEqual;
-	}
-
-	/**
-	 * Returns a string representation of this object.
-	 * 
-	 * @return String representation of this object.
-	 */
-	public String toString()
-	{
-		String[] typeNames =
-				{"Noun", "Verb", "Adjective", "Adverb", "AdjectiveSatellite"};
-		StringBuffer buffer = new StringBuffer(
-				typeNames[getType().getCode() - 1] + "@" + getOffset() + "[");
-		String[] wordForms = getWordForms();
-		for (int i = 0; i < wordForms.length; i++)
-		{
-			buffer.append((i > 0 ? "," : "") + wordForms[i]);
-		}
-		buffer.append("] - ");
-		buffer.append(getDefinition());
-		return buffer.toString();
-	}
-
-	/**
-	 * Answer if the receiver has been populated with 
-	 * lexical and semantic relations.
-	 * 
-	 * @return
-	 */
-	boolean isPopulated() {
-		for (int i = 0; i < tagCounts.length; i++) {
-			if (tagCounts[i] > 0) {
-				return true;
-			}
-		}
-		return false;
-	}
-
-	/**
-	 * Populate all the semantic and lexical relationships.
-	 */
-	protected String [] populateRelationships() {
-		String [] wordForms = getWordForms();
-		
-		// Populate the lexical relationships
-		for (int i = 0; i < wordForms.length; i++) {
-			String wordForm = wordForms[i];
-			
-			getAntonyms(wordForm);
-			getDerivationallyRelatedForms(wordForm);
-		}
-		
-		// Populate the semantic relationships.
-		getRegions();
-		getTopics();
-		getUsages();
-		
-		return wordForms;
-	}
-	
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import edu.smu.tspell.wordnet.AdjectiveSynset;
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.NounSynset;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.VerbSynset;
+import edu.smu.tspell.wordnet.WordNetException;
+import edu.smu.tspell.wordnet.WordSense;
+import edu.smu.tspell.wordnet.impl.AbstractSynset;
+import edu.smu.tspell.wordnet.impl.Gloss;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * A synset implementation that supports the concept of unresolved semantic
+ * and lexical relationships to other synsets. An "unresolved" relationship
+ * is one for which we have identifying information for the related synset(s)
+ * but have not yet converted that information into an actual reference to
+ * another synset object. Conversely, a "resolved" relationship is one for
+ * which the identifying information has been converted into an object
+ * reference to another synset. This approach allows us to load synset
+ * information without immediately loading / creating the synsets to which
+ * that original one has relationships defined. In other words, we can perform
+ * lazy instantiation of the related synsets only when / if a request is made
+ * to access them.
+ * <br><p>
+ * Note that the unresolved / resolved state for a given relationship is a
+ * one-way conversion. In on other words, once an unresolved relationship is
+ * converted to a resolved object reference, the original relationship
+ * information is assumed to no longer be needed and is dropped. As a result,
+ * it's not practical (and probably isn't ever necessary) to convert a
+ * resolved object reference back to an unresolved relationship. 
+ * 
+ * @author Brett Spell
+ */
+/**
+ * @author fcr
+ *
+ */
+/**
+ * @author fcr
+ *
+ */
+/**
+ * @author fcr
+ *
+ */
+public abstract class ReferenceSynset extends AbstractSynset
+{
+
+	/**
+	 * Keys of the word senses associated with this synset.
+	 */
+	private SenseKey[] senseKeys;
+
+	/**
+	 * Tag count associated with each word sense.
+	 */
+	private int[] tagCounts;
+
+	/**
+	 * Returned when a synset has no unresolved semantic relationships.
+	 */
+	private final static SynsetPointer[] NO_SYNSET_POINTERS =
+			new SynsetPointer[0];
+
+	/**
+	 * Returned when a synset has no unresolved lexical relationships.
+	 */
+	private final static WordSensePointer[] NO_SENSE_POINTERS =
+			new WordSensePointer[0];
+
+	/**
+	 * Returned when a synset has no noun synsets of a relationship type.
+	 */
+	private final static NounSynset[] NO_NOUN_SYNSETS = new NounSynset[0];
+
+	/**
+	 * Returned when a synset has no verb synsets of a relationship type.
+	 */
+	private final static VerbSynset[] NO_VERB_SYNSETS = new VerbSynset[0];
+
+	/**
+	 * Returned when a synset has no adjective synsets of a relationship type.
+	 */
+	private final static AdjectiveSynset[] NO_ADJECTIVE_SYNSETS =
+			new AdjectiveSynset[0];
+
+	/**
+	 * Encapsulates the unresolved relationships between this synset and
+	 * others; <code>null</code> once the synset has been linked, unless some
+	 * of the related synsets weren't loaded (see {@link LoadProfile}).
+	 */
+	private volatile RelationshipPointers pointers;
+
+	/**
+	 * Number of the lexical file associated with this synset.
+	 */
+	private int lexicalFileNumber;
+
+	/**
+	 * Offset into the appropriate data file where this synset is defined.
+	 */
+	private int offset;
+
+	/**
+	 * Value of the gloss length indicating that the gloss has been moved
+	 * to the gloss store, in which case the offset is its entry number.
+	 */
+	private final static int STORED_GLOSS = -1;
+
+	/**
+	 * Offset into the data file of the gloss, if it hasn't been parsed.
+	 */
+	private int glossOffset;
+
+	/**
+	 * Number of characters in the gloss, if it hasn't been parsed.
+	 */
+	private int glossLength;
+
+	/**
+	 * Factory that created this synset and through which its relationships
+	 * are resolved; <code>null</code> indicates the default factory.
+	 */
+	private SynsetFactory factory;
+
+	/**
+	 * Encapsulates the resolved relationships between this synset and others.
+	 * The collection is immutable and is replaced as relationships are
+	 * resolved, so it can be read without locking.
+	 */
+	private volatile RelationshipReferences references =
+			RelationshipReferences.EMPTY;
+
+	/**
+	 * Replaces <code>references</code> atomically, so that relationships
+	 * resolved concurrently by different threads are all kept.
+	 */
+	private final static AtomicReferenceFieldUpdater<ReferenceSynset,
+			RelationshipReferences> REFERENCES_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(ReferenceSynset.class,
+			RelationshipReferences.class, "references");
+
+	/**
+	 * Names of the memory footprint components of the synsets of each type,
+	 * indexed by the code of the type.
+	 */
+	private final static String[] FOOTPRINT_COMPONENTS =
+	{
+		null,
+		"synsets.noun",
+		"synsets.verb",
+		"synsets.adjective",
+		"synsets.adverb",
+		"synsets.adjectiveSatellite"
+	};
+
+	/**
+	 * Constructor that accepts the basic synset properties.
+	 * 
+	 * @param  type Type of synset this instance represents.
+	 * @param  definition Short description / definition of the meaning.
+	 * @param  examples Examples of how the synset is used.
+	 * @param  senseKeys Keys of word senses associated with this synset.
+	 * @param  pointers Unresolved relationships.
+	 * @param  lexicalFile Number of the lexical file containing synset.
+	 * @param  offset Byte offset into the data file where synset is defined.
+	 */
+	protected ReferenceSynset(SynsetType type, String definition,
+			String[] examples, SenseKey[] senseKeys,
+			RelationshipPointers pointers, int lexicalFile, int offset)
+	{
+		super(type, definition, examples);
+		this.senseKeys = senseKeys;
+		this.pointers = pointers;
+		this.lexicalFileNumber = lexicalFile;
+		this.offset = offset;
+
+		this.tagCounts = new int[senseKeys.length];
+		for (int i = 0; i < tagCounts.length; i++)
+		{
+			tagCounts[i] = -1;
+		}
+	}
+
+	/**
+	 * Retrieve the word forms.
+	 * 
+	 * @return Array of synonymous words and phrases.
+	 */
+	public String[] getWordForms()
+	{
+		String[] wordForms = new String[senseKeys.length];
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			wordForms[i] = senseKeys[i].getLemma();
+		}
+		return wordForms;
+	}
+
+	/**
+	 * Returns a number that's intended to provide an approximation of how
+	 * frequently the specified word form is used to represent this meaning
+	 * relative to how often it's used to represent other meanings.
+	 * 
+	 * @param  wordForm Word form for which to return the tag count.
+	 * @return Number that's used to indicate an approximate frequency of use.
+	 * @throws WordNetException The specified word form is not part of this
+	 *         synset.
+	 * @see    <a href="http://wordnet.princeton.edu/man/cntlist.5WN">Format
+	 *         of <i>cntlist</i> File.</a>
+	 */
+	public int getTagCount(String wordForm) throws WordNetException
+	{
+		int index = getWordIndex(
+				TextTranslator.translateToExternalFormat(wordForm));
+		if (index < 0)
+		{
+			throw new WordNetException("Attempted to get the tag count for '" +
+					wordForm + "' from a synset that does not contain it.");
+		}
+		//  Synsets that were loaded with the database have every tag count
+		//  filled in by freeze(); others look them up on first use, which
+		//  at worst results in several threads storing the same value
+		if (tagCounts[index] < 0)
+		{
+			SenseIndexEntry entry = getIndexEntry(senseKeys[index]);
+			tagCounts[index] = entry.getTagCount();
+		}
+		return tagCounts[index];
+	}
+	
+	/**
+	/**
+	 * Returns SynsetIndexEntry that corresponds to the reciever.
+	 *
+	 * @return Value that uniquely identifies a word sense.
+	 * @param  wordForm Word form for which to return the sense number.
+	 * @throws WordNetException The specified word form is not part of this
+	 */
+	private SenseIndexEntry getSenseIndexEntry(String wordForm) throws WordNetException
+	{
+		int index = getWordIndex(
+				TextTranslator.translateToExternalFormat(wordForm));
+		if (index < 0)
+		{
+			throw new WordNetException("Attempted to get the tag count for '" +
+					wordForm + "' from a synset that does not contain it.");
+		}
+		SenseIndexEntry entry = getIndexEntry(senseKeys[index]);
+		return entry;
+	}
+	
+	/**
+	 * Compare two synsets using information from the SenseIndex.
+	 * 
+	 * @param wordForm
+	 * @param o
+	 * @return
+	 */
+	public int compareSenseIndex(String wordForm, ReferenceSynset o) {
+		SenseIndexEntry thisEntry = getSenseIndexEntry(wordForm);
+		SenseIndexEntry thatEntry = o.getSenseIndexEntry(wordForm);
+		return thisEntry.compareTo(thatEntry);
+	}
+	
+	/**
+	 * Set a number that's intended to provide an approximation of how
+	 * frequently the specified word form is used to represent this meaning
+	 * relative to how often it's used to represent other meanings.
+	 * 
+	 * @param  wordForm Word form for which to return the tag count.
+	 * @param  tagCount - the tag count.
+	 * @return Number that's used to indicate an approximate frequency of use.
+	 * @see    <a href="http://wordnet.princeton.edu/man/cntlist.5WN">Format
+	 *         of <i>cntlist</i> File.</a>
+	 */
+	void setTagCount(String wordForm, int tagCount)
+	{
+		int index = getWordIndex(wordForm);
+		tagCounts[index] = tagCount;
+	}
+
+	/**
+	 * Sets the tag count of the word at the specified index.
+	 * 
+	 * @param  wordIndex Index of the word form within this synset.
+	 * @param  tagCount The tag count.
+	 */
+	void setTagCount(int wordIndex, int tagCount)
+	{
+		tagCounts[wordIndex] = tagCount;
+	}
+
+	/**
+	 * Returns the tag count recorded for the word at the specified index
+	 * without consulting the sense index.
+	 * 
+	 * @param  wordIndex Index of the word form within this synset.
+	 * @return Tag count of the word or a negative value if none has been
+	 *         recorded yet.
+	 */
+	int getRecordedTagCount(int wordIndex)
+	{
+		return tagCounts[wordIndex];
+	}
+
+	/**
+	 * Returns the number of word forms in this synset.
+	 * 
+	 * @return Number of word forms in this synset.
+	 */
+	int getWordCount()
+	{
+		return senseKeys.length;
+	}
+	
+	/**
+	 * Returns the index of the word form that matches the one specified.
+	 * 
+	 * @param  wordForm Word form for which to return the index.
+	 * @return Index of the specified word form in this synset's word list or
+	 *         -1 if the word form does not appear in this synset.
+	 */
+	private int getWordIndex(String wordForm)
+	{
+		int index = -1;
+		for (int i = 0; i < senseKeys.length; i++)
+		{
+			if (senseKeys[i].hasLemma(wordForm))
+			{
+				index = i;
+				break;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Identifies the lexicographer file containing the synset.
+	 * 
+	 * @return Lexicographer file number.
+	 */
+	public int getLexicalFileNumber()
+	{
+		return lexicalFileNumber;
+	}
+
+	/**
+	 * Returns the byte position within the appropriate data file where this
+	 * synset is defined.
+	 * 
+	 * @return Byte offset of this synset within the appropriate data file.
+	 */
+	public int getOffset()
+	{
+		return offset;
+	}
+
+	/**
+	 * Returns the antonyms (words with the opposite meaning), if any,
+	 * associated with a word form in this synset.
+	 * <br><p>
+	 * For example, an antonym of "inhale" is "exhale".
+	 * 
+	 * @param  wordForm Word form for which to return antonyms.
+	 * @return The antonyms of this synset.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	public WordSense[] getAntonyms(String wordForm) throws WordNetException
+	{
+		return getReferences(RelationshipType.ANTONYM, wordForm);
+	}
+
+	/**
+	 * Returns word forms that derivationally related to the one specified.
+	 * <br><p>
+	 * For example, a derivationally related form of "meter" is "metrical".
+	 * 
+	 * @param  wordForm Word form for which to return derivationally related
+	 *         senses.
+	 * @return Derivationally related word senses.
+	 * @throws RetrievalException An error occurred retrieving data.
+	 */
+	public WordSense[] getDerivationallyRelatedForms(String wordForm)
+			throws RetrievalException
+	{
+		return getReferences(RelationshipType.RELATED_FORM, wordForm);
+	}
+
+	/**
+	 * Returns the set of synsets that have the specified type of
+	 * relationship to this synset.
+	 * <br><p>
+	 * The array that's returned is a copy, so callers can't modify the
+	 * relationships that are shared with other threads.
+	 * 
+	 * @param  type Type of relationship for which to return synsets.
+	 * @return Synsets that have the specified relationship type.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	protected Synset[] getSynsets(RelationshipType type)
+			throws WordNetException
+	{
+		return getResolvedSynsets(type).clone();
+	}
+
+	/**
+	 * Returns the stored set of synsets that have the specified type of
+	 * relationship to this synset, which must not be modified.
+	 * <br><p>
+	 * The relationships are resolved the first time they're requested. If
+	 * several threads request them at the same time, each may resolve them
+	 * but only the first result to be stored is kept and returned to all of
+	 * them, so the same array is always returned for a relationship type.
+	 * 
+	 * @param  type Type of relationship for which to return synsets.
+	 * @return Synsets that have the specified relationship type.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	private Synset[] getResolvedSynsets(RelationshipType type)
+			throws WordNetException
+	{
+		Synset[] synsets = getReferences(type);
+		if (synsets == null)
+		{
+			synsets = putReferences(type,
+					SynsetLinker.toTypedArray(resolvePointers(type)));
+		}
+		return synsets;
+	}
+
+	/**
+	 * Returns the set of noun synsets that have the specified type of
+	 * relationship to this synset.
+	 * 
+	 * @param  type Type of relationship for which to return noun synsets.
+	 * @return Noun synsets that have the specified relationship type.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	protected NounSynset[] getNounSynsets(RelationshipType type)
+			throws WordNetException
+	{
+		Synset[] synsets = getResolvedSynsets(type);
+		if (synsets.length == 0)
+		{
+			return NO_NOUN_SYNSETS;
+		}
+		if (synsets instanceof NounSynset[])
+		{
+			return ((NounSynset[])synsets).clone();
+		}
+		NounSynset[] nounSynsets = new NounSynset[synsets.length];
+		System.arraycopy(synsets, 0, nounSynsets, 0, synsets.length);
+		return nounSynsets;
+	}
+
+	/**
+	 * Returns the set of verb synsets that have the specified type of
+	 * relationship to this synset.
+	 * 
+	 * @param  type Type of relationship for which to return verb synsets.
+	 * @return Verb synsets that have the specified relationship type.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	protected VerbSynset[] getVerbSynsets(RelationshipType type)
+			throws WordNetException
+	{
+		Synset[] synsets = getResolvedSynsets(type);
+		if (synsets.length == 0)
+		{
+			return NO_VERB_SYNSETS;
+		}
+		if (synsets instanceof VerbSynset[])
+		{
+			return ((VerbSynset[])synsets).clone();
+		}
+		VerbSynset[] verbSynsets = new VerbSynset[synsets.length];
+		System.arraycopy(synsets, 0, verbSynsets, 0, synsets.length);
+		return verbSynsets;
+	}
+
+	/**
+	 * Returns the set of adjective synsets that have the specified type of
+	 * relationship to this synset.
+	 * 
+	 * @param  type Type of relationship for which to return adjective synsets.
+	 * @return Adjective synsets that have the specified relationship type.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	protected AdjectiveSynset[] getAdjectiveSynsets(
+			RelationshipType type) throws WordNetException
+	{
+		Synset[] synsets = getResolvedSynsets(type);
+		if (synsets.length == 0)
+		{
+			return NO_ADJECTIVE_SYNSETS;
+		}
+		if (synsets instanceof AdjectiveSynset[])
+		{
+			return ((AdjectiveSynset[])synsets).clone();
+		}
+		AdjectiveSynset[] adjectiveSynsets =
+				new AdjectiveSynset[synsets.length];
+		System.arraycopy(synsets, 0, adjectiveSynsets, 0, synsets.length);
+		return adjectiveSynsets;
+	}
+
+	/**
+	 * Returns resolved references to synsets that have a semantic relationship
+	 * of the specified type.
+	 * 
+	 * @param  type Type of relationship for which to return synsets.
+	 * @return Synsets that have the specified semantic relationship.
+	 */
+	private Synset[] getReferences(RelationshipType type)
+	{
+		awaitRelationships();
+		return references.getSemanticRelationships(type);
+	}
+
+	/**
+	 * Stores the list of synsets that have a specific type of semantic
+	 * relationship, unless another thread has already stored them.
+	 * 
+	 * @param  type Type of relationship for which to store synset references.
+	 * @param  synsets Synsets that have the specified relationship type.
+	 * @return Synsets that are stored for the relationship type, which are
+	 *         the ones specified unless another thread stored them first.
+	 */
+	private Synset[] putReferences(RelationshipType type, Synset[] synsets)
+	{
+		while (true)
+		{
+			RelationshipReferences current = references;
+			Synset[] stored = current.getSemanticRelationships(type);
+			if (stored != null)
+			{
+				return stored;
+			}
+			if (REFERENCES_UPDATER.compareAndSet(this, current,
+					current.withSemanticRelationships(type, synsets)))
+			{
+				return synsets;
+			}
+		}
+	}
+
+	/**
+	 * Stores the lexical relationships of a specific type for a word form,
+	 * unless another thread has already stored them.
+	 * 
+	 * @param  wordForm Word form, in external format, for which to store
+	 *         the relationships.
+	 * @param  type Type of relationship for which to store word senses.
+	 * @param  senses Word senses that have the specified relationship type.
+	 * @return Word senses that are stored for the word form and type, which
+	 *         are the ones specified unless another thread stored them first.
+	 */
+	private WordSense[] putReferences(String wordForm, RelationshipType type,
+			WordSense[] senses)
+	{
+		while (true)
+		{
+			RelationshipReferences current = references;
+			WordSense[] stored = current.getLexicalRelationships(wordForm, type);
+			if (stored != null)
+			{
+				return stored;
+			}
+			RelationshipReferences updated =
+					current.withLexicalRelationships(wordForm, type, senses);
+			//  Word forms that aren't in the dictionary can't be stored
+			if ((updated == current) ||
+					REFERENCES_UPDATER.compareAndSet(this, current, updated))
+			{
+				return senses;
+			}
+		}
+	}
+
+	/**
+	 * Converts unresolved pointers of a particular type to resolved
+	 * references to the corresponding synsets.
+	 * <br><p>
+	 * This is only used for synsets that haven't been linked by a
+	 * {@link SynsetLinker} and for relationships to synsets outside of the
+	 * {@link LoadProfile}; linked synsets store references for all of their
+	 * other relationships.
+	 * 
+	 * @param  type Type of relationships to resolve and return.
+	 * @return Synsets that were referenced by pointers.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	private Synset[] resolvePointers(RelationshipType type)
+			throws WordNetException
+	{
+		SynsetPointer[] pointers = getPointers(type);
+		SynsetFactory factory = getFactory();
+		Synset[] synsets = new Synset[pointers.length];
+		for (int i = 0; i < synsets.length; i++)
+		{
+			synsets[i] = factory.getSynset(pointers[i]);
+		}
+		return synsets;
+	}
+
+	/**
+	 * Returns all unresolved synset pointers for a particular relationship
+	 * type.
+	 * 
+	 * @param  type Type of relationship for which to return pointers.
+	 * @return Pointers to synsets which have the specified relationship but
+	 *         for which the references have not yet been resolved.
+	 */
+	private SynsetPointer[] getPointers(RelationshipType type)
+	{
+		RelationshipPointers unresolved = pointers;
+		return (unresolved != null ?
+				unresolved.getSemanticRelationships(type) : NO_SYNSET_POINTERS);
+	}
+
+	/**
+	 * Converts all unresolved pointers of this synset into references using
+	 * a linker and then drops the pointers. Relationships to synsets that
+	 * the linker doesn't provide are left unresolved, in which case the
+	 * pointers are kept.
+	 * <br><p>
+	 * The references are stored in arrays whose component type is the most
+	 * specific synset interface shared by the referenced synsets, so that
+	 * they're suitable for the typed accessors (e.g.,
+	 * {@link #getNounSynsets(RelationshipType)}).
+	 * 
+	 * @param  linker Linker used to locate the referenced synsets.
+	 */
+	void linkRelationships(SynsetLinker linker)
+	{
+		RelationshipPointers current = pointers;
+		if (current == null)
+		{
+			return;
+		}
+		boolean unresolved = false;
+		RelationshipType[] types = current.getSemanticRelationshipTypes();
+		for (int i = 0; i < types.length; i++)
+		{
+			SynsetPointer[] targets = current.getSemanticRelationships(types[i]);
+			if (targets.length > 0)
+			{
+				Synset[] synsets = new Synset[targets.length];
+				for (int j = 0; (j < targets.length) && (synsets != null); j++)
+				{
+					synsets[j] = linker.getSynset(targets[j]);
+					if (synsets[j] == null)
+					{
+						synsets = null;
+					}
+				}
+				if (synsets != null)
+				{
+					putReferences(types[i], SynsetLinker.toTypedArray(synsets));
+				}
+				else
+				{
+					unresolved = true;
+				}
+			}
+		}
+		String[] wordForms = current.getLexicalWordForms();
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			types = current.getLexicalRelationshipTypes(wordForms[i]);
+			for (int j = 0; j < types.length; j++)
+			{
+				WordSensePointer[] targets = current.getLexicalRelationships(
+						wordForms[i], types[j]);
+				WordSense[] senses = new WordSense[targets.length];
+				for (int k = 0; (k < targets.length) && (senses != null); k++)
+				{
+					Synset synset = linker.getSynset(targets[k]);
+					if (synset != null)
+					{
+						senses[k] = new WordSense(synset.getWordForms()[
+								targets[k].getWordNumber() - 1], synset);
+					}
+					else
+					{
+						senses = null;
+					}
+				}
+				if (senses != null)
+				{
+					putReferences(wordForms[i], types[j], senses);
+				}
+				else
+				{
+					unresolved = true;
+				}
+			}
+		}
+		if (!unresolved)
+		{
+			pointers = null;
+		}
+	}
+
+	/**
+	 * Identifies the topics with which this synset is associated.
+	 * <br><p>
+	 * For example, "acidic" is within the domain of "chemistry".
+	 * 
+	 * @return Topics / subjects associated with this synset.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	public NounSynset[] getTopics() throws WordNetException
+	{
+		return getNounSynsets(RelationshipType.DOMAIN_TOPIC);
+	}
+
+	/**
+	 * Identifies the regions with which this synset is associated.
+	 * <br><p>
+	 * For example, "al dente" is within the domain of "Italy".
+	 * 
+	 * @return Region associated with this synset.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	public NounSynset[] getRegions() throws WordNetException
+	{
+		return getNounSynsets(RelationshipType.DOMAIN_REGION);
+	}
+
+	/**
+	 * Identifies the usage types associated with this synset.
+	 * <br><p>
+	 * For example, "boom box" is a "colloquialism".
+	 * 
+	 * @return Usage types associated with this synset.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	public NounSynset[] getUsages() throws WordNetException
+	{
+		return getNounSynsets(RelationshipType.DOMAIN_USAGE);
+	}
+
+	/**
+	 * Returns either zero or one word sense for a particular relationship
+	 * type and word form. This is used when there can't be more than one
+	 * relationship of a particular type for a given word form and this code
+	 * validates that cardinality, throwing an exception if it is violated.
+	 * 
+	 * @param  type Relationship type for which to return a word sense.
+	 * @param  wordForm Word form for which to return the word sense.
+	 * @return Word sense for the specified word form of the indicated type or
+	 *         <code>null</code> if no such relationship exists.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	protected WordSense getSingletonSense(
+			RelationshipType type, String wordForm) throws WordNetException
+	{
+		WordSense sense;
+		WordSense[] references =
+				getResolvedReferences(RelationshipType.PARTICIPLE, wordForm);
+		switch (references.length)
+		{
+			//  Zero is ok; it means that there isn't one
+			case 0:
+				sense = null;
+				break;
+			//  One is also ok; save a reference to it
+			case 1:
+				sense = references[0];
+				break;
+			//  More than one is invalid
+			default:
+				throw new WordNetException(
+						"Can't resolve to a exactly one reference of type " +
+						type + ": " + this);
+		}
+		return sense;
+	}
+
+	/**
+	 * Returns the lexical relationships for a particular word form.
+	 * <br><p>
+	 * Note that the relationships are left as pointers until they're
+	 * actually retrieved for the first time, at which point they'll be
+	 * resolved.
+	 * 
+	 * @param  type Type of relationships to return.
+	 * @param  wordForm Word form for which to return lexical relationships.
+	 * @return Copy of the lexical relationships of a single type for the
+	 *         specified word form.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	protected WordSense[] getReferences(
+			RelationshipType type, String wordForm) throws WordNetException
+	{
+		WordSense[] senses = getResolvedReferences(type, wordForm);
+		return (senses.length > 0 ? senses.clone() : senses);
+	}
+
+	/**
+	 * Returns the stored lexical relationships for a particular word form,
+	 * which must not be modified, resolving them if they haven't been
+	 * resolved yet.
+	 * 
+	 * @param  type Type of relationships to return.
+	 * @param  wordForm Word form for which to return lexical relationships.
+	 * @return Lexical relationships of a single type for the specified word
+	 *         form.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	private WordSense[] getResolvedReferences(
+			RelationshipType type, String wordForm) throws WordNetException
+	{
+		Synset synset;
+		String[] wordForms;
+
+		awaitRelationships();
+		wordForm = TextTranslator.translateToExternalFormat(wordForm);
+		//  Get relationship we already resolved
+		WordSense[] senses = references.getLexicalRelationships(wordForm, type);
+		//  If we haven't resolved them, do it now
+		if (senses == null)
+		{
+			//  Get the lexical relationship pointers
+			RelationshipPointers unresolved = pointers;
+			WordSensePointer[] sensePtrs = (unresolved != null ?
+					unresolved.getLexicalRelationships(wordForm, type) :
+					NO_SENSE_POINTERS);
+			//  Create a new array for the relationships
+			senses = new WordSense[sensePtrs.length];
+			SynsetFactory factory = getFactory();
+			//  Loop through the pointers and resolve each one
+			for (int i = 0; i < senses.length; i++)
+			{
+				//  Get (and possibly create) the synset
+				synset = factory.getSynset(sensePtrs[i]);
+				//  Now get the word form in the target synset
+				wordForms = synset.getWordForms();
+				senses[i] = new WordSense(
+						wordForms[sensePtrs[i].getWordNumber() - 1], synset);
+			}
+			senses = putReferences(wordForm, type, senses);
+		}
+		return senses;
+	}
+
+	/**
+	 * Returns the sense key that corresponds to the word at the specified
+	 * index.
+	 * 
+	 * @param  wordIndex Index of the word form for which to return the sense
+	 *         key.
+	 * @return Sense key associated with the word at the specified index.
+	 */
+	protected SenseKey getSenseKey(int wordIndex)
+	{
+		return senseKeys[wordIndex];
+	}
+
+	/**
+	 * Returns the number of word senses in this synset.
+	 * 
+	 * @return Number of word senses (and sense keys).
+	 */
+	protected int getSenseCount()
+	{
+		return senseKeys.length;
+	}
+
+	/* (non-Javadoc)
+	 * @see edu.smu.tspell.wordnet.Synset#getSenseKeys()
+	 */
+	@Override
+	public String [] getSenseKeys()
+	{
+		String [] keys = new String [senseKeys.length];
+		for (int i = 0; i < senseKeys.length; i++) {
+			SenseKey senseKey = senseKeys[i];
+			keys[i] = senseKey.toString();
+		}
+		return keys;
+	}
+
+	/**
+	 * Returns the entry from the sense index file that corresponds to a
+	 * word sense in this synset.
+	 * <br><p>
+	 * Because we don't have the full sense key when we build the entries
+	 * in this synset (we only have what's in the pos.data file for the
+	 * synset), we'll need to check this synset's offset / pointer value
+	 * with each one that's stored in the index entries. That's necessary
+	 * because there can be multiple index entries that vary only by their
+	 * head word information, and since we don't have the head word
+	 * information we'll need to make sure that the index entry is associated
+	 * with this synset by comparing offset values.
+	 * 
+	 * @param  senseKey Sense key for which to return the sense index entry.
+	 * @return Index entry for this synset's word sense.
+	 */
+	protected SenseIndexEntry getIndexEntry(SenseKey senseKey)
+	{
+		return getFactory().getSenseIndexEntry(senseKey);
+	}
+
+	/**
+	 * Returns the adjective satellite entries of the sense index that have
+	 * the specified partial sense key (that is, without head word).
+	 * 
+	 * @param  senseKey Sense key, whose head word (if any) is ignored.
+	 * @return Matching entries or <code>null</code> if there are none.
+	 */
+	protected List<SenseIndexEntry> getSatelliteIndexEntries(SenseKey senseKey)
+	{
+		return getFactory().getSatelliteEntries(senseKey);
+	}
+
+	/**
+	 * Returns the factory through which this synset's relationships and
+	 * sense index entries are retrieved.
+	 * 
+	 * @return Factory that created this synset.
+	 */
+	protected SynsetFactory getFactory()
+	{
+		return (factory != null ? factory : SynsetFactory.getInstance());
+	}
+
+	/**
+	 * Waits while the database is being loaded until the relationships of
+	 * this synset have been resolved, so that they're never read while
+	 * they're being updated.
+	 */
+	protected void awaitRelationships()
+	{
+		getFactory().awaitLinking();
+	}
+
+	/**
+	 * Records the location of the gloss of a synset that was created
+	 * without its definition and example sentences, so that the gloss can
+	 * be read and parsed when it's first needed.
+	 * 
+	 * @param  glossOffset Offset into the data file of the gloss.
+	 * @param  glossLength Number of characters in the gloss.
+	 * @see    PropertyNames#lazyGlosses
+	 */
+	void setGlossLocation(int glossOffset, int glossLength)
+	{
+		this.glossOffset = glossOffset;
+		this.glossLength = glossLength;
+	}
+
+	/**
+	 * Moves the definition and example sentences of this synset to a gloss
+	 * store, from which they're decoded each time they're requested.
+	 * 
+	 * @param  store Store to which the gloss is added.
+	 * @see    PropertyNames#glossStore
+	 */
+	void storeGloss(GlossStore store)
+	{
+		int entry = store.add(super.getDefinition(), super.getUsageExamples());
+		discardGloss();
+		glossOffset = entry;
+		glossLength = STORED_GLOSS;
+	}
+
+	/**
+	 * Retrieve a short description / definition of this concept.
+	 * 
+	 * @return Description / definition of what this synset represents.
+	 */
+	public String getDefinition()
+	{
+		if (glossLength == STORED_GLOSS)
+		{
+			return GlossStore.getInstance().getGloss(glossOffset)
+					.getDefinition();
+		}
+		return super.getDefinition();
+	}
+
+	/**
+	 * Retrieve sentences showing examples of how this synset is used.
+	 * 
+	 * @return Example sentences.
+	 */
+	public String[] getUsageExamples()
+	{
+		if (glossLength == STORED_GLOSS)
+		{
+			String[] examples = GlossStore.getInstance().getGloss(glossOffset)
+					.getExamples();
+			//  Decoded glosses may be cached and shared
+			return (examples.length > 0 ? examples.clone() : examples);
+		}
+		return super.getUsageExamples();
+	}
+
+	/**
+	 * Reads the gloss from the data file and parses it.
+	 * 
+	 * @return Content of the gloss.
+	 * @throws RetrievalException An error occurred reading the gloss.
+	 */
+	protected Gloss readGloss()
+	{
+		return Gloss.parse(getFactory().readGloss(
+				getType(), glossOffset, glossLength));
+	}
+
+	/**
+	 * Adds this synset and the structures that only it refers to, such as
+	 * its relationships, to a memory footprint. Subclasses that hold other
+	 * structures add them as well.
+	 * 
+	 * @param  footprint Footprint to which the synset is added.
+	 */
+	public void estimateFootprint(MemoryFootprint footprint)
+	{
+		footprint.add(FOOTPRINT_COMPONENTS[getType().getCode()], 1,
+				getEstimatedSize());
+		RelationshipPointers unresolved = pointers;
+		if (unresolved != null)
+		{
+			footprint.add("relationshipPointers", 1,
+					unresolved.getEstimatedSize());
+		}
+		footprint.add("relationshipReferences", 1,
+				references.getEstimatedSize());
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this synset, including
+	 * its sense keys and tag counts but not its relationships.
+	 * 
+	 * @return Estimated number of bytes used by this synset.
+	 */
+	protected long getEstimatedSize()
+	{
+		long size = super.getEstimatedSize() +
+				5 * SizeEstimates.REFERENCE_SIZE + 16 +
+				SizeEstimates.getArraySize(senseKeys.length,
+				SizeEstimates.REFERENCE_SIZE) +
+				SizeEstimates.getArraySize(tagCounts.length, 4);
+		for (int i = 0; i < senseKeys.length; i++)
+		{
+			size += senseKeys[i].getEstimatedSize();
+		}
+		return size;
+	}
+
+	/**
+	 * Records the factory that created this synset.
+	 * 
+	 * @param  factory Factory that created this synset.
+	 */
+	void setFactory(SynsetFactory factory)
+	{
+		this.factory = factory;
+	}
+
+	/**
+	 * Returns a hash code for the object.
+	 * 
+	 * @return Returns the numeric code associated with this instance.
+	 */
+	public int hashCode()
+	{
+		return getOffset();
+	}
+
+	/**
+	 * Indicates whether some object is "equal to" this one.
+	 * 
+	 * @param  o The reference object with which to compare.
+	 * @return <code>true</code> if this object is "equal to" the reference
+	 *         one; <code>false</code> otherwise.
+	 */
+	public boolean equals(Object o)
+	{
+		boolean isEqual = false;
+		if (o != null)
+		{
+			ReferenceSynset target = (ReferenceSynset)o;
+			isEqual = ((this.getType().equals(target.getType())) &&
+					(this.getOffset() == target.getOffset()));
+		}
+		return isEqual;
+	}
+
+	/**
+	 * Returns a string representation of this object.
+	 * 
+	 * @return String representation of this object.
+	 */
+	public String toString()
+	{
+		String[] typeNames =
+				{"Noun", "Verb", "Adjective", "Adverb", "AdjectiveSatellite"};
+		StringBuffer buffer = new StringBuffer(
+				typeNames[getType().getCode() - 1] + "@" + getOffset() + "[");
+		String[] wordForms = getWordForms();
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			buffer.append((i > 0 ? "," : "") + wordForms[i]);
+		}
+		buffer.append("] - ");
+		buffer.append(getDefinition());
+		return buffer.toString();
+	}
+
+	/**
+	 * Answer if the receiver has been populated with 
+	 * lexical and semantic relations.
+	 * 
+	 * @return
+	 */
+	boolean isPopulated() {
+		for (int i = 0; i < tagCounts.length; i++) {
+			if (tagCounts[i] > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Completes every part of this synset that would otherwise be filled in
+	 * on first use, so that it's never modified again and can be read by
+	 * any number of threads without synchronization. This is called by
+	 * {@link WordFormLookup} for each loaded synset before the relationships
+	 * are made available to other threads, which also publishes the values
+	 * stored here.
+	 * <br><p>
+	 * The relationships are resolved by {@link #populateRelationships()} and
+	 * the tag counts are read from the sense index entries. Subclasses that
+	 * have other lazily resolved values may override this method to resolve
+	 * those as well. Glosses that are deferred and the sentence frames of
+	 * verbs are deliberately left until they're requested to save memory;
+	 * those are only ever published through volatile fields.
+	 */
+	protected void freeze()
+	{
+		populateRelationships();
+		for (int i = 0; i < tagCounts.length; i++)
+		{
+			if (tagCounts[i] < 0)
+			{
+				SenseIndexEntry entry = getIndexEntry(senseKeys[i]);
+				if (entry != null)
+				{
+					tagCounts[i] = entry.getTagCount();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Populate all the semantic and lexical relationships.
+	 */
+	protected String [] populateRelationships() {
+		String [] wordForms = getWordForms();
+		
+		// Populate the lexical relationships
+		for (int i = 0; i < wordForms.length; i++) {
+			String wordForm = wordForms[i];
+			
+			getAntonyms(wordForm);
+			getDerivationallyRelatedForms(wordForm);
+		}
+		
+		// Populate the semantic relationships.
+		getRegions();
+		getTopics();
+		getUsages();
+		
+		return wordForms;
+	}
+	
 }
\ No newline at end of file
@@ -1,238 +1,471 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-/**
- * Encapsulates relationship pointers for a synset and its words. These
- * may be used, for example, when a synset is first read from disk to
- * represent the synset's relationships to other synsets without loading /
- * instantiating those synsets. In other words, by maintaining a list of
- * pointers, we can load related synsets only when they're actually needed.
- * 
- * @author Brett Spell
- * @see <a href="http://wordnet.princeton.edu/man/wninput.5WN#sect3">Format
- *      of Lexicographer Files ("Pointers")</a>
- */
-public class RelationshipPointers
-{
-
-	/**
-	 * The "key" value used to represent semantic relationships. This allows
-	 * us to treat semantic and lexical relationships essentially the same
-	 * way, where the key value for semantic relationships is the constant
-	 * defined here and the key value for each lexical relationship is the
-	 * word form associated with the relationship.
-	 */
-	private final static String SYNSET_KEY = "*";
-
-	/**
-	 * Maintains information about lexical and semantic relationships. For
-	 * each entry in the map, the key is either a word form (for lexical
-	 * relationships) or an arbitrarily selected string that's used to
-	 * represent synset / semantic relationships.
-	 * 
-	 * @see #SYNSET_KEY
-	 */
-	private Map sourceMaps = new HashMap();
-
-	/**
-	 * No-argument constructor.
-	 */
-	public RelationshipPointers()
-	{
-	}
-
-	/**
-	 * Adds a semantic relationship.
-	 * 
-	 * @param  type Type of relationship to add.
-	 * @param  pointer Pointer to the associated synset.
-	 */
-	public void addSemanticRelationship(
-			RelationshipType type, SynsetPointer pointer)
-	{
-		add(SYNSET_KEY, type, pointer);
-	}
-
-	/**
-	 * Adds a lexical relationship.
-	 * 
-	 * @param  wordForm Source word for which to add a relationship.
-	 * @param  type Type of relationship to add.
-	 * @param  pointer Pointer to the associated synset.
-	 */
-	public void addLexicalRelationship(String wordForm, RelationshipType type,
-			WordSensePointer pointer)
-	{
-		add(wordForm, type, pointer);
-	}
-
-	/**
-	 * Adds a (semantic or lexical) relationship value.
-	 * 
-	 * @param  key Key value to use for storing the relationship.
-	 * @param  type Type of relationship to add.
-	 * @param  value Value to store for the relationship.
-	 */
-	private void add(Object key, RelationshipType type,
-			Object value)
-	{
-		Map subMap = getSubMap(key, true);
-		List list = (List)(subMap.get(type));
-		if (list == null)
-		{
-			list = new ArrayList();
-			subMap.put(type, list);
-		}
-		list.add(value);
-	}
-
-	/**
-	 * Returns the semantic relationships of a particular type.
-	 * 
-	 * @param  type Type of relationships to be returned.
-	 * @return Relationships of the specified type, if any. If none exist, a
-	 *         zero-length array is returned.
-	 */
-	public SynsetPointer[] getSemanticRelationships(RelationshipType type)
-	{
-		SynsetPointer[] pointers = null;
-		Map subMap = getSubMap(SYNSET_KEY, false);
-		if (subMap != null)
-		{
-			List list = (List)(subMap.get(type));
-			if (list != null)
-			{
-				pointers = new SynsetPointer[list.size()];
-				list.toArray(pointers);
-			}
-		}
-		return (pointers != null ? pointers : new SynsetPointer[0]);
-	}
-
-	/**
-	 * Returns the lexical relationships of a particular type.
-	 * 
-	 * @param  wordForm Word form for which to return relationships.
-	 * @param  type Type of relationships to be returned.
-	 * @return Relationships of the specified type, if any. If none exist, a
-	 *         zero-length array is returned.
-	 */
-	public WordSensePointer[] getLexicalRelationships(
-			String wordForm, RelationshipType type)
-	{
-		WordSensePointer[] pointers = null;
-		Map subMap = getSubMap(wordForm, false);
-		if (subMap != null)
-		{
-			List list = (List)(subMap.get(type));
-			if (list != null)
-			{
-				pointers = new WordSensePointer[list.size()];
-				list.toArray(pointers);
-			}
-		}
-		return (pointers != null ? pointers : new WordSensePointer[0]);
-	}
-
-	/**
-	 * Removes all semantic relationships of a particular type.
-	 * 
-	 * @param  type Type for which to remove all semantic relationships.
-	 * @return <code>true</code> if semantic relationships of the specified
-	 *         type existed and were removed, <code>false</code> otherwise.
-	 */
-	public boolean removeAllSemanticRelationships(RelationshipType type)
-	{
-		return removeAll(SYNSET_KEY, type);
-	}
-
-	/**
-	 * Removes all lexical relationships of a particular type for a word form.
-	 * 
-	 * @param  wordForm Word form for which to remove all lexical relationships.
-	 * @param  type Type of relationships to be removed.
-	 * @return <code>true</code> if lexical relationships of the specified
-	 *         type existed and were removed, <code>false</code> otherwise.
-	 */
-	public boolean removeAllLexicalRelationships(
-			String wordForm, RelationshipType type)
-	{
-		return removeAll(wordForm, type);
-	}
-
-	/**
-	 * Removes all relationships of the specified type for a particular key.
-	 * 
-	 * @param  sourceKey Key for which to remove relationships.
-	 * @param  type Relationship type for which to remove all values.
-	 * @return <code>true</code> if values of the specified type existed
-	 *         and were removed, <code>false</code> otherwise.
-	 */
-	private boolean removeAll(Object key, RelationshipType type)
-	{
-		boolean removed = false;
-		Map subMap = getSubMap(key, false);
-		if (subMap != null)
-		{
-			removed = (subMap.remove(key) != null);
-		}
-		return removed;
-	}
-
-	/**
-	 * Returns a map containing relationships associated with a particular
-	 * key, possibly creating the map if one doesn't already exist. For
-	 * each entry in the map, the key is a relationship type and the value
-	 * a {@link List} containing all relationships of that type.
-	 * 
-	 * @param  sourceKey Key for which to return a relationship map.
-	 * @param  shouldCreate <code>true</code> indicates that the map should
-	 *         be created if one doesn't already exist. If this parameter is
-	 *         set to <code>false</code> and no map already exists, the
-	 *         method will return <code>null</code>.
-	 * @return Reference to a previously created map if one already existed,
-	 *         to a newly created map if none existed and the caller
-	 *         indicated that one should be created, or <code>null</code> if
-	 *         no map exists and the caller indicated that a new one should
-	 *         not be created when one doesn't already exist.
-	 */
-	private Map getSubMap(Object sourceKey, boolean shouldCreate)
-	{
-		Map subMap = (Map)(sourceMaps.get(sourceKey));
-		if ((subMap == null) && (shouldCreate))
-		{
-			subMap = new HashMap();
-			sourceMaps.put(sourceKey, subMap);
-		}
-		return subMap;
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Encapsulates relationship pointers for a synset and its words. These
+ * may be used, for example, when a synset is first read from disk to
+ * represent the synset's relationships to other synsets without loading /
+ * instantiating those synsets. In other words, by maintaining a list of
+ * pointers, we can load related synsets only when they're actually needed.
+ * <br><p>
+ * Since there's an instance of this class for every synset that's loaded,
+ * the pointers are kept in a compressed sparse row layout rather than in
+ * maps: each row holds the pointers of one relationship type from one
+ * source (the synset itself or one of its word forms), the pointers of all
+ * rows are stored in a single array in row order, and the position at
+ * which each row starts is stored in a parallel array. Pointers keep the
+ * order in which they were added within their row.
+ * 
+ * @author Brett Spell
+ * @see <a href="http://wordnet.princeton.edu/man/wninput.5WN#sect3">Format
+ *      of Lexicographer Files ("Pointers")</a>
+ */
+public class RelationshipPointers
+{
+
+	/**
+	 * The source value used to represent semantic relationships. This allows
+	 * us to treat semantic and lexical relationships essentially the same
+	 * way, where the source value for semantic relationships is the constant
+	 * defined here and the source value for each lexical relationship is the
+	 * identifier of the word form associated with the relationship.
+	 */
+	private final static int SYNSET_KEY = -2;
+
+	/**
+	 * Number of rows / pointers for which space is initially allocated.
+	 */
+	private final static int INITIAL_CAPACITY = 4;
+
+	/**
+	 * Relationship type of each row.
+	 */
+	private RelationshipType[] rowTypes =
+			new RelationshipType[INITIAL_CAPACITY];
+
+	/**
+	 * Source of each row: either {@link #SYNSET_KEY} or the identifier of a
+	 * word form in the lemma dictionary.
+	 */
+	private int[] rowSources = new int[INITIAL_CAPACITY];
+
+	/**
+	 * Position in <code>targets</code> of the first pointer of each row; the
+	 * entry after the last row is the number of pointers.
+	 */
+	private int[] rowStarts = new int[INITIAL_CAPACITY + 1];
+
+	/**
+	 * Number of rows in use.
+	 */
+	private int rowCount;
+
+	/**
+	 * Pointers of all rows, in row order.
+	 */
+	private Object[] targets = new Object[INITIAL_CAPACITY];
+
+	/**
+	 * No-argument constructor.
+	 */
+	public RelationshipPointers()
+	{
+	}
+
+	/**
+	 * Adds a semantic relationship.
+	 * 
+	 * @param  type Type of relationship to add.
+	 * @param  pointer Pointer to the associated synset.
+	 */
+	public void addSemanticRelationship(
+			RelationshipType type, SynsetPointer pointer)
+	{
+		add(SYNSET_KEY, type, pointer);
+	}
+
+	/**
+	 * Adds a lexical relationship.
+	 * 
+	 * @param  wordForm Source word for which to add a relationship.
+	 * @param  type Type of relationship to add.
+	 * @param  pointer Pointer to the associated synset.
+	 */
+	public void addLexicalRelationship(String wordForm, RelationshipType type,
+			WordSensePointer pointer)
+	{
+		add(LemmaDictionary.getInstance().getID(wordForm), type, pointer);
+	}
+
+	/**
+	 * Adds a (semantic or lexical) relationship value to the end of its row,
+	 * creating the row if it doesn't exist yet.
+	 * 
+	 * @param  source Source value to use for storing the relationship.
+	 * @param  type Type of relationship to add.
+	 * @param  value Value to store for the relationship.
+	 */
+	private void add(int source, RelationshipType type, Object value)
+	{
+		int row = findRow(source, type);
+		if (row == -1)
+		{
+			if (rowCount == rowTypes.length)
+			{
+				int capacity = Math.max(rowCount * 2, INITIAL_CAPACITY);
+				RelationshipType[] newTypes = new RelationshipType[capacity];
+				System.arraycopy(rowTypes, 0, newTypes, 0, rowCount);
+				rowTypes = newTypes;
+				rowSources = copyOf(rowSources, capacity);
+				rowStarts = copyOf(rowStarts, capacity + 1);
+			}
+			row = rowCount++;
+			rowTypes[row] = type;
+			rowSources[row] = source;
+			rowStarts[row + 1] = rowStarts[row];
+		}
+		int size = rowStarts[rowCount];
+		if (size == targets.length)
+		{
+			Object[] newTargets =
+					new Object[Math.max(size * 2, INITIAL_CAPACITY)];
+			System.arraycopy(targets, 0, newTargets, 0, size);
+			targets = newTargets;
+		}
+		//  Make room at the end of the row by shifting the rows after it
+		int position = rowStarts[row + 1];
+		System.arraycopy(targets, position, targets, position + 1,
+				size - position);
+		targets[position] = value;
+		for (int i = row + 1; i <= rowCount; i++)
+		{
+			rowStarts[i]++;
+		}
+	}
+
+	/**
+	 * Releases the unused capacity of the arrays once all relationships have
+	 * been added. Relationships can still be added afterward.
+	 */
+	public void compact()
+	{
+		if (rowTypes.length > rowCount)
+		{
+			RelationshipType[] newTypes = new RelationshipType[rowCount];
+			System.arraycopy(rowTypes, 0, newTypes, 0, rowCount);
+			rowTypes = newTypes;
+			rowSources = copyOf(rowSources, rowCount);
+			rowStarts = copyOf(rowStarts, rowCount + 1);
+		}
+		int size = rowStarts[rowCount];
+		if (targets.length > size)
+		{
+			Object[] newTargets = new Object[size];
+			System.arraycopy(targets, 0, newTargets, 0, size);
+			targets = newTargets;
+		}
+	}
+
+	/**
+	 * Returns the semantic relationships of a particular type.
+	 * 
+	 * @param  type Type of relationships to be returned.
+	 * @return Relationships of the specified type, if any. If none exist, a
+	 *         zero-length array is returned.
+	 */
+	public SynsetPointer[] getSemanticRelationships(RelationshipType type)
+	{
+		int row = findRow(SYNSET_KEY, type);
+		SynsetPointer[] pointers = new SynsetPointer[getRowLength(row)];
+		copyRow(row, pointers);
+		return pointers;
+	}
+
+	/**
+	 * Returns the lexical relationships of a particular type.
+	 * 
+	 * @param  wordForm Word form for which to return relationships.
+	 * @param  type Type of relationships to be returned.
+	 * @return Relationships of the specified type, if any. If none exist, a
+	 *         zero-length array is returned.
+	 */
+	public WordSensePointer[] getLexicalRelationships(
+			String wordForm, RelationshipType type)
+	{
+		int row = findRow(getSource(wordForm), type);
+		WordSensePointer[] pointers = new WordSensePointer[getRowLength(row)];
+		copyRow(row, pointers);
+		return pointers;
+	}
+
+	/**
+	 * Returns the semantic relationship types.
+	 * 
+	 * @return Types of semantic relationships that exist.
+	 */
+	public RelationshipType[] getSemanticRelationshipTypes()
+	{
+		return getTypes(SYNSET_KEY);
+	}
+
+	/**
+	 * Returns the word forms that have lexical relationships.
+	 * 
+	 * @return Word forms that have lexical relationships.
+	 */
+	public String[] getLexicalWordForms()
+	{
+		int[] sources = new int[rowCount];
+		int count = 0;
+		for (int i = 0; i < rowCount; i++)
+		{
+			if ((rowSources[i] != SYNSET_KEY) &&
+					(indexOf(sources, count, rowSources[i]) == -1))
+			{
+				sources[count++] = rowSources[i];
+			}
+		}
+		String[] result = new String[count];
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		for (int i = 0; i < count; i++)
+		{
+			result[i] = dictionary.getLemma(sources[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the lexical relationship types for a given word form.
+	 * 
+	 * @param  wordForm Word form for which to return relationship types.
+	 * @return Types of lexical relationships that exist for the specified
+	 *         word form.
+	 */
+	public RelationshipType[] getLexicalRelationshipTypes(String wordForm)
+	{
+		return getTypes(getSource(wordForm));
+	}
+
+	/**
+	 * Returns the types of the rows of a source.
+	 * 
+	 * @param  source Source for which to return the relationship types.
+	 * @return Types of relationships that exist for the specified source.
+	 */
+	private RelationshipType[] getTypes(int source)
+	{
+		int count = 0;
+		for (int i = 0; i < rowCount; i++)
+		{
+			if (rowSources[i] == source)
+			{
+				count++;
+			}
+		}
+		RelationshipType[] types = new RelationshipType[count];
+		count = 0;
+		for (int i = 0; i < rowCount; i++)
+		{
+			if (rowSources[i] == source)
+			{
+				types[count++] = rowTypes[i];
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Removes all semantic relationships of the specified type.
+	 * 
+	 * @param  type Type of relationships to remove.
+	 * @return <code>true</code> if any relationships were removed.
+	 */
+	public boolean removeAllSemanticRelationships(RelationshipType type)
+	{
+		return removeRow(findRow(SYNSET_KEY, type));
+	}
+
+	/**
+	 * Removes all lexical relationships of the specified type.
+	 * 
+	 * @param  wordForm Word form for which to remove all lexical relationships.
+	 * @param  type Type of relationships to remove.
+	 * @return <code>true</code> if any relationships were removed.
+	 */
+	public boolean removeAllLexicalRelationships(
+			String wordForm, RelationshipType type)
+	{
+		return removeRow(findRow(getSource(wordForm), type));
+	}
+
+	/**
+	 * Removes a row and its pointers.
+	 * 
+	 * @param  row Row to remove, or -1 if there is no row to remove.
+	 * @return <code>true</code> if a row was removed.
+	 */
+	private boolean removeRow(int row)
+	{
+		if (row == -1)
+		{
+			return false;
+		}
+		int start = rowStarts[row];
+		int length = rowStarts[row + 1] - start;
+		int size = rowStarts[rowCount];
+		System.arraycopy(targets, start + length, targets, start,
+				size - start - length);
+		for (int i = size - length; i < size; i++)
+		{
+			targets[i] = null;
+		}
+		for (int i = row; i < rowCount - 1; i++)
+		{
+			rowTypes[i] = rowTypes[i + 1];
+			rowSources[i] = rowSources[i + 1];
+			rowStarts[i + 1] = rowStarts[i + 2] - length;
+		}
+		rowCount--;
+		rowTypes[rowCount] = null;
+		return true;
+	}
+
+	/**
+	 * Returns the row that holds the relationships of a particular type for
+	 * a source.
+	 * 
+	 * @param  source Source of the relationships.
+	 * @param  type Type of the relationships.
+	 * @return Index of the row or -1 if there is no such row.
+	 */
+	private int findRow(int source, RelationshipType type)
+	{
+		for (int i = 0; i < rowCount; i++)
+		{
+			if ((rowTypes[i] == type) && (rowSources[i] == source))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the number of pointers in a row.
+	 * 
+	 * @param  row Index of the row, or -1 for a row that doesn't exist.
+	 * @return Number of pointers in the row.
+	 */
+	private int getRowLength(int row)
+	{
+		return (row != -1 ? rowStarts[row + 1] - rowStarts[row] : 0);
+	}
+
+	/**
+	 * Copies the pointers of a row into an array.
+	 * 
+	 * @param  row Index of the row, or -1 for a row that doesn't exist.
+	 * @param  pointers Array into which the pointers are copied, which must
+	 *         have the length of the row.
+	 */
+	private void copyRow(int row, Object[] pointers)
+	{
+		if (row != -1)
+		{
+			System.arraycopy(targets, rowStarts[row], pointers, 0,
+					pointers.length);
+		}
+	}
+
+	/**
+	 * Returns the source value of a word form.
+	 * 
+	 * @param  wordForm Word form for which to return the source value.
+	 * @return Identifier of the word form, or {@link LemmaDictionary#UNKNOWN}
+	 *         (which matches no row) if it isn't in the lemma dictionary.
+	 */
+	private static int getSource(String wordForm)
+	{
+		return LemmaDictionary.getInstance().findID(wordForm);
+	}
+
+	/**
+	 * Returns the position of a value within the first part of an array.
+	 * 
+	 * @param  values Array to search.
+	 * @param  count Number of values of the array to search.
+	 * @param  value Value to find.
+	 * @return Position of the value or -1 if it wasn't found.
+	 */
+	private static int indexOf(int[] values, int count, int value)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			if (values[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns a copy of an array with a different length.
+	 * 
+	 * @param  array Array to copy.
+	 * @param  length Length of the new array.
+	 * @return New array that contains the elements of the old one that fit.
+	 */
+	private static int[] copyOf(int[] array, int length)
+	{
+		int[] newArray = new int[length];
+		System.arraycopy(array, 0, newArray, 0, Math.min(length, array.length));
+		return newArray;
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this object, including
+	 * the pointers that it holds.
+	 * 
+	 * @return Estimated number of bytes used by this object.
+	 */
+	long getEstimatedSize()
+	{
+		int size = rowStarts[rowCount];
+		//  Synset and word sense pointers are both three fields
+		return SizeEstimates.getObjectSize(4, 4) +
+				SizeEstimates.getArraySize(rowTypes.length,
+				SizeEstimates.REFERENCE_SIZE) +
+				SizeEstimates.getArraySize(rowSources.length, 4) +
+				SizeEstimates.getArraySize(rowStarts.length, 4) +
+				SizeEstimates.getArraySize(targets.length,
+				SizeEstimates.REFERENCE_SIZE) +
+				size * SizeEstimates.getObjectSize(1, 8);
+	}
+
 }
\ No newline at end of file
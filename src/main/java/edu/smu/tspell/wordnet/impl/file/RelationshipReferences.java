@@ -1,152 +1,259 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-
-import edu.smu.tspell.wordnet.Synset;
-import edu.smu.tspell.wordnet.WordSense;
-
-/**
- * Encapsulates a collection of relationships for a synset to other synsets.
- * 
- * @author Brett Spell
- */
-public class RelationshipReferences
-{
-
-	/**
-	 * The "key" value used to represent semantic relationships. This allows
-	 * us to treat semantic and lexical relationships essentially the same
-	 * way, where the key value for semantic relationships is the constant
-	 * defined here and the key value for each lexical relationship is the
-	 * word form associated with the relationship.
-	 */
-	private final static String SYNSET_KEY = "*";
-
-	/**
-	 * Maintains information about lexical and semantic relationships. For
-	 * each entry in the map, the key is either a word form (for lexical
-	 * relationships) or an arbitrarily selected string that's used to
-	 * represent synset / semantic relationships.
-	 * 
-	 * @see #SYNSET_KEY
-	 */
-	private Map sourceMaps = new HashMap();
-
-	/**
-	 * No-argument constructor.
-	 */
-	public RelationshipReferences()
-	{
-	}
-
-	/**
-	 * Saves a reference to the list of synsets associated with the specified
-	 * relationship type.
-	 * 
-	 * @param  type Type of relationship for which to save synset references.
-	 * @param  synsets Synsets that have a relationship of the specified type.
-	 */
-	public void putSemanticRelationships(
-			RelationshipType type, Synset[] synsets)
-	{
-		Map subMap = getSubMap(type, true);
-		subMap.put(SYNSET_KEY, synsets);
-	}
-
-	/**
-	 * Returns the semantic relationships of a particular type.
-	 * 
-	 * @param  type Type of relationships to be returned.
-	 * @return Synsets which have the specified semantic relationship type,
-	 *         if any, or <code>null</code> if none exist.
-	 */
-	public Synset[] getSemanticRelationships(RelationshipType type)
-	{
-		Map subMap = getSubMap(type, false);
-		return (subMap != null ? (Synset[])(subMap.get(SYNSET_KEY)) : null);
-	}
-
-	/**
-	 * Stores the lexical relationships of a particular relationship type.
-	 * 
-	 * @param  wordForm Word form for which to store lexical relationships.
-	 * @param  type Relationship type associated with the senses.
-	 * @param  senses Word senses that have the specified relationship type.
-	 */
-	public void putLexicalRelationships(
-			String wordForm, RelationshipType type, WordSense[] senses)
-	{
-		Map subMap = getSubMap(wordForm, true);
-		subMap.put(type, senses);
-	}
-
-	/**
-	 * Returns the lexical relationships of a particular type.
-	 * 
-	 * @param  wordForm Word form for which to return relationships.
-	 * @param  type Type of relationships to be returned.
-	 * @return Word senses that have the specified lexical relationship type,
-	 *         if any, or <code>null</code> if none exist.
-	 */
-	public WordSense[] getLexicalRelationships(
-			String wordForm, RelationshipType type)
-	{
-		Map subMap = getSubMap(wordForm, false);
-		return (subMap != null ? (WordSense[])(subMap.get(type)) : null);
-	}
-
-	/**
-	 * Returns a map containing relationships associated with a particular
-	 * key, possibly creating the map if one doesn't already exist. For
-	 * each entry in the map, the key is a relationship type and the value
-	 * a {@link List} containing all relationships of that type.
-	 * 
-	 * @param  sourceKey Key for which to return a relationship map.
-	 * @param  shouldCreate <code>true</code> indicates that the map should
-	 *         be created if one doesn't already exist. If this parameter is
-	 *         set to <code>false</code> and no map already exists, the
-	 *         method will return <code>null</code>.
-	 * @return Reference to a previously created map if one already existed,
-	 *         to a newly created map if none existed and the caller
-	 *         indicated that one should be created, or <code>null</code> if
-	 *         no map exists and the caller indicated that a new one should
-	 *         not be created when one doesn't already exist.
-	 */
-	private Map getSubMap(Object sourceKey, boolean shouldCreate)
-	{
-		Map subMap = (Map)(sourceMaps.get(sourceKey));
-		if ((subMap == null) && (shouldCreate))
-		{
-			subMap = new HashMap();
-			sourceMaps.put(sourceKey, subMap);
-		}
-		return subMap;
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.WordSense;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Encapsulates a collection of relationships for a synset to other synsets.
+ * <br><p>
+ * Each entry holds the resolved relationships of one type from one source
+ * (the synset itself or one of its word forms). Since a synset only has a
+ * few of them, the entries are kept in parallel arrays that are exactly as
+ * long as the number of entries and are searched sequentially, which uses
+ * far less memory than a map per synset.
+ * <br><p>
+ * Relationships are resolved on first use by whichever thread retrieves
+ * them, so instances of this class are immutable: adding relationships
+ * returns a new instance, which the synset publishes with a single atomic
+ * update (see {@link ReferenceSynset}). Threads can therefore read the
+ * relationships without locking, and an instance never changes while it's
+ * being read.
+ * 
+ * @author Brett Spell
+ */
+public final class RelationshipReferences
+{
+
+	/**
+	 * The source value used to represent semantic relationships. This allows
+	 * us to treat semantic and lexical relationships essentially the same
+	 * way, where the source value for semantic relationships is the constant
+	 * defined here and the source value for each lexical relationship is the
+	 * identifier of the word form associated with the relationship.
+	 */
+	private final static int SYNSET_KEY = -2;
+
+	/**
+	 * Instance without any entries, which is shared by all synsets whose
+	 * relationships haven't been resolved.
+	 */
+	public final static RelationshipReferences EMPTY =
+			new RelationshipReferences(new RelationshipType[0], new int[0],
+			new Object[0]);
+
+	/**
+	 * Relationship type of each entry.
+	 */
+	private final RelationshipType[] types;
+
+	/**
+	 * Source of each entry: either {@link #SYNSET_KEY} or the identifier of
+	 * a word form in the lemma dictionary.
+	 */
+	private final int[] sources;
+
+	/**
+	 * Resolved relationships of each entry, which are either synsets or
+	 * word senses.
+	 */
+	private final Object[] values;
+
+	/**
+	 * Constructor that accepts the entries, which mustn't be modified
+	 * afterward.
+	 * 
+	 * @param  types Relationship type of each entry.
+	 * @param  sources Source of each entry.
+	 * @param  values Resolved relationships of each entry.
+	 */
+	private RelationshipReferences(RelationshipType[] types, int[] sources,
+			Object[] values)
+	{
+		this.types = types;
+		this.sources = sources;
+		this.values = values;
+	}
+
+	/**
+	 * Returns a copy of this collection that also contains the synsets
+	 * associated with the specified relationship type. If synsets are
+	 * already stored for the type, this collection is returned unchanged.
+	 * 
+	 * @param  type Type of relationship for which to save synset references.
+	 * @param  synsets Synsets that have a relationship of the specified type.
+	 * @return Collection that contains the relationships.
+	 */
+	public RelationshipReferences withSemanticRelationships(
+			RelationshipType type, Synset[] synsets)
+	{
+		return with(SYNSET_KEY, type, synsets);
+	}
+
+	/**
+	 * Returns the semantic relationships of a particular type.
+	 * 
+	 * @param  type Type of relationships to be returned.
+	 * @return Synsets which have the specified semantic relationship type,
+	 *         if any, or <code>null</code> if none exist.
+	 */
+	public Synset[] getSemanticRelationships(RelationshipType type)
+	{
+		return (Synset[])(get(SYNSET_KEY, type));
+	}
+
+	/**
+	 * Returns a copy of this collection that also contains the lexical
+	 * relationships of a particular relationship type. If relationships are
+	 * already stored for the word form and type, or if the word form isn't
+	 * in the lemma dictionary (and so can't have any), this collection is
+	 * returned unchanged.
+	 * 
+	 * @param  wordForm Word form for which to store lexical relationships.
+	 * @param  type Relationship type associated with the senses.
+	 * @param  senses Word senses that have the specified relationship type.
+	 * @return Collection that contains the relationships.
+	 */
+	public RelationshipReferences withLexicalRelationships(
+			String wordForm, RelationshipType type, WordSense[] senses)
+	{
+		int source = LemmaDictionary.getInstance().findID(wordForm);
+		return (source != LemmaDictionary.UNKNOWN ?
+				with(source, type, senses) : this);
+	}
+
+	/**
+	 * Returns the lexical relationships of a particular type.
+	 * 
+	 * @param  wordForm Word form for which to return relationships.
+	 * @param  type Type of relationships to be returned.
+	 * @return Word senses that have the specified lexical relationship type,
+	 *         if any, or <code>null</code> if none exist.
+	 */
+	public WordSense[] getLexicalRelationships(
+			String wordForm, RelationshipType type)
+	{
+		int source = LemmaDictionary.getInstance().findID(wordForm);
+		return (WordSense[])(get(source, type));
+	}
+
+	/**
+	 * Returns a copy of this collection with an entry added for a source
+	 * and type, or this collection if it already has such an entry.
+	 * 
+	 * @param  source Source of the relationships.
+	 * @param  type Type of the relationships.
+	 * @param  value Resolved relationships.
+	 * @return Collection that contains an entry for the source and type.
+	 */
+	private RelationshipReferences with(int source, RelationshipType type,
+			Object value)
+	{
+		if (indexOf(source, type) != -1)
+		{
+			return this;
+		}
+		int index = types.length;
+		RelationshipType[] newTypes = new RelationshipType[index + 1];
+		System.arraycopy(types, 0, newTypes, 0, index);
+		int[] newSources = new int[index + 1];
+		System.arraycopy(sources, 0, newSources, 0, index);
+		Object[] newValues = new Object[index + 1];
+		System.arraycopy(values, 0, newValues, 0, index);
+		newTypes[index] = type;
+		newSources[index] = source;
+		newValues[index] = value;
+		return new RelationshipReferences(newTypes, newSources, newValues);
+	}
+
+	/**
+	 * Returns the relationships of a particular type for a source.
+	 * 
+	 * @param  source Source of the relationships.
+	 * @param  type Type of the relationships.
+	 * @return Resolved relationships or <code>null</code> if none have been
+	 *         stored.
+	 */
+	private Object get(int source, RelationshipType type)
+	{
+		int index = indexOf(source, type);
+		return (index != -1 ? values[index] : null);
+	}
+
+	/**
+	 * Returns the position of the entry for a source and type.
+	 * 
+	 * @param  source Source of the relationships.
+	 * @param  type Type of the relationships.
+	 * @return Position of the entry or -1 if there is none.
+	 */
+	private int indexOf(int source, RelationshipType type)
+	{
+		for (int i = 0; i < types.length; i++)
+		{
+			if ((types[i] == type) && (sources[i] == source))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this object, including
+	 * the arrays of resolved relationships and the word senses in them but
+	 * not the synsets that they refer to. The shared empty instance is
+	 * counted as using nothing.
+	 * 
+	 * @return Estimated number of bytes used by this object.
+	 */
+	long getEstimatedSize()
+	{
+		if (this == EMPTY)
+		{
+			return 0;
+		}
+		long size = SizeEstimates.getObjectSize(3, 0) +
+				SizeEstimates.getArraySize(types.length,
+				SizeEstimates.REFERENCE_SIZE) +
+				SizeEstimates.getArraySize(sources.length, 4) +
+				SizeEstimates.getArraySize(values.length,
+				SizeEstimates.REFERENCE_SIZE);
+		for (int i = 0; i < values.length; i++)
+		{
+			Object[] array = (Object[])values[i];
+			size += SizeEstimates.getArraySize(array.length,
+					SizeEstimates.REFERENCE_SIZE);
+			if (array instanceof WordSense[])
+			{
+				size += array.length * SizeEstimates.getObjectSize(2, 0);
+			}
+		}
+		return size;
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import edu.smu.tspell.wordnet.impl.MultipleLineLocator;
+
+/**
+ * Locates entries within the sense index file by performing a binary search
+ * of the file instead of loading all of its entries into memory.
+ * <br><p>
+ * Since the sense index file is sorted by sense key and each key begins with
+ * the lemma of the word sense, all of the entries for a given lemma (or that
+ * begin with a given partial sense key) occupy consecutive lines in the file.
+ * <br><p>
+ * The position of the file pointer is shared by all of the searches, so
+ * they're serialized by a lock. A {@link ReentrantLock} is used rather than
+ * a monitor so that virtual threads blocked on the lock or on a read don't
+ * pin their carrier threads.
+ * 
+ * @author Brett Spell
+ */
+public class SenseIndexLocator extends MultipleLineLocator
+{
+
+	/**
+	 * Name of the sense index file.
+	 */
+	private final static String SENSE_INDEX_FILE = "index.sense";
+
+	/**
+	 * Separates the sense key from the remainder of an index line.
+	 */
+	private final static String KEY_DELIMITER = " ";
+
+	/**
+	 * Used to parse the lines that are read from the file.
+	 */
+	private SenseIndexParser parser = new SenseIndexParser();
+
+	/**
+	 * Held while the file is being searched or read.
+	 */
+	private final ReentrantLock lock = new ReentrantLock();
+
+	/**
+	 * Constructs an instance of this class that reads the sense index file
+	 * in the database directory.
+	 * 
+	 * @throws IOException An error occurred opening the file.
+	 */
+	public SenseIndexLocator() throws IOException
+	{
+		super(PropertyNames.databaseDirectory, SENSE_INDEX_FILE);
+	}
+
+	/**
+	 * Returns the entry that has the specified sense key.
+	 * 
+	 * @param  senseKey Full text of the sense key.
+	 * @return Matching entry or <code>null</code> if there is none.
+	 * @throws RetrievalException An error occurred reading the file.
+	 */
+	public SenseIndexEntry getEntry(String senseKey)
+			throws RetrievalException
+	{
+		lock.lock();
+		try
+		{
+			String line = getLine(senseKey + KEY_DELIMITER);
+			return (line != null ? parser.parse(line) : null);
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException(
+					"Error reading sense index entry: " + senseKey, e);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns all entries that have a sense key beginning with the specified
+	 * text, in the order in which they occur in the file.
+	 * 
+	 * @param  prefix Text with which the sense keys begin.
+	 * @return Matching entries; this list will be empty (not
+	 *         <code>null</code>) if there are none.
+	 * @throws RetrievalException An error occurred reading the file.
+	 */
+	public List<SenseIndexEntry> getEntries(String prefix)
+			throws RetrievalException
+	{
+		lock.lock();
+		try
+		{
+			String[] lines = getLines(prefix);
+			List<SenseIndexEntry> list =
+					new ArrayList<SenseIndexEntry>(lines.length);
+			for (int i = 0; i < lines.length; i++)
+			{
+				list.add(parser.parse(lines[i]));
+			}
+			return list;
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException(
+					"Error reading sense index entries: " + prefix, e);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns all entries for the specified lemma.
+	 * 
+	 * @param  lemma Lemma, in database format, for which to return entries.
+	 * @return Entries for the lemma; this list will be empty (not
+	 *         <code>null</code>) if there are none.
+	 * @throws RetrievalException An error occurred reading the file.
+	 */
+	public List<SenseIndexEntry> getLemmaEntries(String lemma)
+			throws RetrievalException
+	{
+		return getEntries(lemma + SenseKey.LEMMA_TERMINATOR);
+	}
+
+	/**
+	 * Returns the lemmas of all entries in the file by reading it
+	 * sequentially. Note that this is considerably slower than the other
+	 * methods of this class since the entire file is read.
+	 * 
+	 * @return Lemmas, in external format, in the order in which they occur
+	 *         in the file.
+	 * @throws RetrievalException An error occurred reading the file.
+	 */
+	public Set<String> getLemmas() throws RetrievalException
+	{
+		Set<String> lemmas = new LinkedHashSet<String>();
+		lock.lock();
+		try
+		{
+			seek(0);
+			String line = readToNextEndOfLine();
+			while (line.length() > 0)
+			{
+				int index = line.indexOf(SenseKey.LEMMA_TERMINATOR);
+				lemmas.add(TextTranslator.translateToExternalFormat(
+						line.substring(0, index)));
+				line = readToNextEndOfLine();
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading sense index file", e);
+		}
+		finally
+		{
+			lock.unlock();
+		}
+		return lemmas;
+	}
+
+}
\ No newline at end of file
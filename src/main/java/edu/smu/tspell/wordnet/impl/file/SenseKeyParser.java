@@ -1,86 +1,143 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.util.StringTokenizer;
-
-import edu.smu.tspell.wordnet.SynsetType;
-
-/**
- * Parses text representing a sense key and returns an object that
- * encapsulates the key data.
- * 
- * @author Brett Spell
- * @see    SenseKey
- */
-public class SenseKeyParser
-{
-
-	/**
-	 * No-argument constructor.
-	 */
-	public SenseKeyParser()
-	{
-        super();
-	}
-
-	/**
-	 * Parses text representing a sense key and returns an object that
-	 * encapsulates the key data.
-	 * 
-	 * @param  keyText Text representing a sense key.
-	 * @return An object that encapsulates the sense key data.
-	 */
-	public SenseKey parse(String keyText)
-	{
-		int index = keyText.indexOf(SenseKey.LEMMA_TERMINATOR);
-		//  Lemma (e.g., "eager")
-		String lemma = TextTranslator.translateToExternalFormat(
-				keyText.substring(0, index));
-		//  Lexical sense (e.g., "5:00:00:enthusiastic:00")
-		String lexicalSense = keyText.substring(index + 1);
-		StringTokenizer tokenizer =
-				new StringTokenizer(lexicalSense, SenseKey.FIELD_DELIMITER);
-		//  Synset type (e.g., "5")
-		int synsetType = Integer.parseInt(tokenizer.nextToken());
-		SynsetType type = SynsetTypeConverter.getType(synsetType);
-		//  Lexical file number (e.g., "00")
-		int lexFileNum = Integer.parseInt(tokenizer.nextToken());
-		//  Lexical ID that combines with lemma to identify a sense
-		int lexID = Integer.parseInt(tokenizer.nextToken());
-		//  Head word for adjective satellite synset (e.g., "enthusiastic")
-		String headLemma =
-				(tokenizer.hasMoreTokens() ? tokenizer.nextToken() : null);
-		//  Get the lexical ID of the head word (if there is one)
-		int headID = (tokenizer.hasMoreTokens() ?
-				Integer.parseInt(tokenizer.nextToken()) : -1);
-		//  Create a sense key for the head synset (if there is one)
-		SenseKey headKey = (headLemma != null ? new SenseKey(headLemma,
-				SynsetType.ADJECTIVE, lexFileNum, headID) : null);
-		//  Construct and return the key
-		return new SenseKey(lemma, type, lexFileNum, lexID, headKey);
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.StringTokenizer;
+
+import edu.smu.tspell.wordnet.SynsetType;
+
+/**
+ * Parses text representing a sense key and returns an object that
+ * encapsulates the key data.
+ * 
+ * @author Brett Spell
+ * @see    SenseKey
+ */
+public class SenseKeyParser
+{
+
+	/**
+	 * No-argument constructor.
+	 */
+	public SenseKeyParser()
+	{
+        super();
+	}
+
+	/**
+	 * Parses text representing a sense key and returns an object that
+	 * encapsulates the key data.
+	 * 
+	 * @param  keyText Text representing a sense key.
+	 * @return An object that encapsulates the sense key data.
+	 */
+	public SenseKey parse(String keyText)
+	{
+		return parse(keyText, true);
+	}
+
+	/**
+	 * Parses text representing a sense key that's being looked up, without
+	 * adding its lemmas to the lemma dictionary.
+	 * 
+	 * @param  keyText Text representing a sense key.
+	 * @return An object that encapsulates the sense key data, or
+	 *         <code>null</code> if a lemma in the key isn't in the lemma
+	 *         dictionary, in which case there can't be a matching sense.
+	 */
+	public SenseKey find(String keyText)
+	{
+		return parse(keyText, false);
+	}
+
+	/**
+	 * Parses text representing a sense key and returns an object that
+	 * encapsulates the key data.
+	 * 
+	 * @param  keyText Text representing a sense key.
+	 * @param  addLemmas Whether lemmas that aren't in the lemma dictionary
+	 *         should be added to it.
+	 * @return An object that encapsulates the sense key data, or
+	 *         <code>null</code> if a lemma wasn't found.
+	 */
+	private SenseKey parse(String keyText, boolean addLemmas)
+	{
+		int index = keyText.indexOf(SenseKey.LEMMA_TERMINATOR);
+		//  Lemma (e.g., "eager")
+		int lemma = getLemmaID(keyText.substring(0, index), addLemmas);
+		//  Lexical sense (e.g., "5:00:00:enthusiastic:00")
+		String lexicalSense = keyText.substring(index + 1);
+		StringTokenizer tokenizer =
+				new StringTokenizer(lexicalSense, SenseKey.FIELD_DELIMITER);
+		//  Synset type (e.g., "5")
+		int synsetType = Integer.parseInt(tokenizer.nextToken());
+		SynsetType type = SynsetTypeConverter.getType(synsetType);
+		//  Lexical file number (e.g., "00")
+		int lexFileNum = Integer.parseInt(tokenizer.nextToken());
+		//  Lexical ID that combines with lemma to identify a sense
+		int lexID = Integer.parseInt(tokenizer.nextToken());
+		//  Head word for adjective satellite synset (e.g., "enthusiastic")
+		String headLemma =
+				(tokenizer.hasMoreTokens() ? tokenizer.nextToken() : null);
+		//  Get the lexical ID of the head word (if there is one)
+		int headID = (tokenizer.hasMoreTokens() ?
+				Integer.parseInt(tokenizer.nextToken()) : -1);
+		//  Create a sense key for the head synset (if there is one)
+		SenseKey headKey = null;
+		if (headLemma != null)
+		{
+			int head = getLemmaID(headLemma, addLemmas);
+			if (head == LemmaDictionary.UNKNOWN)
+			{
+				return null;
+			}
+			headKey = new SenseKey(head, SynsetType.ADJECTIVE, lexFileNum,
+					headID, null);
+		}
+		if (lemma == LemmaDictionary.UNKNOWN)
+		{
+			return null;
+		}
+		//  Construct and return the key
+		return new SenseKey(lemma, type, lexFileNum, lexID, headKey);
+	}
+
+	/**
+	 * Returns the identifier of a lemma as it appears in sense key text.
+	 * 
+	 * @param  text Lemma in database format.
+	 * @param  addLemma Whether the lemma should be added to the lemma
+	 *         dictionary if it isn't already in it.
+	 * @return Identifier of the lemma, or {@link LemmaDictionary#UNKNOWN}
+	 *         if it isn't in the dictionary and wasn't added.
+	 */
+	private int getLemmaID(String text, boolean addLemma)
+	{
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		String lemma = TextTranslator.translateToExternalFormat(text);
+		return (addLemma ? dictionary.getID(lemma) : dictionary.findID(lemma));
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.CRC32;
+
+/**
+ * Constants and helper methods shared by {@link SnapshotWriter} and
+ * {@link SnapshotReader}.
+ * <br><p>
+ * A snapshot file begins with a header consisting of the {@link #MAGIC}
+ * bytes, the format {@link #VERSION}, flags that describe the snapshot, a
+ * checksum of the database files that the snapshot was created from (or
+ * only of the properties that affect parsing if the snapshot is
+ * {@link #PRUNED}), the number of strings in the string table
+ * and the length of each of the sections that follow the string table.
+ * The sections contain, in order, the synsets, the sense index entries, the
+ * lemmas followed by the index of their synsets (see {@link LemmaIndex}),
+ * an automaton of the lemmas (see {@link LemmaAutomaton}) and an index
+ * that gives the position of each synset and string, so that individual
+ * synsets can be read from a mapped snapshot without reading the rest of
+ * it. All values are written in the big-endian order used by
+ * {@link java.io.DataOutputStream}.
+ * <br><p>
+ * The synset section starts with the type and offset of every synset, in
+ * type and then offset order, followed by the synsets themselves. The sense
+ * index entries have a fixed size ({@link #ENTRY_SIZE}) and are sorted by
+ * sense key.
+ * 
+ * @author Brett Spell
+ */
+final class SnapshotFormat
+{
+
+	/**
+	 * Bytes that identify a file as a snapshot.
+	 */
+	final static byte[] MAGIC = {'J', 'A', 'W', 'S', 'S', 'N', 'A', 'P'};
+
+	/**
+	 * Version of the snapshot format; snapshots written in a different
+	 * version are ignored.
+	 */
+	final static int VERSION = 7;
+
+	/**
+	 * Flag that indicates that a snapshot contains only part of the
+	 * database and is used without the data files it was created from.
+	 */
+	final static int PRUNED = 1;
+
+	/**
+	 * Identifier used in place of a string table index for absent values.
+	 */
+	final static int NO_STRING = -1;
+
+	/**
+	 * Number of bytes used to identify each synset at the start of the
+	 * synset section: its type code followed by its offset.
+	 */
+	final static int SYNSET_ID_SIZE = 5;
+
+	/**
+	 * Number of bytes used by each sense index entry.
+	 */
+	final static int ENTRY_SIZE = 33;
+
+	/**
+	 * Names of the database files whose content is captured by a snapshot.
+	 */
+	private final static String[] SOURCE_FILES =
+	{
+		"index.sense",
+		"data.noun",
+		"data.verb",
+		"data.adj",
+		"data.adv",
+		"frames.vrb",
+		"sentidx.vrb",
+		"sents.vrb"
+	};
+
+	/**
+	 * No-argument constructor.
+	 */
+	private SnapshotFormat()
+	{
+	}
+
+	/**
+	 * Computes a checksum over the database files from which a snapshot is
+	 * created and the properties that affect how they're parsed. A snapshot
+	 * whose recorded checksum differs from the one computed for the current
+	 * database files is out of date.
+	 * 
+	 * @return Checksum of the database files.
+	 * @throws IOException An error occurred reading a database file.
+	 */
+	static long computeSourceChecksum() throws IOException
+	{
+		CRC32 checksum = new CRC32();
+		long totalLength = 0;
+		byte[] buffer = new byte[64 * 1024];
+		String dir = PropertyNames.databaseDirectory;
+
+		for (int i = 0; i < SOURCE_FILES.length; i++)
+		{
+			InputStream stream = SnapshotFormat.class.getResourceAsStream(
+					dir + SOURCE_FILES[i]);
+			//  A missing file is recorded as such so that adding it later
+			//  invalidates the snapshot
+			checksum.update(stream != null ? i : -1 - i);
+			if (stream != null)
+			{
+				try
+				{
+					int count;
+					while ((count = stream.read(buffer)) != -1)
+					{
+						checksum.update(buffer, 0, count);
+						totalLength += count;
+					}
+				}
+				finally
+				{
+					stream.close();
+				}
+			}
+		}
+		updateSettings(checksum);
+		return (totalLength << 32) ^ checksum.getValue();
+	}
+
+	/**
+	 * Computes a checksum over only the properties that affect how the
+	 * database files are parsed, which is used for pruned snapshots since
+	 * those are intended to be deployed without the data files.
+	 * 
+	 * @return Checksum of the parsing properties.
+	 */
+	static long computeSettingsChecksum()
+	{
+		CRC32 checksum = new CRC32();
+		updateSettings(checksum);
+		return checksum.getValue();
+	}
+
+	/**
+	 * Adds the properties that affect how the database files are parsed
+	 * to a checksum.
+	 * 
+	 * @param  checksum Checksum to update.
+	 */
+	private static void updateSettings(CRC32 checksum)
+	{
+		checksum.update(PropertyNames.nativeFormat ? 1 : 0);
+		checksum.update(PropertyNames.singleWordQueries ? 1 : 0);
+	}
+
+	/**
+	 * Returns the number that identifies a relationship type in a snapshot.
+	 * 
+	 * @param  type Relationship type for which to return the number.
+	 * @return Number that identifies the relationship type.
+	 */
+	static int getRelationshipNumber(RelationshipType type)
+	{
+		RelationshipType[] types = RelationshipType.ALL_TYPES;
+		for (int i = 0; i < types.length; i++)
+		{
+			if (types[i] == type)
+			{
+				return i;
+			}
+		}
+		throw new IllegalArgumentException(
+				"Unknown relationship type: " + type);
+	}
+
+	/**
+	 * Returns the relationship type identified by a number in a snapshot.
+	 * 
+	 * @param  number Number that identifies the relationship type.
+	 * @return Relationship type identified by the number.
+	 */
+	static RelationshipType getRelationshipType(int number)
+	{
+		return RelationshipType.ALL_TYPES[number];
+	}
+
+}
\ No newline at end of file
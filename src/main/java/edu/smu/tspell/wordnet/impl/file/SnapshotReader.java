@@ -0,0 +1,821 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.impl.ExampleSentences;
+
+/**
+ * Loads the database from a snapshot written by {@link SnapshotWriter}.
+ * <br><p>
+ * The snapshot file is identified by the <code>wordnet.database.snapshot</code>
+ * property and is memory-mapped rather than read into the heap. Before it's
+ * used, its checksum is compared to that of the database files and if the
+ * two don't match (or the file can't be read) the snapshot is ignored and
+ * the database files are parsed instead. A pruned snapshot is only checked
+ * against the properties that affect parsing, since it's meant to replace
+ * the data files; only the synsets that it contains are available.
+ * <br><p>
+ * A snapshot can also be used as a read-only image of the database from
+ * which individual synsets and sense index entries are read on demand
+ * (see {@link MappedSynsetFactory}). Since the file is mapped rather than
+ * read, processes that use the same snapshot this way share a single copy
+ * of it in physical memory.
+ * 
+ * @author Brett Spell
+ * @see    SnapshotFormat
+ */
+class SnapshotReader
+{
+
+	private static Logger logger = Logger.getLogger("edu.smu.tspell.wordnet");
+
+	/**
+	 * Singleton instance of this class or <code>null</code> if no (valid)
+	 * snapshot is available; opened when it's first needed.
+	 */
+	private static SnapshotReader instance;
+
+	/**
+	 * Indicates whether an attempt has been made to open the singleton
+	 * instance.
+	 */
+	private static boolean isOpened;
+
+	/**
+	 * Content of the snapshot file.
+	 */
+	private ByteBuffer buffer;
+
+	/**
+	 * Strings referenced from the snapshot sections, or <code>null</code>
+	 * if they're read from the string table when they're needed.
+	 */
+	private String[] strings;
+
+	/**
+	 * Number of strings in the string table.
+	 */
+	private int stringCount;
+
+	/**
+	 * Synsets read from the snapshot, in snapshot order, or
+	 * <code>null</code> if they're read when they're needed.
+	 */
+	private ReferenceSynset[] synsets;
+
+	/**
+	 * Number of synsets in the snapshot.
+	 */
+	private int synsetCount;
+
+	/**
+	 * Position of the string table.
+	 */
+	private int stringPosition;
+
+	/**
+	 * Position of the synset section.
+	 */
+	private int synsetPosition;
+
+	/**
+	 * Position of the sense index section.
+	 */
+	private int entryPosition;
+
+	/**
+	 * Position of the lemma section.
+	 */
+	private int lemmaPosition;
+
+	/**
+	 * Position of the lemma automaton section.
+	 */
+	private int automatonPosition;
+
+	/**
+	 * Position of the index section.
+	 */
+	private int indexPosition;
+
+	/**
+	 * Returns the singleton instance of this class, which has read all of
+	 * the synsets in the snapshot.
+	 * 
+	 * @return Snapshot from which to load the database or <code>null</code>
+	 *         if the database files should be parsed instead.
+	 */
+	static synchronized SnapshotReader getInstance()
+	{
+		if (!isOpened)
+		{
+			instance = open(PropertyNames.snapshotFile, true);
+			isOpened = true;
+		}
+		return instance;
+	}
+
+	/**
+	 * Opens a snapshot that's used as an image of the database from which
+	 * synsets and sense index entries are read only when they're requested.
+	 * Unlike {@link #getInstance()}, this doesn't read any of the synsets.
+	 * 
+	 * @param  fileName Name of the snapshot file (may be empty).
+	 * @return Snapshot or <code>null</code> if none is available.
+	 */
+	static SnapshotReader openImage(String fileName)
+	{
+		return open(fileName, false);
+	}
+
+	/**
+	 * Opens a snapshot file, logging the reason if it can't be used.
+	 * 
+	 * @param  fileName Name of the snapshot file (may be empty).
+	 * @param  shouldLoad Indicates whether all of the strings and synsets
+	 *         are read immediately.
+	 * @return Snapshot or <code>null</code> if none is available.
+	 */
+	private static SnapshotReader open(String fileName, boolean shouldLoad)
+	{
+		SnapshotReader reader = null;
+		if ((fileName.length() > 0) && (shouldLoad) &&
+				(!LoadProfile.getInstance().isComplete()))
+		{
+			logger.info("Ignoring snapshot '" + fileName +
+					"' since only part of the database is loaded.");
+		}
+		else if (fileName.length() > 0)
+		{
+			try
+			{
+				reader = new SnapshotReader(new File(fileName));
+				if (shouldLoad)
+				{
+					reader.load();
+				}
+			}
+			catch (IOException e)
+			{
+				logger.warning("Ignoring snapshot '" + fileName + "': " +
+						e.getMessage());
+			}
+			catch (RuntimeException e)
+			{
+				logger.warning("Ignoring snapshot '" + fileName + "': " + e);
+			}
+		}
+		return reader;
+	}
+
+	/**
+	 * Constructor that accepts the snapshot file and validates its header.
+	 * 
+	 * @param  file The snapshot file.
+	 * @throws IOException The snapshot can't be read or is out of date.
+	 */
+	private SnapshotReader(File file) throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		try
+		{
+			FileChannel channel = raf.getChannel();
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					channel.size());
+		}
+		finally
+		{
+			raf.close();
+		}
+
+		ByteBuffer header = buffer.duplicate();
+		DataInputStream input = getInput(header);
+		byte[] magic = new byte[SnapshotFormat.MAGIC.length];
+		input.readFully(magic);
+		if (!Arrays.equals(magic, SnapshotFormat.MAGIC))
+		{
+			throw new IOException("Not a snapshot file");
+		}
+		int version = input.readInt();
+		if (version != SnapshotFormat.VERSION)
+		{
+			throw new IOException("Unsupported snapshot version " + version);
+		}
+		int flags = input.readInt();
+		long checksum = ((flags & SnapshotFormat.PRUNED) != 0 ?
+				SnapshotFormat.computeSettingsChecksum() :
+				SnapshotFormat.computeSourceChecksum());
+		if (input.readLong() != checksum)
+		{
+			throw new IOException("Snapshot is out of date with respect " +
+					"to the database files");
+		}
+		stringCount = input.readInt();
+		int synsetLength = input.readInt();
+		int entryLength = input.readInt();
+		int lemmaLength = input.readInt();
+		int automatonLength = input.readInt();
+		int indexLength = input.readInt();
+		stringPosition = header.position();
+		//  The sections are located from the end of the file so that the
+		//  string table doesn't have to be read
+		synsetPosition = buffer.limit() - (synsetLength + entryLength +
+				lemmaLength + automatonLength + indexLength);
+		entryPosition = synsetPosition + synsetLength;
+		lemmaPosition = entryPosition + entryLength;
+		automatonPosition = lemmaPosition + lemmaLength;
+		indexPosition = automatonPosition + automatonLength;
+		if ((synsetPosition < stringPosition) || (synsetLength < 4))
+		{
+			throw new IOException("Snapshot is truncated");
+		}
+		synsetCount = buffer.getInt(synsetPosition);
+		if (indexLength != (synsetCount + stringCount) * 4)
+		{
+			throw new IOException("Snapshot is truncated");
+		}
+	}
+
+	/**
+	 * Reads all of the strings and synsets in the snapshot.
+	 * 
+	 * @throws IOException An error occurred reading the snapshot.
+	 */
+	private void load() throws IOException
+	{
+		ByteBuffer view = buffer.duplicate();
+		view.position(stringPosition);
+		DataInputStream input = getInput(view);
+		String[] texts = new String[stringCount];
+		for (int i = 0; i < texts.length; i++)
+		{
+			texts[i] = input.readUTF();
+		}
+		if (view.position() != synsetPosition)
+		{
+			throw new IOException("Snapshot is truncated");
+		}
+		strings = texts;
+		synsets = readSynsets();
+	}
+
+	/**
+	 * Returns the synsets read from the snapshot, in snapshot order.
+	 * 
+	 * @return Synsets read from the snapshot.
+	 */
+	ReferenceSynset[] getSynsets()
+	{
+		return synsets;
+	}
+
+	/**
+	 * Adds the sense index entries stored in the snapshot to a reader.
+	 * 
+	 * @param  reader Reader to which the entries are added.
+	 * @throws IOException An error occurred reading the entries.
+	 */
+	void loadSenseIndexEntries(SenseIndexReader reader) throws IOException
+	{
+		int count = buffer.getInt(entryPosition);
+		for (int i = 0; i < count; i++)
+		{
+			reader.addEntry(readEntry(i));
+		}
+	}
+
+	/**
+	 * Reads a single sense index entry. If the synsets have been read, the
+	 * entry refers to its synset; otherwise, only to its location.
+	 * 
+	 * @param  index Index of the entry within the sense index section.
+	 * @return Entry that was read.
+	 * @throws IOException An error occurred reading the entry.
+	 */
+	private SenseIndexEntry readEntry(int index) throws IOException
+	{
+		DataInputStream input = getInput(entryPosition + 4 +
+				index * SnapshotFormat.ENTRY_SIZE);
+		String lemma = readString(input);
+		SynsetType type = SynsetTypeConverter.getType((int)input.readByte());
+		int lexicalFile = input.readInt();
+		int lexicalID = input.readInt();
+		String headLemma = readString(input);
+		int headID = input.readInt();
+		int ordinal = input.readInt();
+		int senseNumber = input.readInt();
+		int tagCount = input.readInt();
+
+		SenseKey headKey = (headLemma != null ? new SenseKey(
+				TextTranslator.translateToExternalFormat(headLemma),
+				SynsetType.ADJECTIVE, lexicalFile, headID) : null);
+		SenseKey key = new SenseKey(lemma, type, lexicalFile, lexicalID,
+				headKey);
+		SenseIndexEntry entry = new SenseIndexEntry(key,
+				getPointer(ordinal).getOffset(), senseNumber, tagCount);
+		if (synsets != null)
+		{
+			entry.setSynset(synsets[ordinal]);
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the entries whose sense keys begin with the specified text,
+	 * searching the sorted sense index section.
+	 * 
+	 * @param  prefix Text with which the sense keys begin, which must
+	 *         include the lemma and the character that terminates it.
+	 * @return Matching entries, in sense key order; this list will be empty
+	 *         (not <code>null</code>) if there are none.
+	 * @throws IOException An error occurred reading the entries.
+	 */
+	List<SenseIndexEntry> readEntries(String prefix) throws IOException
+	{
+		String lemma = prefix.substring(0,
+				prefix.indexOf(SenseKey.LEMMA_TERMINATOR));
+		String lemmaPrefix = lemma + SenseKey.LEMMA_TERMINATOR;
+		//  Sense keys start with the lemma, so the entries of each lemma
+		//  are consecutive and also sorted by lemma
+		int count = buffer.getInt(entryPosition);
+		int low = 0;
+		int high = count;
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			String middlePrefix = readEntryLemma(middle) +
+					SenseKey.LEMMA_TERMINATOR;
+			if (middlePrefix.compareTo(lemmaPrefix) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		List<SenseIndexEntry> list = new ArrayList<SenseIndexEntry>();
+		for (int i = low; (i < count) && (readEntryLemma(i).equals(lemma));
+				i++)
+		{
+			SenseIndexEntry entry = readEntry(i);
+			if (entry.getSenseKey().getFullSenseKeyText().startsWith(prefix))
+			{
+				list.add(entry);
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the lemmas of all of the sense index entries.
+	 * 
+	 * @return Lemmas, in external format, in sense key order.
+	 * @throws IOException An error occurred reading the entries.
+	 */
+	Set<String> readLemmas() throws IOException
+	{
+		Set<String> lemmas = new LinkedHashSet<String>();
+		int count = buffer.getInt(entryPosition);
+		for (int i = 0; i < count; i++)
+		{
+			lemmas.add(TextTranslator.translateToExternalFormat(
+					readEntryLemma(i)));
+		}
+		return lemmas;
+	}
+
+	/**
+	 * Returns the lemma of a sense index entry as it appears in the entry's
+	 * sense key.
+	 * 
+	 * @param  index Index of the entry within the sense index section.
+	 * @return Lemma in database format.
+	 * @throws IOException An error occurred reading the entry.
+	 */
+	private String readEntryLemma(int index) throws IOException
+	{
+		return TextTranslator.translateToDatabaseFormat(getString(
+				buffer.getInt(entryPosition + 4 +
+				index * SnapshotFormat.ENTRY_SIZE)));
+	}
+
+	/**
+	 * Reads the synset that a pointer refers to.
+	 * 
+	 * @param  pointer Pointer that identifies the synset.
+	 * @return Synset that was read or <code>null</code> if the snapshot
+	 *         doesn't contain it.
+	 * @throws IOException An error occurred reading the synset.
+	 */
+	ReferenceSynset readSynset(SynsetPointer pointer) throws IOException
+	{
+		int code = pointer.getType().getCode();
+		int offset = pointer.getOffset();
+		int low = 0;
+		int high = synsetCount - 1;
+		while (low <= high)
+		{
+			int middle = (low + high) >>> 1;
+			int position = synsetPosition + 4 +
+					middle * SnapshotFormat.SYNSET_ID_SIZE;
+			int relativeValue = buffer.get(position) - code;
+			if (relativeValue == 0)
+			{
+				int middleOffset = buffer.getInt(position + 1);
+				relativeValue = (middleOffset < offset ? -1 :
+						(middleOffset == offset ? 0 : 1));
+			}
+			if (relativeValue < 0)
+			{
+				low = middle + 1;
+			}
+			else if (relativeValue > 0)
+			{
+				high = middle - 1;
+			}
+			else
+			{
+				DataInputStream input = getInput(synsetPosition +
+						buffer.getInt(indexPosition + middle * 4));
+				return readSynset(input, pointer.getType(), offset);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Adds the lemmas to the lemma dictionary.
+	 * 
+	 * @return Identifier of each lemma in the lemma dictionary, in the
+	 *         (sorted) order in which they're stored.
+	 * @throws RetrievalException An error occurred reading the lemmas.
+	 */
+	int[] readLemmaIDs()
+	{
+		try
+		{
+			DataInputStream input = getInput(lemmaPosition);
+			int count = input.readInt();
+			int[] lemmaIDs = new int[count];
+			LemmaDictionary dictionary = LemmaDictionary.getInstance();
+			for (int i = 0; i < count; i++)
+			{
+				lemmaIDs[i] = dictionary.getID(readString(input));
+			}
+			return lemmaIDs;
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading snapshot: " + e, e);
+		}
+	}
+
+	/**
+	 * Reads the index of the synsets associated with each lemma, which is
+	 * stored in the snapshot so that it doesn't have to be built when the
+	 * snapshot is loaded.
+	 * 
+	 * @param  lemmaIDs Identifier of each lemma, in sorted order, as
+	 *         returned by {@link #readLemmaIDs()}.
+	 * @return Index of the synsets of each lemma.
+	 * @throws RetrievalException An error occurred reading the index.
+	 */
+	LemmaIndex readLemmaIndex(int[] lemmaIDs)
+	{
+		try
+		{
+			return LemmaIndex.read(getInput(lemmaPosition + 4 +
+					lemmaIDs.length * 4), lemmaIDs, synsets);
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading snapshot: " + e, e);
+		}
+	}
+
+	/**
+	 * Reads the automaton that contains the lemmas, which is stored in the
+	 * snapshot so that it doesn't have to be built when the snapshot is
+	 * loaded.
+	 * 
+	 * @param  lemmaIDs Identifier of each lemma, in sorted order, as
+	 *         returned by {@link #readLemmaIDs()}.
+	 * @return Automaton that maps each lemma to its identifier.
+	 * @throws RetrievalException An error occurred reading the automaton.
+	 */
+	LemmaAutomaton readLemmaAutomaton(int[] lemmaIDs)
+	{
+		try
+		{
+			return LemmaAutomaton.read(getInput(automatonPosition), lemmaIDs);
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException("Error reading snapshot: " + e, e);
+		}
+	}
+
+	/**
+	 * Releases the snapshot content once the database has been loaded.
+	 */
+	void close()
+	{
+		buffer = null;
+		strings = null;
+		synsets = null;
+	}
+
+	/**
+	 * Reads the synset section and adds the synsets to the factory's cache.
+	 * 
+	 * @param  position Position of the synset section.
+	 * @return Synsets in snapshot order.
+	 * @throws IOException An error occurred reading the synsets.
+	 */
+	private ReferenceSynset[] readSynsets() throws IOException
+	{
+		DataInputStream input = getInput(synsetPosition + 4 +
+				synsetCount * SnapshotFormat.SYNSET_ID_SIZE);
+		SynsetPointer[] pointers = new SynsetPointer[synsetCount];
+		ReferenceSynset[] result = new ReferenceSynset[synsetCount];
+		for (int i = 0; i < synsetCount; i++)
+		{
+			pointers[i] = getPointer(i);
+			result[i] = readSynset(input, pointers[i].getType(),
+					pointers[i].getOffset());
+			if (PropertyNames.glossStore)
+			{
+				result[i].storeGloss(GlossStore.getInstance());
+			}
+		}
+		SynsetFactory factory = SynsetFactory.getInstance();
+		for (int i = 0; i < synsetCount; i++)
+		{
+			factory.putSynset(pointers[i].getType(), pointers[i].getOffset(),
+					result[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns a pointer to a synset, given its position within the snapshot.
+	 * 
+	 * @param  ordinal Position of the synset within the snapshot.
+	 * @return Pointer that identifies the synset.
+	 */
+	private SynsetPointer getPointer(int ordinal)
+	{
+		int position = synsetPosition + 4 +
+				ordinal * SnapshotFormat.SYNSET_ID_SIZE;
+		return new SynsetPointer(
+				SynsetTypeConverter.getType((int)buffer.get(position)),
+				buffer.getInt(position + 1));
+	}
+
+	/**
+	 * Reads a single synset.
+	 * 
+	 * @param  input Stream from which to read the synset.
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @return Synset that was read.
+	 * @throws IOException An error occurred reading the synset.
+	 */
+	private ReferenceSynset readSynset(DataInputStream input, SynsetType type,
+			int offset) throws IOException
+	{
+		String definition = readString(input);
+		String[] examples = readStrings(input);
+		int lexicalFile = input.readInt();
+		int wordCount = input.readInt();
+		String[] wordForms = new String[wordCount];
+		SenseKey[] senseKeys = new SenseKey[wordCount];
+		int[] tagCounts = new int[wordCount];
+		for (int i = 0; i < wordCount; i++)
+		{
+			wordForms[i] = readString(input);
+			senseKeys[i] = new SenseKey(wordForms[i], type, lexicalFile,
+					input.readInt());
+			tagCounts[i] = input.readInt();
+		}
+
+		RelationshipPointers pointers = new RelationshipPointers();
+		int semanticCount = input.readInt();
+		for (int i = 0; i < semanticCount; i++)
+		{
+			RelationshipType relationship =
+					SnapshotFormat.getRelationshipType(input.readByte());
+			int targetCount = input.readInt();
+			for (int j = 0; j < targetCount; j++)
+			{
+				pointers.addSemanticRelationship(relationship,
+						getPointer(input.readInt()));
+			}
+		}
+		int lexicalCount = input.readInt();
+		for (int i = 0; i < lexicalCount; i++)
+		{
+			String wordForm = readString(input);
+			RelationshipType relationship =
+					SnapshotFormat.getRelationshipType(input.readByte());
+			int targetCount = input.readInt();
+			for (int j = 0; j < targetCount; j++)
+			{
+				SynsetPointer target = getPointer(input.readInt());
+				int wordNumber = input.readShort();
+				pointers.addLexicalRelationship(wordForm, relationship,
+						new WordSensePointer(target.getType(),
+						target.getOffset(), wordNumber));
+			}
+		}
+		pointers.compact();
+
+		WordPositions positions = null;
+		if (SynsetType.ADJECTIVE.equals(type) ||
+				SynsetType.ADJECTIVE_SATELLITE.equals(type))
+		{
+			for (int i = 0; i < wordCount; i++)
+			{
+				String position = readString(input);
+				if (position != null)
+				{
+					if (positions == null)
+					{
+						positions = new WordPositions();
+					}
+					positions.setPosition(wordForms[i], position);
+				}
+			}
+		}
+
+		ExampleSentences sentences = null;
+		if (SynsetType.VERB.equals(type))
+		{
+			sentences = new ExampleSentences();
+			String[] frames = readStrings(input);
+			for (int i = 0; i < frames.length; i++)
+			{
+				sentences.addCommonFrame(frames[i]);
+			}
+			for (int i = 0; i < wordCount; i++)
+			{
+				frames = readStrings(input);
+				for (int j = 0; j < frames.length; j++)
+				{
+					sentences.addFrame(frames[j], wordForms[i]);
+				}
+				String[] templates = readStrings(input);
+				if (templates != null)
+				{
+					sentences.setTemplates(wordForms[i], templates);
+				}
+			}
+		}
+
+		ReferenceSynset synset = SynsetParser.createSynset(type, definition,
+				examples, senseKeys, pointers, sentences, positions,
+				lexicalFile, offset);
+		for (int i = 0; i < wordCount; i++)
+		{
+			synset.setTagCount(i, tagCounts[i]);
+		}
+		return synset;
+	}
+
+	/**
+	 * Reads a string that's stored as an index into the string table.
+	 * 
+	 * @param  input Stream from which to read the index.
+	 * @return String identified by the index (may be <code>null</code>).
+	 * @throws IOException An error occurred reading the index.
+	 */
+	private String readString(DataInputStream input) throws IOException
+	{
+		return getString(input.readInt());
+	}
+
+	/**
+	 * Returns a string from the string table, reading it if the strings
+	 * haven't all been read.
+	 * 
+	 * @param  index Index of the string within the string table.
+	 * @return String identified by the index (may be <code>null</code>).
+	 * @throws IOException An error occurred reading the string.
+	 */
+	private String getString(int index) throws IOException
+	{
+		if (index == SnapshotFormat.NO_STRING)
+		{
+			return null;
+		}
+		if (strings != null)
+		{
+			return strings[index];
+		}
+		return getInput(stringPosition + buffer.getInt(indexPosition +
+				(synsetCount + index) * 4)).readUTF();
+	}
+
+	/**
+	 * Reads an array of strings, where a negative length represents a
+	 * <code>null</code> array.
+	 * 
+	 * @param  input Stream from which to read the strings.
+	 * @return Strings that were read (may be <code>null</code>).
+	 * @throws IOException An error occurred reading the strings.
+	 */
+	private String[] readStrings(DataInputStream input) throws IOException
+	{
+		String[] texts = null;
+		int count = input.readInt();
+		if (count >= 0)
+		{
+			texts = new String[count];
+			for (int i = 0; i < count; i++)
+			{
+				texts[i] = readString(input);
+			}
+		}
+		return texts;
+	}
+
+	/**
+	 * Returns a stream that reads the snapshot from the specified position.
+	 * 
+	 * @param  position Position at which to start reading.
+	 * @return Stream that reads the snapshot.
+	 */
+	private DataInputStream getInput(int position)
+	{
+		ByteBuffer view = buffer.duplicate();
+		view.position(position);
+		return getInput(view);
+	}
+
+	/**
+	 * Returns a stream that reads from a buffer, advancing its position.
+	 * 
+	 * @param  view Buffer from which to read.
+	 * @return Stream that reads the buffer.
+	 */
+	private static DataInputStream getInput(final ByteBuffer view)
+	{
+		return new DataInputStream(new InputStream()
+		{
+			public int read()
+			{
+				return (view.hasRemaining() ? (view.get() & 0xFF) : -1);
+			}
+
+			public int read(byte[] bytes, int offset, int length)
+			{
+				if (!view.hasRemaining())
+				{
+					return -1;
+				}
+				length = Math.min(length, view.remaining());
+				view.get(bytes, offset, length);
+				return length;
+			}
+		});
+	}
+
+}
\ No newline at end of file
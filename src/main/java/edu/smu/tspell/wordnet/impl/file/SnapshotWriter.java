@@ -0,0 +1,902 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.LineIterator;
+
+import edu.smu.tspell.wordnet.AdjectiveSatelliteSynset;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordSense;
+import edu.smu.tspell.wordnet.impl.ExampleSentences;
+import edu.smu.tspell.wordnet.impl.file.synset.AdjectiveReferenceSynset;
+import edu.smu.tspell.wordnet.impl.file.synset.VerbReferenceSynset;
+
+/**
+ * Writes a snapshot of the fully loaded database to a file.
+ * <br><p>
+ * The snapshot contains everything that's otherwise produced by parsing the
+ * sense index and data files on startup: the synsets with their sense keys
+ * and tag counts, the semantic and lexical relationships between them, the
+ * verb frames and templates, the sense index entries, and the synsets
+ * associated with each lemma. When the <code>wordnet.database.snapshot</code>
+ * property identifies a snapshot that's consistent with the database files,
+ * {@link SnapshotReader} loads it instead of parsing those files, and
+ * {@link MappedSynsetFactory} reads individual synsets from it on demand.
+ * <br><p>
+ * Snapshots are reproducible: writing a snapshot twice from the same database
+ * files produces identical output. This class is intended to be run as part
+ * of a build, for example:
+ * <pre>
+ * java edu.smu.tspell.wordnet.impl.file.SnapshotWriter wordnet.snapshot
+ * </pre>
+ * <br><p>
+ * A pruned snapshot contains only the word senses that satisfy a set of
+ * {@link PruningCriteria} along with the hypernyms of their synsets, so
+ * that it can be deployed in place of the (much larger) data files. The
+ * criteria are specified by options that precede the file name:
+ * <pre>
+ * java edu.smu.tspell.wordnet.impl.file.SnapshotWriter -minTagCount 1
+ *     -types noun,verb -lexicalFiles noun.person -lemmas lemmas.txt
+ *     wordnet.snapshot
+ * </pre>
+ * The types and lexicographer files are specified as for a
+ * {@link LoadProfile} and the lemma file lists one allowed lemma per line.
+ * The exception lists used for morphological processing are still read
+ * from the database directory.
+ * 
+ * @author Brett Spell
+ * @see    SnapshotFormat
+ */
+public class SnapshotWriter
+{
+
+	/**
+	 * Orders synsets by their type and then by their offset.
+	 */
+	private final static Comparator<ReferenceSynset> SYNSET_ORDER =
+			new Comparator<ReferenceSynset>()
+	{
+		public int compare(ReferenceSynset o1, ReferenceSynset o2)
+		{
+			int relativeValue =
+					o1.getType().getCode() - o2.getType().getCode();
+			if (relativeValue == 0)
+			{
+				relativeValue = (o1.getOffset() < o2.getOffset() ? -1 :
+						(o1.getOffset() == o2.getOffset() ? 0 : 1));
+			}
+			return relativeValue;
+		}
+	};
+
+	/**
+	 * Strings in the order in which they were first written.
+	 */
+	private List<String> strings = new ArrayList<String>();
+
+	/**
+	 * Maps each string that has been written to its index within
+	 * {@link #strings}.
+	 */
+	private Map<String, Integer> stringIndexes = new HashMap<String, Integer>();
+
+	/**
+	 * Maps each synset to its position within the snapshot.
+	 */
+	private Map<Synset, Integer> ordinals = new HashMap<Synset, Integer>();
+
+	/**
+	 * Position of each synset within the synset section, in snapshot order.
+	 */
+	private int[] synsetPositions;
+
+	/**
+	 * Lemmas that were written to the lemma section, in sorted order.
+	 */
+	private List<String> writtenLemmas;
+
+	/**
+	 * Indicates whether the snapshot contains only part of the database, in
+	 * which case relationships to synsets that aren't part of it are
+	 * dropped.
+	 */
+	private boolean pruned;
+
+	/**
+	 * Writes a snapshot of the database identified by the
+	 * <code>wordnet.properties</code> file on the classpath.
+	 * 
+	 * @param  args Any pruning options followed by the name of the snapshot
+	 *         file to write.
+	 * @throws IOException An error occurred writing the snapshot.
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		PruningCriteria criteria = null;
+		String types = "";
+		String lexicalFiles = "";
+		int i = 0;
+		for (; (i < args.length - 1) && (args[i].startsWith("-")); i += 2)
+		{
+			if (criteria == null)
+			{
+				criteria = new PruningCriteria();
+			}
+			if (args[i].equals("-minTagCount"))
+			{
+				criteria.setMinimumTagCount(Integer.parseInt(args[i + 1]));
+			}
+			else if (args[i].equals("-types"))
+			{
+				types = args[i + 1];
+			}
+			else if (args[i].equals("-lexicalFiles"))
+			{
+				lexicalFiles = args[i + 1];
+			}
+			else if (args[i].equals("-lemmas"))
+			{
+				readLemmas(new File(args[i + 1]), criteria);
+			}
+			else
+			{
+				break;
+			}
+		}
+		if (i != args.length - 1)
+		{
+			System.err.println("Usage: java " + SnapshotWriter.class.getName()
+					+ " [-minTagCount <count>] [-types <types>]"
+					+ " [-lexicalFiles <files>] [-lemmas <lemma file>]"
+					+ " <snapshot file>");
+			System.exit(1);
+		}
+		if (criteria != null)
+		{
+			criteria.setProfile(new LoadProfile(types, lexicalFiles));
+		}
+		//  Make sure the database is loaded from the data files and not from
+		//  a previously written snapshot
+		System.setProperty(PropertyNames.SNAPSHOT_FILE, "");
+		new SnapshotWriter().write(new File(args[i]), criteria);
+	}
+
+	/**
+	 * Adds the lemmas listed in a file, one per line, to the allowed lemmas
+	 * of the pruning criteria.
+	 * 
+	 * @param  file File that lists the lemmas.
+	 * @param  criteria Criteria to which the lemmas are added.
+	 * @throws IOException An error occurred reading the file.
+	 */
+	private static void readLemmas(File file, PruningCriteria criteria)
+			throws IOException
+	{
+		InputStream stream = new FileInputStream(file);
+		try
+		{
+			LineIterator iterator = IOUtils.lineIterator(stream, null);
+			while (iterator.hasNext())
+			{
+				String lemma = iterator.nextLine().trim();
+				if (lemma.length() > 0)
+				{
+					criteria.addLemma(lemma);
+				}
+			}
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * No-argument constructor.
+	 */
+	public SnapshotWriter()
+	{
+	}
+
+	/**
+	 * Loads the database from the data files and writes a snapshot of it.
+	 * 
+	 * @param  file File to which the snapshot is written.
+	 * @throws IOException An error occurred writing the snapshot.
+	 */
+	public void write(File file) throws IOException
+	{
+		write(file, null);
+	}
+
+	/**
+	 * Loads the database from the data files and writes a snapshot of the
+	 * part of it that satisfies a set of pruning criteria.
+	 * <br><p>
+	 * The snapshot contains the synsets of the word senses that satisfy the
+	 * criteria and, so that the taxonomy above them can still be navigated,
+	 * their hypernyms and instance hypernyms (recursively) as well as the
+	 * head synsets of adjective satellites. All of the word senses of those
+	 * synsets are included and relationships to synsets that aren't part of
+	 * the snapshot are dropped.
+	 * 
+	 * @param  file File to which the snapshot is written.
+	 * @param  criteria Criteria that identify the word senses to keep, or
+	 *         <code>null</code> to write the entire database.
+	 * @throws IOException An error occurred writing the snapshot.
+	 */
+	public void write(File file, PruningCriteria criteria) throws IOException
+	{
+		WordFormLookup lookup = WordFormLookup.getInstance();
+		SenseIndexReader reader = SenseIndexReader.getInstance();
+		pruned = (criteria != null);
+
+		//  Collect the sense index entries in key order and their synsets
+		List<SenseIndexEntry> entries = new ArrayList<SenseIndexEntry>();
+		List<ReferenceSynset> synsets = new ArrayList<ReferenceSynset>();
+		Iterator<SenseIndexEntry> iterator = reader.getSenseIndexEntryIterator();
+		while (iterator.hasNext())
+		{
+			SenseIndexEntry entry = iterator.next();
+			ReferenceSynset synset = (ReferenceSynset)(entry.getSynset());
+			if (synset == null)
+			{
+				throw new IOException("No synset loaded for sense '" +
+						entry.getSenseKey().getFullSenseKeyText() + "'");
+			}
+			if ((!pruned) || (criteria.matches(entry)))
+			{
+				entries.add(entry);
+				if (!ordinals.containsKey(synset))
+				{
+					ordinals.put(synset, Integer.valueOf(0));
+					synsets.add(synset);
+				}
+			}
+		}
+		if (pruned)
+		{
+			//  Include the hypernyms of the kept synsets and then all of the
+			//  word senses of the resulting synsets
+			for (int i = 0; i < synsets.size(); i++)
+			{
+				for (Synset related : getAncestorSynsets(synsets.get(i)))
+				{
+					if (!ordinals.containsKey(related))
+					{
+						ordinals.put(related, Integer.valueOf(0));
+						synsets.add((ReferenceSynset)related);
+					}
+				}
+			}
+			entries.clear();
+			iterator = reader.getSenseIndexEntryIterator();
+			while (iterator.hasNext())
+			{
+				SenseIndexEntry entry = iterator.next();
+				if (ordinals.containsKey(entry.getSynset()))
+				{
+					entries.add(entry);
+				}
+			}
+		}
+		else
+		{
+			//  Include synsets that are only reachable through relationships
+			for (int i = 0; i < synsets.size(); i++)
+			{
+				for (Synset related : getRelatedSynsets(synsets.get(i)))
+				{
+					if (!ordinals.containsKey(related))
+					{
+						ordinals.put(related, Integer.valueOf(0));
+						synsets.add((ReferenceSynset)related);
+					}
+				}
+			}
+		}
+		Collections.sort(entries, new Comparator<SenseIndexEntry>()
+		{
+			public int compare(SenseIndexEntry o1, SenseIndexEntry o2)
+			{
+				return o1.getSenseKey().getFullSenseKeyText().compareTo(
+						o2.getSenseKey().getFullSenseKeyText());
+			}
+		});
+		Collections.sort(synsets, SYNSET_ORDER);
+		for (int i = 0; i < synsets.size(); i++)
+		{
+			ordinals.put(synsets.get(i), Integer.valueOf(i));
+		}
+
+		String[] lemmas = lookup.allWordForms().toArray(new String[0]);
+		Arrays.sort(lemmas);
+
+		byte[] synsetSection = writeSynsets(synsets);
+		byte[] entrySection = writeEntries(entries);
+		byte[] lemmaSection = writeLemmas(lookup, lemmas);
+		byte[] automatonSection = writeLemmaAutomaton();
+		int[] stringPositions = new int[strings.size()];
+		byte[] stringTable = writeStringTable(stringPositions);
+		byte[] indexSection = writeIndex(stringPositions);
+
+		OutputStream stream = new FileOutputStream(file);
+		try
+		{
+			DataOutputStream output = new DataOutputStream(stream);
+			output.write(SnapshotFormat.MAGIC);
+			output.writeInt(SnapshotFormat.VERSION);
+			output.writeInt(pruned ? SnapshotFormat.PRUNED : 0);
+			output.writeLong(pruned ?
+					SnapshotFormat.computeSettingsChecksum() :
+					SnapshotFormat.computeSourceChecksum());
+			output.writeInt(strings.size());
+			output.writeInt(synsetSection.length);
+			output.writeInt(entrySection.length);
+			output.writeInt(lemmaSection.length);
+			output.writeInt(automatonSection.length);
+			output.writeInt(indexSection.length);
+			output.write(stringTable);
+			output.write(synsetSection);
+			output.write(entrySection);
+			output.write(lemmaSection);
+			output.write(automatonSection);
+			output.write(indexSection);
+			output.flush();
+		}
+		finally
+		{
+			stream.close();
+		}
+	}
+
+	/**
+	 * Returns the synsets to which a synset has a semantic or lexical
+	 * relationship.
+	 * 
+	 * @param  synset Synset for which to return the related synsets.
+	 * @return Synsets related to the specified one.
+	 */
+	private List<Synset> getRelatedSynsets(ReferenceSynset synset)
+	{
+		List<Synset> related = new ArrayList<Synset>();
+		String[] wordForms = synset.getWordForms();
+		RelationshipType[] types = RelationshipType.ALL_TYPES;
+		for (int i = 0; i < types.length; i++)
+		{
+			related.addAll(Arrays.asList(synset.getSynsets(types[i])));
+			for (int j = 0; j < wordForms.length; j++)
+			{
+				WordSense[] senses = synset.getReferences(
+						types[i], wordForms[j]);
+				for (int k = 0; k < senses.length; k++)
+				{
+					related.add(senses[k].getSynset());
+				}
+			}
+		}
+		return related;
+	}
+
+	/**
+	 * Returns the synsets that are kept in a pruned snapshot because a
+	 * synset depends on them: its hypernyms and instance hypernyms and, for
+	 * an adjective satellite, its head synset.
+	 * 
+	 * @param  synset Synset for which to return the ancestors.
+	 * @return Synsets that must be kept along with the specified one.
+	 */
+	private List<Synset> getAncestorSynsets(ReferenceSynset synset)
+	{
+		List<Synset> ancestors = new ArrayList<Synset>();
+		ancestors.addAll(Arrays.asList(
+				synset.getSynsets(RelationshipType.HYPERNYM)));
+		ancestors.addAll(Arrays.asList(
+				synset.getSynsets(RelationshipType.INSTANCE_HYPERNYM)));
+		if (synset instanceof AdjectiveSatelliteSynset)
+		{
+			Synset head = ((AdjectiveSatelliteSynset)synset).getHeadSynset();
+			if (head != null)
+			{
+				ancestors.add(head);
+			}
+		}
+		return ancestors;
+	}
+
+	/**
+	 * Returns the synsets that are part of the snapshot; unless the
+	 * snapshot is pruned, that's all of them.
+	 * 
+	 * @param  related Synsets to filter.
+	 * @return Synsets that are part of the snapshot.
+	 */
+	private Synset[] retainWritten(Synset[] related)
+	{
+		if (!pruned)
+		{
+			return related;
+		}
+		List<Synset> retained = new ArrayList<Synset>(related.length);
+		for (int i = 0; i < related.length; i++)
+		{
+			if (ordinals.containsKey(related[i]))
+			{
+				retained.add(related[i]);
+			}
+		}
+		return retained.toArray(new Synset[retained.size()]);
+	}
+
+	/**
+	 * Returns the word senses whose synsets are part of the snapshot;
+	 * unless the snapshot is pruned, that's all of them.
+	 * 
+	 * @param  related Word senses to filter.
+	 * @return Word senses whose synsets are part of the snapshot.
+	 */
+	private WordSense[] retainWritten(WordSense[] related)
+	{
+		if (!pruned)
+		{
+			return related;
+		}
+		List<WordSense> retained = new ArrayList<WordSense>(related.length);
+		for (int i = 0; i < related.length; i++)
+		{
+			if (ordinals.containsKey(related[i].getSynset()))
+			{
+				retained.add(related[i]);
+			}
+		}
+		return retained.toArray(new WordSense[retained.size()]);
+	}
+
+	/**
+	 * Writes the synset section of the snapshot.
+	 * 
+	 * @param  synsets Synsets to write, in snapshot order.
+	 * @return Content of the synset section.
+	 * @throws IOException An error occurred writing the section.
+	 */
+	private byte[] writeSynsets(List<ReferenceSynset> synsets)
+			throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		//  Identify all synsets up front so that the reader can create
+		//  pointers to synsets that it hasn't read yet
+		output.writeInt(synsets.size());
+		for (ReferenceSynset synset : synsets)
+		{
+			output.writeByte(synset.getType().getCode());
+			output.writeInt(synset.getOffset());
+		}
+		synsetPositions = new int[synsets.size()];
+		for (int i = 0; i < synsets.size(); i++)
+		{
+			synsetPositions[i] = output.size();
+			writeSynset(output, synsets.get(i));
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes a single synset.
+	 * 
+	 * @param  output Stream to which the synset is written.
+	 * @param  synset Synset to write.
+	 * @throws IOException An error occurred writing the synset.
+	 */
+	private void writeSynset(DataOutputStream output, ReferenceSynset synset)
+			throws IOException
+	{
+		String[] wordForms = synset.getWordForms();
+
+		writeString(output, synset.getDefinition());
+		writeStrings(output, synset.getUsageExamples());
+		output.writeInt(synset.getLexicalFileNumber());
+		output.writeInt(wordForms.length);
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			writeString(output, wordForms[i]);
+			output.writeInt(synset.getSenseKey(i).getLexicalID());
+			output.writeInt(synset.getRecordedTagCount(i));
+		}
+
+		//  Semantic relationships
+		RelationshipType[] types = RelationshipType.ALL_TYPES;
+		List<RelationshipType> presentTypes = new ArrayList<RelationshipType>();
+		List<Synset[]> targets = new ArrayList<Synset[]>();
+		for (int i = 0; i < types.length; i++)
+		{
+			Synset[] related = retainWritten(synset.getSynsets(types[i]));
+			if (related.length > 0)
+			{
+				presentTypes.add(types[i]);
+				targets.add(related);
+			}
+		}
+		output.writeInt(presentTypes.size());
+		for (int i = 0; i < presentTypes.size(); i++)
+		{
+			output.writeByte(SnapshotFormat.getRelationshipNumber(
+					presentTypes.get(i)));
+			Synset[] related = targets.get(i);
+			output.writeInt(related.length);
+			for (int j = 0; j < related.length; j++)
+			{
+				output.writeInt(getOrdinal(related[j]));
+			}
+		}
+
+		//  Lexical relationships
+		List<String> senseWords = new ArrayList<String>();
+		List<RelationshipType> senseTypes = new ArrayList<RelationshipType>();
+		List<WordSense[]> senses = new ArrayList<WordSense[]>();
+		List<String> visitedWords = new ArrayList<String>();
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			if (visitedWords.contains(wordForms[i]))
+			{
+				continue;
+			}
+			visitedWords.add(wordForms[i]);
+			for (int j = 0; j < types.length; j++)
+			{
+				WordSense[] related = retainWritten(synset.getReferences(
+						types[j], wordForms[i]));
+				if (related.length > 0)
+				{
+					senseWords.add(wordForms[i]);
+					senseTypes.add(types[j]);
+					senses.add(related);
+				}
+			}
+		}
+		output.writeInt(senses.size());
+		for (int i = 0; i < senses.size(); i++)
+		{
+			writeString(output, senseWords.get(i));
+			output.writeByte(SnapshotFormat.getRelationshipNumber(
+					senseTypes.get(i)));
+			WordSense[] related = senses.get(i);
+			output.writeInt(related.length);
+			for (int j = 0; j < related.length; j++)
+			{
+				Synset target = related[j].getSynset();
+				output.writeInt(getOrdinal(target));
+				output.writeShort(getWordNumber(
+						target, related[j].getWordForm()));
+			}
+		}
+
+		//  Adjective positions
+		if (synset instanceof AdjectiveReferenceSynset)
+		{
+			AdjectiveReferenceSynset adjective =
+					(AdjectiveReferenceSynset)synset;
+			for (int i = 0; i < wordForms.length; i++)
+			{
+				writeString(output,
+						adjective.getRequiredPosition(wordForms[i]));
+			}
+		}
+
+		//  Verb frames and templates
+		if (synset instanceof VerbReferenceSynset)
+		{
+			ExampleSentences sentences =
+					((VerbReferenceSynset)synset).getExampleSentences();
+			writeStrings(output, sentences.getCommonFrames());
+			for (int i = 0; i < wordForms.length; i++)
+			{
+				writeStrings(output, sentences.getFrames(wordForms[i]));
+				writeStrings(output, sentences.getTemplates(wordForms[i]));
+			}
+		}
+	}
+
+	/**
+	 * Writes the sense index section of the snapshot.
+	 * 
+	 * @param  entries Sense index entries to write.
+	 * @return Content of the sense index section.
+	 * @throws IOException An error occurred writing the section.
+	 */
+	private byte[] writeEntries(List<SenseIndexEntry> entries)
+			throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		output.writeInt(entries.size());
+		for (SenseIndexEntry entry : entries)
+		{
+			SenseKey key = entry.getSenseKey();
+			SenseKey head = key.getHeadWord();
+			writeString(output, key.getLemma());
+			output.writeByte(key.getType().getCode());
+			output.writeInt(key.getLexicalFileNumber());
+			output.writeInt(key.getLexicalID());
+			writeString(output, (head != null ? head.getLemma() : null));
+			output.writeInt(head != null ? head.getLexicalID() : -1);
+			output.writeInt(getOrdinal(entry.getSynset()));
+			output.writeInt(entry.getSenseNumber());
+			output.writeInt(entry.getTagCount());
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the lemma section of the snapshot, which contains the lemmas
+	 * followed by the index of their synsets (see {@link LemmaIndex}). The
+	 * index refers to each lemma by its position in the section and to each
+	 * synset by its ordinal, so that it can be read back without being
+	 * built again.
+	 * 
+	 * @param  lookup Lookup from which to obtain the synsets of each lemma.
+	 * @param  lemmas Lemmas to write, in sorted order.
+	 * @return Content of the lemma section.
+	 * @throws IOException An error occurred writing the section.
+	 */
+	private byte[] writeLemmas(WordFormLookup lookup, String[] lemmas)
+			throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		//  Drop the synsets (and lemmas) that aren't part of the snapshot
+		List<String> written = new ArrayList<String>(lemmas.length);
+		List<TreeMap<SynsetType, ArrayList<Synset>>> writtenCategories =
+				new ArrayList<TreeMap<SynsetType, ArrayList<Synset>>>(
+				lemmas.length);
+		for (int i = 0; i < lemmas.length; i++)
+		{
+			TreeMap<SynsetType, ArrayList<Synset>> categories =
+					new TreeMap<SynsetType, ArrayList<Synset>>();
+			for (Map.Entry<SynsetType, ArrayList<Synset>> category :
+					lookup.getCategories(lemmas[i]).entrySet())
+			{
+				Synset[] synsets = retainWritten(category.getValue().toArray(
+						new Synset[category.getValue().size()]));
+				if (synsets.length > 0)
+				{
+					categories.put(category.getKey(),
+							new ArrayList<Synset>(Arrays.asList(synsets)));
+				}
+			}
+			if (!categories.isEmpty())
+			{
+				written.add(lemmas[i]);
+				writtenCategories.add(categories);
+			}
+		}
+		writtenLemmas = written;
+
+		int count = written.size();
+		int[] positions = new int[count];
+		output.writeInt(count);
+		for (int i = 0; i < count; i++)
+		{
+			writeString(output, written.get(i));
+			positions[i] = i;
+		}
+		@SuppressWarnings("unchecked")
+		TreeMap<SynsetType, ArrayList<Synset>>[] categories =
+				writtenCategories.toArray(new TreeMap[count]);
+		LemmaIndex index = LemmaIndex.build(
+				written.toArray(new String[count]), positions, categories);
+		index.write(output, ordinals);
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the lemma automaton section of the snapshot, which contains
+	 * the lemmas of the lemma section in the same order. The identifiers
+	 * that the automaton maps them to aren't written, since they're
+	 * assigned when the snapshot is loaded.
+	 * 
+	 * @return Content of the lemma automaton section.
+	 * @throws IOException An error occurred writing the section.
+	 */
+	private byte[] writeLemmaAutomaton() throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		LemmaAutomaton automaton = LemmaAutomaton.build(
+				writtenLemmas.toArray(new String[writtenLemmas.size()]),
+				new int[writtenLemmas.size()]);
+		automaton.write(output);
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the string table of the snapshot.
+	 * 
+	 * @param  positions Receives the position of each string within the
+	 *         string table.
+	 * @return Content of the string table.
+	 * @throws IOException An error occurred writing the table.
+	 */
+	private byte[] writeStringTable(int[] positions) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		for (int i = 0; i < strings.size(); i++)
+		{
+			positions[i] = output.size();
+			output.writeUTF(strings.get(i));
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the index section of the snapshot, which contains the position
+	 * of each synset within the synset section followed by the position of
+	 * each string within the string table.
+	 * 
+	 * @param  stringPositions Positions of the strings.
+	 * @return Content of the index section.
+	 * @throws IOException An error occurred writing the section.
+	 */
+	private byte[] writeIndex(int[] stringPositions) throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream output = new DataOutputStream(bytes);
+
+		for (int i = 0; i < synsetPositions.length; i++)
+		{
+			output.writeInt(synsetPositions[i]);
+		}
+		for (int i = 0; i < stringPositions.length; i++)
+		{
+			output.writeInt(stringPositions[i]);
+		}
+		output.flush();
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes the index of a string within the string table, adding the
+	 * string to the table if it isn't already there.
+	 * 
+	 * @param  output Stream to which the index is written.
+	 * @param  text String to write (may be <code>null</code>).
+	 * @throws IOException An error occurred writing the index.
+	 */
+	private void writeString(DataOutputStream output, String text)
+			throws IOException
+	{
+		int index = SnapshotFormat.NO_STRING;
+		if (text != null)
+		{
+			Integer existing = stringIndexes.get(text);
+			if (existing == null)
+			{
+				existing = Integer.valueOf(strings.size());
+				strings.add(text);
+				stringIndexes.put(text, existing);
+			}
+			index = existing.intValue();
+		}
+		output.writeInt(index);
+	}
+
+	/**
+	 * Writes an array of strings, where a <code>null</code> array is
+	 * represented by a negative length.
+	 * 
+	 * @param  output Stream to which the strings are written.
+	 * @param  texts Strings to write (may be <code>null</code>).
+	 * @throws IOException An error occurred writing the strings.
+	 */
+	private void writeStrings(DataOutputStream output, String[] texts)
+			throws IOException
+	{
+		if (texts == null)
+		{
+			output.writeInt(-1);
+		}
+		else
+		{
+			output.writeInt(texts.length);
+			for (int i = 0; i < texts.length; i++)
+			{
+				writeString(output, texts[i]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the position of a synset within the snapshot.
+	 * 
+	 * @param  synset Synset for which to return the position.
+	 * @return Position of the synset.
+	 * @throws IOException The synset isn't part of the snapshot.
+	 */
+	private int getOrdinal(Synset synset) throws IOException
+	{
+		Integer ordinal = ordinals.get(synset);
+		if (ordinal == null)
+		{
+			throw new IOException("Synset '" + synset + "' is not part " +
+					"of the snapshot");
+		}
+		return ordinal.intValue();
+	}
+
+	/**
+	 * Returns the one-based number of a word form within a synset.
+	 * 
+	 * @param  synset Synset that contains the word form.
+	 * @param  wordForm Word form for which to return the number.
+	 * @return Number of the word form within the synset.
+	 * @throws IOException The synset doesn't contain the word form.
+	 */
+	private int getWordNumber(Synset synset, String wordForm)
+			throws IOException
+	{
+		String[] wordForms = synset.getWordForms();
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			if (wordForms[i].equals(wordForm))
+			{
+				return i + 1;
+			}
+		}
+		throw new IOException("Synset '" + synset + "' doesn't contain " +
+				"the word form '" + wordForm + "'");
+	}
+
+}
\ No newline at end of file
@@ -1,174 +1,589 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.io.IOException;
-import java.util.HashMap;
-
-import edu.smu.tspell.wordnet.Synset;
-import edu.smu.tspell.wordnet.SynsetType;
-import edu.smu.tspell.wordnet.WordNetException;
-
-/**
- * Provides a central location from which synset instances can be retrieved.
- * <br><p>
- * Synsets may be cached to improve performance and minimize memory usage
- * and when a synset is requested, the cache is first checked and the cached
- * instance will be returned if one exists. If the synset isn't found in the
- * cache, however, it will be read from disk and possibly added to the cache.
- * 
- * @author Brett Spell
- * @see <a href="http://java.sun.com/developer/technicalArticles/ALT/RefObj/">
- *      Reference Objects and Garbage Collection</a>
- */
-public class SynsetFactory
-{
-
-	/**
-	 * Contains references to the instances of this file that have already
-	 * been created.
-	 */
-	private HashMap<SynsetType,SynsetReader>  readers = new HashMap<SynsetType,SynsetReader>();
-
-	/**
-	 * Singleton instance of this class.
-	 */
-	private static final SynsetFactory instance = new SynsetFactory();
-
-	/**
-	 * Maps pointers to their corresponding synsets.
-	 * <br><p>
-	 * For each entry in the map, the key is an instance of
-	 * {@link SynsetPointer} and the corresponding value is an instance of
-	 * {@link Synset}.
-	 * 
-	 * @see #synsetPointers
-	 * @see #getCachedSynset(SynsetPointer)
-	 */
-	private HashMap<SynsetPointer,Synset> pointerSynsets = new HashMap<SynsetPointer,Synset>();
-
-	/**
-	 * Returns a reference to the singleton instance of this class.
-	 * 
-	 * @return Reference to the singleton instance of this class.
-	 */
-	public static SynsetFactory getInstance()
-	{
-		return instance;
-	}
-
-	/**
-	 * This constructor ensures that instances of this class can't be
-	 * constructed by other classes.
-	 * 
-	 * @throws RetrievalException An error occurred reading the frame text file.
-	 */
-	private SynsetFactory()
-	{
-	}
-	
-	/**
-	 * Get the reader
-	 *  for this type.
-	 * @param type
-	 * @return
-	 */
-	private SynsetReader getReader(SynsetType type) {
-		SynsetReader reader = readers.get(type);
-		if (reader == null) {
-			reader = SynsetReader.getInstance(type);
-			readers.put(type, reader);
-		}
-		return reader;
-	}
-
-	/**
-	 * Returns a synset that's referenced by a pointer, reading it from disk
-	 * if necessary.
-	 * 
-	 * @param  pointer Pointer that identifies the location of the synset in
-	 *         the database.
-	 * @return Synset that was read from the database either as a result of
-	 *         this call or a previous one that resulted in it being cached.
-	 * @throws WordNetException An error occurred reading or parsing the
-	 *         synset.
-	 */
-	public Synset getSynset(SynsetPointer pointer)
-			throws WordNetException
-	{
-		Synset synset = pointerSynsets.get(pointer);
-		if (synset == null)
-		{
-			synset = readSynset(pointer);
-			pointerSynsets.put(pointer, synset);
-		}
-		return synset;
-	}
-
-	/**
-	 * Reads and returns a synset from the WordNet database.
-	 * 
-	 * @param  pointer Identifies the location from which to read the synset.
-	 * @return Newly created synset instance.
-	 * @throws RetrievalException An error occurred reading the data.
-	 * @throws ParseException An error occurred parsing the data.
-	 */
-	private Synset readSynset(SynsetPointer pointer)
-			throws RetrievalException, ParseException
-	{
-		Synset synset;
-		String data = null;
-		try
-		{
-			SynsetReader reader = getReader(pointer.getType());
-			data = reader.readData(pointer);
-			SynsetParser parser = new SynsetParser();
-			synset = parser.createSynset(data);
-		}
-		catch (ParseException pe)
-		{
-			throw pe;
-		}
-		catch (IOException ioe)
-		{
-			throw new RetrievalException(
-					"An error occurred reading the synset data", ioe);
-		}
-		catch (Exception e)
-		{
-			throw new ParseException(
-					"An error occurred parsing the synset data: " + data, e);
-		}
-		return synset;
-	}
-	
-	public void closeReaders() {
-		for (SynsetReader reader: readers.values()) {
-			reader.close();
-		}
-		readers = null;
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetException;
+
+/**
+ * Provides a central location from which synset instances can be retrieved.
+ * <br><p>
+ * Synsets may be cached to improve performance and minimize memory usage
+ * and when a synset is requested, the cache is first checked and the cached
+ * instance will be returned if one exists. If the synset isn't found in the
+ * cache, however, it will be read from disk and possibly added to the cache.
+ * <br><p>
+ * When only part of the database is loaded (see {@link LoadProfile}), the
+ * synsets and sense index entries outside of the profile are read on demand
+ * after the load has completed, and the same is true of every synset read
+ * by the lazy and mapped factories, so synsets may be read by several
+ * threads at once. The cache is read without locking and a synset that
+ * isn't in it is read and parsed without holding any lock either; only
+ * adding the synset to the cache is guarded by a lock, and if another
+ * thread cached the same synset in the meantime, that instance is returned
+ * instead, so there's never more than one instance of a cached synset.
+ * That's a {@link ReentrantLock} rather than a monitor so that a virtual
+ * thread that's waiting for the lock doesn't pin its carrier thread.
+ * 
+ * @author Brett Spell
+ * @see <a href="http://java.sun.com/developer/technicalArticles/ALT/RefObj/">
+ *      Reference Objects and Garbage Collection</a>
+ */
+public class SynsetFactory
+{
+
+	/**
+	 * Contains references to the instances of this file that have already
+	 * been created.
+	 */
+	private HashMap<SynsetType,SynsetReader>  readers = new HashMap<SynsetType,SynsetReader>();
+
+	/**
+	 * Singleton instance of this class.
+	 */
+	private static final SynsetFactory instance = new SynsetFactory();
+
+	/**
+	 * Maps the location of each synset that has been read to the synset.
+	 * 
+	 * @see #getCachedSynset(SynsetType, int)
+	 */
+	private volatile SynsetTable synsets = new SynsetTable();
+
+	/**
+	 * Searches the sense index file for entries that weren't loaded into
+	 * memory; created when it's first needed.
+	 */
+	private SenseIndexLocator locator;
+
+	/**
+	 * Held by the thread that's loading the database from the time it
+	 * starts until the relationships of the loaded synsets are resolved.
+	 * 
+	 * @see #awaitLinking()
+	 */
+	private final ReentrantLock linkLock = new ReentrantLock();
+
+	/**
+	 * Indicates whether the relationships are still being resolved.
+	 */
+	private volatile boolean linking;
+
+	/**
+	 * Guards changes to the cache, the data file readers and the sense
+	 * index locator.
+	 */
+	final ReentrantLock cacheLock = new ReentrantLock();
+
+	/**
+	 * Returns a reference to the singleton instance of this class.
+	 * 
+	 * @return Reference to the singleton instance of this class.
+	 */
+	public static SynsetFactory getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * This constructor ensures that instances of this class can't be
+	 * constructed by classes outside of this package.
+	 * 
+	 * @throws RetrievalException An error occurred reading the frame text file.
+	 */
+	SynsetFactory()
+	{
+	}
+	
+	/**
+	 * Get the reader
+	 *  for this type.
+	 * @param type
+	 * @return
+	 */
+	SynsetReader getReader(SynsetType type) {
+		cacheLock.lock();
+		try {
+			SynsetReader reader = readers.get(type);
+			if (reader == null) {
+				reader = SynsetReader.getInstance(type);
+				readers.put(type, reader);
+			}
+			return reader;
+		}
+		finally {
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns a synset that's referenced by a pointer, reading it from disk
+	 * if necessary.
+	 * 
+	 * @param  pointer Pointer that identifies the location of the synset in
+	 *         the database.
+	 * @return Synset that was read from the database either as a result of
+	 *         this call or a previous one that resulted in it being cached.
+	 * @throws WordNetException An error occurred reading or parsing the
+	 *         synset.
+	 */
+	public Synset getSynset(SynsetPointer pointer) throws WordNetException
+	{
+		return getSynset(pointer.getType(), pointer.getOffset());
+	}
+
+	/**
+	 * Returns the synset at the specified location, reading it from disk
+	 * if necessary. Unless the synset has to be read, this doesn't create
+	 * any objects or acquire any lock.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @return Synset that was read from the database either as a result of
+	 *         this call or a previous one that resulted in it being cached.
+	 * @throws WordNetException An error occurred reading or parsing the
+	 *         synset.
+	 */
+	public Synset getSynset(SynsetType type, int offset)
+			throws WordNetException
+	{
+		Synset synset = getCachedSynset(type, offset);
+		if (synset == null)
+		{
+			synset = addSynset(type, offset,
+					parseSynset(new SynsetPointer(type, offset)));
+		}
+		return synset;
+	}
+
+	/**
+	 * Returns a synset from the cache without acquiring any lock.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @return Cached synset or <code>null</code> if it isn't cached.
+	 */
+	Synset getCachedSynset(SynsetType type, int offset)
+	{
+		return synsets.get(type, offset);
+	}
+
+	/**
+	 * Adds a synset that was just parsed to the cache unless another thread
+	 * has already cached the synset at the same location, in which case
+	 * that one is returned and the new one is discarded.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @param  synset Synset that was parsed.
+	 * @return Synset that's in the cache.
+	 */
+	Synset addSynset(SynsetType type, int offset, Synset synset)
+	{
+		cacheLock.lock();
+		try
+		{
+			Synset cached = getCachedSynset(type, offset);
+			if (cached != null)
+			{
+				return cached;
+			}
+			storeGloss((ReferenceSynset)synset);
+			putSynset(type, offset, synset);
+			return synset;
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the sense index entry that has the specified sense key,
+	 * searching the sense index file if the entry is outside of the part
+	 * of the database that was loaded.
+	 * 
+	 * @param  senseKey Sense key, including any head word.
+	 * @return Matching entry or <code>null</code> if there is none.
+	 */
+	SenseIndexEntry getSenseIndexEntry(SenseKey senseKey)
+	{
+		SenseIndexEntry entry =
+				SenseIndexReader.getInstance().getEntry(senseKey);
+		if ((entry == null) && (!LoadProfile.getInstance().isComplete()))
+		{
+			entry = findEntry(senseKey.getFullSenseKeyText());
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns the adjective satellite entries of the sense index that have
+	 * the specified partial sense key (that is, without head word),
+	 * searching the sense index file if the entries are outside of the part
+	 * of the database that was loaded.
+	 * 
+	 * @param  senseKey Sense key, whose head word (if any) is ignored.
+	 * @return Matching entries or <code>null</code> if there are none.
+	 */
+	List<SenseIndexEntry> getSatelliteEntries(SenseKey senseKey)
+	{
+		List<SenseIndexEntry> list =
+				SenseIndexReader.getInstance().getAllEntries(senseKey);
+		if ((list == null) && (!LoadProfile.getInstance().isComplete()))
+		{
+			list = findSatelliteEntries(senseKey.getPartialSenseKeyText());
+		}
+		return list;
+	}
+
+	/**
+	 * Searches the sense index file for the adjective satellite entries that
+	 * have the specified partial sense key.
+	 * 
+	 * @param  partialKey Partial text of the sense key.
+	 * @return Matching entries, which may be an empty list.
+	 */
+	List<SenseIndexEntry> findSatelliteEntries(String partialKey)
+	{
+		List<SenseIndexEntry> list = findEntries(partialKey);
+		Iterator<SenseIndexEntry> iterator = list.iterator();
+		while (iterator.hasNext())
+		{
+			SenseKey key = iterator.next().getSenseKey();
+			if (key.getType() != SynsetType.ADJECTIVE_SATELLITE)
+			{
+				iterator.remove();
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * Searches the sense index file for the entry that has the specified
+	 * sense key.
+	 * 
+	 * @param  senseKey Full text of the sense key.
+	 * @return Matching entry or <code>null</code> if there is none.
+	 * @throws RetrievalException An error occurred reading the file.
+	 */
+	SenseIndexEntry findEntry(String senseKey)
+	{
+		return getLocator().getEntry(senseKey);
+	}
+
+	/**
+	 * Searches the sense index file for the entries that have a sense key
+	 * beginning with the specified text.
+	 * 
+	 * @param  prefix Text with which the sense keys begin.
+	 * @return Matching entries, in sense key order, which may be an empty
+	 *         list.
+	 * @throws RetrievalException An error occurred reading the file.
+	 */
+	List<SenseIndexEntry> findEntries(String prefix)
+	{
+		return getLocator().getEntries(prefix);
+	}
+
+	/**
+	 * Returns the object used to search the sense index file, opening the
+	 * file if this is the first time it's needed.
+	 * 
+	 * @return Sense index locator.
+	 * @throws RetrievalException An error occurred opening the file.
+	 */
+	SenseIndexLocator getLocator()
+	{
+		cacheLock.lock();
+		try
+		{
+			if (locator == null)
+			{
+				locator = new SenseIndexLocator();
+			}
+			return locator;
+		}
+		catch (IOException e)
+		{
+			throw new RetrievalException(
+					"Error accessing sense index file", e);
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Adds a synset that was created without reading the data files to
+	 * the cache, so that pointers to it resolve to that instance.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @param  synset Synset to cache.
+	 */
+	void putSynset(SynsetType type, int offset, Synset synset)
+	{
+		cacheLock.lock();
+		try
+		{
+			synsets.put(type, offset, synset);
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Indicates that the calling thread is about to load synsets and resolve
+	 * their relationships; until {@link #endLinking()} is called, other
+	 * threads that retrieve relationships will wait.
+	 */
+	void beginLinking()
+	{
+		linkLock.lock();
+		linking = true;
+	}
+
+	/**
+	 * Indicates that the relationships have been resolved (or that the load
+	 * was abandoned), releasing any threads that are waiting for them.
+	 */
+	void endLinking()
+	{
+		linking = false;
+		linkLock.unlock();
+	}
+
+	/**
+	 * Waits until the relationships of the loaded synsets have been resolved.
+	 * This returns immediately if no load is in progress or if it's called
+	 * by the thread performing the load.
+	 */
+	void awaitLinking()
+	{
+		if (linking)
+		{
+			linkLock.lock();
+			linkLock.unlock();
+		}
+	}
+
+	/**
+	 * Removes all synsets from the cache, so that each one is read again
+	 * from the data files the next time it's requested. Synsets that were
+	 * already returned remain usable but are no longer shared with the
+	 * synsets read afterwards.
+	 */
+	void clearCache()
+	{
+		cacheLock.lock();
+		try
+		{
+			synsets = new SynsetTable();
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns all synsets that are currently cached.
+	 * 
+	 * @return Cached synsets.
+	 */
+	Collection<Synset> getCachedSynsets()
+	{
+		return synsets.values();
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the cache itself, not
+	 * including the synsets in it.
+	 * 
+	 * @return Estimated number of bytes used by the cache.
+	 */
+	long getCacheEstimatedSize()
+	{
+		cacheLock.lock();
+		try
+		{
+			return synsets.getEstimatedSize();
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+	}
+
+	/**
+	 * Adds the cache and the synsets in it, including their relationships
+	 * and sentence frames, to a memory footprint.
+	 * 
+	 * @param  footprint Footprint to which the synsets are added.
+	 */
+	void estimateFootprint(MemoryFootprint footprint)
+	{
+		Collection<Synset> cached;
+		cacheLock.lock();
+		try
+		{
+			cached = new ArrayList<Synset>(getCachedSynsets());
+		}
+		finally
+		{
+			cacheLock.unlock();
+		}
+		footprint.add("synsetCache", cached.size(), getCacheEstimatedSize());
+		for (Synset synset : cached)
+		{
+			if (synset instanceof ReferenceSynset)
+			{
+				((ReferenceSynset)synset).estimateFootprint(footprint);
+			}
+		}
+	}
+
+	/**
+	 * Reads the text of a gloss whose parsing was deferred.
+	 * 
+	 * @param  type Type of the synset to which the gloss belongs.
+	 * @param  offset Offset into the data file of the gloss.
+	 * @param  length Number of characters in the gloss.
+	 * @return Unparsed text of the gloss.
+	 * @throws RetrievalException An error occurred reading the data.
+	 */
+	String readGloss(SynsetType type, int offset, int length)
+	{
+		try
+		{
+			return getReader(type).readText(offset, length);
+		}
+		catch (IOException ioe)
+		{
+			throw new RetrievalException(
+					"An error occurred reading the synset gloss", ioe);
+		}
+	}
+
+	/**
+	 * Moves the gloss of a synset that was just read to the gloss store,
+	 * if the glosses of the synsets in memory are stored there.
+	 * 
+	 * @param  synset Synset that was read.
+	 * @see    PropertyNames#glossStore
+	 */
+	void storeGloss(ReferenceSynset synset)
+	{
+		if (PropertyNames.glossStore)
+		{
+			synset.storeGloss(GlossStore.getInstance());
+		}
+	}
+
+	/**
+	 * Reads and returns a synset from the WordNet database, moving its
+	 * gloss to the gloss store if necessary.
+	 * 
+	 * @param  pointer Identifies the location from which to read the synset.
+	 * @return Newly created synset instance.
+	 * @throws RetrievalException An error occurred reading the data.
+	 * @throws ParseException An error occurred parsing the data.
+	 */
+	Synset readSynset(SynsetPointer pointer)
+			throws RetrievalException, ParseException
+	{
+		Synset synset = parseSynset(pointer);
+		storeGloss((ReferenceSynset)synset);
+		return synset;
+	}
+
+	/**
+	 * Reads and parses a synset from the WordNet database without
+	 * acquiring any lock. The gloss isn't moved to the gloss store, since
+	 * the synset may turn out to be a duplicate that's discarded.
+	 * 
+	 * @param  pointer Identifies the location from which to read the synset.
+	 * @return Newly created synset instance.
+	 * @throws RetrievalException An error occurred reading the data.
+	 * @throws ParseException An error occurred parsing the data.
+	 */
+	Synset parseSynset(SynsetPointer pointer)
+			throws RetrievalException, ParseException
+	{
+		Synset synset;
+		String data = null;
+		try
+		{
+			SynsetReader reader = getReader(pointer.getType());
+			data = reader.readData(pointer);
+			SynsetParser parser = new SynsetParser();
+			synset = parser.createSynset(data);
+			((ReferenceSynset)synset).setFactory(this);
+		}
+		catch (ParseException pe)
+		{
+			throw pe;
+		}
+		catch (IOException ioe)
+		{
+			throw new RetrievalException(
+					"An error occurred reading the synset data", ioe);
+		}
+		catch (Exception e)
+		{
+			throw new ParseException(
+					"An error occurred parsing the synset data: " + data, e);
+		}
+		return synset;
+	}
+	
+	public void closeReaders() {
+		cacheLock.lock();
+		try {
+			for (SynsetReader reader: readers.values()) {
+				reader.close();
+			}
+			readers = null;
+		}
+		finally {
+			cacheLock.unlock();
+		}
+	}
+
 }
\ No newline at end of file
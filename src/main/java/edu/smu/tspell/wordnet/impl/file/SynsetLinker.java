@@ -0,0 +1,232 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import edu.smu.tspell.wordnet.AdjectiveSynset;
+import edu.smu.tspell.wordnet.NounSynset;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.VerbSynset;
+
+/**
+ * Resolves the relationship pointers of a complete set of loaded synsets in
+ * two phases.
+ * <br><p>
+ * First the synsets are placed into a dense array per synset type, ordered
+ * by their offset within the data file, so that each synset is identified
+ * by its type and its position (ordinal) in the array for that type. Then a
+ * single sweep over all synsets replaces each pointer with a direct
+ * reference to its target, located by a binary search of the offsets of
+ * the target's type, after which the pointers are dropped. This avoids
+ * creating and hashing a {@link SynsetPointer} for every relationship that's
+ * accessed.
+ * <br><p>
+ * A pointer to a synset that isn't part of the set being linked is resolved
+ * using the {@link SynsetFactory}, and the synset that's returned is linked
+ * as well, unless only part of the database was loaded (see
+ * {@link LoadProfile}). In that case the pointer is left unresolved so that
+ * the synset is only read if the relationship is retrieved.
+ * 
+ * @author Brett Spell
+ */
+class SynsetLinker
+{
+
+	/**
+	 * Orders synsets by their offset.
+	 */
+	private final static Comparator<ReferenceSynset> OFFSET_ORDER =
+			new Comparator<ReferenceSynset>()
+	{
+		public int compare(ReferenceSynset o1, ReferenceSynset o2)
+		{
+			return (o1.getOffset() < o2.getOffset() ? -1 :
+					(o1.getOffset() == o2.getOffset() ? 0 : 1));
+		}
+	};
+
+	/**
+	 * Synsets of each type ordered by offset, indexed by type code.
+	 */
+	private ReferenceSynset[][] synsets;
+
+	/**
+	 * Offsets of the synsets in {@link #synsets}, indexed by type code.
+	 */
+	private int[][] offsets;
+
+	/**
+	 * Synsets that weren't part of the original set but were referenced by
+	 * it and still need to be linked.
+	 */
+	private List<ReferenceSynset> pending = new ArrayList<ReferenceSynset>();
+
+	/**
+	 * All synsets that have been added to {@link #pending}.
+	 */
+	private Set<Synset> added = new HashSet<Synset>();
+
+	/**
+	 * Indicates whether synsets that weren't loaded are read and linked.
+	 */
+	private boolean complete = LoadProfile.getInstance().isComplete();
+
+	/**
+	 * Constructor that accepts the synsets to link and builds the arrays
+	 * used to locate them.
+	 * 
+	 * @param  loaded Synsets to link.
+	 */
+	SynsetLinker(Collection<? extends Synset> loaded)
+	{
+		int typeCount = 0;
+		for (int i = 0; i < SynsetType.ALL_TYPES.length; i++)
+		{
+			typeCount = Math.max(typeCount,
+					SynsetType.ALL_TYPES[i].getCode() + 1);
+		}
+		List<List<ReferenceSynset>> byType =
+				new ArrayList<List<ReferenceSynset>>();
+		for (int i = 0; i < typeCount; i++)
+		{
+			byType.add(new ArrayList<ReferenceSynset>());
+		}
+		for (Synset synset : loaded)
+		{
+			byType.get(synset.getType().getCode()).add(
+					(ReferenceSynset)synset);
+		}
+		synsets = new ReferenceSynset[typeCount][];
+		offsets = new int[typeCount][];
+		for (int i = 0; i < typeCount; i++)
+		{
+			List<ReferenceSynset> list = byType.get(i);
+			synsets[i] = list.toArray(new ReferenceSynset[list.size()]);
+			Arrays.sort(synsets[i], OFFSET_ORDER);
+			offsets[i] = new int[synsets[i].length];
+			for (int j = 0; j < synsets[i].length; j++)
+			{
+				offsets[i][j] = synsets[i][j].getOffset();
+			}
+		}
+	}
+
+	/**
+	 * Resolves the pointers of all synsets, including any that are
+	 * encountered only as the target of a relationship.
+	 */
+	void link()
+	{
+		for (int i = 0; i < synsets.length; i++)
+		{
+			for (int j = 0; j < synsets[i].length; j++)
+			{
+				synsets[i][j].linkRelationships(this);
+			}
+		}
+		while (!pending.isEmpty())
+		{
+			ReferenceSynset synset = pending.remove(pending.size() - 1);
+			synset.linkRelationships(this);
+		}
+	}
+
+	/**
+	 * Returns the synset identified by a pointer.
+	 * 
+	 * @param  pointer Pointer that identifies the synset.
+	 * @return Synset identified by the pointer or <code>null</code> if it
+	 *         wasn't loaded and should be left unresolved.
+	 */
+	Synset getSynset(SynsetPointer pointer)
+	{
+		int code = pointer.getType().getCode();
+		int ordinal = Arrays.binarySearch(offsets[code], pointer.getOffset());
+		if (ordinal >= 0)
+		{
+			return synsets[code][ordinal];
+		}
+		if (!complete)
+		{
+			return null;
+		}
+		Synset synset = SynsetFactory.getInstance().getSynset(pointer);
+		if (added.add(synset))
+		{
+			pending.add((ReferenceSynset)synset);
+		}
+		return synset;
+	}
+
+	/**
+	 * Copies synsets into an array whose component type is the most
+	 * specific of {@link NounSynset}, {@link VerbSynset} and
+	 * {@link AdjectiveSynset} that all of them implement, or {@link Synset}
+	 * if there's no such type.
+	 * 
+	 * @param  related Synsets to copy.
+	 * @return Array of the most specific type containing the synsets.
+	 */
+	static Synset[] toTypedArray(Synset[] related)
+	{
+		boolean nouns = true;
+		boolean verbs = true;
+		boolean adjectives = true;
+		for (int i = 0; i < related.length; i++)
+		{
+			nouns &= (related[i] instanceof NounSynset);
+			verbs &= (related[i] instanceof VerbSynset);
+			adjectives &= (related[i] instanceof AdjectiveSynset);
+		}
+		Synset[] typed;
+		if (nouns)
+		{
+			typed = new NounSynset[related.length];
+		}
+		else if (verbs)
+		{
+			typed = new VerbSynset[related.length];
+		}
+		else if (adjectives)
+		{
+			typed = new AdjectiveSynset[related.length];
+		}
+		else
+		{
+			typed = new Synset[related.length];
+		}
+		System.arraycopy(related, 0, typed, 0, related.length);
+		return typed;
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,340 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Maps the location of each synset (its type and offset) to the synset.
+ * <br><p>
+ * This is used in place of a map keyed by {@link SynsetPointer} since it's
+ * consulted each time a pointer is resolved. The type code and offset are
+ * packed into a single <code>long</code> key that's stored in an open
+ * addressing hash table, so looking up or adding a synset doesn't create
+ * any objects and offsets that occur in more than one data file don't
+ * collide.
+ * <br><p>
+ * Synsets can be looked up without any locking while another thread adds
+ * synsets to the table, but additions must be serialized by the caller.
+ * A synset is stored in its slot only after its key, and the slot is read
+ * and written with volatile semantics, so a reader that finds the synset
+ * also sees its key and the synset's own state. When the table grows, the
+ * new arrays are filled before they're published, so a reader sees either
+ * the old arrays or the complete new ones.
+ * 
+ * @author Brett Spell
+ */
+class SynsetTable
+{
+
+	/**
+	 * Number of synsets for which room is initially allocated.
+	 */
+	private final static int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Arrays that make up the hash table.
+	 */
+	private volatile Slots slots = new Slots(INITIAL_CAPACITY * 2);
+
+	/**
+	 * Number of synsets in the table.
+	 */
+	private int size;
+
+	/**
+	 * No-argument constructor.
+	 */
+	SynsetTable()
+	{
+	}
+
+	/**
+	 * Returns the synset at the specified location.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @return Synset or <code>null</code> if there's none in the table.
+	 */
+	Synset get(SynsetType type, int offset)
+	{
+		Slots current = slots;
+		long key = getKey(type, offset);
+		int mask = current.keys.length - 1;
+		int slot = spread(key) & mask;
+		Synset synset;
+		while ((synset = current.values.get(slot)) != null)
+		{
+			if (current.keys[slot] == key)
+			{
+				return synset;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Adds a synset to the table, replacing any synset that was previously
+	 * added at the same location.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @param  synset Synset to add.
+	 */
+	void put(SynsetType type, int offset, Synset synset)
+	{
+		Slots current = slots;
+		long key = getKey(type, offset);
+		int slot = findSlot(current, key);
+		if (current.keys[slot] == 0)
+		{
+			current.keys[slot] = key;
+			size++;
+		}
+		current.values.set(slot, synset);
+		if (size * 2 > current.keys.length)
+		{
+			rehash();
+		}
+	}
+
+	/**
+	 * Returns the number of synsets in the table.
+	 * 
+	 * @return Number of synsets.
+	 */
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the table itself, not
+	 * including the synsets in it.
+	 * 
+	 * @return Estimated number of bytes used by the table.
+	 */
+	long getEstimatedSize()
+	{
+		Slots current = slots;
+		return SizeEstimates.getObjectSize(1, 4) +
+				SizeEstimates.getObjectSize(2, 0) +
+				SizeEstimates.getArraySize(current.keys.length, 8) +
+				SizeEstimates.getObjectSize(1, 0) +
+				SizeEstimates.getArraySize(current.keys.length,
+				SizeEstimates.REFERENCE_SIZE);
+	}
+
+	/**
+	 * Returns a view of the synsets in the table. The view reflects
+	 * subsequent changes to the table, but mustn't be iterated while the
+	 * table is changed.
+	 * 
+	 * @return Synsets in the table, in no particular order.
+	 */
+	Collection<Synset> values()
+	{
+		return new AbstractCollection<Synset>()
+		{
+			public int size()
+			{
+				return size;
+			}
+
+			public Iterator<Synset> iterator()
+			{
+				return new SynsetIterator();
+			}
+		};
+	}
+
+	/**
+	 * Returns the slot that contains a key or, if the key isn't in the
+	 * table, the empty slot in which it would be added.
+	 * 
+	 * @param  current Arrays that make up the hash table.
+	 * @param  key Packed key of a synset.
+	 * @return Index of the slot within the hash table.
+	 */
+	private static int findSlot(Slots current, long key)
+	{
+		long[] keys = current.keys;
+		int mask = keys.length - 1;
+		int slot = spread(key) & mask;
+		while ((keys[slot] != 0) && (keys[slot] != key))
+		{
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Doubles the size of the hash table and reinserts all the synsets.
+	 */
+	private void rehash()
+	{
+		Slots old = slots;
+		Slots current = new Slots(old.keys.length * 2);
+		long[] keys = current.keys;
+		int mask = keys.length - 1;
+		for (int i = 0; i < old.keys.length; i++)
+		{
+			if (old.keys[i] != 0)
+			{
+				int slot = spread(old.keys[i]) & mask;
+				while (keys[slot] != 0)
+				{
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = old.keys[i];
+				current.values.set(slot, old.values.get(i));
+			}
+		}
+		slots = current;
+	}
+
+	/**
+	 * Packs the location of a synset into a single value.
+	 * 
+	 * @param  type Type of the synset.
+	 * @param  offset Offset of the synset within its data file.
+	 * @return Type code in the high half and offset in the low half.
+	 */
+	private static long getKey(SynsetType type, int offset)
+	{
+		return ((long)type.getCode() << 32) | (offset & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Mixes the bits of a key so that nearby offsets are spread across the
+	 * hash table.
+	 * 
+	 * @param  key Packed key of a synset.
+	 * @return Mixed hash code.
+	 */
+	private static int spread(long key)
+	{
+		long h = key * 0x9E3779B97F4A7C15L;
+		return (int)(h ^ (h >>> 32));
+	}
+
+	/**
+	 * Arrays that make up the hash table, which are replaced together when
+	 * the table grows.
+	 */
+	private static class Slots
+	{
+
+		/**
+		 * Packed keys of the synsets; zero identifies an empty slot, which
+		 * can't occur otherwise since every type code is greater than zero.
+		 */
+		private final long[] keys;
+
+		/**
+		 * Synsets, in the slots of their keys.
+		 */
+		private final AtomicReferenceArray<Synset> values;
+
+		/**
+		 * Constructor that accepts the number of slots.
+		 * 
+		 * @param  length Number of slots, which must be a power of two.
+		 */
+		private Slots(int length)
+		{
+			keys = new long[length];
+			values = new AtomicReferenceArray<Synset>(length);
+		}
+
+	}
+
+	/**
+	 * Iterates through the synsets in the table.
+	 */
+	private class SynsetIterator implements Iterator<Synset>
+	{
+
+		/**
+		 * Arrays through which the iterator moves.
+		 */
+		private final Slots current = slots;
+
+		/**
+		 * Slot of the next synset to return.
+		 */
+		private int slot = advance(0);
+
+		/**
+		 * Returns the first slot at or after a position that contains a
+		 * synset.
+		 * 
+		 * @param  position Position at which to start looking.
+		 * @return Slot of a synset, or the length of the table if there
+		 *         are no more synsets.
+		 */
+		private int advance(int position)
+		{
+			while ((position < current.keys.length) &&
+					(current.values.get(position) == null))
+			{
+				position++;
+			}
+			return position;
+		}
+
+		public boolean hasNext()
+		{
+			return (slot < current.keys.length);
+		}
+
+		public Synset next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			Synset synset = current.values.get(slot);
+			slot = advance(slot + 1);
+			return synset;
+		}
+
+		public void remove()
+		{
+			throw new UnsupportedOperationException();
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -1,376 +1,1086 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.List;
-import java.util.Set;
-import java.util.TreeMap;
-import java.util.logging.Logger;
-
-import edu.smu.tspell.wordnet.Synset;
-import edu.smu.tspell.wordnet.SynsetType;
-import edu.smu.tspell.wordnet.WordNetException;
-
-/**
- * This is the main class that's used to perform lookups based upon a word
- * form.
- * <br><p>
- * A cache is maintained that allows for fast retrieval of synsets for words
- * on which a retrieval has already been performed. Specifically the caching
- * is done with a weak hash map using the word form as the key, which means
- * that as long as the caller maintains a strong reference to the string the
- * corresponding synsets will contain to be quickly accessible via the cache.
- * However, when no more (strong) references exist to the word form, its data
- * becomes eligible for garbage collection and may not be available as quickly
- * upon subsequent calls to this class. In that case the data will still be
- * returned, but it will be necessary to again read it from the database
- * instead of from the cache.
- *
- * @author Brett Spell
- * @see <a href="http://java.sun.com/developer/technicalArticles/ALT/RefObj/">
- *      Reference Objects and Garbage Collection</a>
- */
-public class WordFormLookup
-{
-
-    private static Logger logger = Logger.getLogger("edu.smu.tspell.wordnet");
-
-    /**
-	 * Singleton instance of this class.
-	 */
-	private static final WordFormLookup instance = new WordFormLookup();;
-
-	/**
-	 * Map in which the retrieved data is cached.
-	 */
-	private HashMap<String, TreeMap<SynsetType, ArrayList<Synset>>> wordCategories = new HashMap<String, TreeMap<SynsetType, ArrayList<Synset>>>();
-
-	/**
-	 * Returns a reference to the singleton instance of this class.
-	 *
-	 * @return Singleton instance of this class.
-	 */
-	public static WordFormLookup getInstance()
-	{
-		return instance;
-	}
-
-	/**
-	 * This constructor ensures that instances of this class can't be
-	 * constructed by other classes.
-	 */
-	private WordFormLookup()
-	{
-		logger.info("Starting to load WordNet data to memory.");
-		long startTime = System.currentTimeMillis();
-		loadAllSynsets();
-		Morphology.getInstance();
-		long endTime = System.currentTimeMillis();
-		logger.info("Finished loading WordNet data to memory in " + (endTime - startTime)/1000 + " seconds");
-	}
-
-	private SenseIndexReader reader;
-	
-	
-	/**
-	 * Check if each candidate form exists in Wordnet and if not already added to synsetList.
-	 * 
-	 * @param type
-	 * @param candidates
-	 * @param synsetList
-	 * @return if a candidate was added
-	 */
-	private void filterCandidates(SynsetType type, List<String> candidates, List<Synset> synsetList) {
-		Synset[] synsetArray;
-		for (String wordForm : candidates) {
-			// Get synsets for the candidate and loop through them
-			synsetArray = getSynsets(wordForm, type);
-			for (int k = 0; k < synsetArray.length; k++) {
-				// Add (non-duplicate) synsets to the list
-				if (!synsetList.contains(synsetArray[k])) {
-					synsetList.add(synsetArray[k]);
-				}
-			}
-		}
-	}
-
-	/**
-	 * Returns only the synsets of the specified types (e.g., noun) that
-	 * contain a word form matching the specified text and / or possibly
-	 * synsets that contain one of that word form's variants. The caller
-	 * can request that variants be by specifying that WordNet's morphology
-	 * rules should be applied when determining which synsets to return. For
-	 * example, if the caller requests that noun synsets be returned that
-	 * contain the word form "masses" and the caller also requests that
-	 * morphological processing be used, this method will return all noun
-	 * synsets that contain <i>either</i> "masses" or "mass". That's due to
-	 * the fact that one of WordNet's morphology rules, specifically a
-	 * detachment rule, produces "mass" as a candidate form of "masses" as
-	 * a result of stripping the "es" suffix.
-	 * 
-	 * @param  wordForm Text representing a word or collocation (phrase).
-	 * @param  types Types of synsets (e.g., noun) to return.
-	 * @param  useMorphology When <code>true</code>, indicates that this
-	 *         method should return synsets that contain any morphological
-	 *         variation of the specified word form; conversely, a value of
-	 *         <code>false</code> returns in only synsets being returned that
-	 *         contain the word for exactly as it is specified. In other words,
-	 *         specifying <code>false</code> indicates that an exact-match-only
-	 *         approach should be used to determine which synsets to return.
-	 * @return Synsets that contain the specified word form.
-	 *         If the category argument is specified, only synsets of that
-	 *         type will be returned, otherwise all synsets containing the
-	 *         form are returned.
-	 * @throws WordNetException An error occurred retrieving the data.
-	 */
-	public Synset[] getSynsets(
-			String externalWordForm, SynsetType[] types, boolean useMorphology)
-			throws WordNetException
-	{
-		Synset[] synsetArray;
-		List<String> candidates;
-		
-		String wordForm = TextTranslator.translateToDatabaseFormat(externalWordForm);
-
-		//  Create the list that will hold the results
-		List<Synset> synsetList = new ArrayList<Synset>();
-		//  Loop through the synset types
-		for (int i = 0; i < types.length; i++)
-		{
-			//  Get all synsets for the current type
-			candidates = Arrays.asList(wordForm);
-			filterCandidates(types[i], candidates, synsetList);
-			//  Does caller also want synsets containing base form candidates?
-			if (useMorphology)
-			{
-				//  Find possible base forms and loop through each one
-		        // 0. Check the exception lists
-				candidates = getExceptionCandidates(wordForm, types[i]);
-				if (candidates.size() > 0) {
-					filterCandidates(types[i], candidates, synsetList);
-				}
-				else {
-					// No exceptions so..
-			        // 1. Apply rules once to the input to get y1, y2, y3, etc.
-					candidates = getBaseFormCandidates(wordForm, types[i]);
-					filterCandidates(types[i], candidates, synsetList);
-			        // 2. Return all that are in the database (and the original too) otherwise...
-					while (candidates.size() > 0 && synsetList.size() == 0) {
-				        // 3. If there are no matches, keep applying rules until we find a match
-						ArrayList<String> newCandidates = new ArrayList<String>();
-						for (String candidate: candidates) {
-							newCandidates.addAll(getBaseFormCandidates(candidate, types[i]));
-						}
-						candidates = newCandidates;
-						filterCandidates(types[i], candidates, synsetList);
-					}
-				}
-			}
-		}
-		//  Convert the list to an array and return it
-		synsetArray = new Synset[synsetList.size()];
-		synsetList.toArray(synsetArray);
-		return synsetArray;
-	}
-
-	/**
-	 * Returns the synsets of a particular type (e.g., noun) that contain a
-	 * specific word form.
-	 * <br><p>
-	 * This method first tries to retrieve the synsets from the cache but if
-	 * they are not found there will attempt to read them from the database.
-	 *
-	 * @param  wordForm Word form for which to return containing synsets.
-	 * @param  type Type of synsets to be returned.
-	 * @return Synsets of a single type that contain the specified word form.
-	 * @throws WordNetException An error occurred retrieving the synsets.
-	 */
-	private Synset[] getSynsets(String wordForm, SynsetType type)
-	{
-		int count;
-
-		//  Create a list to hold the synsets we'll return
-		ArrayList<Synset> synsetList = new ArrayList<Synset>();
-		//  Get the map that contains a List per synset type
-		TreeMap<SynsetType, ArrayList<Synset>> subMap = wordCategories.get(wordForm);
-		
-		if (subMap != null) {
-			//  Get the synsets for this type
-			ArrayList<Synset> typeList = subMap.get(type);
-			//  If there are some, add them to the list
-			if (typeList != null)
-			{
-				//  Find out how many there are
-				count = typeList.size();
-				//  Loop through list of synsets
-				for (int j = 0; j < count; j++)
-				{
-					//  Add each one to the list if it isn't already there
-					if (!synsetList.contains(typeList.get(j)))
-					{
-						synsetList.add(typeList.get(j));
-					}
-				}
-			}
-		}
-		//  Convert the list to an array and return it
-		Synset[] synsetArray = new Synset[synsetList.size()];
-		synsetList.toArray(synsetArray);
-		return synsetArray;
-	}
-	
-	private class SynsetComparator implements Comparator<Synset> {
-		
-		String wordForm = "";
-		
-		void setComparisonWordForm(String wordForm) {
-			this.wordForm = wordForm;
-		}
-
-		@Override
-		public int compare(Synset o1, Synset o2) {
-			return ((ReferenceSynset)o1).compareSenseIndex(wordForm, (ReferenceSynset)o2);
-		}
-		
-	}
-
-	/**
-	 * Loads from the database all synsets in the database.
-	 */
-	private void loadAllSynsets() {
-		
-		reader = SenseIndexReader.getInstance();
-		SynsetFactory factory = SynsetFactory.getInstance();
-		
-		//Loop through all entries in index.
-		Iterator<SenseIndexEntry> iterator = reader.getSenseIndexEntryIterator();
-		SynsetComparator comparator = new SynsetComparator();
-		while (iterator.hasNext()) {
-			SenseIndexEntry entry = iterator.next();
-			String wordForm = entry.getSenseKey().getLemma();
-			
-			//  Get the map that contains a List per synset type
-			TreeMap<SynsetType, ArrayList<Synset>> subMap = wordCategories.get(wordForm);
-			if (subMap == null) {
-				//  Create a new entry for the word form in the map
-				subMap = new TreeMap<SynsetType, ArrayList<Synset>>();
-				wordCategories.put(wordForm, subMap);
-			}
-			
-			// Get a synset for this entry
-			Synset synset = factory.getSynset(entry.getSynsetPointer());
-			SynsetType type = synset.getType();
-			
-			// Cache the synset with its sense.
-			entry.setSynset(synset);
-			
-			ReferenceSynset refSynset = (ReferenceSynset) synset;
-			
-			refSynset.populateRelationships();
-			
-			// Set the tag count. Even if the synset already existed, this is a new synonym.
-			// This must be set AFTER the test if isPopulated.
-			refSynset.setTagCount(wordForm, entry.getTagCount());
-			
-			
-			//  Also add the new synset to our list
-			ArrayList<Synset> categoryList = subMap.get(type);
-			//  If this is the first one, create a new list and store it
-			if (categoryList == null)
-			{
-				categoryList = new ArrayList<Synset>();
-				subMap.put(type, categoryList);
-				categoryList.add(synset);
-			}
-			else {
-				//  Add current synset to the list for its type if it is not there.
-				categoryList.add(synset);
-				comparator.setComparisonWordForm(wordForm);
-				Collections.sort(categoryList, comparator);
-			}
-		}
-		factory.closeReaders();
-		
-	}
-
-	
-	/**
-	 * Returns lemma representing word forms that <u>might</u> be present
-	 * in WordNet. For example, if "geese" is passed to this method (along
-	 * with a parameter that indicates that noun forms should be returned),
-	 * it will return the base form of "goose".
-	 * 
-	 * @param  inflection Irregular inflection for which to return root words.
-	 * @param  type Syntactic type for which to perform the lookup.
-	 * @return Root word(s) from which the inflection is derived.
-	 * @see    Morphology
-	 */
-	private List<String>  getExceptionCandidates(String inflection, SynsetType type)
-	{
-		Morphology morphology = Morphology.getInstance();
-		return Arrays.asList(morphology.getExceptionCandidates(inflection, type));
-	}
-
-	/**
-	 * Returns lemma representing word forms that <u>might</u> be present
-	 * in WordNet..
-	 * 
-	 * @param  inflection Irregular inflection for which to return root words.
-	 * @param  type Syntactic type for which to perform the lookup.
-	 * @return Root word(s) from which the inflection is derived.
-	 * @see    Morphology
-	 */
-	private List<String>  getBaseFormCandidates(String inflection, SynsetType type)
-	{
-		Morphology morphology = Morphology.getInstance();
-		return Arrays.asList(morphology.getBaseFormCandidates(inflection, type));
-	}
-
-	/**
-	 * Returns a set of all word forms that are in the WordNet.
-	 * 
-	 * @return a set of word forms
-	 */
-	public Set<String> allWordForms() {
-		return wordCategories.keySet();
-	}
-	
-	/**
-	 * Return the synset associated with the sense key.
-	 * 
-	 * @param senseKey
-	 * @return
-	 */
-	public Synset getSynsetWithSenseKey(String senseKey) {
-		return reader.getFromSenseKey(senseKey);
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetException;
+import edu.smu.tspell.wordnet.impl.DoubleMetaphone;
+import edu.smu.tspell.wordnet.impl.LevenshteinAutomaton;
+import edu.smu.tspell.wordnet.impl.WordFormPattern;
+
+/**
+ * This is the main class that's used to perform lookups based upon a word
+ * form.
+ * <br><p>
+ * A cache is maintained that allows for fast retrieval of synsets for words
+ * on which a retrieval has already been performed. Specifically the caching
+ * is done with a weak hash map using the word form as the key, which means
+ * that as long as the caller maintains a strong reference to the string the
+ * corresponding synsets will contain to be quickly accessible via the cache.
+ * However, when no more (strong) references exist to the word form, its data
+ * becomes eligible for garbage collection and may not be available as quickly
+ * upon subsequent calls to this class. In that case the data will still be
+ * returned, but it will be necessary to again read it from the database
+ * instead of from the cache.
+ * <br><p>
+ * The database is loaded in stages, either by the first thread that needs
+ * it or in the background by {@link DatabaseInitialization}, and callers
+ * can obtain the instance once the stage they depend upon is complete (see
+ * {@link #getInstance(ReadinessLevel)}).
+ *
+ * @author Brett Spell
+ * @see <a href="http://java.sun.com/developer/technicalArticles/ALT/RefObj/">
+ *      Reference Objects and Garbage Collection</a>
+ */
+public class WordFormLookup extends AbstractWordFormLookup
+{
+
+    private static Logger logger = Logger.getLogger("edu.smu.tspell.wordnet");
+
+    /**
+	 * Number of word forms loaded between progress notifications.
+	 */
+	private final static int PROGRESS_INTERVAL = 4096;
+
+	/**
+	 * Number of synsets parsed concurrently before the word forms that
+	 * refer to them are made available, when more than one thread is used
+	 * to load the database.
+	 */
+	private final static int SYNSETS_PER_BATCH = 8192;
+
+    /**
+	 * Singleton instance of this class.
+	 */
+	private static final WordFormLookup instance = new WordFormLookup();
+
+	/**
+	 * Map in which the retrieved data is cached while it's being loaded.
+	 * Each word form is added once all of its synsets have been loaded, so
+	 * the map may be read while the database is still being loaded. The keys
+	 * are the identifiers of the word forms in the lemma dictionary. The map
+	 * is emptied once <code>lemmaIndex</code> has been built from it.
+	 */
+	private ConcurrentHashMap<Integer, TreeMap<SynsetType, ArrayList<Synset>>> wordCategories = new ConcurrentHashMap<Integer, TreeMap<SynsetType, ArrayList<Synset>>>();
+
+	/**
+	 * Index of the synsets of every word form, which is built once all of
+	 * them have been loaded and is used for all lookups from then on.
+	 */
+	private volatile LemmaIndex lemmaIndex;
+
+	/**
+	 * Sorted set of every word form, which maps each one to its identifier
+	 * in the lemma dictionary. It's built or read from the snapshot along
+	 * with <code>lemmaIndex</code>.
+	 */
+	private volatile LemmaAutomaton lemmaAutomaton;
+
+	/**
+	 * Structures used to search the word forms by pattern, which are built
+	 * when the first search is performed.
+	 */
+	private volatile WordFormSearch search;
+
+	/**
+	 * Index of the word forms by how they sound, which is built when the
+	 * first sound-alike lookup is performed.
+	 */
+	private volatile PhoneticIndex phoneticIndex;
+
+	/**
+	 * Held while the search structures or the phonetic index are built.
+	 */
+	private final ReentrantLock searchLock = new ReentrantLock();
+
+	/**
+	 * Level of readiness that the load has reached.
+	 */
+	private volatile ReadinessLevel level = ReadinessLevel.NONE;
+
+	/**
+	 * Guards the state of the load.
+	 */
+	private final ReentrantLock loadLock = new ReentrantLock();
+
+	/**
+	 * Signalled when the level changes or the load fails or is cancelled.
+	 */
+	private final Condition levelChanged = loadLock.newCondition();
+
+	/**
+	 * Indicates whether a load has been started (and not cancelled).
+	 */
+	private boolean loading;
+
+	/**
+	 * Reason why the load failed, if it did.
+	 */
+	private Throwable failure;
+
+	/**
+	 * Returns a reference to the singleton instance of this class once
+	 * the database has been loaded completely. If the load hasn't been
+	 * started, it's performed by the calling thread.
+	 *
+	 * @return Singleton instance of this class.
+	 */
+	public static WordFormLookup getInstance()
+	{
+		return getInstance(ReadinessLevel.RELATIONS);
+	}
+
+	/**
+	 * Returns a reference to the singleton instance of this class once it
+	 * has reached the specified level of readiness. If the load hasn't been
+	 * started, it's performed by the calling thread.
+	 * <br><p>
+	 * When {@link ReadinessLevel#EXACT_LOOKUP} is specified this returns as
+	 * soon as the load has started, because exact lookups of word forms that
+	 * have already been loaded are answered immediately and lookups of other
+	 * word forms wait until that level has been reached.
+	 *
+	 * @param  required Level of readiness that's required by the caller.
+	 * @return Singleton instance of this class.
+	 * @throws WordNetException The database could not be loaded.
+	 */
+	public static WordFormLookup getInstance(ReadinessLevel required)
+	{
+		if (required.isAtLeast(ReadinessLevel.MORPHOLOGY))
+		{
+			instance.awaitLevel(required);
+		}
+		else if (instance.startLoading())
+		{
+			instance.load(null, false);
+		}
+		return instance;
+	}
+
+	/**
+	 * Loads the database on behalf of an asynchronous initialization, or
+	 * waits for the load that's already in progress, notifying a listener
+	 * as each level is reached.
+	 * 
+	 * @param  listener Receives notifications about the progress.
+	 * @throws java.util.concurrent.CancellationException The initialization
+	 *         was cancelled by interrupting the calling thread.
+	 */
+	static void initialize(InitializationListener listener)
+	{
+		if (instance.startLoading())
+		{
+			instance.load(listener, true);
+		}
+		else
+		{
+			for (ReadinessLevel stage : ReadinessLevel.LOAD_STAGES)
+			{
+				instance.awaitLevel(stage);
+				listener.levelReached(stage);
+			}
+		}
+	}
+
+	/**
+	 * Returns the level of readiness that the load has reached, without
+	 * starting the load or waiting for it.
+	 * 
+	 * @return Current level of readiness.
+	 */
+	static ReadinessLevel getCurrentReadinessLevel()
+	{
+		return instance.getReadinessLevel();
+	}
+
+	/**
+	 * This constructor ensures that instances of this class can't be
+	 * constructed by other classes.
+	 */
+	private WordFormLookup()
+	{
+	}
+
+	/**
+	 * Returns the level of readiness that the load has reached.
+	 * 
+	 * @return Current level of readiness.
+	 */
+	public ReadinessLevel getReadinessLevel()
+	{
+		return level;
+	}
+
+	/**
+	 * Records that the calling thread is going to perform the load unless
+	 * another one has already started it.
+	 * 
+	 * @return <code>true</code> if the caller must perform the load.
+	 * @throws WordNetException A previous attempt to load the database
+	 *         failed.
+	 */
+	private boolean startLoading()
+	{
+		loadLock.lock();
+		try
+		{
+			checkFailure();
+			if (loading)
+			{
+				return false;
+			}
+			loading = true;
+			return true;
+		}
+		finally
+		{
+			loadLock.unlock();
+		}
+	}
+
+	/**
+	 * Waits until the load has reached the specified level, performing the
+	 * load in the calling thread if no other thread is doing so.
+	 * 
+	 * @param  required Level of readiness that's required by the caller.
+	 * @throws WordNetException The database could not be loaded.
+	 */
+	private void awaitLevel(ReadinessLevel required)
+	{
+		while (!level.isAtLeast(required))
+		{
+			if (startLoading())
+			{
+				load(null, false);
+			}
+			else
+			{
+				loadLock.lock();
+				try
+				{
+					while (loading && !level.isAtLeast(required) &&
+							(failure == null))
+					{
+						levelChanged.awaitUninterruptibly();
+					}
+					checkFailure();
+				}
+				finally
+				{
+					loadLock.unlock();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Throws an exception if a previous attempt to load the database failed.
+	 * Must be called while holding the load lock.
+	 * 
+	 * @throws WordNetException The database could not be loaded.
+	 */
+	private void checkFailure()
+	{
+		if (failure != null)
+		{
+			throw new WordNetException(
+					"The WordNet database could not be loaded", failure);
+		}
+	}
+
+	/**
+	 * Loads the database in stages, which allows requests that only need
+	 * part of the data to be answered before the load completes.
+	 * 
+	 * @param  listener Receives notifications about the progress, or
+	 *         <code>null</code> if no notifications are required.
+	 * @param  cancellable Whether the load should stop if the calling thread
+	 *         is interrupted.
+	 * @throws CancellationException The load was cancelled.
+	 */
+	private void load(InitializationListener listener, boolean cancellable)
+	{
+		logger.info("Starting to load WordNet data to memory.");
+		long startTime = System.currentTimeMillis();
+		SynsetFactory factory = SynsetFactory.getInstance();
+		factory.beginLinking();
+		try
+		{
+			SnapshotReader snapshot = SnapshotReader.getInstance();
+			if (snapshot != null) {
+				loadSnapshot(snapshot);
+			}
+			else {
+				loadAllSynsets(listener, cancellable);
+				indexWordForms();
+			}
+			setLevel(ReadinessLevel.EXACT_LOOKUP, listener);
+
+			checkCancelled(cancellable);
+			reportProgress(listener, ReadinessLevel.MORPHOLOGY, 0, 1);
+			Morphology.getInstance();
+			setLevel(ReadinessLevel.MORPHOLOGY, listener);
+
+			checkCancelled(cancellable);
+			reportProgress(listener, ReadinessLevel.RELATIONS, 0, 1);
+			linkAllSynsets(factory);
+			if (snapshot != null) {
+				snapshot.close();
+			}
+			else if ((LoadProfile.getInstance().isComplete()) &&
+					(!PropertyNames.lazyGlosses)) {
+				//  Synsets outside of a partial profile and deferred glosses
+				//  are read on demand
+				factory.closeReaders();
+			}
+		}
+		catch (CancellationException e)
+		{
+			reset();
+			throw e;
+		}
+		catch (RuntimeException e)
+		{
+			if (cancellable && Thread.currentThread().isInterrupted())
+			{
+				//  Interrupting the thread also makes the file channels it's
+				//  opening fail, which is part of the cancellation
+				reset();
+				CancellationException cancellation = new CancellationException(
+						"Loading of the WordNet database was cancelled");
+				cancellation.initCause(e);
+				throw cancellation;
+			}
+			fail(e);
+			throw e;
+		}
+		catch (Error e)
+		{
+			fail(e);
+			throw e;
+		}
+		finally
+		{
+			factory.endLinking();
+		}
+		setLevel(ReadinessLevel.RELATIONS, listener);
+		long endTime = System.currentTimeMillis();
+		logger.info("Finished loading WordNet data to memory in " + (endTime - startTime)/1000 + " seconds");
+	}
+
+	/**
+	 * Records that a level has been reached and notifies the threads that
+	 * are waiting for it.
+	 * 
+	 * @param  newLevel Level that has been reached.
+	 * @param  listener Listener to notify, or <code>null</code>.
+	 */
+	private void setLevel(ReadinessLevel newLevel, InitializationListener listener)
+	{
+		loadLock.lock();
+		try
+		{
+			level = newLevel;
+			levelChanged.signalAll();
+		}
+		finally
+		{
+			loadLock.unlock();
+		}
+		if (listener != null)
+		{
+			listener.levelReached(newLevel);
+		}
+	}
+
+	/**
+	 * Discards the data that was loaded by a cancelled load, so that the
+	 * load can be started again.
+	 * <br><p>
+	 * Besides the word form index, this removes the synsets parsed so far
+	 * from the cache of the synset factory and from the sense index
+	 * entries, so the next load parses them again instead of reusing
+	 * synsets whose tag counts and relationships are incomplete. Synsets
+	 * returned by lookups made during the cancelled load remain usable.
+	 * The glosses those synsets stored in the gloss store (if it's used)
+	 * are kept, since the synsets still refer to them; that space isn't
+	 * reclaimed. Synsets read from a snapshot are kept, because they were
+	 * all created when the snapshot was opened and don't change during
+	 * the load.
+	 */
+	private void reset()
+	{
+		if (SnapshotReader.getInstance() == null)
+		{
+			SynsetFactory.getInstance().clearCache();
+			if (reader != null)
+			{
+				Iterator<SenseIndexEntry> iterator =
+						reader.getSenseIndexEntryIterator();
+				while (iterator.hasNext())
+				{
+					iterator.next().setSynset(null);
+				}
+			}
+		}
+		loadLock.lock();
+		try
+		{
+			wordCategories.clear();
+			lemmaIndex = null;
+			lemmaAutomaton = null;
+			search = null;
+			phoneticIndex = null;
+			level = ReadinessLevel.NONE;
+			loading = false;
+			levelChanged.signalAll();
+		}
+		finally
+		{
+			loadLock.unlock();
+		}
+		logger.info("Cancelled loading WordNet data to memory.");
+	}
+
+	/**
+	 * Records that the load failed and notifies the threads that are
+	 * waiting for it.
+	 * 
+	 * @param  cause Reason why the load failed.
+	 */
+	private void fail(Throwable cause)
+	{
+		loadLock.lock();
+		try
+		{
+			failure = cause;
+			levelChanged.signalAll();
+		}
+		finally
+		{
+			loadLock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the load if it can be cancelled and the calling thread has been
+	 * interrupted.
+	 * 
+	 * @param  cancellable Whether the load can be cancelled.
+	 * @throws CancellationException The load was cancelled.
+	 */
+	private static void checkCancelled(boolean cancellable)
+	{
+		if (cancellable && Thread.currentThread().isInterrupted())
+		{
+			throw new CancellationException(
+					"Loading of the WordNet database was cancelled");
+		}
+	}
+
+	/**
+	 * Notifies a listener of the progress of the load, if there is one.
+	 * 
+	 * @param  listener Listener to notify, or <code>null</code>.
+	 * @param  stage Level that will be reached when the work is complete.
+	 * @param  completed Number of units of work completed for the level.
+	 * @param  total Total number of units of work for the level.
+	 */
+	private static void reportProgress(InitializationListener listener,
+			ReadinessLevel stage, int completed, int total)
+	{
+		if (listener != null)
+		{
+			listener.progressed(stage, completed, total);
+		}
+	}
+
+	private SenseIndexReader reader;
+	
+	
+	/**
+	 * Returns the synsets of a particular type (e.g., noun) that contain a
+	 * specific word form.
+	 * <br><p>
+	 * While the database is being loaded, a word form that hasn't been
+	 * loaded yet causes this method to wait until all of them have been.
+	 *
+	 * @param  wordForm Word form for which to return containing synsets.
+	 * @param  type Type of synsets to be returned.
+	 * @return Synsets of a single type that contain the specified word form.
+	 * @throws WordNetException An error occurred retrieving the synsets.
+	 */
+	protected Synset[] getSynsets(String wordForm, SynsetType type)
+	{
+		LemmaIndex index = lemmaIndex;
+		if (index == null) {
+			//  Still loading, so the word form may not have been loaded yet
+			TreeMap<SynsetType, ArrayList<Synset>> subMap = getLoadedCategories(wordForm);
+			if (subMap != null) {
+				ArrayList<Synset> typeList = subMap.get(type);
+				return (typeList != null ?
+						typeList.toArray(new Synset[typeList.size()]) :
+						new Synset[0]);
+			}
+			awaitLevel(ReadinessLevel.EXACT_LOOKUP);
+			index = lemmaIndex;
+		}
+		return index.getSynsets(wordForm, type);
+	}
+
+	/**
+	 * Adds the synsets of a particular type (e.g., noun) that contain a
+	 * specific word form to a list, skipping any that the list already
+	 * contains. Once the database has been loaded, the synsets are read
+	 * straight from the index without being copied.
+	 *
+	 * @param  wordForm Word form for which to add containing synsets.
+	 * @param  type Type of synsets to be added.
+	 * @param  synsetList List to which the synsets are added.
+	 */
+	protected void addSynsets(String wordForm, SynsetType type, List<Synset> synsetList)
+	{
+		LemmaIndex index = lemmaIndex;
+		if (index == null) {
+			super.addSynsets(wordForm, type, synsetList);
+		}
+		else {
+			index.addSynsets(wordForm, type, synsetList);
+		}
+	}
+
+	/**
+	 * Builds the index of the synsets of every word form once all of them
+	 * have been loaded and then releases the map from which it was built.
+	 * Lookups that are in progress read the index once they don't find a
+	 * word form in the map, so they aren't affected by the map being emptied.
+	 */
+	private void indexWordForms()
+	{
+		LemmaIndex index = LemmaIndex.build(wordCategories);
+		//  Sort the word forms to build the automaton
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		String[] lemmas = new String[index.size()];
+		for (int i = 0; i < lemmas.length; i++) {
+			lemmas[i] = dictionary.getLemma(index.getLemmaID(i));
+		}
+		Arrays.sort(lemmas);
+		int[] lemmaIDs = new int[lemmas.length];
+		for (int i = 0; i < lemmas.length; i++) {
+			lemmaIDs[i] = dictionary.findID(lemmas[i]);
+		}
+		lemmaAutomaton = LemmaAutomaton.build(lemmas, lemmaIDs);
+		lemmaIndex = index;
+		wordCategories.clear();
+	}
+	
+	private class SynsetComparator implements Comparator<Synset> {
+		
+		String wordForm = "";
+		
+		void setComparisonWordForm(String wordForm) {
+			this.wordForm = wordForm;
+		}
+
+		@Override
+		public int compare(Synset o1, Synset o2) {
+			return ((ReferenceSynset)o1).compareSenseIndex(wordForm, (ReferenceSynset)o2);
+		}
+		
+	}
+
+	/**
+	 * Loads from the database all synsets in the database.
+	 * <br><p>
+	 * The word forms are loaded in descending order of the total tag count
+	 * of their senses and each one becomes available for lookups as soon as
+	 * its synsets have been loaded, so that the most frequently used word
+	 * forms can be looked up early in the load. When more than one thread
+	 * is used, the synsets are parsed concurrently in batches in the same
+	 * order and the word forms of each batch are made available as soon as
+	 * that batch has been parsed.
+	 * 
+	 * @param  listener Receives notifications about the progress, or
+	 *         <code>null</code> if no notifications are required.
+	 * @param  cancellable Whether the load should stop if the calling thread
+	 *         is interrupted.
+	 * @throws CancellationException The load was cancelled.
+	 */
+	private void loadAllSynsets(InitializationListener listener, boolean cancellable) {
+		
+		reader = SenseIndexReader.getInstance();
+		SynsetFactory factory = SynsetFactory.getInstance();
+		checkCancelled(cancellable);
+		
+		// Group the entries in the index by word form
+		HashMap<Integer, WordFormEntries> entriesByWordForm = new HashMap<Integer, WordFormEntries>();
+		Iterator<SenseIndexEntry> iterator = reader.getSenseIndexEntryIterator();
+		while (iterator.hasNext()) {
+			SenseIndexEntry entry = iterator.next();
+			Integer lemma = Integer.valueOf(entry.getSenseKey().getLemmaID());
+			WordFormEntries wordFormEntries = entriesByWordForm.get(lemma);
+			if (wordFormEntries == null) {
+				wordFormEntries = new WordFormEntries(
+						lemma, entry.getSenseKey().getLemma());
+				entriesByWordForm.put(lemma, wordFormEntries);
+			}
+			wordFormEntries.add(entry);
+		}
+		ArrayList<WordFormEntries> wordForms = new ArrayList<WordFormEntries>(entriesByWordForm.values());
+		entriesByWordForm = null;
+		Collections.sort(wordForms);
+		
+		ParallelLoader loader = null;
+		if (PropertyNames.loadThreads > 1) {
+			loader = new ParallelLoader(PropertyNames.loadThreads);
+		}
+		try {
+			loadWordForms(wordForms, factory, loader, listener, cancellable);
+		}
+		finally {
+			if (loader != null) {
+				loader.shutdown();
+			}
+		}
+		
+	}
+
+	/**
+	 * Loads the synsets of each word form and makes the word form available
+	 * for lookups, in the order in which the word forms are listed.
+	 * 
+	 * @param  wordForms Sense index entries of the word forms to load.
+	 * @param  factory Factory from which the synsets are obtained.
+	 * @param  loader Parses the synsets concurrently before the word forms
+	 *         that refer to them are loaded, or <code>null</code> if each
+	 *         synset is parsed when it's first needed.
+	 * @param  listener Receives notifications about the progress, or
+	 *         <code>null</code> if no notifications are required.
+	 * @param  cancellable Whether the load should stop if the calling thread
+	 *         is interrupted.
+	 * @throws CancellationException The load was cancelled.
+	 */
+	private void loadWordForms(ArrayList<WordFormEntries> wordForms,
+			SynsetFactory factory, ParallelLoader loader,
+			InitializationListener listener, boolean cancellable) {
+		
+		SynsetComparator comparator = new SynsetComparator();
+		int total = wordForms.size();
+		int parsed = 0;
+		for (int i = 0; i < total; i++) {
+			if ((loader != null) && (i == parsed)) {
+				parsed = parseBatch(wordForms, i, factory, loader, cancellable);
+			}
+			WordFormEntries wordFormEntries = wordForms.get(i);
+			String wordForm = wordFormEntries.wordForm;
+			
+			//  Create the map that contains a List per synset type
+			TreeMap<SynsetType, ArrayList<Synset>> subMap = new TreeMap<SynsetType, ArrayList<Synset>>();
+			for (SenseIndexEntry entry : wordFormEntries.entries) {
+				// Get a synset for this entry
+				Synset synset = factory.getSynset(
+						entry.getSenseKey().getType(), entry.getSynsetOffset());
+				SynsetType type = synset.getType();
+				
+				// Cache the synset with its sense.
+				entry.setSynset(synset);
+				
+				ReferenceSynset refSynset = (ReferenceSynset) synset;
+				
+				// Set the tag count. Even if the synset already existed, this is a new synonym.
+				refSynset.setTagCount(wordForm, entry.getTagCount());
+				
+				//  Also add the new synset to our list
+				ArrayList<Synset> categoryList = subMap.get(type);
+				//  If this is the first one, create a new list and store it
+				if (categoryList == null)
+				{
+					categoryList = new ArrayList<Synset>();
+					subMap.put(type, categoryList);
+				}
+				categoryList.add(synset);
+			}
+			
+			// Order the synsets of the word form by sense number
+			comparator.setComparisonWordForm(wordForm);
+			for (ArrayList<Synset> categoryList : subMap.values()) {
+				if (categoryList.size() > 1) {
+					Collections.sort(categoryList, comparator);
+				}
+			}
+			
+			// Make the word form available for lookups
+			wordCategories.put(wordFormEntries.lemma, subMap);
+			wordForms.set(i, null);
+			if (((i + 1) % PROGRESS_INTERVAL == 0) || (i + 1 == total)) {
+				reportProgress(listener, ReadinessLevel.EXACT_LOOKUP, i + 1, total);
+				checkCancelled(cancellable);
+			}
+		}
+		
+	}
+
+	/**
+	 * Parses concurrently the synsets of the word forms that are loaded
+	 * next and caches them. Word forms are added to the batch until it
+	 * contains {@link #SYNSETS_PER_BATCH} synsets that haven't been cached
+	 * yet; the synsets are parsed, and added to the cache, in the order in
+	 * which the word forms refer to them, which is the order in which they
+	 * would have been parsed by a single thread.
+	 * 
+	 * @param  wordForms Sense index entries of the word forms to load.
+	 * @param  first Index of the first word form of the batch.
+	 * @param  factory Factory in which the synsets are cached.
+	 * @param  loader Parses the synsets.
+	 * @param  cancellable Whether the parsing should stop if the calling
+	 *         thread is interrupted.
+	 * @return Index of the word form that follows the batch.
+	 * @throws CancellationException The load was cancelled.
+	 */
+	private int parseBatch(ArrayList<WordFormEntries> wordForms, int first,
+			SynsetFactory factory, ParallelLoader loader, boolean cancellable) {
+		Set<SynsetPointer> pointers = new LinkedHashSet<SynsetPointer>();
+		int last = first;
+		while ((last < wordForms.size()) && (pointers.size() < SYNSETS_PER_BATCH)) {
+			for (SenseIndexEntry entry : wordForms.get(last).entries) {
+				if (factory.getCachedSynset(entry.getSenseKey().getType(),
+						entry.getSynsetOffset()) == null) {
+					pointers.add(entry.getSynsetPointer());
+				}
+			}
+			last++;
+		}
+		SynsetPointer[] batch = pointers.toArray(new SynsetPointer[pointers.size()]);
+		Synset[] synsets = loader.parseSynsets(batch,
+				cancellable ? Thread.currentThread() : null);
+		for (int i = 0; i < batch.length; i++) {
+			factory.putSynset(batch[i].getType(), batch[i].getOffset(), synsets[i]);
+		}
+		checkCancelled(cancellable);
+		return last;
+	}
+
+	/**
+	 * The sense index entries of a single word form, which are ordered by
+	 * their total tag count so that the most frequently used word forms are
+	 * loaded first.
+	 */
+	private static class WordFormEntries implements Comparable<WordFormEntries> {
+		
+		/**
+		 * Identifier of the word form in the lemma dictionary.
+		 */
+		final Integer lemma;
+		
+		/**
+		 * Word form with which the entries are associated.
+		 */
+		final String wordForm;
+		
+		/**
+		 * Sense index entries of the word form.
+		 */
+		final ArrayList<SenseIndexEntry> entries = new ArrayList<SenseIndexEntry>(2);
+		
+		/**
+		 * Sum of the tag counts of the entries.
+		 */
+		int tagCount;
+		
+		WordFormEntries(Integer lemma, String wordForm) {
+			this.lemma = lemma;
+			this.wordForm = wordForm;
+		}
+		
+		void add(SenseIndexEntry entry) {
+			entries.add(entry);
+			tagCount += entry.getTagCount();
+		}
+
+		@Override
+		public int compareTo(WordFormEntries o) {
+			if (tagCount != o.tagCount) {
+				return (o.tagCount > tagCount ? 1 : -1);
+			}
+			return wordForm.compareTo(o.wordForm);
+		}
+		
+	}
+
+	/**
+	 * Loads all synsets from a precompiled snapshot of the database instead
+	 * of parsing the data files, along with the index of the synsets of each
+	 * word form and the automaton of the word forms, which are stored in the
+	 * snapshot rather than being built. The relationships are resolved
+	 * later, as is done when the data files are parsed.
+	 * 
+	 * @param  snapshot Snapshot from which to load the synsets.
+	 */
+	private void loadSnapshot(SnapshotReader snapshot) {
+		snapshot.getSynsets();
+		reader = SenseIndexReader.getInstance();
+		int[] lemmaIDs = snapshot.readLemmaIDs();
+		lemmaAutomaton = snapshot.readLemmaAutomaton(lemmaIDs);
+		lemmaIndex = snapshot.readLemmaIndex(lemmaIDs);
+	}
+
+	/**
+	 * Resolves the relationships of all synsets that have been loaded and
+	 * then freezes each synset of the sense index entries once (a synset
+	 * with several word forms is shared by several entries), which performs
+	 * any further lookups that they require (such as retrieving the head
+	 * synsets of adjective satellites) and fills in their tag counts. The
+	 * synsets aren't modified after this, and since it happens before the
+	 * relationships are made available, other threads can read them without
+	 * any further synchronization.
+	 * 
+	 * @param  factory Factory in which the loaded synsets are cached.
+	 */
+	private void linkAllSynsets(SynsetFactory factory) {
+		SynsetLinker linker = new SynsetLinker(factory.getCachedSynsets());
+		linker.link();
+		IdentityHashMap<Synset, Boolean> frozen = new IdentityHashMap<Synset, Boolean>();
+		Iterator<SenseIndexEntry> iterator = reader.getSenseIndexEntryIterator();
+		while (iterator.hasNext()) {
+			Synset synset = iterator.next().getSynset();
+			if (frozen.put(synset, Boolean.TRUE) == null) {
+				((ReferenceSynset) synset).freeze();
+			}
+		}
+	}
+
+	/**
+	 * Returns the synsets associated with a word form, grouped by type.
+	 * 
+	 * @param  wordForm Word form for which to return the synsets.
+	 * @return Synsets of the word form in the order in which they're
+	 *         returned by lookups, or <code>null</code> if there are none.
+	 */
+	TreeMap<SynsetType, ArrayList<Synset>> getCategories(String wordForm) {
+		LemmaIndex index = lemmaIndex;
+		if (index == null) {
+			return getLoadedCategories(wordForm);
+		}
+		int slot = index.find(wordForm);
+		return (slot >= 0 ? index.getCategories(slot) : null);
+	}
+
+	/**
+	 * Returns the synsets associated with a word form from the map that's
+	 * used while the database is being loaded.
+	 * 
+	 * @param  wordForm Word form for which to return the synsets.
+	 * @return Synsets of the word form or <code>null</code> if it hasn't
+	 *         been loaded.
+	 */
+	private TreeMap<SynsetType, ArrayList<Synset>> getLoadedCategories(String wordForm) {
+		Integer key = LemmaDictionary.getInstance().getKey(wordForm, false);
+		return (key != null ? wordCategories.get(key) : null);
+	}
+
+	/**
+	 * Adds the structures that have been loaded to a memory footprint:
+	 * the synsets of each word form, the lemma dictionary, the sense index
+	 * entries, the synsets themselves and the morphology exceptions.
+	 * This should only be called once the database has been loaded.
+	 * 
+	 * @param  footprint Footprint to which the structures are added.
+	 */
+	void estimateFootprint(MemoryFootprint footprint) {
+		LemmaIndex index = lemmaIndex;
+		if (index != null) {
+			footprint.add("lemmaIndex", index.size(), index.getEstimatedSize());
+		}
+		LemmaAutomaton automaton = lemmaAutomaton;
+		if (automaton != null) {
+			footprint.add("lemmaAutomaton", automaton.size(),
+					automaton.getEstimatedSize());
+		}
+		WordFormSearch wordFormSearch = search;
+		if (wordFormSearch != null) {
+			footprint.add("wordFormSearch", wordFormSearch.size(),
+					wordFormSearch.getEstimatedSize());
+		}
+		PhoneticIndex index2 = phoneticIndex;
+		if (index2 != null) {
+			footprint.add("phoneticIndex", index2.size(),
+					index2.getEstimatedSize());
+		}
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		footprint.add("lemmaDictionary", dictionary.size(),
+				dictionary.getStorageSize());
+		if (reader != null) {
+			reader.estimateFootprint(footprint);
+		}
+		SynsetFactory.getInstance().estimateFootprint(footprint);
+		InflectionData.getInstance().estimateFootprint(footprint);
+		if (PropertyNames.glossStore) {
+			footprint.addOffHeapBytes(GlossStore.getInstance().getStorageSize());
+		}
+	}
+
+	
+	/**
+	 * Returns a set of all word forms that are in the WordNet.
+	 * <br><p>
+	 * The set is a read-only {@link SortedSet} whose word forms are
+	 * retrieved from a compact automaton as they're needed, so it can be
+	 * used to scan ranges of word forms in sorted order.
+	 * 
+	 * @return a set of word forms
+	 */
+	public Set<String> allWordForms() {
+		awaitLevel(ReadinessLevel.EXACT_LOOKUP);
+		return lemmaAutomaton.getWordForms();
+	}
+
+	/**
+	 * Returns the word forms that match a pattern, ordered by the sum of the
+	 * tag counts of their senses so that the most frequently used ones come
+	 * first. The structures used for the search are built the first time
+	 * that this is called.
+	 * 
+	 * @param  pattern Pattern, in database format, that the word forms must
+	 *         match.
+	 * @param  type Type of synset that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @param  limit Maximum number of word forms to return.
+	 * @return Matching word forms, in database format.
+	 * @see    WordFormSearch
+	 */
+	public String[] findWordForms(WordFormPattern pattern, SynsetType type,
+			int limit) {
+		return getSearch().find(pattern, type, limit);
+	}
+
+	/**
+	 * Returns the word forms that are within a maximum number of edits of
+	 * a possibly misspelled one, ordered by the number of edits and then by
+	 * the sum of the tag counts of their senses. The word forms are found
+	 * by running a Levenshtein automaton over the automaton of the word
+	 * forms, so they aren't compared to the misspelled one individually.
+	 * 
+	 * @param  automaton Levenshtein automaton whose text is the word form,
+	 *         in database format, and which accepts the word forms to
+	 *         return.
+	 * @param  type Type of synset that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @return Word forms within the maximum number of edits, in database
+	 *         format.
+	 * @see    WordFormSearch
+	 */
+	public String[] findWordFormsWithin(LevenshteinAutomaton automaton,
+			SynsetType type) {
+		return getSearch().findWithin(automaton, type);
+	}
+
+	/**
+	 * Returns the word forms that sound like a word form, that is, those
+	 * that share one of its Double Metaphone keys. The phonetic index of the
+	 * word forms is built the first time that this is called.
+	 * 
+	 * @param  metaphone Keys of the word form, computed with a maximum
+	 *         length of {@link DoubleMetaphone#PACKED_MAX_LENGTH}.
+	 * @return Word forms that sound alike, in database format, with those
+	 *         that share the primary key first.
+	 * @see    PhoneticIndex
+	 */
+	public String[] findWordFormsSoundingLike(DoubleMetaphone metaphone) {
+		awaitLevel(ReadinessLevel.EXACT_LOOKUP);
+		PhoneticIndex index = phoneticIndex;
+		if (index == null) {
+			searchLock.lock();
+			try {
+				index = phoneticIndex;
+				if (index == null) {
+					index = new PhoneticIndex(lemmaAutomaton);
+					phoneticIndex = index;
+				}
+			}
+			finally {
+				searchLock.unlock();
+			}
+		}
+		return index.find(metaphone);
+	}
+
+	/**
+	 * Returns the structures used to search the word forms, building them
+	 * the first time that this is called.
+	 * 
+	 * @return Search of the word forms.
+	 */
+	private WordFormSearch getSearch() {
+		awaitLevel(ReadinessLevel.EXACT_LOOKUP);
+		WordFormSearch wordFormSearch = search;
+		if (wordFormSearch == null) {
+			searchLock.lock();
+			try {
+				wordFormSearch = search;
+				if (wordFormSearch == null) {
+					wordFormSearch = new WordFormSearch(lemmaAutomaton,
+							reader.getSenseIndexEntryIterator());
+					search = wordFormSearch;
+				}
+			}
+			finally {
+				searchLock.unlock();
+			}
+		}
+		return wordFormSearch;
+	}
+
+	/**
+	 * Return the synset associated with the sense key.
+	 * 
+	 * @param senseKey
+	 * @return
+	 */
+	public Synset getSynsetWithSenseKey(String senseKey) {
+		awaitLevel(ReadinessLevel.EXACT_LOOKUP);
+		return reader.getFromSenseKey(senseKey);
+	}
+
 }
\ No newline at end of file
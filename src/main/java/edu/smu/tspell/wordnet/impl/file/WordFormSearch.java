@@ -0,0 +1,658 @@
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.impl.LevenshteinAutomaton;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+import edu.smu.tspell.wordnet.impl.WordFormPattern;
+
+/**
+ * Finds the word forms that match a {@link WordFormPattern}, ordered by the
+ * sum of the tag counts of their senses in the sense index, so that the
+ * most frequently used word forms are returned first.
+ * <br><p>
+ * The word forms are numbered by their rank in a {@link LemmaAutomaton},
+ * so those that start with a particular prefix have consecutive ranks. A
+ * second automaton contains the reversed word forms, which does the same
+ * for those that end with a suffix, and the word forms that contain a run
+ * of literal text are found through an index of the trigrams (sequences of
+ * three characters) that they contain. The search uses whichever of those
+ * narrows down the candidates the most.
+ * <br><p>
+ * When the candidates are a range of consecutive ranks (or of consecutive
+ * reversed word forms), the highest tag count within each block of
+ * {@link #BLOCK_SIZE} of them is used to visit the candidates in descending
+ * order of tag count, so the search stops as soon as enough matching word
+ * forms have been found. Candidates found through the trigram index are few
+ * enough to simply be sorted.
+ * <br><p>
+ * The same tag counts rank the word forms that are close to a misspelled
+ * one, which are found by running a {@link LevenshteinAutomaton} over the
+ * automaton of the word forms.
+ * <br><p>
+ * Since the word forms are loaded once, instances of this class are
+ * immutable and are built the first time that a search is performed.
+ *
+ * @author Brett Spell
+ * @see    WordFormLookup#findWordForms(WordFormPattern, SynsetType, int)
+ */
+final class WordFormSearch
+{
+
+	/**
+	 * Number of consecutive ranks for which the highest tag count is kept.
+	 */
+	private final static int BLOCK_SIZE = 64;
+
+	/**
+	 * Number of characters in each entry of the trigram index.
+	 */
+	private final static int GRAM_LENGTH = 3;
+
+	/**
+	 * Number of different types of synset, whose codes are consecutive
+	 * starting at one; index zero of the arrays that are kept for each type
+	 * applies to all types.
+	 */
+	private final static int TYPE_COUNT = SynsetType.ALL_TYPES.length;
+
+	/**
+	 * Word forms in sorted order.
+	 */
+	private final LemmaAutomaton forward;
+
+	/**
+	 * Reversed word forms in sorted order, which map to the rank of the
+	 * word form in <code>forward</code>.
+	 */
+	private final LemmaAutomaton reversed;
+
+	/**
+	 * Sum of the tag counts of each word form, indexed by type and then by
+	 * rank.
+	 */
+	private final int[][] tagCounts;
+
+	/**
+	 * Bit mask of the types of synset that contain each word form (with the
+	 * bit for each type given by its code), indexed by rank.
+	 */
+	private final byte[] typeMasks;
+
+	/**
+	 * Highest tag count in each block of ranks, indexed by type and then by
+	 * block.
+	 */
+	private final int[][] forwardMaxima;
+
+	/**
+	 * Highest tag count in each block of ranks of the reversed word forms,
+	 * indexed by type and then by block.
+	 */
+	private final int[][] reversedMaxima;
+
+	/**
+	 * Lowest rank in each block of the reversed word forms, which orders
+	 * the block among the ranks that have the same tag count.
+	 */
+	private final int[] reversedMinima;
+
+	/**
+	 * Position of each rank within the reversed word forms.
+	 */
+	private final int[] reversedPositions;
+
+	/**
+	 * Trigrams that occur in the word forms, packed into a long and sorted.
+	 */
+	private final long[] grams;
+
+	/**
+	 * Position in <code>postings</code> at which the ranks of the word forms
+	 * that contain each trigram start; the entry after the last trigram is
+	 * the end of its ranks.
+	 */
+	private final int[] gramStarts;
+
+	/**
+	 * Ranks of the word forms that contain each trigram, in ascending order.
+	 */
+	private final int[] postings;
+
+	/**
+	 * Builds the structures used to search the word forms in an automaton.
+	 * 
+	 * @param  forward Automaton that contains the word forms.
+	 * @param  entries Iterator over the sense index entries, whose tag counts
+	 *         are summed for each word form.
+	 */
+	WordFormSearch(LemmaAutomaton forward, Iterator<SenseIndexEntry> entries)
+	{
+		this.forward = forward;
+		int count = forward.size();
+		String[] wordForms = new String[count];
+		for (int i = 0; i < count; i++)
+		{
+			wordForms[i] = forward.getWordForm(i);
+		}
+
+		//  Sum the tag counts of the senses of each word form
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		tagCounts = new int[TYPE_COUNT + 1][count];
+		typeMasks = new byte[count];
+		while (entries.hasNext())
+		{
+			SenseIndexEntry entry = entries.next();
+			SenseKey key = entry.getSenseKey();
+			int rank = forward.rank(dictionary.getLemma(key.getLemmaID()));
+			if (rank != LemmaAutomaton.NOT_FOUND)
+			{
+				int code = key.getType().getCode();
+				tagCounts[0][rank] += entry.getTagCount();
+				tagCounts[code][rank] += entry.getTagCount();
+				typeMasks[rank] |= (1 << code);
+			}
+		}
+
+		//  Build the automaton of the reversed word forms
+		final String[] reversedForms = new String[count];
+		Integer[] order = new Integer[count];
+		for (int i = 0; i < count; i++)
+		{
+			reversedForms[i] = reverse(wordForms[i]);
+			order[i] = Integer.valueOf(i);
+		}
+		Arrays.sort(order, new Comparator<Integer>()
+		{
+			public int compare(Integer o1, Integer o2)
+			{
+				return reversedForms[o1.intValue()].compareTo(
+						reversedForms[o2.intValue()]);
+			}
+		});
+		String[] sortedForms = new String[count];
+		int[] forwardRanks = new int[count];
+		for (int i = 0; i < count; i++)
+		{
+			forwardRanks[i] = order[i].intValue();
+			sortedForms[i] = reversedForms[forwardRanks[i]];
+		}
+		reversed = LemmaAutomaton.build(sortedForms, forwardRanks);
+		reversedPositions = new int[count];
+		reversedMinima = new int[(count + BLOCK_SIZE - 1) / BLOCK_SIZE];
+		Arrays.fill(reversedMinima, Integer.MAX_VALUE);
+		for (int i = 0; i < count; i++)
+		{
+			reversedPositions[forwardRanks[i]] = i;
+			reversedMinima[i / BLOCK_SIZE] =
+					Math.min(reversedMinima[i / BLOCK_SIZE], forwardRanks[i]);
+		}
+
+		forwardMaxima = new int[TYPE_COUNT + 1][];
+		reversedMaxima = new int[TYPE_COUNT + 1][];
+		for (int type = 0; type <= TYPE_COUNT; type++)
+		{
+			forwardMaxima[type] = getBlockMaxima(tagCounts[type], null);
+			reversedMaxima[type] = getBlockMaxima(tagCounts[type], forwardRanks);
+		}
+
+		//  Index the trigrams, adding each word form only once per trigram
+		Map<Long, int[]> gramRanks = new HashMap<Long, int[]>();
+		int postingCount = 0;
+		for (int rank = 0; rank < count; rank++)
+		{
+			String wordForm = wordForms[rank];
+			for (int i = 0; i + GRAM_LENGTH <= wordForm.length(); i++)
+			{
+				Long gram = Long.valueOf(pack(wordForm, i));
+				int[] ranks = gramRanks.get(gram);
+				if (ranks == null)
+				{
+					//  The first element is the number of ranks
+					ranks = new int[4];
+					gramRanks.put(gram, ranks);
+				}
+				else if (ranks[ranks[0]] == rank)
+				{
+					continue;
+				}
+				else if (ranks[0] + 1 == ranks.length)
+				{
+					ranks = Arrays.copyOf(ranks, ranks.length * 2);
+					gramRanks.put(gram, ranks);
+				}
+				ranks[++ranks[0]] = rank;
+				postingCount++;
+			}
+		}
+		grams = new long[gramRanks.size()];
+		int i = 0;
+		for (Long gram : gramRanks.keySet())
+		{
+			grams[i++] = gram.longValue();
+		}
+		Arrays.sort(grams);
+		gramStarts = new int[grams.length + 1];
+		postings = new int[postingCount];
+		int position = 0;
+		for (i = 0; i < grams.length; i++)
+		{
+			int[] ranks = gramRanks.get(Long.valueOf(grams[i]));
+			gramStarts[i] = position;
+			System.arraycopy(ranks, 1, postings, position, ranks[0]);
+			position += ranks[0];
+		}
+		gramStarts[grams.length] = position;
+	}
+
+	/**
+	 * Returns the word forms that match a pattern, ordered by descending
+	 * tag count and then alphabetically.
+	 * 
+	 * @param  pattern Pattern that the word forms must match, in the
+	 *         format used by the database.
+	 * @param  type Type of synset that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @param  limit Maximum number of word forms to return.
+	 * @return Matching word forms.
+	 */
+	String[] find(WordFormPattern pattern, SynsetType type, int limit)
+	{
+		int typeIndex = (type != null ? type.getCode() : 0);
+		List<String> results = new ArrayList<String>();
+		String prefix = pattern.getPrefix();
+		String suffix = pattern.getSuffix();
+		String longest = "";
+		for (String literal : pattern.getLiterals())
+		{
+			if (literal.length() > longest.length())
+			{
+				longest = literal;
+			}
+		}
+
+		if ((prefix.length() > 0) && (prefix.length() >= suffix.length()))
+		{
+			int start = forward.countBefore(prefix);
+			searchRange(start, start + forward.countWithPrefix(prefix), false,
+					forwardMaxima[typeIndex], pattern, typeIndex, limit, results);
+		}
+		else if (suffix.length() > 0)
+		{
+			String reversedSuffix = reverse(suffix);
+			int start = reversed.countBefore(reversedSuffix);
+			searchRange(start, start + reversed.countWithPrefix(reversedSuffix),
+					true, reversedMaxima[typeIndex], pattern, typeIndex,
+					limit, results);
+		}
+		else if (longest.length() >= GRAM_LENGTH)
+		{
+			searchGrams(pattern, typeIndex, limit, results);
+		}
+		else
+		{
+			//  Nothing narrows down the search, so every word form is checked
+			searchRange(0, forward.size(), false, forwardMaxima[typeIndex],
+					pattern, typeIndex, limit, results);
+		}
+		return results.toArray(new String[results.size()]);
+	}
+
+	/**
+	 * Returns the word forms that are accepted by a Levenshtein automaton,
+	 * ordered by the number of edits between them and the automaton's text,
+	 * then by descending tag count and then alphabetically.
+	 * 
+	 * @param  automaton Levenshtein automaton that accepts the word forms,
+	 *         whose text is in the format used by the database.
+	 * @param  type Type of synset that must contain the word forms, or
+	 *         <code>null</code> for any type.
+	 * @return Accepted word forms.
+	 */
+	String[] findWithin(LevenshteinAutomaton automaton, SynsetType type)
+	{
+		int typeIndex = (type != null ? type.getCode() : 0);
+		int[] counts = tagCounts[typeIndex];
+		long[] matches = forward.findWithin(automaton);
+		long[] keys = new long[matches.length];
+		List<String> results = new ArrayList<String>();
+		int start = 0;
+		while (start < matches.length)
+		{
+			//  Order the word forms with the same distance by tag count
+			int distance = (int)(matches[start] >>> 32);
+			int keyCount = 0;
+			int end = start;
+			while ((end < matches.length) &&
+					((int)(matches[end] >>> 32) == distance))
+			{
+				int rank = (int)matches[end++];
+				if (hasType(rank, typeIndex))
+				{
+					keys[keyCount++] = getQueueKey(counts[rank], rank, true);
+				}
+			}
+			Arrays.sort(keys, 0, keyCount);
+			for (int k = 0; k < keyCount; k++)
+			{
+				int rank = (int)(keys[k] >>> 1) & Integer.MAX_VALUE;
+				results.add(forward.getWordForm(rank));
+			}
+			start = end;
+		}
+		return results.toArray(new String[results.size()]);
+	}
+
+	/**
+	 * Adds the matching word forms within a range of positions to a list, in
+	 * descending order of tag count and then alphabetically, until the list
+	 * is full. The positions are either ranks or positions within the
+	 * reversed word forms.
+	 * <br><p>
+	 * Each block of positions that's completely within the range is queued
+	 * with its highest tag count and its lowest rank, and is only replaced
+	 * by its individual ranks when it reaches the head of the queue, so
+	 * blocks whose tag counts are too low are never examined. Since none of
+	 * the ranks in a block can come before the block itself in the queue,
+	 * the ranks are dequeued in the same order whether they're positioned
+	 * by the word forms or by the reversed word forms.
+	 * 
+	 * @param  start First position of the range.
+	 * @param  end Position after the end of the range.
+	 * @param  isReversed Whether the positions are within the reversed word
+	 *         forms instead of ranks.
+	 * @param  maxima Highest tag count in each block of positions.
+	 * @param  pattern Pattern that the word forms must match.
+	 * @param  typeIndex Code of the type of synset that must contain the
+	 *         word forms, or zero for any type.
+	 * @param  limit Maximum number of word forms in the list.
+	 * @param  results List to which the word forms are added.
+	 */
+	private void searchRange(int start, int end, boolean isReversed,
+			int[] maxima, WordFormPattern pattern, int typeIndex, int limit,
+			List<String> results)
+	{
+		int[] counts = tagCounts[typeIndex];
+		PriorityQueue<Long> queue = new PriorityQueue<Long>();
+		int position = start;
+		while (position < end)
+		{
+			if ((position % BLOCK_SIZE == 0) && (position + BLOCK_SIZE <= end))
+			{
+				int block = position / BLOCK_SIZE;
+				queue.add(Long.valueOf(getQueueKey(maxima[block],
+						(isReversed ? reversedMinima[block] : position), false)));
+				position += BLOCK_SIZE;
+			}
+			else
+			{
+				int rank = getRank(isReversed, position);
+				queue.add(Long.valueOf(getQueueKey(counts[rank], rank, true)));
+				position++;
+			}
+		}
+		while ((results.size() < limit) && (!queue.isEmpty()))
+		{
+			long key = queue.poll().longValue();
+			int rank = (int)(key >>> 1) & Integer.MAX_VALUE;
+			if ((key & 1) == 0)
+			{
+				//  Replace the block by its ranks; the key holds its lowest rank
+				int first = (isReversed ? reversedPositions[rank] : rank);
+				first -= first % BLOCK_SIZE;
+				for (int i = first; i < first + BLOCK_SIZE; i++)
+				{
+					int member = getRank(isReversed, i);
+					queue.add(Long.valueOf(getQueueKey(
+							counts[member], member, true)));
+				}
+			}
+			else if (hasType(rank, typeIndex))
+			{
+				String wordForm = forward.getWordForm(rank);
+				if (pattern.matches(wordForm))
+				{
+					results.add(wordForm);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds the word forms that match a pattern to a list, using the trigram
+	 * index to find the word forms that contain all of the pattern's runs
+	 * of literal text.
+	 * 
+	 * @param  pattern Pattern that the word forms must match.
+	 * @param  typeIndex Code of the type of synset that must contain the
+	 *         word forms, or zero for any type.
+	 * @param  limit Maximum number of word forms in the list.
+	 * @param  results List to which the word forms are added.
+	 */
+	private void searchGrams(WordFormPattern pattern, int typeIndex, int limit,
+			List<String> results)
+	{
+		//  Find the trigrams of the literal text, shortest posting list first
+		List<Long> gramList = new ArrayList<Long>();
+		for (String literal : pattern.getLiterals())
+		{
+			for (int i = 0; i + GRAM_LENGTH <= literal.length(); i++)
+			{
+				int gram = Arrays.binarySearch(grams, pack(literal, i));
+				if (gram < 0)
+				{
+					return;
+				}
+				int length = gramStarts[gram + 1] - gramStarts[gram];
+				gramList.add(Long.valueOf(((long)length << 32) | gram));
+			}
+		}
+		long[] sortedGrams = new long[gramList.size()];
+		for (int i = 0; i < sortedGrams.length; i++)
+		{
+			sortedGrams[i] = gramList.get(i).longValue();
+		}
+		Arrays.sort(sortedGrams);
+
+		//  Intersect the ranks of the word forms that contain each trigram
+		int first = (int)sortedGrams[0];
+		int[] candidates = Arrays.copyOfRange(postings, gramStarts[first],
+				gramStarts[first + 1]);
+		int candidateCount = candidates.length;
+		for (int i = 1; (i < sortedGrams.length) && (candidateCount > 0); i++)
+		{
+			int gram = (int)sortedGrams[i];
+			int end = gramStarts[gram + 1];
+			int j = gramStarts[gram];
+			int kept = 0;
+			for (int k = 0; (k < candidateCount) && (j < end); k++)
+			{
+				while ((j < end) && (postings[j] < candidates[k]))
+				{
+					j++;
+				}
+				if ((j < end) && (postings[j] == candidates[k]))
+				{
+					candidates[kept++] = candidates[k];
+				}
+			}
+			candidateCount = kept;
+		}
+
+		//  Order the candidates that match by tag count
+		int[] counts = tagCounts[typeIndex];
+		long[] matches = new long[candidateCount];
+		int matchCount = 0;
+		for (int k = 0; k < candidateCount; k++)
+		{
+			int rank = candidates[k];
+			if ((hasType(rank, typeIndex)) &&
+					(pattern.matches(forward.getWordForm(rank))))
+			{
+				matches[matchCount++] = getQueueKey(counts[rank], rank, true);
+			}
+		}
+		Arrays.sort(matches, 0, matchCount);
+		for (int k = 0; (k < matchCount) && (results.size() < limit); k++)
+		{
+			int rank = (int)(matches[k] >>> 1) & Integer.MAX_VALUE;
+			results.add(forward.getWordForm(rank));
+		}
+	}
+
+	/**
+	 * Returns the key with which a block or rank is queued, which orders
+	 * the keys by descending tag count, then by rank and then places a
+	 * block before the individual rank that's its lowest one.
+	 * 
+	 * @param  tagCount Tag count of the rank or highest tag count of the
+	 *         block.
+	 * @param  rank Rank of the word form or lowest rank in the block.
+	 * @param  isRank Whether the key is for an individual rank.
+	 * @return Key for the queue.
+	 */
+	private static long getQueueKey(int tagCount, int rank, boolean isRank)
+	{
+		return ((long)(Integer.MAX_VALUE - tagCount) << 32) |
+				((long)rank << 1) | (isRank ? 1 : 0);
+	}
+
+	/**
+	 * Returns the rank of the word form at a position.
+	 * 
+	 * @param  isReversed Whether the position is within the reversed word
+	 *         forms instead of a rank.
+	 * @param  position Position of the word form.
+	 * @return Rank of the word form.
+	 */
+	private int getRank(boolean isReversed, int position)
+	{
+		return (isReversed ? reversed.getValue(position) : position);
+	}
+
+	/**
+	 * Indicates whether a word form is contained in a synset of a type.
+	 * 
+	 * @param  rank Rank of the word form.
+	 * @param  typeIndex Code of the type, or zero for any type.
+	 * @return <code>true</code> if the word form has a sense of the type.
+	 */
+	private boolean hasType(int rank, int typeIndex)
+	{
+		return ((typeIndex == 0) || ((typeMasks[rank] & (1 << typeIndex)) != 0));
+	}
+
+	/**
+	 * Computes the highest tag count in each block of positions.
+	 * 
+	 * @param  counts Tag count of each rank.
+	 * @param  ranks Rank at each position, or <code>null</code> if the
+	 *         positions are ranks.
+	 * @return Highest tag count in each block.
+	 */
+	private static int[] getBlockMaxima(int[] counts, int[] ranks)
+	{
+		int[] maxima = new int[(counts.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+		for (int i = 0; i < counts.length; i++)
+		{
+			int count = counts[ranks != null ? ranks[i] : i];
+			if (count > maxima[i / BLOCK_SIZE])
+			{
+				maxima[i / BLOCK_SIZE] = count;
+			}
+		}
+		return maxima;
+	}
+
+	/**
+	 * Packs the characters of a trigram into a long.
+	 * 
+	 * @param  text Text that contains the trigram.
+	 * @param  start Position of the trigram within the text.
+	 * @return Packed trigram.
+	 */
+	private static long pack(String text, int start)
+	{
+		return ((long)text.charAt(start) << 32) |
+				((long)text.charAt(start + 1) << 16) | text.charAt(start + 2);
+	}
+
+	/**
+	 * Returns the characters of a string in reverse order.
+	 * 
+	 * @param  text String to reverse.
+	 * @return Reversed string.
+	 */
+	private static String reverse(String text)
+	{
+		return new StringBuilder(text).reverse().toString();
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by the search structures,
+	 * not including the automaton of the word forms, which is shared.
+	 * 
+	 * @return Estimated number of bytes used.
+	 */
+	long getEstimatedSize()
+	{
+		long size = SizeEstimates.getObjectSize(12, 0) +
+				reversed.getEstimatedSize() +
+				SizeEstimates.getArraySize(reversedMinima.length, 4) +
+				SizeEstimates.getArraySize(reversedPositions.length, 4) +
+				SizeEstimates.getArraySize(typeMasks.length, 1) +
+				SizeEstimates.getArraySize(grams.length, 8) +
+				SizeEstimates.getArraySize(gramStarts.length, 4) +
+				SizeEstimates.getArraySize(postings.length, 4);
+		for (int type = 0; type <= TYPE_COUNT; type++)
+		{
+			size += SizeEstimates.getArraySize(tagCounts[type].length, 4) +
+					SizeEstimates.getArraySize(forwardMaxima[type].length, 4) +
+					SizeEstimates.getArraySize(reversedMaxima[type].length, 4);
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of word forms that can be searched.
+	 * 
+	 * @return Number of word forms.
+	 */
+	int size()
+	{
+		return forward.size();
+	}
+
+}
\ No newline at end of file
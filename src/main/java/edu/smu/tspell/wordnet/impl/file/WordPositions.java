@@ -1,77 +1,130 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file;
-
-import java.util.HashMap;
-import java.util.Map;
-
-/**
- * Maintains a mapping between word forms and the positions that it can
- * occupy. Currently these are only used for adjectives.
- * 
- * @author Brett Spell
- */
-public class WordPositions
-{
-
-	/**
-	 * Stores mappings between word forms and their specified positions.
-	 */
-	private Map wordMap = new HashMap();
-
-	/**
-	 * No-argument constructor.
-	 */
-	public WordPositions()
-	{
-	}
-
-	/**
-	 * Sets the position for a word.
-	 * 
-	 * @param  wordForm Word form for which to specify the position.
-	 * @param  position Position in which the word form must occur.
-	 */
-	public void setPosition(String wordForm, String position)
-	{
-		wordMap.put(wordForm, position);
-	}
-
-	/**
-	 * Returns the required position, if any, that the specified adjective
-	 * must occupy relative to a noun it modifies.
-	 * 
-	 * @param  wordForm Word form for which to return the required syntactic
-	 *         position (if one exists).
-	 * @return Syntactic position that the specified word form must occupy
-	 *         or <code>null</code> if there is no requirement on the
-	 *         position in which it must occur.
-	 */
-	public String getRequiredPosition(String wordForm)
-	{
-		return (String)(wordMap.get(wordForm));
-	}
-
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file;
+
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+/**
+ * Maintains a mapping between word forms and the positions that it can
+ * occupy. Currently these are only used for adjectives.
+ * 
+ * @author Brett Spell
+ */
+public class WordPositions
+{
+
+	/**
+	 * Identifiers in the lemma dictionary of the word forms that have a
+	 * required position. Few synsets have any, so the arrays are exactly as
+	 * long as the number of word forms that do.
+	 */
+	private int[] wordForms = new int[0];
+
+	/**
+	 * Position of each word form in <code>wordForms</code>.
+	 */
+	private String[] positions = new String[0];
+
+	/**
+	 * No-argument constructor.
+	 */
+	public WordPositions()
+	{
+	}
+
+	/**
+	 * Sets the position for a word.
+	 * 
+	 * @param  wordForm Word form for which to specify the position.
+	 * @param  position Position in which the word form must occur.
+	 */
+	public void setPosition(String wordForm, String position)
+	{
+		int id = LemmaDictionary.getInstance().getID(wordForm);
+		int index = indexOf(id);
+		if (index == -1)
+		{
+			index = wordForms.length;
+			int[] newWordForms = new int[index + 1];
+			System.arraycopy(wordForms, 0, newWordForms, 0, index);
+			String[] newPositions = new String[index + 1];
+			System.arraycopy(positions, 0, newPositions, 0, index);
+			newWordForms[index] = id;
+			wordForms = newWordForms;
+			positions = newPositions;
+		}
+		//  There are only a few distinct positions, so share their text
+		positions[index] = position.intern();
+	}
+
+	/**
+	 * Returns the required position, if any, that the specified adjective
+	 * must occupy relative to a noun it modifies.
+	 * 
+	 * @param  wordForm Word form for which to return the required syntactic
+	 *         position (if one exists).
+	 * @return Syntactic position that the specified word form must occupy
+	 *         or <code>null</code> if there is no requirement on the
+	 *         position in which it must occur.
+	 */
+	public String getRequiredPosition(String wordForm)
+	{
+		int index = indexOf(LemmaDictionary.getInstance().findID(wordForm));
+		return (index != -1 ? positions[index] : null);
+	}
+
+	/**
+	 * Returns the position of a word form within <code>wordForms</code>.
+	 * 
+	 * @param  id Identifier of the word form.
+	 * @return Index of the word form or -1 if it has no required position.
+	 */
+	private int indexOf(int id)
+	{
+		for (int i = 0; i < wordForms.length; i++)
+		{
+			if (wordForms[i] == id)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this object. The
+	 * position text is shared, so it isn't included.
+	 * 
+	 * @return Estimated number of bytes used by this object.
+	 */
+	public long getEstimatedSize()
+	{
+		return SizeEstimates.getObjectSize(2, 0) +
+				SizeEstimates.getArraySize(wordForms.length, 4) +
+				SizeEstimates.getArraySize(positions.length,
+				SizeEstimates.REFERENCE_SIZE);
+	}
+
 }
\ No newline at end of file
@@ -1,224 +1,348 @@
-/*
-
-  Java API for WordNet Searching 1.0
-  Copyright (c) 2007 by Brett Spell.
-
-  This software is being provided to you, the LICENSEE, by under the following
-  license.  By obtaining, using and/or copying this software, you agree that
-  you have read, understood, and will comply with these terms and conditions:
-   
-  Permission to use, copy, modify and distribute this software and its
-  documentation for any purpose and without fee or royalty is hereby granted,
-  provided that you agree to comply with the following copyright notice and
-  statements, including the disclaimer, and that the same appear on ALL copies
-  of the software, database and documentation, including modifications that you
-  make for internal use or for distribution.
-
-  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
-  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
-  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
-  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
-  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
-  TRADEMARKS OR OTHER RIGHTS.
-
- */
-package edu.smu.tspell.wordnet.impl.file.synset;
-
-import edu.smu.tspell.wordnet.SynsetType;
-import edu.smu.tspell.wordnet.VerbSynset;
-import edu.smu.tspell.wordnet.WordNetException;
-import edu.smu.tspell.wordnet.WordSense;
-
-import edu.smu.tspell.wordnet.impl.ExampleSentences;
-
-import edu.smu.tspell.wordnet.impl.file.ReferenceSynset;
-import edu.smu.tspell.wordnet.impl.file.RelationshipPointers;
-import edu.smu.tspell.wordnet.impl.file.RelationshipType;
-import edu.smu.tspell.wordnet.impl.file.RetrievalException;
-import edu.smu.tspell.wordnet.impl.file.SenseKey;
-
-/**
- * Reference implementation of a verb synset.
- * 
- * @author Brett Spell
- */
-public class VerbReferenceSynset extends ReferenceSynset implements VerbSynset
-{
-
-	/**
-	 * Provides examples of the context in which one or more of the verbs
-	 * associated with this synset can be used.
-	 */
-	private ExampleSentences examples;
-
-	/**
-	 * Constructor that accepts verb synset properties.
-	 * 
-	 * @param  definition Short description / definition of the meaning.
-	 * @param  examples Examples of how the synset is used.
-	 * @param  senseKeys Keys of word senses associated with this synset.
-	 * @param  pointers Pointers to unresolved relationships.
-	 * @param  frames Sentence frames associated with this verb.
-	 * @param  lexFile Lexical file that contains the synset.
-	 * @param  offset Byte offset into the data file where synset is defined.
-	 */
-	public VerbReferenceSynset(String definition, String[] examples,
-			SenseKey[] senseKeys, RelationshipPointers pointers,
-			ExampleSentences frames, int lexFile, int offset)
-	{
-		super(SynsetType.VERB, definition, examples, senseKeys,
-				pointers, lexFile, offset);
-		this.examples = frames;
-	}
-
-	/**
-	 * Returns the direct hypernyms (superordinates type) of this type.
-	 * <br><p>
-	 * For example, to "verbalize" is a hypernym of "shout".
-	 * <br><p>
-	 * Note: In most cases there is exactly one hypernym, but WordNet does
-	 * contain verb synsets with more than one (e.g., "warm up").
-	 * 
-	 * @return The direct hypernyms of this synset.
-	 * @throws WordNetException An error occurred retrieving data.
-	 */
-	public VerbSynset[] getHypernyms() throws RetrievalException
-	{
-		return getVerbSynsets(RelationshipType.HYPERNYM);
-	}
-
-	/**
-	 * Returns the direct hyponyms (subordinate types / troponyms)
-	 * of this type.
-	 * <br><p>
-	 * For example, a troponym / hyponym / subordinate type of "verbalize"
-	 * is "shout".
-	 * 
-	 * @return The list of direct hyponyms of this synset.
-	 * @throws RetrievalException An error occurred retrieving data.
-	 */
-	public VerbSynset[] getTroponyms() throws RetrievalException
-	{
-		return getVerbSynsets(RelationshipType.HYPONYM);
-	}
-
-	/**
-	 * Returns this verb synset's entailments, which are things that this
-	 * verb implies.
-	 * <br><p>
-	 * For example, "snore" entails "sleep".
-	 * 
-	 * @return Entailments associated with this synset.
-	 * @throws RetrievalException An error occurred retrieving data.
-	 */
-	public VerbSynset[] getEntailments() throws RetrievalException
-	{
-		return getVerbSynsets(RelationshipType.ENTAILMENT);
-	}
-
-	/**
-	 * Returns the outcomes of this verb synset's action, that is things
-	 * that this verb can "cause".
-	 * <br><p>
-	 * For example, "remind" is a cause of "remember".
-	 * 
-	 * @return Things that this verb synset can cause.
-	 * @throws RetrievalException An error occurred retrieving data.
-	 */
-	public VerbSynset[] getOutcomes() throws RetrievalException
-	{
-		return getVerbSynsets(RelationshipType.CAUSE);
-	}
-
-	/**
-	 * Returns the word senses representing cases where this verb is used
-	 * as part of a verb phrase ("phrasal verb").
-	 * <br><p>
-	 * For example, "breathe" is found in the phrases "breathe in" and
-	 * "breathe out".
-	 * 
-	 * @param  wordForm Word form for which to return antonyms.
-	 * @return Senses related to the specified word form.
-	 * @throws RetrievalException An error occurred retrieving data.
-	 */
-	public WordSense[] getPhrases(String wordForm) throws RetrievalException
-	{
-		return getReferences(RelationshipType.ALSO_SEE, wordForm);
-	}
-
-	/**
-	 * Returns a set of verb senses that have similar meaning.
-	 * <br><p>
-	 * For example, "talk" and "write" belong to the same verb group.
-	 * 
-	 * @return Senses that have a similar meaning.
-	 * @throws RetrievalException An error occurred retrieving data.
-	 */
-	public VerbSynset[] getVerbGroup() throws RetrievalException
-	{
-		return getVerbSynsets(RelationshipType.VERB_GROUP);
-	}
-
-	/**
-	 * Returns the sentence frames (if any) associated with this verb meaning.
-	 * Sentence frames are examples of how the verb can be used / applied, and
-	 * all the frames returned by this method apply to all word forms in the
-	 * synset.
-	 * 
-	 * @return Sentence frames associated with all word forms in this synset.
-	 */
-	public String[] getSentenceFrames()
-	{
-		return examples.getCommonFrames();
-	}
-
-	/**
-	 * Returns the sentence forms (if any) that are specific to a particular
-	 * word form within this synset, where sentence frames are examples of
-	 * how the word form can be used / applied.
-	 * 
-	 * @param  wordForm Word form for which to return sentence frames.
-	 * @return Sentence frames that are specific to the specified word form.
-	 */
-	public String[] getSentenceFrames(String wordForm)
-	{
-		return examples.getFrames(wordForm);
-	}
-
-	/**
-	 * Returns example sentences (if any) that are specific to a particular
-	 * word form within this synset, where templates are examples of how the
-	 * word form can be used / applied.
-	 * 
-	 * @param  wordForm Word form for which to return sentence templates.
-	 * @return Sentence templates that are specific to the word form.
-	 * @see    <a href="http://wordnet.princeton.edu/man/wndb.5WN#sect6">
-	 *         Format of WordNet database files ("Verb Example Sentences")</a>
-	 */
-	public String[] getSentenceTemplates(String wordForm)
-	{
-		return examples.getFormattedTemplates(wordForm);
-	}
-
-	/**
-	 * Populate all the semantic and lexical relationships.
-	 * 
-	 */
-	protected String [] populateRelationships() {
-		// Populate the lexical relationships
-		String [] wordForms = super.populateRelationships();
-		for (int i = 0; i < wordForms.length; i++) {
-			String wordForm = wordForms[i];
-			getPhrases(wordForm);
-		}
-
-		// Populate the semantic relationships.
-		getEntailments();
-		getHypernyms();
-		getOutcomes();
-		getTroponyms();
-		getVerbGroup();
-		
-		return wordForms;
-	}
+/*
+
+  Java API for WordNet Searching 1.0
+  Copyright (c) 2007 by Brett Spell.
+
+  This software is being provided to you, the LICENSEE, by under the following
+  license.  By obtaining, using and/or copying this software, you agree that
+  you have read, understood, and will comply with these terms and conditions:
+   
+  Permission to use, copy, modify and distribute this software and its
+  documentation for any purpose and without fee or royalty is hereby granted,
+  provided that you agree to comply with the following copyright notice and
+  statements, including the disclaimer, and that the same appear on ALL copies
+  of the software, database and documentation, including modifications that you
+  make for internal use or for distribution.
+
+  THIS SOFTWARE AND DATABASE IS PROVIDED "AS IS" WITHOUT REPRESENTATIONS OR
+  WARRANTIES, EXPRESS OR IMPLIED.  BY WAY OF EXAMPLE, BUT NOT LIMITATION,  
+  LICENSOR MAKES NO REPRESENTATIONS OR WARRANTIES OF MERCHANTABILITY OR FITNESS
+  FOR ANY PARTICULAR PURPOSE OR THAT THE USE OF THE LICENSED SOFTWARE OR
+  DOCUMENTATION WILL NOT INFRINGE ANY THIRD PARTY PATENTS, COPYRIGHTS,
+  TRADEMARKS OR OTHER RIGHTS.
+
+ */
+package edu.smu.tspell.wordnet.impl.file.synset;
+
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.VerbSynset;
+import edu.smu.tspell.wordnet.WordNetException;
+import edu.smu.tspell.wordnet.WordSense;
+
+import edu.smu.tspell.wordnet.impl.ExampleSentences;
+import edu.smu.tspell.wordnet.impl.SizeEstimates;
+
+import edu.smu.tspell.wordnet.impl.file.ReferenceSynset;
+import edu.smu.tspell.wordnet.impl.file.RelationshipPointers;
+import edu.smu.tspell.wordnet.impl.file.RelationshipType;
+import edu.smu.tspell.wordnet.impl.file.RetrievalException;
+import edu.smu.tspell.wordnet.impl.file.SenseKey;
+import edu.smu.tspell.wordnet.impl.file.SynsetParser;
+
+/**
+ * Reference implementation of a verb synset.
+ * 
+ * @author Brett Spell
+ */
+public class VerbReferenceSynset extends ReferenceSynset implements VerbSynset
+{
+
+	/**
+	 * Provides examples of the context in which one or more of the verbs
+	 * associated with this synset can be used; <code>null</code> until
+	 * they're first requested if the synset was created from frame numbers.
+	 */
+	private volatile ExampleSentences examples;
+
+	/**
+	 * Stores the sentence frames and templates once they've been resolved,
+	 * unless another thread has already stored them.
+	 */
+	private final static AtomicReferenceFieldUpdater<VerbReferenceSynset,
+			ExampleSentences> EXAMPLES_UPDATER =
+			AtomicReferenceFieldUpdater.newUpdater(VerbReferenceSynset.class,
+			ExampleSentences.class, "examples");
+
+	/**
+	 * Pairs of frame numbers and the (one-based) numbers of the words to
+	 * which they apply, with zero indicating all words; <code>null</code>
+	 * once the frames have been resolved.
+	 */
+	private volatile int[] frameNumbers;
+
+	/**
+	 * Constructor that accepts verb synset properties.
+	 * 
+	 * @param  definition Short description / definition of the meaning.
+	 * @param  examples Examples of how the synset is used.
+	 * @param  senseKeys Keys of word senses associated with this synset.
+	 * @param  pointers Pointers to unresolved relationships.
+	 * @param  frames Sentence frames associated with this verb.
+	 * @param  lexFile Lexical file that contains the synset.
+	 * @param  offset Byte offset into the data file where synset is defined.
+	 */
+	public VerbReferenceSynset(String definition, String[] examples,
+			SenseKey[] senseKeys, RelationshipPointers pointers,
+			ExampleSentences frames, int lexFile, int offset)
+	{
+		super(SynsetType.VERB, definition, examples, senseKeys,
+				pointers, lexFile, offset);
+		this.examples = frames;
+	}
+
+	/**
+	 * Constructor that accepts verb synset properties, including the
+	 * numbers of the sentence frames. The frame text and the sentence
+	 * templates are only looked up when they're first requested.
+	 * 
+	 * @param  definition Short description / definition of the meaning.
+	 * @param  examples Examples of how the synset is used.
+	 * @param  senseKeys Keys of word senses associated with this synset.
+	 * @param  pointers Pointers to unresolved relationships.
+	 * @param  frameNumbers Pairs of frame numbers and the (one-based)
+	 *         numbers of the words to which they apply, with zero
+	 *         indicating all words.
+	 * @param  lexFile Lexical file that contains the synset.
+	 * @param  offset Byte offset into the data file where synset is defined.
+	 */
+	public VerbReferenceSynset(String definition, String[] examples,
+			SenseKey[] senseKeys, RelationshipPointers pointers,
+			int[] frameNumbers, int lexFile, int offset)
+	{
+		super(SynsetType.VERB, definition, examples, senseKeys,
+				pointers, lexFile, offset);
+		this.frameNumbers = frameNumbers;
+	}
+
+	/**
+	 * Returns the direct hypernyms (superordinates type) of this type.
+	 * <br><p>
+	 * For example, to "verbalize" is a hypernym of "shout".
+	 * <br><p>
+	 * Note: In most cases there is exactly one hypernym, but WordNet does
+	 * contain verb synsets with more than one (e.g., "warm up").
+	 * 
+	 * @return The direct hypernyms of this synset.
+	 * @throws WordNetException An error occurred retrieving data.
+	 */
+	public VerbSynset[] getHypernyms() throws RetrievalException
+	{
+		return getVerbSynsets(RelationshipType.HYPERNYM);
+	}
+
+	/**
+	 * Returns the direct hyponyms (subordinate types / troponyms)
+	 * of this type.
+	 * <br><p>
+	 * For example, a troponym / hyponym / subordinate type of "verbalize"
+	 * is "shout".
+	 * 
+	 * @return The list of direct hyponyms of this synset.
+	 * @throws RetrievalException An error occurred retrieving data.
+	 */
+	public VerbSynset[] getTroponyms() throws RetrievalException
+	{
+		return getVerbSynsets(RelationshipType.HYPONYM);
+	}
+
+	/**
+	 * Returns this verb synset's entailments, which are things that this
+	 * verb implies.
+	 * <br><p>
+	 * For example, "snore" entails "sleep".
+	 * 
+	 * @return Entailments associated with this synset.
+	 * @throws RetrievalException An error occurred retrieving data.
+	 */
+	public VerbSynset[] getEntailments() throws RetrievalException
+	{
+		return getVerbSynsets(RelationshipType.ENTAILMENT);
+	}
+
+	/**
+	 * Returns the outcomes of this verb synset's action, that is things
+	 * that this verb can "cause".
+	 * <br><p>
+	 * For example, "remind" is a cause of "remember".
+	 * 
+	 * @return Things that this verb synset can cause.
+	 * @throws RetrievalException An error occurred retrieving data.
+	 */
+	public VerbSynset[] getOutcomes() throws RetrievalException
+	{
+		return getVerbSynsets(RelationshipType.CAUSE);
+	}
+
+	/**
+	 * Returns the word senses representing cases where this verb is used
+	 * as part of a verb phrase ("phrasal verb").
+	 * <br><p>
+	 * For example, "breathe" is found in the phrases "breathe in" and
+	 * "breathe out".
+	 * 
+	 * @param  wordForm Word form for which to return antonyms.
+	 * @return Senses related to the specified word form.
+	 * @throws RetrievalException An error occurred retrieving data.
+	 */
+	public WordSense[] getPhrases(String wordForm) throws RetrievalException
+	{
+		return getReferences(RelationshipType.ALSO_SEE, wordForm);
+	}
+
+	/**
+	 * Returns a set of verb senses that have similar meaning.
+	 * <br><p>
+	 * For example, "talk" and "write" belong to the same verb group.
+	 * 
+	 * @return Senses that have a similar meaning.
+	 * @throws RetrievalException An error occurred retrieving data.
+	 */
+	public VerbSynset[] getVerbGroup() throws RetrievalException
+	{
+		return getVerbSynsets(RelationshipType.VERB_GROUP);
+	}
+
+	/**
+	 * Returns the sentence frames (if any) associated with this verb meaning.
+	 * Sentence frames are examples of how the verb can be used / applied, and
+	 * all the frames returned by this method apply to all word forms in the
+	 * synset.
+	 * 
+	 * @return Sentence frames associated with all word forms in this synset.
+	 */
+	public String[] getSentenceFrames()
+	{
+		return getExampleSentences().getCommonFrames();
+	}
+
+	/**
+	 * Returns the sentence forms (if any) that are specific to a particular
+	 * word form within this synset, where sentence frames are examples of
+	 * how the word form can be used / applied.
+	 * 
+	 * @param  wordForm Word form for which to return sentence frames.
+	 * @return Sentence frames that are specific to the specified word form.
+	 */
+	public String[] getSentenceFrames(String wordForm)
+	{
+		return getExampleSentences().getFrames(wordForm);
+	}
+
+	/**
+	 * Returns example sentences (if any) that are specific to a particular
+	 * word form within this synset, where templates are examples of how the
+	 * word form can be used / applied.
+	 * 
+	 * @param  wordForm Word form for which to return sentence templates.
+	 * @return Sentence templates that are specific to the word form.
+	 * @see    <a href="http://wordnet.princeton.edu/man/wndb.5WN#sect6">
+	 *         Format of WordNet database files ("Verb Example Sentences")</a>
+	 */
+	public String[] getSentenceTemplates(String wordForm)
+	{
+		return getExampleSentences().getFormattedTemplates(wordForm);
+	}
+
+	/**
+	 * Returns the sentence frames and templates associated with this synset,
+	 * resolving them if this is the first time they've been requested.
+	 * <br><p>
+	 * No lock is held while they're resolved, which may require reading the
+	 * frame and template files. If several threads request them at the same
+	 * time, each may resolve them but only the first result to be stored is
+	 * kept and returned to all of them.
+	 * 
+	 * @return Sentence frames and templates of this synset.
+	 * @throws RetrievalException An error occurred reading the frame or
+	 *         template data.
+	 */
+	public ExampleSentences getExampleSentences()
+	{
+		ExampleSentences sentences = examples;
+		if (sentences == null)
+		{
+			int[] numbers = frameNumbers;
+			if (numbers == null)
+			{
+				//  Another thread stored them after they were checked
+				return examples;
+			}
+			SenseKey[] senseKeys = new SenseKey[getSenseCount()];
+			for (int i = 0; i < senseKeys.length; i++)
+			{
+				senseKeys[i] = getSenseKey(i);
+			}
+			sentences = SynsetParser.createExampleSentences(
+					senseKeys, numbers);
+			if (EXAMPLES_UPDATER.compareAndSet(this, null, sentences))
+			{
+				frameNumbers = null;
+			}
+			else
+			{
+				sentences = examples;
+			}
+		}
+		return sentences;
+	}
+
+	/**
+	 * Adds this synset, its relationships and its sentence frames and
+	 * templates (if they've been resolved) to a memory footprint.
+	 * 
+	 * @param  footprint Footprint to which the synset is added.
+	 */
+	public void estimateFootprint(MemoryFootprint footprint)
+	{
+		super.estimateFootprint(footprint);
+		ExampleSentences sentences = examples;
+		if (sentences != null)
+		{
+			footprint.add("exampleSentences", 1,
+					sentences.getEstimatedSize());
+		}
+	}
+
+	/**
+	 * Returns the estimated number of bytes used by this synset, including
+	 * the frame numbers if the frames haven't been resolved yet.
+	 * 
+	 * @return Estimated number of bytes used by this synset.
+	 */
+	protected long getEstimatedSize()
+	{
+		long size = super.getEstimatedSize() +
+				2 * SizeEstimates.REFERENCE_SIZE;
+		int[] numbers = frameNumbers;
+		if (numbers != null)
+		{
+			size += SizeEstimates.getArraySize(numbers.length, 4);
+		}
+		return size;
+	}
+
+	/**
+	 * Populate all the semantic and lexical relationships.
+	 * 
+	 */
+	protected String [] populateRelationships() {
+		// Populate the lexical relationships
+		String [] wordForms = super.populateRelationships();
+		for (int i = 0; i < wordForms.length; i++) {
+			String wordForm = wordForms[i];
+			getPhrases(wordForm);
+		}
+
+		// Populate the semantic relationships.
+		getEntailments();
+		getHypernyms();
+		getOutcomes();
+		getTroponyms();
+		getVerbGroup();
+		
+		return wordForms;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+package edu.smu.tspell.wordnet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class AsyncWordNetDatabaseTest {
+
+	private WordNetDatabase wn = null;
+
+	private AsyncWordNetDatabase async = null;
+
+	@Before
+	public void setUp() throws Exception {
+		wn = WordNetDatabase.getFileInstance();
+		async = new AsyncWordNetDatabase(wn);
+	}
+
+	@Test
+	public void testGetSynsets() throws Exception {
+		assertTrue(wn.getSynsets("abridge").length > 0);
+		assertArrayEquals(wn.getSynsets("abridge"), async.getSynsets("abridge").get());
+		assertArrayEquals(wn.getSynsets("be", SynsetType.VERB),
+				async.getSynsets("be", SynsetType.VERB).get());
+		assertArrayEquals(wn.getSynsets("abridged", SynsetType.VERB, false),
+				async.getSynsets("abridged", SynsetType.VERB, false).get());
+		assertEquals(0, async.getSynsets("xyzzy").get().length);
+	}
+
+	@Test
+	public void testGetSynsetsBatch() throws Exception {
+		String[] wordForms = {"abridge", "be", "xyzzy", "abridged"};
+		Synset[][] synsets = async.getSynsets(wordForms, SynsetType.VERB).get();
+		assertEquals(wordForms.length, synsets.length);
+		for (int i = 0; i < wordForms.length; i++) {
+			assertArrayEquals(wordForms[i],
+					wn.getSynsets(wordForms[i], SynsetType.VERB), synsets[i]);
+		}
+		synsets = async.getSynsets(wordForms, null, false).get();
+		for (int i = 0; i < wordForms.length; i++) {
+			assertArrayEquals(wordForms[i],
+					wn.getSynsets(wordForms[i], null, false), synsets[i]);
+		}
+		assertEquals(0, async.getSynsets(new String[0]).get().length);
+	}
+
+	@Test
+	public void testGetSynsetWithSenseKey() throws Exception {
+		Synset synset = wn.getSynsets("abridge", SynsetType.VERB)[0];
+		assertSame(synset, async.getSynsetWithSenseKey(synset.getSenseKeys()[0]).get());
+		assertNull(async.getSynsetWithSenseKey("xyzzy%2:30:00::").get());
+	}
+
+	@Test
+	public void testQuery() throws Exception {
+		final VerbSynset synset = (VerbSynset) wn.getSynsets("abridge", SynsetType.VERB)[0];
+		CompletableFuture<Synset[]> hypernyms = async.query(new Callable<Synset[]>() {
+			public Synset[] call() {
+				return synset.getHypernyms();
+			}
+		});
+		assertArrayEquals(synset.getHypernyms(), hypernyms.get());
+	}
+
+	@Test
+	public void testQueryCheckedException() throws Exception {
+		final IOException failure = new IOException("Query failed");
+		CompletableFuture<String> future = async.query(new Callable<String>() {
+			public String call() throws IOException {
+				throw failure;
+			}
+		});
+		try {
+			future.get();
+			fail("Exception not reported");
+		} catch (ExecutionException e) {
+			assertSame(failure, e.getCause());
+		}
+		assertTrue(future.isCompletedExceptionally());
+		try {
+			future.join();
+			fail("Exception not reported");
+		} catch (CompletionException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	@Test
+	public void testQueryUncheckedException() throws Exception {
+		final IllegalStateException failure = new IllegalStateException("Query failed");
+		CompletableFuture<String> future = async.query(new Callable<String>() {
+			public String call() {
+				throw failure;
+			}
+		});
+		try {
+			future.get();
+			fail("Exception not reported");
+		} catch (ExecutionException e) {
+			assertSame(failure, e.getCause());
+		}
+	}
+
+	@Test
+	public void testCustomExecutor() throws Exception {
+		final List<Runnable> tasks = new ArrayList<Runnable>();
+		Executor executor = new Executor() {
+			public void execute(Runnable task) {
+				tasks.add(task);
+			}
+		};
+		AsyncWordNetDatabase deferred = new AsyncWordNetDatabase(wn, executor);
+		assertSame(wn, deferred.getDatabase());
+		assertSame(executor, deferred.getExecutor());
+		String[] wordForms = {"abridge", "be"};
+		CompletableFuture<Synset[][]> batch = deferred.getSynsets(wordForms, SynsetType.VERB);
+		CompletableFuture<Synset[]> single = deferred.getSynsets("abridge");
+		assertEquals(2, tasks.size());
+		assertFalse(batch.isDone());
+		assertFalse(single.isDone());
+
+		// The batch isn't affected by changes made after it was submitted
+		wordForms[0] = "xyzzy";
+		for (Runnable task : tasks) {
+			task.run();
+		}
+		assertTrue(batch.isDone());
+		assertArrayEquals(wn.getSynsets("abridge", SynsetType.VERB), batch.get()[0]);
+		assertArrayEquals(wn.getSynsets("abridge"), single.get());
+	}
+
+	@Test
+	public void testDefaultExecutor() {
+		assertSame(AsyncWordNetDatabase.getDefaultExecutor(), async.getExecutor());
+		assertSame(AsyncWordNetDatabase.getDefaultExecutor(),
+				AsyncWordNetDatabase.getDefaultExecutor());
+	}
+
+	@Test
+	public void testNullArguments() {
+		try {
+			new AsyncWordNetDatabase(null);
+			fail("Null database accepted");
+		} catch (NullPointerException e) {
+		}
+		try {
+			new AsyncWordNetDatabase(wn, null);
+			fail("Null executor accepted");
+		} catch (NullPointerException e) {
+		}
+	}
+
+}
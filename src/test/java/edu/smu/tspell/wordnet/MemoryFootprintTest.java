@@ -0,0 +1,65 @@
+package edu.smu.tspell.wordnet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * Tests the totals kept by a memory footprint.
+ */
+public class MemoryFootprintTest {
+
+	@Test
+	public void testAdd() {
+		MemoryFootprint footprint = new MemoryFootprint();
+		footprint.add("synsets", 2, 100);
+		footprint.add("entries", 5, 40);
+		footprint.add("synsets", 1, 60);
+		assertArrayEquals(new String[] {"synsets", "entries"}, footprint.getComponents());
+		assertEquals(3, footprint.getObjectCount("synsets"));
+		assertEquals(160, footprint.getEstimatedBytes("synsets"));
+		assertEquals(5, footprint.getObjectCount("entries"));
+		assertEquals(40, footprint.getEstimatedBytes("entries"));
+		assertEquals(0, footprint.getObjectCount("unknown"));
+		assertEquals(0, footprint.getEstimatedBytes("unknown"));
+		assertEquals(8, footprint.getTotalObjectCount());
+		assertEquals(200, footprint.getTotalEstimatedBytes());
+	}
+
+	@Test
+	public void testOffHeapBytes() {
+		MemoryFootprint footprint = new MemoryFootprint();
+		footprint.add("synsets", 1, 10);
+		assertFalse(footprint.toString().contains("off-heap"));
+		footprint.addOffHeapBytes(1000);
+		footprint.addOffHeapBytes(24);
+		assertEquals(1024, footprint.getOffHeapBytes());
+		assertEquals(10, footprint.getTotalEstimatedBytes());
+		assertTrue(footprint.toString().contains("off-heap"));
+	}
+
+	@Test
+	public void testReport() {
+		MemoryFootprint footprint = new MemoryFootprint();
+		footprint.add("synsets", 3, 160);
+		footprint.add("entries", 5, 40);
+		String[] lines = footprint.toString().split("\\r?\\n");
+		assertEquals(3, lines.length);
+		assertTrue(lines[0], lines[0].matches("synsets +3 objects +160 bytes"));
+		assertTrue(lines[1], lines[1].matches("entries +5 objects +40 bytes"));
+		assertTrue(lines[2], lines[2].matches("total +8 objects +200 bytes"));
+	}
+
+	@Test
+	public void testEmpty() {
+		MemoryFootprint footprint = new MemoryFootprint();
+		assertEquals(0, footprint.getComponents().length);
+		assertEquals(0, footprint.getTotalObjectCount());
+		assertEquals(0, footprint.getTotalEstimatedBytes());
+		assertEquals(0, footprint.getOffHeapBytes());
+	}
+
+}
@@ -0,0 +1,150 @@
+package edu.smu.tspell.wordnet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.impl.DoubleMetaphone;
+import edu.smu.tspell.wordnet.impl.file.TextTranslator;
+
+/**
+ * Tests that the sound-alike lookups of the file database, which use its
+ * phonetic index, return the same results as the linear search that is
+ * inherited from <code>WordNetDatabase</code>.
+ */
+public class PhoneticLookupTest {
+
+	/**
+	 * Misspellings and names that are looked up in addition to a sample of
+	 * the word forms of the database.
+	 */
+	private static final String[] QUERIES = {"fonetik", "sykology", "filosofy", "nite",
+			"Thompson", "Smith", "Schmidt", "Jose", "Jankowski", "Focaccia", "Cabrillo",
+			"Michael", "Sugar", "san jacinto", "new_york", "", "123"};
+
+	private WordNetDatabase wn = null;
+
+	private WordNetDatabase linear = null;
+
+	@Before
+	public void setUp() {
+		wn = WordNetDatabase.getFileInstance();
+		linear = new LinearDatabase(wn);
+	}
+
+	@Test
+	public void testWordForms() {
+		for (String query : queries()) {
+			DoubleMetaphone metaphone = new DoubleMetaphone(
+					TextTranslator.translateToDatabaseFormat(query),
+					DoubleMetaphone.PACKED_MAX_LENGTH);
+			assertArrayEquals(query, linear.findWordFormsSoundingLike(metaphone),
+					wn.findWordFormsSoundingLike(metaphone));
+		}
+	}
+
+	@Test
+	public void testSynsets() {
+		for (String query : queries()) {
+			for (SynsetType type : new SynsetType[] {null, SynsetType.NOUN,
+					SynsetType.VERB}) {
+				assertArrayEquals(query + " " + type, linear.getSynsetsSoundingLike(query, type),
+						wn.getSynsetsSoundingLike(query, type));
+			}
+		}
+	}
+
+	@Test
+	public void testKnownMatches() {
+		List<String> phonetic = Arrays.asList(findWordForms("fonetik"));
+		assertTrue(phonetic.toString(), phonetic.contains("phonetic"));
+		List<String> schmidt = Arrays.asList(findWordForms("Schmidt"));
+		assertTrue(schmidt.toString(), schmidt.contains("smite"));
+		assertTrue(schmidt.toString(), schmidt.contains("smooth"));
+		assertEquals(0, findWordForms("").length);
+	}
+
+	@Test
+	public void testPrimaryKeyFirst() {
+		for (String query : QUERIES) {
+			DoubleMetaphone metaphone = new DoubleMetaphone(
+					TextTranslator.translateToDatabaseFormat(query),
+					DoubleMetaphone.PACKED_MAX_LENGTH);
+			String primaryKey = metaphone.getPrimaryKey();
+			boolean alternate = false;
+			for (String wordForm : wn.findWordFormsSoundingLike(metaphone)) {
+				DoubleMetaphone candidate = new DoubleMetaphone(wordForm,
+						DoubleMetaphone.PACKED_MAX_LENGTH);
+				assertTrue(wordForm, metaphone.soundsLike(candidate));
+				boolean primary = (primaryKey.equals(candidate.getPrimaryKey()) ||
+						primaryKey.equals(candidate.getAlternateKey()));
+				assertTrue(query + " " + wordForm, !primary || !alternate);
+				alternate = alternate || !primary;
+			}
+		}
+	}
+
+	/**
+	 * Returns the word forms of the database that sound like a text.
+	 */
+	private String[] findWordForms(String text) {
+		return wn.findWordFormsSoundingLike(new DoubleMetaphone(
+				TextTranslator.translateToDatabaseFormat(text),
+				DoubleMetaphone.PACKED_MAX_LENGTH));
+	}
+
+	/**
+	 * Returns the queries, which include every thousandth word form in the
+	 * database.
+	 */
+	private List<String> queries() {
+		List<String> queries = new ArrayList<String>(Arrays.asList(QUERIES));
+		List<String> wordForms = new ArrayList<String>(wn.allWordForms());
+		Collections.sort(wordForms);
+		for (int i = 0; i < wordForms.size(); i += 1000) {
+			queries.add(wordForms.get(i));
+		}
+		return queries;
+	}
+
+	/**
+	 * Database that delegates to another one but doesn't override the
+	 * sound-alike lookup, so that the word forms are searched linearly.
+	 */
+	private static class LinearDatabase extends WordNetDatabase {
+
+		private final WordNetDatabase database;
+
+		public LinearDatabase(WordNetDatabase database) {
+			this.database = database;
+		}
+
+		public Synset[] getSynsets(String wordForm, SynsetType type,
+				boolean useMorphology) {
+			return database.getSynsets(wordForm, type, useMorphology);
+		}
+
+		public String[] getBaseFormCandidates(String inflection, SynsetType type) {
+			return database.getBaseFormCandidates(inflection, type);
+		}
+
+		public Set<String> allWordForms() {
+			return database.allWordForms();
+		}
+
+		public Synset getSynsetWithSenseKey(String senseKey) {
+			return database.getSynsetWithSenseKey(senseKey);
+		}
+
+	}
+
+}
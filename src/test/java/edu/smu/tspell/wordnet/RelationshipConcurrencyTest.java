@@ -0,0 +1,169 @@
+package edu.smu.tspell.wordnet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Stress test for the lazy resolution of relationships: many threads
+ * request the relationships of the same synsets at the same time, and all
+ * of them must get the same resolved relationships. The arrays returned
+ * are copies, so the relationships are compared element by element.
+ */
+public class RelationshipConcurrencyTest {
+
+	private static final int THREAD_COUNT = 16;
+
+	private static final String[] WORDS = {
+		"pipe", "tube", "london", "dog", "cat", "run", "walk", "good",
+		"bad", "quickly", "light", "heavy", "break", "set", "fast"
+	};
+
+	private ExecutorService executor = null;
+
+	@Before
+	public void setUp() throws Exception {
+		executor = Executors.newFixedThreadPool(THREAD_COUNT);
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		executor.shutdownNow();
+		executor = null;
+	}
+
+	/**
+	 * Returns the synsets of the test words without resolving any of their
+	 * relationships.
+	 */
+	private static List<Synset> getSynsets(WordNetDatabase wn) {
+		List<Synset> synsets = new ArrayList<Synset>();
+		for (String word : WORDS) {
+			for (Synset synset : wn.getSynsets(word)) {
+				if (!synsets.contains(synset)) {
+					synsets.add(synset);
+				}
+			}
+		}
+		return synsets;
+	}
+
+	/**
+	 * Resolves the relationships of a synset, in the same order every time.
+	 */
+	private static void resolve(Synset synset, List<Object[]> results) {
+		if (synset instanceof NounSynset) {
+			NounSynset noun = (NounSynset) synset;
+			results.add(noun.getHypernyms());
+			results.add(noun.getHyponyms());
+			results.add(noun.getMemberMeronyms());
+			results.add(noun.getPartHolonyms());
+			results.add(noun.getTopics());
+		}
+		else if (synset instanceof VerbSynset) {
+			VerbSynset verb = (VerbSynset) synset;
+			results.add(verb.getHypernyms());
+			results.add(verb.getTroponyms());
+			results.add(verb.getEntailments());
+			results.add(verb.getOutcomes());
+		}
+		else if (synset instanceof AdjectiveSynset) {
+			AdjectiveSynset adjective = (AdjectiveSynset) synset;
+			results.add(adjective.getSimilar());
+			results.add(adjective.getAttributes());
+		}
+		for (String wordForm : synset.getWordForms()) {
+			results.add(synset.getAntonyms(wordForm));
+			results.add(synset.getDerivationallyRelatedForms(wordForm));
+		}
+	}
+
+	private static void assertSameElements(String message,
+			Object[] expected, Object[] actual) {
+		assertEquals(message, expected.length, actual.length);
+		for (int i = 0; i < expected.length; i++) {
+			assertSame(message, expected[i], actual[i]);
+		}
+	}
+
+	private void assertResolvedOnce(final List<Synset> synsets) throws Exception {
+		final CountDownLatch start = new CountDownLatch(1);
+		List<Future<List<Object[]>>> futures = new ArrayList<Future<List<Object[]>>>();
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			futures.add(executor.submit(new Callable<List<Object[]>>() {
+				public List<Object[]> call() throws Exception {
+					List<Object[]> results = new ArrayList<Object[]>();
+					start.await();
+					for (Synset synset : synsets) {
+						resolve(synset, results);
+					}
+					return results;
+				}
+			}));
+		}
+		start.countDown();
+
+		List<Object[]> expected = futures.get(0).get();
+		assertTrue(expected.size() > synsets.size());
+		for (Future<List<Object[]>> future : futures) {
+			List<Object[]> results = future.get();
+			assertEquals(expected.size(), results.size());
+			for (int i = 0; i < results.size(); i++) {
+				assertSameElements("Relationship " + i + " was published more than once",
+						expected.get(i), results.get(i));
+			}
+		}
+		// Reading the relationships again returns what was published
+		List<Object[]> results = new ArrayList<Object[]>();
+		for (Synset synset : synsets) {
+			resolve(synset, results);
+		}
+		for (int i = 0; i < results.size(); i++) {
+			assertSameElements("Relationship " + i + " changed",
+					expected.get(i), results.get(i));
+		}
+	}
+
+	@Test
+	public void testConcurrentLazyResolution() throws Exception {
+		assertResolvedOnce(getSynsets(WordNetDatabase.getLazyFileInstance()));
+	}
+
+	@Test
+	public void testConcurrentLoadedResolution() throws Exception {
+		assertResolvedOnce(getSynsets(WordNetDatabase.getFileInstance()));
+	}
+
+	@Test
+	public void testLoadedSynsetsCannotBeModified() throws Exception {
+		WordNetDatabase wn = WordNetDatabase.getFileInstance();
+		VerbSynset abridge = (VerbSynset) wn.getSynsets("abridge", SynsetType.VERB)[0];
+		VerbSynset[] hypernyms = abridge.getHypernyms();
+		assertTrue(hypernyms.length > 0);
+		hypernyms[0] = null;
+		assertEquals(hypernyms.length, abridge.getHypernyms().length);
+		assertTrue(abridge.getHypernyms()[0] != null);
+
+		String[] templates = abridge.getSentenceTemplates("abridge");
+		assertEquals(Arrays.asList("They won't abridge the story"),
+				Arrays.asList(templates));
+		for (int i = 0; i < 3; i++) {
+			assertEquals(Arrays.asList(templates),
+					Arrays.asList(abridge.getSentenceTemplates("abridge")));
+		}
+	}
+
+}
@@ -0,0 +1,87 @@
+package edu.smu.tspell.wordnet;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.lang.ProcessBuilder.Redirect;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+
+/**
+ * Runs the main method of a class in a separate JVM. The configuration of
+ * the database is read once per JVM and the singletons that hold the
+ * loaded data can't be unloaded, so tests of a different configuration or
+ * of the load itself run their scenario in a JVM of its own and check what
+ * it printed.
+ * <p>
+ * The separate JVM uses the same class path and inherits the
+ * <code>wordnet.*</code> system properties of this one, which the
+ * properties passed to {@link #run(Class, String[], String...)} override.
+ * A scenario fails by throwing from its main method.
+ */
+public class SeparateJvm {
+
+	/**
+	 * Encoding of the output of the separate JVM.
+	 */
+	private static final String ENCODING = "UTF-8";
+
+	/**
+	 * Runs the main method of a class in a separate JVM, failing unless it
+	 * completes normally.
+	 *
+	 * @param mainClass Class whose main method is run.
+	 * @param properties System properties to set, each as "name=value".
+	 * @param args Arguments passed to the main method.
+	 * @return What the main method printed through {@link #getOutput()}.
+	 */
+	public static String run(Class<?> mainClass, String[] properties, String... args)
+			throws IOException, InterruptedException {
+		List<String> command = new ArrayList<String>();
+		command.add(System.getProperty("java.home") + File.separator + "bin" +
+				File.separator + "java");
+		command.add("-Xmx1g");
+		command.add("-cp");
+		command.add(System.getProperty("java.class.path"));
+		for (String name : System.getProperties().stringPropertyNames()) {
+			if (name.startsWith("wordnet.")) {
+				command.add("-D" + name + "=" + System.getProperty(name));
+			}
+		}
+		for (String property : properties) {
+			command.add("-D" + property);
+		}
+		command.add(mainClass.getName());
+		for (String arg : args) {
+			command.add(arg);
+		}
+		ProcessBuilder builder = new ProcessBuilder(command);
+		builder.redirectError(Redirect.INHERIT);
+		Process process = builder.start();
+		process.getOutputStream().close();
+		String output;
+		try {
+			output = IOUtils.toString(process.getInputStream(), ENCODING);
+		} finally {
+			process.getInputStream().close();
+		}
+		assertEquals(mainClass.getName() + " exit code", 0, process.waitFor());
+		return output;
+	}
+
+	/**
+	 * Returns the stream through which a scenario running in a separate JVM
+	 * prints what the test checks.
+	 *
+	 * @return Standard output in the encoding that the test reads.
+	 */
+	public static PrintStream getOutput() throws UnsupportedEncodingException {
+		return new PrintStream(System.out, true, ENCODING);
+	}
+
+}
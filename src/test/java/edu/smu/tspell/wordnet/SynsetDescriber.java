@@ -0,0 +1,202 @@
+package edu.smu.tspell.wordnet;
+
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Describes synsets in a form that doesn't depend on how the database was
+ * loaded, so that databases loaded with different configurations can be
+ * compared. The description of a synset includes the result of every
+ * method of the synset interfaces it implements, called with each of its
+ * word forms if the method accepts one; related synsets are summarized by
+ * their type, word forms and definition.
+ * <p>
+ * The main method prints the description of a sample of the word forms so
+ * that a database configured in a separate JVM (see {@link SeparateJvm})
+ * can be compared with the one in the JVM running the test. Its arguments
+ * are "eager" or "lazy", which selects the file-based database, and the
+ * interval at which word forms are sampled.
+ */
+public class SynsetDescriber {
+
+	/**
+	 * Interfaces whose methods are included in the descriptions.
+	 */
+	private static final Class<?>[] INTERFACES = {Synset.class, NounSynset.class,
+			VerbSynset.class, AdjectiveSynset.class, AdjectiveSatelliteSynset.class,
+			AdverbSynset.class};
+
+	/**
+	 * Word forms that are always part of the sample.
+	 */
+	private static final String[] WORD_FORMS = {"be", "abridge", "run", "good",
+			"fast", "well", "pipe", "dog", "london", "quickly"};
+
+	public static void main(String[] args) throws Exception {
+		WordNetDatabase wn = (args[0].equals("lazy") ?
+				WordNetDatabase.getLazyFileInstance() :
+				WordNetDatabase.getFileInstance());
+		PrintStream output = SeparateJvm.getOutput();
+		output.print(describeSample(wn, Integer.parseInt(args[1])));
+		output.flush();
+	}
+
+	/**
+	 * Returns the word forms that are described: a few common ones and every
+	 * word form of the database at a regular interval.
+	 *
+	 * @param wn Database whose word forms are sampled.
+	 * @param step Interval at which the word forms are sampled.
+	 * @return Sampled word forms.
+	 */
+	public static List<String> getSample(WordNetDatabase wn, int step) {
+		List<String> sample = new ArrayList<String>(Arrays.asList(WORD_FORMS));
+		int i = 0;
+		for (String wordForm : wn.allWordForms()) {
+			if (i++ % step == 0) {
+				sample.add(wordForm);
+			}
+		}
+		return sample;
+	}
+
+	/**
+	 * Describes the synsets of each word form in a sample of the database.
+	 *
+	 * @param wn Database whose synsets are described.
+	 * @param step Interval at which the word forms are sampled.
+	 * @return Description of the synsets of the sampled word forms.
+	 */
+	public static String describeSample(WordNetDatabase wn, int step) {
+		StringBuilder description = new StringBuilder();
+		for (String wordForm : getSample(wn, step)) {
+			description.append(describe(wn, wordForm));
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Describes the synsets of a word form in the order in which the
+	 * database returns them.
+	 *
+	 * @param wn Database whose synsets are described.
+	 * @param wordForm Word form whose synsets are described.
+	 * @return Description of the synsets.
+	 */
+	public static String describe(WordNetDatabase wn, String wordForm) {
+		StringBuilder description = new StringBuilder();
+		description.append("== ").append(wordForm).append('\n');
+		for (Synset synset : wn.getSynsets(wordForm, null, false)) {
+			description.append(describe(synset));
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Describes a synset, including its relationships.
+	 *
+	 * @param synset Synset to describe.
+	 * @return Description of the synset.
+	 */
+	public static String describe(Synset synset) {
+		StringBuilder description = new StringBuilder();
+		description.append(summarize(synset)).append('\n');
+		description.append("  examples ")
+				.append(Arrays.toString(synset.getUsageExamples())).append('\n');
+		TreeMap<String, Method> methods = new TreeMap<String, Method>();
+		for (Class<?> type : INTERFACES) {
+			if (type.isInstance(synset)) {
+				for (Method method : type.getDeclaredMethods()) {
+					methods.put(method.getName() +
+							Arrays.toString(method.getParameterTypes()), method);
+				}
+			}
+		}
+		for (Method method : methods.values()) {
+			Class<?>[] parameters = method.getParameterTypes();
+			if (parameters.length == 0) {
+				describe(description, synset, method, null);
+			} else if ((parameters.length == 1) && (parameters[0] == String.class)) {
+				for (String wordForm : synset.getWordForms()) {
+					describe(description, synset, method, wordForm);
+				}
+			}
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Adds the result of calling a method of a synset to its description.
+	 */
+	private static void describe(StringBuilder description, Synset synset,
+			Method method, String wordForm) {
+		description.append("  ").append(method.getName());
+		Object[] args = new Object[0];
+		if (wordForm != null) {
+			description.append('(').append(wordForm).append(')');
+			args = new Object[] {wordForm};
+		}
+		description.append(' ');
+		try {
+			Object result = method.invoke(synset, args);
+			if (result instanceof Synset[]) {
+				List<String> summaries = new ArrayList<String>();
+				for (Synset related : (Synset[]) result) {
+					summaries.add(summarize(related));
+				}
+				description.append(summaries);
+			} else if (result instanceof WordSense[]) {
+				List<String> summaries = new ArrayList<String>();
+				for (WordSense sense : (WordSense[]) result) {
+					summaries.add(summarize(sense));
+				}
+				description.append(summaries);
+			} else if (result instanceof WordSense) {
+				description.append(summarize((WordSense) result));
+			} else if (result instanceof Synset) {
+				description.append(summarize((Synset) result));
+			} else if (result instanceof String[]) {
+				description.append(Arrays.toString((String[]) result));
+			} else if (result instanceof SynsetType) {
+				description.append(((SynsetType) result).getCode());
+			} else {
+				description.append(result);
+			}
+		} catch (InvocationTargetException e) {
+			description.append("threw ").append(e.getCause());
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(e);
+		}
+		description.append('\n');
+	}
+
+	/**
+	 * Summarizes a synset by its type, word forms and definition.
+	 *
+	 * @param synset Synset to summarize, or <code>null</code>.
+	 * @return Summary of the synset.
+	 */
+	public static String summarize(Synset synset) {
+		if (synset == null) {
+			return "null";
+		}
+		return synset.getType().getCode() + " " +
+				Arrays.toString(synset.getWordForms()) + " " + synset.getDefinition();
+	}
+
+	/**
+	 * Summarizes a word sense by its word form and synset.
+	 */
+	private static String summarize(WordSense sense) {
+		if (sense == null) {
+			return "null";
+		}
+		return sense.getWordForm() + " in " + summarize(sense.getSynset());
+	}
+
+}
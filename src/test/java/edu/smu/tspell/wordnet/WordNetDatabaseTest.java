@@ -2,6 +2,10 @@ package edu.smu.tspell.wordnet;
 
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
+import java.util.Set;
+import java.util.SortedSet;
+
 import org.junit.After;
 import org.junit.AfterClass;
 import org.junit.Before;
@@ -125,4 +129,90 @@ public class WordNetDatabaseTest {
 		assertEquals(dog, synsetBySense);
 	}
 
+	@Test
+	public void testAllWordFormsSorted() {
+		Set<String> wordForms = wn.allWordForms();
+		assertTrue(wordForms instanceof SortedSet);
+		assertTrue(wordForms.contains("pipe"));
+		assertFalse(wordForms.contains("pipex"));
+		String previous = null;
+		int count = 0;
+		for (String wordForm : wordForms) {
+			if (previous != null) {
+				assertTrue(previous.compareTo(wordForm) < 0);
+			}
+			previous = wordForm;
+			count++;
+		}
+		assertEquals(wordForms.size(), count);
+		SortedSet<String> range = ((SortedSet<String>) wordForms).subSet("pip", "piq");
+		assertTrue(range.contains("pipe"));
+		assertFalse(range.contains("dog"));
+		for (String wordForm : range) {
+			assertTrue(wordForm.startsWith("pip"));
+		}
+	}
+
+	@Test
+	public void testWordFormSearch() {
+		String[] wordForms = wn.getWordFormsWithPrefix("pip", SynsetType.VERB, 10);
+		assertTrue(wordForms.length > 0 && wordForms.length <= 10);
+		for (String wordForm : wordForms) {
+			assertTrue(wordForm.startsWith("pip"));
+		}
+		assertEquals(1, wn.getWordFormsWithPrefix("pip", null, 1).length);
+		assertEquals(0, wn.getWordFormsWithPrefix("pipx", null, 10).length);
+		for (String wordForm : wn.getWordFormsMatching("*ing*", null, 20)) {
+			assertTrue(wordForm.indexOf("ing") >= 0);
+		}
+		for (String wordForm : wn.getWordFormsMatching("ab?i*", null, 20)) {
+			assertTrue(wordForm.startsWith("ab") && wordForm.charAt(3) == 'i');
+		}
+	}
+
+	@Test
+	public void testWordFormSearchMatchesLinearScan() {
+		WordNetDatabase lazy = WordNetDatabase.getLazyFileInstance();
+		String[] patterns = {"pip*", "*a", "*ing", "*ing*", "ab?i*"};
+		SynsetType[] types = {null, SynsetType.VERB, SynsetType.ADVERB};
+		int[] limits = {1, 10, 1000};
+		for (String pattern : patterns) {
+			for (SynsetType type : types) {
+				for (int limit : limits) {
+					assertEquals(pattern + " " + type + " " + limit,
+							Arrays.asList(lazy.getWordFormsMatching(pattern, type, limit)),
+							Arrays.asList(wn.getWordFormsMatching(pattern, type, limit)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testSynsetsFuzzy() {
+		assertEquals(0, wn.getSynsetsFuzzy("abrige", 0, SynsetType.VERB).length);
+		Synset[] synsets = wn.getSynsetsFuzzy("abrige", 1, SynsetType.VERB);
+		assertTrue(synsets.length > 0);
+		assertTrue(Arrays.asList(synsets[0].getWordForms()).contains("abridge"));
+		Synset[] exact = wn.getSynsets("abridge", SynsetType.VERB, false);
+		assertEquals(exact.length, synsets.length);
+		assertTrue(wn.getSynsetsFuzzy("abrige", 2, null).length >= synsets.length);
+		try {
+			wn.getSynsetsFuzzy("abrige", -1, null);
+			fail("Negative number of edits accepted");
+		} catch (IllegalArgumentException e) {
+		}
+	}
+
+	@Test
+	public void testSynsetsSoundingLike() {
+		Synset[] synsets = wn.getSynsetsSoundingLike("abrij", SynsetType.VERB);
+		assertTrue(synsets.length > 0);
+		assertTrue(Arrays.asList(synsets[0].getWordForms()).contains("abridge"));
+		for (Synset synset : synsets) {
+			assertEquals(SynsetType.VERB, synset.getType());
+		}
+		assertTrue(wn.getSynsetsSoundingLike("abrij", null).length >= synsets.length);
+		assertEquals(0, wn.getSynsetsSoundingLike("", null).length);
+	}
+
 }
@@ -0,0 +1,201 @@
+package edu.smu.tspell.wordnet.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+/**
+ * Tests the Double Metaphone keys against those of the reference
+ * implementation of the algorithm.
+ */
+public class DoubleMetaphoneTest {
+
+	@Test
+	public void testKeys() {
+		checkKeys("Thompson", "TMPS", "TMPS");
+		checkKeys("Smith", "SM0", "XMT");
+		checkKeys("Schmidt", "XMT", "SMT");
+		checkKeys("thomas", "TMS", "TMS");
+		checkKeys("thames", "TMS", "TMS");
+		checkKeys("Van Thomas", "FNTM", "FNTM");
+		checkKeys("Thumb", "0M", "TM");
+		checkKeys("Dumb", "TM", "TM");
+		checkKeys("Campbell", "KMPL", "KMPL");
+		checkKeys("Knight", "NT", "NT");
+		checkKeys("Wright", "RT", "RT");
+		checkKeys("Caesar", "SSR", "SSR");
+		checkKeys("Orchestra", "ARKS", "ARKS");
+		checkKeys("Accident", "AKST", "AKST");
+		checkKeys("Mcclellan", "MKLL", "MKLL");
+		checkKeys("Hochmeier", "HKMR", "HKMR");
+		checkKeys("Schooner", "SKNR", "SKNR");
+		checkKeys("Ghislane", "JLN", "JLN");
+		checkKeys("Hugh", "H", "H");
+		checkKeys("Laugh", "LF", "LF");
+		checkKeys("Edge", "AJ", "AJ");
+		checkKeys("Breaux", "PR", "PR");
+		checkKeys("Zhao", "J", "J");
+	}
+
+	@Test
+	public void testAlternateKeys() {
+		checkKeys("Michael", "MKL", "MXL");
+		checkKeys("Sugar", "XKR", "SKR");
+		checkKeys("Xavier", "SF", "SFR");
+		checkKeys("Arnow", "ARN", "ARNF");
+		checkKeys("Arnoff", "ARNF", "ARNF");
+		checkKeys("Gerald", "KRLT", "JRLT");
+		checkKeys("Ginger", "KNKR", "JNJR");
+		checkKeys("Manger", "MNJR", "MNKR");
+		checkKeys("Agnes", "AKNS", "ANS");
+		checkKeys("Schlesinger", "XLSN", "SLSN");
+		checkKeys("Schenker", "XNKR", "SKNK");
+		checkKeys("Asia", "AS", "AX");
+		checkKeys("Mazza", "MS", "MTS");
+	}
+
+	@Test
+	public void testSlavoGermanic() {
+		checkKeys("Jankowski", "JNKS", "ANKF");
+		checkKeys("Filipowicz", "FLPT", "FLPF");
+		checkKeys("Horowitz", "HRTS", "HRFX");
+		checkKeys("Czerny", "SRN", "XRN");
+		checkKeys("Zizka", "SSK", "STSK");
+
+		//  A W or K in the text suppresses the Romance pronunciations
+		checkKeys("Wagnes", "AKNS", "FKNS");
+		checkKeys("Kasia", "KS", "KS");
+		checkKeys("Kagliaro", "KKLR", "KKLR");
+		checkKeys("Kogier", "KJR", "KJR");
+		checkKeys("Wajador", "AJTR", "FJTR");
+	}
+
+	@Test
+	public void testSpanish() {
+		checkKeys("Jose", "HS", "HS");
+		checkKeys("jose luis", "HSLS", "HSLS");
+		checkKeys("San Jacinto", "SNHS", "SNHS");
+		checkKeys("Bajador", "PJTR", "PHTR");
+		checkKeys("Jalapeno", "JLPN", "ALPN");
+		checkKeys("Cabrillo", "KPRL", "KPR");
+		checkKeys("Gallegos", "KLKS", "KKS");
+	}
+
+	@Test
+	public void testItalian() {
+		checkKeys("Focaccia", "FKX", "FKX");
+		checkKeys("Bellocchio", "PLX", "PLX");
+		checkKeys("Bacchus", "PKS", "PKS");
+		checkKeys("Bacci", "PX", "PX");
+		checkKeys("Bertucci", "PRTX", "PRTX");
+		checkKeys("Vecchio", "FX", "FX");
+		checkKeys("Gnocchi", "NX", "NX");
+		checkKeys("Biaggi", "PJ", "PK");
+		checkKeys("Tagliaro", "TKLR", "TLR");
+		checkKeys("Ghiradelli", "JRTL", "JRTL");
+		checkKeys("Ciao", "S", "X");
+		checkKeys("Cielo", "SL", "XL");
+		checkKeys("Rogier", "RJ", "RJR");
+	}
+
+	@Test
+	public void testMaxLength() {
+		checkKeys("Thompson", 8, "TMPSN", "TMPSN");
+		checkKeys("Schmidt", 8, "XMT", "SMT");
+		checkKeys("Jankowski", 8, "JNKSK", "ANKFSK");
+		checkKeys("San Jacinto", 8, "SNHSNT", "SNHSNT");
+		checkKeys("Filipowicz", 8, "FLPTS", "FLPFX");
+		checkKeys("Cabrillo", 8, "KPRL", "KPR");
+		checkKeys("Jankowski", 1, "J", "A");
+		for (int maxLength : new int[] {0, -1}) {
+			try {
+				new DoubleMetaphone("Thompson", maxLength);
+				fail("Invalid maximum length accepted: " + maxLength);
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testSeparators() {
+		assertEquals("HSLS/HSLS", keysOf(new DoubleMetaphone("jose_luis")));
+		assertEquals("SNHS", new DoubleMetaphone("san_jacinto").getPrimaryKey());
+		assertEquals("SMT", new DoubleMetaphone("schmidt").getAlternateKey());
+	}
+
+	@Test
+	public void testEmpty() {
+		for (String text : new String[] {"", "123", " "}) {
+			DoubleMetaphone metaphone = new DoubleMetaphone(text);
+			assertEquals(text, "", metaphone.getPrimaryKey());
+			assertEquals(text, "", metaphone.getAlternateKey());
+			assertFalse(text, metaphone.soundsLike(metaphone));
+		}
+	}
+
+	@Test
+	public void testSoundsLike() {
+		assertTrue(new DoubleMetaphone("Smith").soundsLike(new DoubleMetaphone("Schmidt")));
+		assertTrue(new DoubleMetaphone("Schmidt").soundsLike(new DoubleMetaphone("Smith")));
+		assertTrue(new DoubleMetaphone("phonetic").soundsLike(new DoubleMetaphone("fonetik")));
+		assertTrue(new DoubleMetaphone("Arnow").soundsLike(new DoubleMetaphone("Arnoff")));
+		assertFalse(new DoubleMetaphone("Thompson").soundsLike(new DoubleMetaphone("Smith")));
+		assertFalse(new DoubleMetaphone("Smith").soundsLike(new DoubleMetaphone("")));
+	}
+
+	@Test
+	public void testPack() {
+		assertEquals(0, DoubleMetaphone.pack(""));
+		assertEquals(1, DoubleMetaphone.pack("0"));
+		assertEquals(0xE, DoubleMetaphone.pack("X"));
+		assertEquals(0x6C, DoubleMetaphone.pack("KS"));
+		assertTrue(DoubleMetaphone.pack("TMPS") != DoubleMetaphone.pack("TMP"));
+		assertTrue(DoubleMetaphone.pack("AKST") != DoubleMetaphone.pack("KST"));
+		String longest = "XXXXXXXXXXXXXXXX";
+		assertEquals(DoubleMetaphone.PACKED_MAX_LENGTH, longest.length());
+		assertEquals(0xEEEEEEEEEEEEEEEEL, DoubleMetaphone.pack(longest));
+		for (String key : new String[] {longest + "X", "TMB", "tm", "T M"}) {
+			try {
+				DoubleMetaphone.pack(key);
+				fail("Invalid key accepted: " + key);
+			} catch (IllegalArgumentException e) {
+			}
+		}
+	}
+
+	@Test
+	public void testToString() {
+		assertEquals("TMPS", new DoubleMetaphone("Thompson").toString());
+		assertEquals("XMT/SMT", new DoubleMetaphone("Schmidt").toString());
+		assertEquals("", new DoubleMetaphone("").toString());
+	}
+
+	/**
+	 * Checks the keys of a text computed with the default maximum length.
+	 */
+	private static void checkKeys(String text, String primaryKey, String alternateKey) {
+		checkKeys(text, DoubleMetaphone.DEFAULT_MAX_LENGTH, primaryKey, alternateKey);
+	}
+
+	/**
+	 * Checks the keys of a text computed with a maximum length.
+	 */
+	private static void checkKeys(String text, int maxLength, String primaryKey,
+			String alternateKey) {
+		DoubleMetaphone metaphone = new DoubleMetaphone(text, maxLength);
+		assertEquals(text, primaryKey + "/" + alternateKey, keysOf(metaphone));
+		assertEquals(text, keysOf(metaphone), keysOf(new DoubleMetaphone(
+				text.toUpperCase(), maxLength)));
+	}
+
+	/**
+	 * Returns both keys, separated by a slash.
+	 */
+	private static String keysOf(DoubleMetaphone metaphone) {
+		return metaphone.getPrimaryKey() + "/" + metaphone.getAlternateKey();
+	}
+
+}
@@ -0,0 +1,214 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.VerbSynset;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+
+/**
+ * Tests the staged load of the file-based database. Each scenario loads the
+ * database from scratch, so it runs in a separate JVM.
+ */
+public class DatabaseInitializationTest {
+
+	@Test
+	public void testStages() throws Exception {
+		SeparateJvm.run(Stages.class, new String[0]);
+	}
+
+	@Test
+	public void testStagesWithParallelLoad() throws Exception {
+		SeparateJvm.run(Stages.class, new String[] {"wordnet.database.loadThreads=4"});
+	}
+
+	@Test
+	public void testCancelAndRestart() throws Exception {
+		SeparateJvm.run(Cancel.class, new String[0], "blocked");
+	}
+
+	@Test
+	public void testCancelParallelLoadAndRestart() throws Exception {
+		SeparateJvm.run(Cancel.class,
+				new String[] {"wordnet.database.loadThreads=2"}, "immediate");
+	}
+
+	/**
+	 * Checks that the word forms loaded so far can be looked up before the
+	 * first level is reached, while most synsets haven't been parsed yet,
+	 * and that each level is reached in turn.
+	 */
+	public static class Stages {
+
+		public static void main(String[] args) throws Exception {
+			final CountDownLatch started = new CountDownLatch(1);
+			final CountDownLatch resume = new CountDownLatch(1);
+			final List<ReadinessLevel> reached =
+					Collections.synchronizedList(new ArrayList<ReadinessLevel>());
+			DatabaseInitialization initialization =
+					DatabaseInitialization.start(new InitializationListener() {
+				public void progressed(ReadinessLevel stage, int completed, int total) {
+					if (stage == ReadinessLevel.EXACT_LOOKUP) {
+						started.countDown();
+						try {
+							resume.await();
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				}
+
+				public void levelReached(ReadinessLevel level) {
+					reached.add(level);
+				}
+			});
+			started.await();
+
+			// The most frequent word forms are loaded first
+			WordNetDatabase wn = WordNetDatabase.getFileInstance();
+			assertSame(ReadinessLevel.NONE, initialization.getReadinessLevel());
+			int parsed = SynsetFactory.getInstance().getCachedSynsets().size();
+			int total = ParallelLoader.getSynsetPointers(
+					SenseIndexReader.getInstance().getSenseIndexEntryIterator()).length;
+			assertTrue(parsed + " of " + total + " synsets parsed", parsed < total / 2);
+			Synset[] during = wn.getSynsets("be", SynsetType.VERB, false);
+			assertTrue(during.length > 0);
+			assertSame(ReadinessLevel.NONE, initialization.getReadinessLevel());
+			resume.countDown();
+
+			assertSame(wn, initialization.awaitReadiness(ReadinessLevel.EXACT_LOOKUP));
+			assertTrue(initialization.getReadinessLevel().isAtLeast(ReadinessLevel.EXACT_LOOKUP));
+			assertEquals(Arrays.asList(during),
+					Arrays.asList(wn.getSynsets("be", SynsetType.VERB, false)));
+
+			initialization.awaitReadiness(ReadinessLevel.MORPHOLOGY);
+			assertTrue(initialization.getReadinessLevel().isAtLeast(ReadinessLevel.MORPHOLOGY));
+			Synset[] abridge = wn.getSynsets("abridge", SynsetType.VERB, false);
+			assertTrue(abridge.length > 0);
+			assertEquals(Arrays.asList(abridge),
+					Arrays.asList(wn.getSynsets("abridged", SynsetType.VERB, true)));
+
+			initialization.awaitReadiness(ReadinessLevel.RELATIONS);
+			assertSame(ReadinessLevel.RELATIONS, initialization.getReadinessLevel());
+			assertHypernymsLinked(wn, (VerbSynset) abridge[0]);
+			assertSame(wn, initialization.get());
+			assertEquals(Arrays.asList(ReadinessLevel.LOAD_STAGES), reached);
+		}
+
+	}
+
+	/**
+	 * Cancels the load and checks that the next one parses the synsets
+	 * again. The load is cancelled either while the listener blocks it
+	 * after the first word forms were loaded or while the synsets are
+	 * being parsed concurrently.
+	 */
+	public static class Cancel {
+
+		public static void main(String[] args) throws Exception {
+			boolean blocked = args[0].equals("blocked");
+			final CountDownLatch started = new CountDownLatch(1);
+			InitializationListener listener = new InitializationListener() {
+				public void progressed(ReadinessLevel stage, int completed, int total) {
+					started.countDown();
+					try {
+						Thread.sleep(Long.MAX_VALUE);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				public void levelReached(ReadinessLevel level) {
+				}
+			};
+			DatabaseInitialization initialization =
+					DatabaseInitialization.start(blocked ? listener : null);
+			WordNetDatabase wn = WordNetDatabase.getFileInstance();
+			Synset[] before = null;
+			if (blocked) {
+				started.await();
+				before = wn.getSynsets("be", SynsetType.VERB, false);
+				assertTrue(before.length > 0);
+			} else {
+				while (!isParsingSynsets()) {
+					Thread.sleep(1);
+				}
+			}
+
+			assertTrue(initialization.cancel(true));
+			try {
+				initialization.awaitReadiness(ReadinessLevel.EXACT_LOOKUP);
+				fail("Cancelled load reached a level");
+			} catch (CancellationException e) {
+			}
+
+			DatabaseInitialization restart = DatabaseInitialization.start(null);
+			assertSame(wn, restart.get());
+			assertSame(ReadinessLevel.RELATIONS, restart.getReadinessLevel());
+			Synset[] after = wn.getSynsets("be", SynsetType.VERB, false);
+			assertTrue(after.length > 0);
+			if (blocked) {
+				assertEquals(before.length, after.length);
+				for (int i = 0; i < after.length; i++) {
+					assertNotSame(before[i], after[i]);
+					assertEquals(before[i].getDefinition(), after[i].getDefinition());
+					assertEquals(before[i].getTagCount("be"), after[i].getTagCount("be"));
+				}
+			}
+			for (Synset synset : after) {
+				assertSame(synset, wn.getSynsetWithSenseKey(synset.getSenseKeys()[0]));
+			}
+			assertHypernymsLinked(wn,
+					(VerbSynset) wn.getSynsets("abridge", SynsetType.VERB)[0]);
+		}
+
+	}
+
+	/**
+	 * Indicates whether a thread is parsing synsets for the parallel loader.
+	 */
+	static boolean isParsingSynsets() {
+		for (StackTraceElement[] stack : Thread.getAllStackTraces().values()) {
+			for (StackTraceElement element : stack) {
+				if (element.getClassName().endsWith("ParallelLoader$SynsetTask")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks that the hypernyms of a synset are the synsets returned by
+	 * lookups of their word forms.
+	 */
+	static void assertHypernymsLinked(WordNetDatabase wn, VerbSynset synset) {
+		VerbSynset[] hypernyms = synset.getHypernyms();
+		assertTrue(hypernyms.length > 0);
+		for (VerbSynset hypernym : hypernyms) {
+			List<Synset> synsets = Arrays.asList(
+					wn.getSynsets(hypernym.getWordForms()[0], SynsetType.VERB, false));
+			boolean found = false;
+			for (Synset candidate : synsets) {
+				found |= (candidate == hypernym);
+			}
+			assertTrue(hypernym + " not shared with lookups", found);
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.MemoryFootprint;
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.VerbSynset;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+
+/**
+ * Tests the memory footprint reported by the file-based databases and its
+ * monitoring through JMX.
+ */
+public class FootprintMonitorTest {
+
+	/**
+	 * Components that the loaded database must report.
+	 */
+	private static final String[] LOADED_COMPONENTS = {"lemmaIndex", "lemmaAutomaton",
+			"lemmaDictionary", "senseIndex.entries", "senseIndex.satellites",
+			"synsetCache", "relationshipReferences", "exampleSentences", "morphology"};
+
+	/**
+	 * Components that hold the synsets of each type.
+	 */
+	private static final String[] SYNSET_COMPONENTS = {"synsets.noun", "synsets.verb",
+			"synsets.adjective", "synsets.adverb", "synsets.adjectiveSatellite"};
+
+	@Test
+	public void testFileDatabase() {
+		WordNetDatabase wn = WordNetDatabase.getFileInstance();
+		//  The sentence frames of a verb are resolved when they're first read
+		VerbSynset verb = (VerbSynset) wn.getSynsets("abridge", SynsetType.VERB)[0];
+		assertTrue(verb.getSentenceFrames().length > 0);
+		MemoryFootprint footprint = wn.getMemoryFootprint();
+		List<String> components = Arrays.asList(footprint.getComponents());
+		long objectCount = 0;
+		long estimatedBytes = 0;
+		for (String component : components) {
+			objectCount += footprint.getObjectCount(component);
+			estimatedBytes += footprint.getEstimatedBytes(component);
+		}
+		List<String> expected = new ArrayList<String>(Arrays.asList(LOADED_COMPONENTS));
+		expected.addAll(Arrays.asList(SYNSET_COMPONENTS));
+		for (String component : expected) {
+			assertTrue(component, components.contains(component));
+			assertTrue(component, footprint.getObjectCount(component) > 0);
+			assertTrue(component, footprint.getEstimatedBytes(component) > 0);
+		}
+		assertEquals(objectCount, footprint.getTotalObjectCount());
+		assertEquals(estimatedBytes, footprint.getTotalEstimatedBytes());
+
+		//  Each synset is counted once, by its type
+		long synsetCount = 0;
+		for (String component : SYNSET_COMPONENTS) {
+			synsetCount += footprint.getObjectCount(component);
+		}
+		assertEquals(footprint.getObjectCount("synsetCache"), synsetCount);
+		assertEquals(synsetCount, footprint.getObjectCount("relationshipReferences"));
+	}
+
+	@Test
+	public void testLazyDatabase() {
+		WordNetDatabase lazy = WordNetDatabase.getLazyFileInstance();
+		assertTrue(lazy.getSynsets("abridge", SynsetType.VERB).length > 0);
+		MemoryFootprint footprint = lazy.getMemoryFootprint();
+		List<String> components = Arrays.asList(footprint.getComponents());
+		assertTrue(components.contains("synsetCache"));
+		assertTrue(footprint.getObjectCount("synsetCache") > 0);
+		assertTrue(footprint.getEstimatedBytes("synsetCache") > 0);
+		assertTrue(footprint.getObjectCount("synsets.verb") > 0);
+		assertFalse(components.contains("lemmaIndex"));
+		assertFalse(components.contains("senseIndex.entries"));
+	}
+
+	@Test
+	public void testMonitor() {
+		WordNetDatabase wn = WordNetDatabase.getFileInstance();
+		FootprintMonitor monitor = new FootprintMonitor(wn);
+		assertEquals(0, monitor.getComponents().length);
+		assertEquals(0, monitor.getTotalObjectCount());
+
+		monitor.refresh();
+		MemoryFootprint footprint = wn.getMemoryFootprint();
+		String[] components = monitor.getComponents();
+		assertArrayEquals(footprint.getComponents(), components);
+		long[] objectCounts = monitor.getObjectCounts();
+		long[] estimatedBytes = monitor.getEstimatedBytes();
+		assertEquals(components.length, objectCounts.length);
+		assertEquals(components.length, estimatedBytes.length);
+		for (int i = 0; i < components.length; i++) {
+			assertEquals(components[i], footprint.getObjectCount(components[i]),
+					objectCounts[i]);
+			assertEquals(components[i], footprint.getEstimatedBytes(components[i]),
+					estimatedBytes[i]);
+		}
+		assertEquals(footprint.getTotalObjectCount(), monitor.getTotalObjectCount());
+		assertEquals(footprint.getTotalEstimatedBytes(), monitor.getTotalEstimatedBytes());
+		assertEquals(footprint.getOffHeapBytes(), monitor.getOffHeapBytes());
+		assertEquals(footprint.toString(), monitor.getReport());
+	}
+
+	@Test
+	public void testRegisteredMonitor() throws Exception {
+		String components = SeparateJvm.run(RegisteredMonitor.class,
+				new String[] {"wordnet.database.jmx=true"});
+		List<String> expected = new ArrayList<String>(Arrays.asList(LOADED_COMPONENTS));
+		expected.addAll(Arrays.asList(SYNSET_COMPONENTS));
+		Collections.sort(expected);
+		assertEquals(expected.toString(), components);
+	}
+
+	/**
+	 * Checks that the monitors of both databases are registered when JMX is
+	 * enabled and that they only measure the footprint when they're
+	 * refreshed, and prints the components reported by the monitor of the
+	 * file database, in sorted order.
+	 */
+	public static class RegisteredMonitor {
+
+		public static void main(String[] args) throws Exception {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			ObjectName file = new ObjectName(
+					"edu.smu.tspell.wordnet:type=MemoryFootprint,name=file");
+			ObjectName lazyFile = new ObjectName(
+					"edu.smu.tspell.wordnet:type=MemoryFootprint,name=lazyFile");
+			WordNetDatabase wn = WordNetDatabase.getFileInstance();
+			((VerbSynset) wn.getSynsets("abridge", SynsetType.VERB)[0]).getSentenceFrames();
+			WordNetDatabase.getLazyFileInstance().getSynsets("abridge");
+			assertTrue(server.isRegistered(file));
+			assertTrue(server.isRegistered(lazyFile));
+			assertEquals(Long.valueOf(0), server.getAttribute(file, "TotalObjectCount"));
+
+			server.invoke(file, "refresh", null, null);
+			server.invoke(lazyFile, "refresh", null, null);
+			assertTrue((Long) server.getAttribute(file, "TotalObjectCount") > 0);
+			assertTrue((Long) server.getAttribute(file, "TotalEstimatedBytes") > 0);
+			assertTrue((Long) server.getAttribute(lazyFile, "TotalObjectCount") > 0);
+			String report = (String) server.getAttribute(file, "Report");
+			assertTrue(report, report.contains("lemmaIndex"));
+
+			PrintStream output = SeparateJvm.getOutput();
+			List<String> components = new ArrayList<String>(Arrays.asList(
+					(String[]) server.getAttribute(file, "Components")));
+			Collections.sort(components);
+			output.print(components);
+			output.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.SynsetDescriber;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+import edu.smu.tspell.wordnet.impl.Gloss;
+
+/**
+ * Tests that glosses are returned unchanged by the off-heap gloss store.
+ */
+public class GlossStoreTest {
+
+	/**
+	 * Words from which the glosses are made, including characters that the
+	 * encoding treats specially and characters outside of ASCII.
+	 */
+	private static final String[] WORDS = {"the", "of", "a", "to", "and", "in",
+			"or", "that", "is", "used", "especially", "(", ")", ";", "\"", "'s",
+			"caf\u00E9", "na\u00EFve", "\u4E2D\u6587", "\uD83D\uDE00", "\u0000",
+			"\u007f", "\u0080", "\u00FF", "\u0001", "tab\there", "", " "};
+
+	@Test
+	public void testRoundTrip() {
+		for (int cacheSize : new int[] {0, 16}) {
+			GlossStore store = new GlossStore(cacheSize);
+			List<Gloss> glosses = createGlosses(new Random(cacheSize), 10000);
+			add(store, glosses, 0, glosses.size());
+			assertEquals(glosses.size(), store.size());
+			check(store, glosses);
+			check(store, glosses);
+		}
+	}
+
+	@Test
+	public void testReadBeforeDictionary() {
+		GlossStore store = new GlossStore(0);
+		List<Gloss> glosses = createGlosses(new Random(1), 5000);
+		add(store, glosses, 0, 100);
+		check(store, glosses.subList(0, 100));
+		add(store, glosses, 100, glosses.size());
+		check(store, glosses);
+	}
+
+	@Test
+	public void testDatabaseGlosses() throws Exception {
+		String stored = SeparateJvm.run(SynsetDescriber.class, new String[] {
+				"wordnet.database.glossStore=true",
+				"wordnet.database.glossCacheSize=64"}, "eager", "100");
+		assertEquals(SynsetDescriber.describeSample(
+				WordNetDatabase.getFileInstance(), 100), stored);
+	}
+
+	/**
+	 * Creates random glosses, along with a few that have no definition or
+	 * no examples.
+	 */
+	private static List<Gloss> createGlosses(Random random, int count) {
+		List<Gloss> glosses = new ArrayList<Gloss>();
+		glosses.add(new Gloss(null, new String[0]));
+		glosses.add(new Gloss("", new String[0]));
+		glosses.add(new Gloss(null, new String[] {"", "\u0000\u007f"}));
+		while (glosses.size() < count) {
+			String[] examples = new String[random.nextInt(4)];
+			for (int i = 0; i < examples.length; i++) {
+				examples[i] = createText(random);
+			}
+			glosses.add(new Gloss(createText(random), examples));
+		}
+		return glosses;
+	}
+
+	private static String createText(Random random) {
+		StringBuilder text = new StringBuilder();
+		int length = random.nextInt(20);
+		for (int i = 0; i < length; i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+			if (random.nextInt(10) == 0) {
+				text.append(random.nextInt(1000));
+			}
+		}
+		return text.toString();
+	}
+
+	private static void add(GlossStore store, List<Gloss> glosses, int first, int last) {
+		for (int i = first; i < last; i++) {
+			Gloss gloss = glosses.get(i);
+			assertEquals(i, store.add(gloss.getDefinition(), gloss.getExamples()));
+		}
+	}
+
+	private static void check(GlossStore store, List<Gloss> glosses) {
+		for (int i = 0; i < glosses.size(); i++) {
+			Gloss expected = glosses.get(i);
+			Gloss actual = store.getGloss(i);
+			assertEquals("definition " + i, expected.getDefinition(), actual.getDefinition());
+			assertArrayEquals("examples " + i, expected.getExamples(), actual.getExamples());
+		}
+	}
+
+}
@@ -0,0 +1,109 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.Synset;
+
+/**
+ * Tests the cache of the factory used by the lazy database.
+ */
+public class LazySynsetFactoryTest {
+
+	private static final int THREAD_COUNT = 8;
+
+	@Test
+	public void testConcurrentReadsShareInstance() throws Exception {
+		final LazySynsetFactory factory = new LazySynsetFactory(1000);
+		final List<SynsetPointer> pointers = getPointers(200);
+		final CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		try {
+			List<Future<List<Synset>>> futures = new ArrayList<Future<List<Synset>>>();
+			for (int i = 0; i < THREAD_COUNT; i++) {
+				futures.add(executor.submit(new Callable<List<Synset>>() {
+					public List<Synset> call() throws Exception {
+						List<Synset> synsets = new ArrayList<Synset>();
+						start.await();
+						for (SynsetPointer pointer : pointers) {
+							synsets.add(factory.getSynset(pointer));
+						}
+						return synsets;
+					}
+				}));
+			}
+			start.countDown();
+			List<Synset> expected = futures.get(0).get();
+			for (Future<List<Synset>> future : futures) {
+				List<Synset> synsets = future.get();
+				for (int i = 0; i < pointers.size(); i++) {
+					assertSame(pointers.get(i).toString(), expected.get(i), synsets.get(i));
+				}
+			}
+			assertEquals(pointers.size(), factory.getCachedSynsets().size());
+			for (int i = 0; i < pointers.size(); i++) {
+				assertSame(expected.get(i), factory.getSynset(pointers.get(i)));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void testReplacement() {
+		LazySynsetFactory factory = new LazySynsetFactory(10);
+		List<SynsetPointer> pointers = getPointers(20);
+		for (SynsetPointer pointer : pointers.subList(0, 10)) {
+			factory.getSynset(pointer);
+		}
+		assertEquals(10, factory.getCachedSynsets().size());
+
+		// The first synset is used again, so the second one is discarded
+		// when another synset is read
+		Synset first = factory.getSynset(pointers.get(0));
+		factory.getSynset(pointers.get(10));
+		assertEquals(10, factory.getCachedSynsets().size());
+		assertNull(getCachedSynset(factory, pointers.get(1)));
+		assertSame(first, getCachedSynset(factory, pointers.get(0)));
+
+		for (SynsetPointer pointer : pointers.subList(11, 20)) {
+			factory.getSynset(pointer);
+			assertEquals(10, factory.getCachedSynsets().size());
+		}
+		assertNotNull(getCachedSynset(factory, pointers.get(19)));
+	}
+
+	private static Synset getCachedSynset(LazySynsetFactory factory, SynsetPointer pointer) {
+		return factory.getCachedSynset(pointer.getType(), pointer.getOffset());
+	}
+
+	/**
+	 * Returns the pointers to the synsets of the first sense index entries.
+	 */
+	private static List<SynsetPointer> getPointers(int count) {
+		Set<SynsetPointer> pointers = new LinkedHashSet<SynsetPointer>();
+		Iterator<SenseIndexEntry> iterator =
+				SenseIndexReader.getInstance().getSenseIndexEntryIterator();
+		while (iterator.hasNext() && pointers.size() < count) {
+			pointers.add(iterator.next().getSynsetPointer());
+		}
+		assertEquals(count, pointers.size());
+		return new ArrayList<SynsetPointer>(pointers);
+	}
+
+}
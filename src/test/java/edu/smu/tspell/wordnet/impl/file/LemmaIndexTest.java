@@ -0,0 +1,152 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetType;
+
+/**
+ * Tests the minimal perfect hash index of the word forms.
+ */
+public class LemmaIndexTest {
+
+	@Test
+	public void testAllWordForms() {
+		WordFormLookup lookup = WordFormLookup.getInstance();
+		List<String> wordForms = new ArrayList<String>(lookup.allWordForms());
+		assertTrue(wordForms.size() > 0);
+		checkIndex(lookup, wordForms);
+	}
+
+	@Test
+	public void testSmallIndexes() {
+		WordFormLookup lookup = WordFormLookup.getInstance();
+		List<String> wordForms = new ArrayList<String>(lookup.allWordForms());
+		for (int count : new int[] {1, 2, 3, 10, 100}) {
+			LemmaIndex index = checkIndex(lookup, wordForms.subList(0, count));
+			for (String wordForm : wordForms.subList(count, count + 1000)) {
+				assertEquals(wordForm, -1, index.find(wordForm));
+			}
+		}
+	}
+
+	@Test
+	public void testEmptyIndex() {
+		LemmaIndex index = LemmaIndex.build(
+				new HashMap<Integer, TreeMap<SynsetType, ArrayList<Synset>>>());
+		assertEquals(0, index.size());
+		assertEquals(-1, index.find("be"));
+		assertEquals(0, index.getSynsets("be", SynsetType.VERB).length);
+	}
+
+	@Test
+	public void testWriteAndRead() throws Exception {
+		WordFormLookup lookup = WordFormLookup.getInstance();
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		List<String> wordForms = new ArrayList<String>(lookup.allWordForms()).subList(0, 1000);
+		LemmaIndex expected = checkIndex(lookup, wordForms);
+
+		//  Build and write the index with each word form and synset
+		//  identified by its position, as a snapshot does
+		int count = wordForms.size();
+		int[] positions = new int[count];
+		int[] lemmaIDs = new int[count];
+		@SuppressWarnings("unchecked")
+		TreeMap<SynsetType, ArrayList<Synset>>[] categories = new TreeMap[count];
+		List<Synset> synsets = new ArrayList<Synset>();
+		Map<Synset, Integer> ordinals = new HashMap<Synset, Integer>();
+		for (int i = 0; i < count; i++) {
+			positions[i] = i;
+			lemmaIDs[i] = dictionary.findID(wordForms.get(i));
+			categories[i] = lookup.getCategories(wordForms.get(i));
+			for (ArrayList<Synset> categoryList : categories[i].values()) {
+				for (Synset synset : categoryList) {
+					if (!ordinals.containsKey(synset)) {
+						ordinals.put(synset, Integer.valueOf(synsets.size()));
+						synsets.add(synset);
+					}
+				}
+			}
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		LemmaIndex.build(wordForms.toArray(new String[count]), positions, categories)
+				.write(new DataOutputStream(bytes), ordinals);
+		LemmaIndex index = LemmaIndex.read(new DataInputStream(
+				new ByteArrayInputStream(bytes.toByteArray())), lemmaIDs,
+				synsets.toArray(new Synset[synsets.size()]));
+
+		assertEquals(count, index.size());
+		for (String wordForm : wordForms) {
+			int slot = index.find(wordForm);
+			assertEquals(wordForm, expected.find(wordForm), slot);
+			assertEquals(wordForm, dictionary.findID(wordForm), index.getLemmaID(slot));
+			assertEquals(wordForm, expected.getCategories(slot), index.getCategories(slot));
+		}
+		assertEquals(-1, index.find("xyzzy"));
+	}
+
+	/**
+	 * Builds an index of some of the word forms in the database and checks
+	 * that each of them has its own slot, which holds its synsets, and that
+	 * other strings aren't found.
+	 */
+	private static LemmaIndex checkIndex(WordFormLookup lookup, List<String> wordForms) {
+		LemmaDictionary dictionary = LemmaDictionary.getInstance();
+		Map<Integer, TreeMap<SynsetType, ArrayList<Synset>>> wordCategories =
+				new HashMap<Integer, TreeMap<SynsetType, ArrayList<Synset>>>();
+		for (String wordForm : wordForms) {
+			wordCategories.put(Integer.valueOf(dictionary.findID(wordForm)),
+					lookup.getCategories(wordForm));
+		}
+		LemmaIndex index = LemmaIndex.build(wordCategories);
+		assertEquals(wordForms.size(), index.size());
+
+		boolean[] used = new boolean[index.size()];
+		for (String wordForm : wordForms) {
+			int slot = index.find(wordForm);
+			assertTrue(wordForm, slot >= 0 && slot < used.length);
+			assertFalse(wordForm, used[slot]);
+			used[slot] = true;
+			assertEquals(wordForm, dictionary.findID(wordForm), index.getLemmaID(slot));
+			TreeMap<SynsetType, ArrayList<Synset>> categories = lookup.getCategories(wordForm);
+			assertEquals(wordForm, categories, index.getCategories(slot));
+			for (SynsetType type : SynsetType.ALL_TYPES) {
+				List<Synset> expected = categories.get(type);
+				assertArrayEquals(wordForm, (expected != null ?
+						expected.toArray(new Synset[expected.size()]) : new Synset[0]),
+						index.getSynsets(wordForm, type));
+			}
+		}
+
+		Set<String> allWordForms = lookup.allWordForms();
+		assertEquals(-1, index.find(""));
+		assertEquals(-1, index.find("xyzzy"));
+		assertEquals(-1, index.find("\u00E9t\u00E9"));
+		for (String wordForm : wordForms) {
+			for (String other : new String[] {wordForm + "x", wordForm.toUpperCase(),
+					wordForm.substring(1)}) {
+				if (!allWordForms.contains(other)) {
+					assertEquals(other, -1, index.find(other));
+				}
+			}
+		}
+		return index;
+	}
+
+}
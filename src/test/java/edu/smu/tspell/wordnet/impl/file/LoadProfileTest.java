@@ -0,0 +1,119 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetDescriber;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+import edu.smu.tspell.wordnet.WordSense;
+
+/**
+ * Tests loading part of the database. The partial load runs in a separate
+ * JVM and its word forms are compared with those of the complete database.
+ */
+public class LoadProfileTest {
+
+	/**
+	 * Lexicographer file loaded by the partial profile.
+	 */
+	private static final String LEXICAL_FILE = "verb.change";
+
+	/**
+	 * Number of that lexicographer file in its sense keys.
+	 */
+	private static final String LEXICAL_FILE_NUMBER = "30";
+
+	@Test
+	public void testIncludes() {
+		LoadProfile profile = new LoadProfile("", LEXICAL_FILE);
+		assertFalse(profile.isComplete());
+		assertTrue(profile.includes(SynsetType.VERB));
+		assertFalse(profile.includes(SynsetType.NOUN));
+		assertTrue(profile.includes(SynsetType.VERB, 30));
+		assertFalse(profile.includes(SynsetType.VERB, 42));
+		assertTrue(new LoadProfile("", "").isComplete());
+		assertTrue(new LoadProfile("adjective", "").includes(SynsetType.ADJECTIVE_SATELLITE));
+	}
+
+	@Test
+	public void testPartialProfile() throws Exception {
+		WordNetDatabase wn = WordNetDatabase.getFileInstance();
+		List<String> wordForms = new ArrayList<String>();
+		StringBuilder expected = new StringBuilder();
+		for (String wordForm : SynsetDescriber.getSample(wn, 20)) {
+			Synset[] synsets = wn.getSynsets(wordForm, null, false);
+			boolean included = (synsets.length > 0);
+			for (Synset synset : synsets) {
+				included &= isIncluded(synset);
+			}
+			if (included) {
+				wordForms.add(wordForm);
+				expected.append(SynsetDescriber.describe(wn, wordForm));
+			}
+		}
+		assertTrue(wordForms.size() > 10);
+		wordForms.add(0, "be");
+		String actual = SeparateJvm.run(PartialProfile.class, new String[] {
+				"wordnet.database.profile.lexicalFiles=" + LEXICAL_FILE},
+				wordForms.toArray(new String[wordForms.size()]));
+		assertEquals(expected.toString(), actual);
+	}
+
+	/**
+	 * Indicates whether a synset is in the lexicographer file of the
+	 * partial profile.
+	 */
+	static boolean isIncluded(Synset synset) {
+		String senseKey = synset.getSenseKeys()[0];
+		String[] fields = senseKey.substring(senseKey.indexOf('%') + 1).split(":");
+		return (synset.getType() == SynsetType.VERB) &&
+				fields[1].equals(LEXICAL_FILE_NUMBER);
+	}
+
+	/**
+	 * Loads the partial profile and describes the word forms that are its
+	 * arguments, the first of which is outside of the profile. Checks that
+	 * relationships to synsets outside of the profile are read on demand.
+	 */
+	public static class PartialProfile {
+
+		public static void main(String[] args) throws Exception {
+			WordNetDatabase wn = WordNetDatabase.getFileInstance();
+			assertEquals(0, wn.getSynsets(args[0], null, false).length);
+			assertFalse(wn.allWordForms().contains(args[0]));
+			PrintStream output = SeparateJvm.getOutput();
+			int outside = 0;
+			for (String wordForm : Arrays.asList(args).subList(1, args.length)) {
+				output.print(SynsetDescriber.describe(wn, wordForm));
+				for (Synset synset : wn.getSynsets(wordForm, null, false)) {
+					for (String form : synset.getWordForms()) {
+						for (WordSense sense : synset.getDerivationallyRelatedForms(form)) {
+							Synset related = sense.getSynset();
+							if (!isIncluded(related)) {
+								// Not loaded, so the lookup doesn't return it
+								outside++;
+								assertFalse(Arrays.asList(wn.getSynsets(
+										sense.getWordForm(), null, false)).contains(related));
+							}
+						}
+					}
+				}
+			}
+			assertTrue(outside > 0);
+			output.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.PrintStream;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.SynsetDescriber;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+
+/**
+ * Tests lookups served from a snapshot mapped as an image of the database.
+ * The snapshot is written from the database loaded in this JVM and mapped
+ * in a separate JVM.
+ */
+public class MappedSynsetFactoryTest {
+
+	@Test
+	public void testLookupsFromImage() throws Exception {
+		File snapshot = File.createTempFile("wordnet", ".snapshot");
+		try {
+			new SnapshotWriter().write(snapshot);
+			String mapped = SeparateJvm.run(MappedImage.class, new String[] {
+					"wordnet.database.snapshot=" + snapshot.getPath(),
+					"wordnet.database.lazyCacheSize=16"}, "100");
+			assertEquals(SynsetDescriber.describeSample(
+					WordNetDatabase.getFileInstance(), 100), mapped);
+		} finally {
+			snapshot.delete();
+		}
+	}
+
+	/**
+	 * Checks that the snapshot can be mapped and describes a sample of the
+	 * word forms of the lazy database, which reads them from it.
+	 */
+	public static class MappedImage {
+
+		public static void main(String[] args) throws Exception {
+			SnapshotReader image = SnapshotReader.openImage(PropertyNames.snapshotFile);
+			assertNotNull(image);
+			image.close();
+			PrintStream output = SeparateJvm.getOutput();
+			output.print(SynsetDescriber.describeSample(
+					WordNetDatabase.getLazyFileInstance(), Integer.parseInt(args[0])));
+			output.flush();
+		}
+
+	}
+
+}
@@ -0,0 +1,64 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.SynsetDescriber;
+
+/**
+ * Checks that loading the database concurrently produces the same data as
+ * loading it with a single thread.
+ */
+public class ParallelLoaderTest {
+
+	@Test
+	public void testParseSenseIndex() throws Exception {
+		String name = PropertyNames.databaseDirectory + "index.sense";
+		InputStream file = getClass().getResourceAsStream(name);
+		assertNotNull(name, file);
+		byte[] data;
+		try {
+			data = IOUtils.toByteArray(file);
+		} finally {
+			file.close();
+		}
+		List<String> expected = new ArrayList<String>();
+		SenseIndexParser parser = new SenseIndexParser();
+		for (String line : new String(data).split("\r?\n")) {
+			expected.add(parser.parse(line).toString());
+		}
+		assertTrue(expected.size() > 0);
+		for (int threads : new int[] {1, 4}) {
+			ParallelLoader loader = new ParallelLoader(threads);
+			List<String> parsed = new ArrayList<String>();
+			try {
+				for (SenseIndexEntry entry : loader.parseSenseIndex(data)) {
+					parsed.add(entry.toString());
+				}
+			} finally {
+				loader.shutdown();
+			}
+			assertEquals(threads + " threads", expected, parsed);
+		}
+	}
+
+	@Test
+	public void testLoadThreads() throws Exception {
+		String sequential = SeparateJvm.run(SynsetDescriber.class,
+				new String[] {"wordnet.database.loadThreads=1"}, "eager", "50");
+		String concurrent = SeparateJvm.run(SynsetDescriber.class,
+				new String[] {"wordnet.database.loadThreads=4"}, "eager", "50");
+		assertTrue(sequential.contains("== be\n"));
+		assertEquals(sequential, concurrent);
+	}
+
+}
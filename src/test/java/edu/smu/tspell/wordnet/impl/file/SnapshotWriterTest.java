@@ -0,0 +1,223 @@
+package edu.smu.tspell.wordnet.impl.file;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import edu.smu.tspell.wordnet.AdjectiveSatelliteSynset;
+import edu.smu.tspell.wordnet.NounSynset;
+import edu.smu.tspell.wordnet.SeparateJvm;
+import edu.smu.tspell.wordnet.Synset;
+import edu.smu.tspell.wordnet.SynsetDescriber;
+import edu.smu.tspell.wordnet.SynsetType;
+import edu.smu.tspell.wordnet.VerbSynset;
+import edu.smu.tspell.wordnet.WordNetDatabase;
+
+/**
+ * Tests full and pruned snapshots. The snapshot is written from the
+ * database loaded in this JVM and read in a separate JVM.
+ */
+public class SnapshotWriterTest {
+
+	@Test
+	public void testFullSnapshot() throws Exception {
+		File snapshot = File.createTempFile("wordnet", ".snapshot");
+		try {
+			new SnapshotWriter().write(snapshot);
+			String loaded = SeparateJvm.run(SnapshotLoad.class, new String[] {
+					"wordnet.database.snapshot=" + snapshot.getPath()}, "used", "50");
+			assertEquals(SynsetDescriber.describeSample(
+					WordNetDatabase.getFileInstance(), 50), loaded);
+		} finally {
+			snapshot.delete();
+		}
+	}
+
+	@Test
+	public void testRejectedSnapshots() throws Exception {
+		File snapshot = File.createTempFile("wordnet", ".snapshot");
+		File rejected = File.createTempFile("wordnet", ".snapshot");
+		try {
+			new SnapshotWriter().write(snapshot);
+			byte[] content = Files.readAllBytes(snapshot.toPath());
+			String expected = SynsetDescriber.describeSample(
+					WordNetDatabase.getFileInstance(), 500);
+
+			//  A snapshot written from different database files
+			byte[] stale = content.clone();
+			stale[SnapshotFormat.MAGIC.length + 8] ^= 1;
+			//  A snapshot cut short by one byte or by half
+			byte[][] copies = {stale, Arrays.copyOf(content, content.length - 1),
+					Arrays.copyOf(content, content.length / 2)};
+			for (byte[] copy : copies) {
+				Files.write(rejected.toPath(), copy);
+				assertEquals(expected, SeparateJvm.run(SnapshotLoad.class,
+						new String[] {"wordnet.database.snapshot=" + rejected.getPath()},
+						"ignored", "500"));
+			}
+		} finally {
+			snapshot.delete();
+			rejected.delete();
+		}
+	}
+
+	@Test
+	public void testReproducibleWrites() throws Exception {
+		File first = File.createTempFile("wordnet", ".snapshot");
+		File second = File.createTempFile("wordnet", ".snapshot");
+		File parallel = File.createTempFile("wordnet", ".snapshot");
+		try {
+			new SnapshotWriter().write(first);
+			new SnapshotWriter().write(second);
+			SeparateJvm.run(SnapshotWrite.class, new String[] {
+					"wordnet.database.snapshot=",
+					"wordnet.database.loadThreads=4"}, parallel.getPath());
+			byte[] expected = Files.readAllBytes(first.toPath());
+			assertArrayEquals(expected, Files.readAllBytes(second.toPath()));
+			assertArrayEquals(expected, Files.readAllBytes(parallel.toPath()));
+		} finally {
+			first.delete();
+			second.delete();
+			parallel.delete();
+		}
+	}
+
+	@Test
+	public void testPrunedSnapshot() throws Exception {
+		WordNetDatabase wn = WordNetDatabase.getFileInstance();
+		String satellite = null;
+		for (String wordForm : SynsetDescriber.getSample(wn, 20)) {
+			if ((satellite == null) && (wn.getSynsets(wordForm,
+					SynsetType.ADJECTIVE_SATELLITE, false).length > 0)) {
+				satellite = wordForm;
+			}
+		}
+		assertNotNull(satellite);
+		String[] kept = {"abridge", satellite};
+
+		PruningCriteria criteria = new PruningCriteria();
+		StringBuilder expected = new StringBuilder();
+		for (String lemma : kept) {
+			criteria.addLemma(lemma);
+			expected.append(describeAncestors(wn, lemma));
+		}
+		File snapshot = File.createTempFile("wordnet", ".snapshot");
+		try {
+			new SnapshotWriter().write(snapshot, criteria);
+			String actual = SeparateJvm.run(PrunedSnapshot.class,
+					new String[] {"wordnet.database.snapshot=" + snapshot.getPath()},
+					kept);
+			assertTrue(expected.toString().contains("[decrease, lessen, minify]"));
+			assertEquals(expected.toString(), actual);
+		} finally {
+			snapshot.delete();
+		}
+	}
+
+	/**
+	 * Describes the synsets of a lemma and the synsets that a pruned
+	 * snapshot keeps along with them: their hypernyms and instance
+	 * hypernyms, recursively, and the head synsets of adjective satellites.
+	 */
+	static String describeAncestors(WordNetDatabase wn, String lemma) {
+		StringBuilder description = new StringBuilder();
+		description.append("== ").append(lemma).append('\n');
+		Set<Synset> described = new HashSet<Synset>();
+		for (Synset synset : wn.getSynsets(lemma, null, false)) {
+			describeAncestors(synset, "", described, description);
+		}
+		return description.toString();
+	}
+
+	/**
+	 * Adds a synset and its ancestors to a description, indenting each
+	 * ancestor below the synset that refers to it.
+	 */
+	private static void describeAncestors(Synset synset, String indent,
+			Set<Synset> described, StringBuilder description) {
+		description.append(indent).append(SynsetDescriber.summarize(synset)).append('\n');
+		if (!described.add(synset)) {
+			return;
+		}
+		Synset[] ancestors = new Synset[0];
+		if (synset instanceof NounSynset) {
+			NounSynset noun = (NounSynset) synset;
+			ancestors = concat(noun.getHypernyms(), noun.getInstanceHypernyms());
+		} else if (synset instanceof VerbSynset) {
+			ancestors = ((VerbSynset) synset).getHypernyms();
+		} else if (synset instanceof AdjectiveSatelliteSynset) {
+			ancestors = new Synset[] {((AdjectiveSatelliteSynset) synset).getHeadSynset()};
+		}
+		for (Synset ancestor : ancestors) {
+			describeAncestors(ancestor, indent + "  ", described, description);
+		}
+	}
+
+	private static Synset[] concat(Synset[] first, Synset[] second) {
+		Synset[] both = Arrays.copyOf(first, first.length + second.length, Synset[].class);
+		System.arraycopy(second, 0, both, first.length, second.length);
+		return both;
+	}
+
+	/**
+	 * Reads the pruned snapshot and describes the lemmas that it keeps,
+	 * which are its arguments, after checking that other lemmas have no
+	 * synsets.
+	 */
+	public static class PrunedSnapshot {
+
+		public static void main(String[] args) throws Exception {
+			WordNetDatabase wn = WordNetDatabase.getFileInstance();
+			assertEquals(0, wn.getSynsets("be", null, false).length);
+			assertEquals(0, wn.getSynsets("run", null, false).length);
+			PrintStream output = SeparateJvm.getOutput();
+			for (String lemma : args) {
+				output.print(describeAncestors(wn, lemma));
+			}
+			output.flush();
+		}
+
+	}
+
+	/**
+	 * Checks whether the snapshot is used, which is given by the first
+	 * argument ("used" or "ignored"), and describes a sample of the word
+	 * forms, sampled at the interval given by the second argument.
+	 */
+	public static class SnapshotLoad {
+
+		public static void main(String[] args) throws Exception {
+			assertEquals(args[0].equals("used"), SnapshotReader.getInstance() != null);
+			PrintStream output = SeparateJvm.getOutput();
+			output.print(SynsetDescriber.describeSample(
+					WordNetDatabase.getFileInstance(), Integer.parseInt(args[1])));
+			output.flush();
+		}
+
+	}
+
+	/**
+	 * Loads the database from its files and writes a snapshot of it to the
+	 * file named by the argument.
+	 */
+	public static class SnapshotWrite {
+
+		public static void main(String[] args) throws Exception {
+			assertNull(SnapshotReader.getInstance());
+			new SnapshotWriter().write(new File(args[0]));
+		}
+
+	}
+
+}